@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.accumulate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.drools.benchmarks.common.model.Customer;
+import org.drools.benchmarks.common.model.Order;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an accumulate correlated with a join, computing the total amount of the orders of each customer,
+ * both when all the facts are inserted and when the accumulated orders are incrementally deleted.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccumulateBenchmark {
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"1000", "10000"})
+    private int numberOfCustomers;
+
+    @Param("10")
+    private int ordersPerCustomer;
+
+    private KieBase kieBase;
+    private List<Customer> customers;
+    private List<Order> orders;
+    private KieSession kieSession;
+    private List<FactHandle> orderHandles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl =
+                "import " + Customer.class.getCanonicalName() + ";\n" +
+                "import " + Order.class.getCanonicalName() + ";\n" +
+                "rule R when\n" +
+                "  $c : Customer()\n" +
+                "  accumulate( Order( customerId == $c.id, $amount : amount ); $total : sum( $amount ), $count : count() )\n" +
+                "then\n" +
+                "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( engineType, drl );
+
+        customers = new ArrayList<>();
+        orders = new ArrayList<>();
+        int orderId = 0;
+        for (int i = 0; i < numberOfCustomers; i++) {
+            customers.add( new Customer( i, "C" + i ) );
+            for (int j = 0; j < ordersPerCustomer; j++) {
+                orders.add( new Order( orderId++, i, "P" + j, j * 10 ) );
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        orderHandles = new ArrayList<>();
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Customer customer : customers) {
+            kieSession.insert( customer );
+        }
+        for (Order order : orders) {
+            kieSession.insert( order );
+        }
+        return kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int insertAndDeleteIncrementally() {
+        for (Customer customer : customers) {
+            kieSession.insert( customer );
+        }
+        for (Order order : orders) {
+            orderHandles.add( kieSession.insert( order ) );
+        }
+        int fired = kieSession.fireAllRules();
+        // each round deletes one order per customer, so that every accumulate is reverse-evaluated
+        for (int i = 0; i < ordersPerCustomer; i++) {
+            for (int j = i; j < orderHandles.size(); j += ordersPerCustomer) {
+                kieSession.delete( orderHandles.get( j ) );
+            }
+            fired += kieSession.fireAllRules();
+        }
+        return fired;
+    }
+}
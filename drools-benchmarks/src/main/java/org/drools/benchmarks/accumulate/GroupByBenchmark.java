@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.accumulate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.model.Order;
+import org.drools.core.base.accumulators.IntegerSumAccumulateFunction;
+import org.drools.model.Model;
+import org.drools.model.Rule;
+import org.drools.model.Variable;
+import org.drools.model.impl.ModelImpl;
+import org.drools.modelcompiler.KieBaseBuilder;
+import org.drools.modelcompiler.dsl.pattern.D;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a groupBy summing the amounts of the orders of each product, which is only available
+ * through the executable model DSL, both inserting all the orders and then moving them between groups.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupByBenchmark {
+
+    @Param({"10", "1000"})
+    private int numberOfGroups;
+
+    @Param({"100000"})
+    private int numberOfOrders;
+
+    private KieBase kieBase;
+    private List<Order> orders;
+    private KieSession kieSession;
+    private FactHandle[] orderHandles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        Variable<Order> var_$o = D.declarationOf( Order.class );
+        Variable<Integer> var_$amount = D.declarationOf( Integer.class );
+        Variable<String> var_$product = D.declarationOf( String.class );
+        Variable<Integer> var_$total = D.declarationOf( Integer.class );
+
+        Rule rule = D.rule( "R" ).build(
+                D.groupBy(
+                        D.pattern( var_$o ).bind( var_$amount, Order::getAmount ),
+                        var_$o, var_$product, Order::getProduct,
+                        D.accFunction( IntegerSumAccumulateFunction::new, var_$amount ).as( var_$total ) ),
+                D.on( var_$product, var_$total ).execute( ($product, $total) -> { } ) );
+
+        Model model = new ModelImpl().addRule( rule );
+        kieBase = KieBaseBuilder.createKieBaseFromModel( model );
+
+        orders = new ArrayList<>();
+        for (int i = 0; i < numberOfOrders; i++) {
+            orders.add( new Order( i, i, "P" + ( i % numberOfGroups ), i % 100 ) );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        orderHandles = new FactHandle[orders.size()];
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (int i = 0; i < orders.size(); i++) {
+            orderHandles[i] = kieSession.insert( orders.get( i ) );
+        }
+        return kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int insertAndRegroup() {
+        int fired = insertAndFire();
+        // replacing each order with one of the following product moves it to another group
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get( i );
+            kieSession.update( orderHandles[i], new Order( order.getId(), order.getCustomerId(), "P" + ( ( i + 1 ) % numberOfGroups ), order.getAmount() ) );
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.build;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to compile drls in a kie module and to build its rule base, with the executable model,
+ * which also generates and compiles the java sources of the model, and with mvel.
+ * BuildFromKJarBenchmark in drools-model-codegen measures instead the build of a rule base from a precompiled kjar.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KieBaseBuildBenchmark {
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"100", "1000"})
+    private int numberOfRules;
+
+    @Param("50")
+    private int numberOfRulesPerDrl;
+
+    private KieServices kieServices;
+    private List<String> drls;
+    private ReleaseId releaseId;
+
+    @Setup(Level.Trial)
+    public void setupDrls() {
+        kieServices = KieServices.get();
+        drls = BenchmarkUtil.generateJoinRules( numberOfRules, numberOfRulesPerDrl );
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeKieModule() {
+        kieServices.getRepository().removeKieModule( releaseId );
+    }
+
+    @Benchmark
+    public KieBase buildKieBase() {
+        releaseId = BenchmarkUtil.buildKieModule( kieServices, engineType, drls );
+        return kieServices.newKieContainer( releaseId ).getKieBase();
+    }
+}
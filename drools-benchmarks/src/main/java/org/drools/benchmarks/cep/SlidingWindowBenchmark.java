@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.cep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.drools.benchmarks.common.model.StockTick;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.time.SessionPseudoClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an average of the prices of a stream of events over a sliding window, advancing a pseudo clock
+ * between the insertions, so that the events leaving a time window are also expired.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SlidingWindowBenchmark {
+
+    public enum Window {
+
+        TIME("window:time( 10s )"),
+        LENGTH("window:length( 1000 )");
+
+        private final String definition;
+
+        Window(String definition) {
+            this.definition = definition;
+        }
+    }
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"TIME", "LENGTH"})
+    private Window window;
+
+    @Param({"100000"})
+    private int numberOfEvents;
+
+    @Param({"1", "100"})
+    private int eventsPerFire;
+
+    private KieBase kieBase;
+    private List<StockTick> ticks;
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl =
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick\n" +
+                "  @role( event )\n" +
+                "  @timestamp( timestamp )\n" +
+                "end\n" +
+                "rule R when\n" +
+                "  accumulate( StockTick( symbol == \"RHT\", $price : price ) over " + window.definition + "; $avg : average( $price ) )\n" +
+                "then\n" +
+                "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( engineType, drl, EventProcessingOption.STREAM );
+
+        String[] symbols = { "RHT", "IBM", "ACME", "ORCL" };
+        ticks = new ArrayList<>();
+        for (int i = 0; i < numberOfEvents; i++) {
+            // one event every 10ms, so that a time window holds 1000 events
+            ticks.add( new StockTick( symbols[i % symbols.length], 100 + i % 17, i * 10L ) );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession( BenchmarkUtil.pseudoClockConfiguration(), null );
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        SessionPseudoClock clock = kieSession.getSessionClock();
+        int fired = 0;
+        for (int i = 0; i < ticks.size(); i++) {
+            StockTick tick = ticks.get( i );
+            clock.advanceTime( tick.getTimestamp() - clock.getCurrentTime(), TimeUnit.MILLISECONDS );
+            kieSession.insert( tick );
+            if ( ( i + 1 ) % eventsPerFire == 0 ) {
+                fired += kieSession.fireAllRules();
+            }
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
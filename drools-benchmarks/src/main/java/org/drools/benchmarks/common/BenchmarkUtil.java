@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.benchmarks.common.model.Customer;
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+
+public final class BenchmarkUtil {
+
+    private BenchmarkUtil() { }
+
+    public static KieBase buildKieBase(EngineType engineType, String drl, KieBaseOption... options) {
+        return buildKieBase(engineType, Collections.singletonList(drl), options);
+    }
+
+    public static KieBase buildKieBase(EngineType engineType, Collection<String> drls, KieBaseOption... options) {
+        KieServices kieServices = KieServices.get();
+        ReleaseId releaseId = buildKieModule(kieServices, engineType, drls);
+
+        KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
+        for (KieBaseOption option : options) {
+            kieBaseConfiguration.setOption(option);
+        }
+        return kieServices.newKieContainer(releaseId).newKieBase(kieBaseConfiguration);
+    }
+
+    /**
+     * Compiles the given drls in a kie module, deployed in the repository with the default release id
+     */
+    public static ReleaseId buildKieModule(KieServices kieServices, EngineType engineType, Collection<String> drls) {
+        KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        int i = 0;
+        for (String drl : drls) {
+            kieFileSystem.write("src/main/resources/org/drools/benchmarks/r" + i++ + ".drl", drl);
+        }
+        KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem).buildAll(engineType.getProjectType());
+        if (kieBuilder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException(kieBuilder.getResults().toString());
+        }
+        return kieServices.getRepository().getDefaultReleaseId();
+    }
+
+    /**
+     * Generates rules joining a Person, a Customer and an Order, each one with different alpha constraints,
+     * grouped in drls of the given number of rules
+     */
+    public static List<String> generateJoinRules(int numberOfRules, int numberOfRulesPerDrl) {
+        List<String> drls = new ArrayList<>();
+        StringBuilder drl = null;
+        for (int i = 0; i < numberOfRules; i++) {
+            if (i % numberOfRulesPerDrl == 0) {
+                if (drl != null) {
+                    drls.add(drl.toString());
+                }
+                drl = new StringBuilder("package org.drools.benchmarks.rules" + i / numberOfRulesPerDrl + ";\n" +
+                                        "import " + Person.class.getCanonicalName() + ";\n" +
+                                        "import " + Customer.class.getCanonicalName() + ";\n" +
+                                        "import " + Order.class.getCanonicalName() + ";\n");
+            }
+            drl.append("rule R").append(i).append(" when\n")
+               .append("  $p : Person( age > ").append(i % 100).append(", city == \"City").append(i).append("\" )\n")
+               .append("  $c : Customer( id == $p.id )\n")
+               .append("  Order( customerId == $c.id, amount > ").append(i).append(" )\n")
+               .append("then\n")
+               .append("end\n");
+        }
+        if (drl != null) {
+            drls.add(drl.toString());
+        }
+        return drls;
+    }
+
+    public static KieSessionConfiguration pseudoClockConfiguration() {
+        KieSessionConfiguration kieSessionConfiguration = KieServices.get().newKieSessionConfiguration();
+        kieSessionConfiguration.setOption(ClockTypeOption.PSEUDO);
+        return kieSessionConfiguration;
+    }
+}
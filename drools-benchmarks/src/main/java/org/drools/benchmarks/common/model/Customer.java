@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.common.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Customer {
+
+    private final int id;
+    private final String name;
+    private final List<Order> orders = new ArrayList<>();
+
+    public Customer(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public Customer addOrder(Order order) {
+        orders.add(order);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "Customer{id=" + id + ", name='" + name + "'}";
+    }
+}
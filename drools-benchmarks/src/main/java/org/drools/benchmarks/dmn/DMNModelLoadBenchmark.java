@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.dmn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieServices;
+import org.kie.api.io.Resource;
+import org.kie.dmn.api.core.DMNCompiler;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.assembler.DMNModelSnapshot;
+import org.kie.dmn.model.api.Definitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to load a set of DMN models, unmarshalling their xml or reading their definitions from the snapshot
+ * written at build time by the kie-maven-plugin, both alone and followed by the compilation of the models, which the
+ * snapshot does not save.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DMNModelLoadBenchmark {
+
+    public enum Source {
+        XML,
+        SNAPSHOT
+    }
+
+    @Param({"XML", "SNAPSHOT"})
+    private Source source;
+
+    @Param({"10", "100"})
+    private int numberOfModels;
+
+    @Param("50")
+    private int numberOfRulesPerModel;
+
+    private DMNMarshaller marshaller;
+    private DMNCompiler compiler;
+    private List<Resource> resources;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setupModels() throws IOException {
+        marshaller = DMNMarshallerFactory.newDefaultMarshaller();
+        compiler = DMNFactory.newCompiler();
+        resources = new ArrayList<>();
+        DMNModelSnapshot dmnModelSnapshot = new DMNModelSnapshot();
+        for (int i = 0; i < numberOfModels; i++) {
+            Resource resource = KieServices.get().getResources().newByteArrayResource(generateModel(i, numberOfRulesPerModel).getBytes(StandardCharsets.UTF_8));
+            resource.setSourcePath("org/drools/benchmarks/dmn/model" + i + ".dmn");
+            resources.add(resource);
+            dmnModelSnapshot.add(resource, marshaller.unmarshal(resource.getReader()));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        dmnModelSnapshot.writeTo(bytes);
+        snapshot = bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<Definitions> loadDefinitions() throws IOException {
+        if (source == Source.XML) {
+            List<Definitions> definitions = new ArrayList<>();
+            for (Resource resource : resources) {
+                definitions.add(marshaller.unmarshal(resource.getReader()));
+            }
+            return definitions;
+        }
+        DMNModelSnapshot dmnModelSnapshot = DMNModelSnapshot.readFrom(new ByteArrayInputStream(snapshot));
+        List<Definitions> definitions = new ArrayList<>();
+        for (Resource resource : resources) {
+            definitions.add(dmnModelSnapshot.lookup(resource));
+        }
+        return definitions;
+    }
+
+    @Benchmark
+    public List<DMNModel> loadModels() throws IOException {
+        List<Definitions> definitions = loadDefinitions();
+        List<DMNModel> models = new ArrayList<>();
+        for (int i = 0; i < definitions.size(); i++) {
+            models.add(compiler.compile(definitions.get(i), resources.get(i), Collections.emptyList()));
+        }
+        return models;
+    }
+
+    private static String generateModel(int index, int numberOfRules) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+          .append("<definitions xmlns=\"https://www.omg.org/spec/DMN/20191111/MODEL/\" id=\"_model").append(index)
+          .append("\" name=\"model").append(index).append("\" namespace=\"https://kie.org/benchmarks/dmn/model").append(index).append("\">\n")
+          .append("  <inputData id=\"_age\" name=\"age\"><variable id=\"_age_var\" name=\"age\" typeRef=\"number\"/></inputData>\n")
+          .append("  <decision id=\"_category\" name=\"category\">\n")
+          .append("    <variable id=\"_category_var\" name=\"category\" typeRef=\"string\"/>\n")
+          .append("    <informationRequirement id=\"_ir\"><requiredInput href=\"#_age\"/></informationRequirement>\n")
+          .append("    <decisionTable id=\"_dt\" hitPolicy=\"FIRST\">\n")
+          .append("      <input id=\"_in\"><inputExpression id=\"_ie\" typeRef=\"number\"><text>age</text></inputExpression></input>\n")
+          .append("      <output id=\"_out\"/>\n");
+        for (int i = 0; i < numberOfRules; i++) {
+            sb.append("      <rule id=\"_r").append(i).append("\">")
+              .append("<inputEntry id=\"_r").append(i).append("_in\"><text>[").append(i * 10).append("..").append(i * 10 + 10).append(")</text></inputEntry>")
+              .append("<outputEntry id=\"_r").append(i).append("_out\"><text>\"category ").append(i).append("\"</text></outputEntry>")
+              .append("</rule>\n");
+        }
+        sb.append("    </decisionTable>\n")
+          .append("  </decision>\n")
+          .append("</definitions>\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.from;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.drools.benchmarks.common.model.Customer;
+import org.drools.benchmarks.common.model.Order;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the navigation of the orders of a customer through a from and through an OOPath,
+ * both of them filtering the navigated orders with an alpha constraint.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FromOOPathBenchmark {
+
+    public enum Navigation {
+
+        FROM("  $c : Customer()\n" +
+             "  $o : Order( amount > 50 ) from $c.orders\n"),
+        OOPATH("  $c : Customer( $o : /orders[ amount > 50 ] )\n");
+
+        private final String lhs;
+
+        Navigation(String lhs) {
+            this.lhs = lhs;
+        }
+    }
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"FROM", "OOPATH"})
+    private Navigation navigation;
+
+    @Param({"1000", "10000"})
+    private int numberOfCustomers;
+
+    @Param("10")
+    private int ordersPerCustomer;
+
+    private KieBase kieBase;
+    private List<Customer> customers;
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl =
+                "import " + Customer.class.getCanonicalName() + ";\n" +
+                "import " + Order.class.getCanonicalName() + ";\n" +
+                "rule R when\n" +
+                navigation.lhs +
+                "then\n" +
+                "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( engineType, drl );
+
+        customers = new ArrayList<>();
+        int orderId = 0;
+        for (int i = 0; i < numberOfCustomers; i++) {
+            Customer customer = new Customer( i, "C" + i );
+            for (int j = 0; j < ordersPerCustomer; j++) {
+                customer.addOrder( new Order( orderId++, i, "P" + j, j * 10 ) );
+            }
+            customers.add( customer );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Customer customer : customers) {
+            kieSession.insert( customer );
+        }
+        return kieSession.fireAllRules();
+    }
+}
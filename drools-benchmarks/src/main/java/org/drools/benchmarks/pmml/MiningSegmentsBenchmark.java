@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.pmml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.kie.pmml.api.enums.DATA_TYPE;
+import org.kie.pmml.api.enums.FIELD_USAGE_TYPE;
+import org.kie.pmml.api.enums.MINING_FUNCTION;
+import org.kie.pmml.api.enums.OP_TYPE;
+import org.kie.pmml.api.iinterfaces.SerializableFunction;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.commons.model.KiePMMLMiningField;
+import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
+import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
+import org.kie.pmml.models.mining.evaluator.PMMLMiningModelEvaluator;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+import org.kie.pmml.models.mining.model.segmentation.KiePMMLSegment;
+import org.kie.pmml.models.mining.model.segmentation.KiePMMLSegmentation;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionModel;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of the evaluation of a PMML mining model whose segments are all selected and whose results
+ * are averaged, evaluating the segments sequentially or concurrently on the common fork/join pool.
+ * The segments are linear regressions with a growing number of predictors, so that each one does some work.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MiningSegmentsBenchmark {
+
+    private static final String FILE_NAME = "MiningSegmentsBenchmark";
+    private static final String MODEL_NAME = "MiningSegmentsBenchmark";
+    private static final String TARGET_FIELD = "result";
+
+    public enum Evaluation {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private Evaluation evaluation;
+
+    @Param({"10", "100", "1000"})
+    private int numberOfSegments;
+
+    @Param("20")
+    private int numberOfPredictors;
+
+    private PMMLMiningModelEvaluator evaluator;
+    private KiePMMLMiningModel model;
+    private PMMLRuntimeContext context;
+
+    @Setup(Level.Trial)
+    public void setupModel() {
+        evaluator = new PMMLMiningModelEvaluator(evaluation == Evaluation.PARALLEL ? 1 : 0);
+        List<KiePMMLSegment> segments = new ArrayList<>();
+        for (int i = 0; i < numberOfSegments; i++) {
+            KiePMMLRegressionModel regressionModel = getRegressionModel("segment" + i, i);
+            segments.add(KiePMMLSegment.builder("segment" + i, Collections.emptyList(),
+                                                KiePMMLTruePredicate.builder(Collections.emptyList()).build(),
+                                                regressionModel).build());
+        }
+        KiePMMLSegmentation segmentation = KiePMMLSegmentation.builder("segmentation", Collections.emptyList(),
+                                                                       MULTIPLE_MODEL_METHOD.AVERAGE)
+                .withSegments(segments)
+                .build();
+        model = KiePMMLMiningModel.builder(FILE_NAME, MODEL_NAME, Collections.emptyList(), MINING_FUNCTION.REGRESSION)
+                .withSegmentation(segmentation)
+                .withTargetField(TARGET_FIELD)
+                .build();
+
+        PMMLRequestData requestData = new PMMLRequestData("CORRELATION_ID", MODEL_NAME);
+        for (int i = 0; i < numberOfPredictors; i++) {
+            requestData.addRequestParam("x" + i, (double) i);
+        }
+        context = new PMMLRuntimeContextImpl(requestData, FILE_NAME,
+                                             new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader()));
+    }
+
+    @Benchmark
+    public PMML4Result evaluate() {
+        return evaluator.evaluate(model, context);
+    }
+
+    private KiePMMLRegressionModel getRegressionModel(String name, int index) {
+        List<MiningField> miningFields = new ArrayList<>();
+        List<KiePMMLMiningField> kiePMMLMiningFields = new ArrayList<>();
+        Map<String, SerializableFunction<Double, Double>> numericFunctionMap = new HashMap<>();
+        addMiningField(TARGET_FIELD, FIELD_USAGE_TYPE.TARGET, miningFields, kiePMMLMiningFields);
+        for (int i = 0; i < numberOfPredictors; i++) {
+            String predictor = "x" + i;
+            double coefficient = (index + i) % 7 + 1;
+            addMiningField(predictor, FIELD_USAGE_TYPE.ACTIVE, miningFields, kiePMMLMiningFields);
+            numericFunctionMap.put(predictor, input -> input * coefficient);
+        }
+        KiePMMLRegressionTable regressionTable = KiePMMLRegressionTable.builder(name, Collections.emptyList())
+                .withNumericFunctionMap(numericFunctionMap)
+                .withIntercept((double) index)
+                .withTargetField(TARGET_FIELD)
+                .build();
+        return KiePMMLRegressionModel.builder(FILE_NAME, name, MINING_FUNCTION.REGRESSION)
+                .withAbstractKiePMMLTable(regressionTable)
+                .withTargetField(TARGET_FIELD)
+                .withMiningFields(miningFields)
+                .withKiePMMLMiningFields(kiePMMLMiningFields)
+                .build();
+    }
+
+    private static void addMiningField(String name, FIELD_USAGE_TYPE usageType, List<MiningField> miningFields,
+                                       List<KiePMMLMiningField> kiePMMLMiningFields) {
+        miningFields.add(new MiningField(name, usageType, OP_TYPE.CONTINUOUS, DATA_TYPE.DOUBLE, null, null, null,
+                                         null, Collections.emptyList(), Collections.emptyList()));
+        kiePMMLMiningFields.add(KiePMMLMiningField.builder(name, Collections.emptyList())
+                                        .withFieldUsageType(usageType)
+                                        .withOpType(OP_TYPE.CONTINUOUS)
+                                        .withDataType(DATA_TYPE.DOUBLE)
+                                        .withAllowedValues(Collections.emptyList())
+                                        .withIntervals(Collections.emptyList())
+                                        .build());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.session;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Samples the latency of a fireAllRules following the update of a single fact, in a session already
+ * holding many facts, which is the typical interaction of a long running session.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FireAllRulesLatencyBenchmark {
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"1000", "100000"})
+    private int numberOfFacts;
+
+    private KieSession kieSession;
+    private Person[] persons;
+    private FactHandle[] factHandles;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setupKieSession() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule Adult when\n" +
+                "  $p : Person( age >= 18 )\n" +
+                "then\n" +
+                "end\n" +
+                "rule SameCityAndAge when\n" +
+                "  $p1 : Person( age >= 18 )\n" +
+                "  Person( this != $p1, city == $p1.city, age == $p1.age )\n" +
+                "then\n" +
+                "end\n";
+        KieBase kieBase = BenchmarkUtil.buildKieBase( engineType, drl );
+        kieSession = kieBase.newKieSession();
+
+        persons = new Person[numberOfFacts];
+        factHandles = new FactHandle[numberOfFacts];
+        for (int i = 0; i < numberOfFacts; i++) {
+            persons[i] = new Person( i, "P" + i, 10, "City" + ( i % 1000 ) );
+            factHandles[i] = kieSession.insert( persons[i] );
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int updateAndFire() {
+        int i = counter++ % numberOfFacts;
+        Person person = persons[i];
+        person.setAge( person.getAge() == 10 ? 40 : 10 );
+        kieSession.update( factHandles[i], person );
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.common.EngineType;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to insert, update or delete all the facts of a session, going through the alpha network
+ * and a join, and to fire the resulting matches.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertUpdateDeleteBenchmark {
+
+    public enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    private EngineType engineType;
+
+    @Param({"INSERT", "UPDATE", "DELETE"})
+    private Operation operation;
+
+    @Param({"1000", "100000"})
+    private int numberOfFacts;
+
+    private KieBase kieBase;
+    private List<Person> persons;
+    private KieSession kieSession;
+    private FactHandle[] factHandles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule Adult when\n" +
+                "  Person( age >= 18, city == \"Milan\" )\n" +
+                "then\n" +
+                "end\n" +
+                "rule Neighbours when\n" +
+                "  $p1 : Person( age > 80 )\n" +
+                "  Person( city == $p1.city, age < 18 )\n" +
+                "then\n" +
+                "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( engineType, drl );
+
+        String[] cities = { "Milan", "Rome", "London", "Brno" };
+        persons = new ArrayList<>();
+        for (int i = 0; i < numberOfFacts; i++) {
+            persons.add( new Person( i, "P" + i, i % 100, cities[i % cities.length] ) );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        factHandles = new FactHandle[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get( i );
+            person.setAge( i % 100 );
+            if ( operation != Operation.INSERT ) {
+                factHandles[i] = kieSession.insert( person );
+            }
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int run() {
+        switch (operation) {
+            case INSERT:
+                for (Person person : persons) {
+                    kieSession.insert( person );
+                }
+                break;
+            case UPDATE:
+                for (int i = 0; i < factHandles.length; i++) {
+                    Person person = persons.get( i );
+                    person.setAge( 99 - person.getAge() );
+                    kieSession.update( factHandles[i], person );
+                }
+                break;
+            case DELETE:
+                for (FactHandle factHandle : factHandles) {
+                    kieSession.delete( factHandle );
+                }
+                break;
+        }
+        return kieSession.fireAllRules();
+    }
+}
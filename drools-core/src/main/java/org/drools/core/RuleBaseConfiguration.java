@@ -29,6 +29,7 @@ import java.util.Properties;
 import org.drools.core.base.CoreComponentsBuilder;
 import org.drools.core.common.AgendaGroupFactory;
 import org.drools.core.reteoo.RuntimeComponentFactory;
+import org.drools.core.reteoo.builder.JoinOrder;
 import org.drools.core.runtime.rule.impl.DefaultConsequenceExceptionHandler;
 import org.drools.core.rule.consequence.ConflictResolver;
 import org.drools.core.util.ConfFileUtils;
@@ -53,12 +54,14 @@ import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.FingerprintObjectStoreOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.PrimitiveBetaMemoryOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
@@ -100,7 +103,9 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
  * drools.indexRightBetaMemory = &lt;true/false&gt;
+ * drools.primitiveBetaMemory = &lt;true/false&gt;
  * drools.equalityBehavior = &lt;identity|equality&gt;
+ * drools.fingerprintObjectStore = &lt;true/false&gt;
  * drools.conflictResolver = &lt;qualified class name&gt;
  * drools.consequenceExceptionHandler = &lt;qualified class name&gt;
  * drools.ruleBaseUpdateHandler = &lt;qualified class name&gt;
@@ -144,7 +149,9 @@ public class RuleBaseConfiguration
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
+    private boolean         primitiveBetaMemory;
     private AssertBehaviour assertBehaviour;
+    private boolean         fingerprintObjectStore;
     private String          consequenceExceptionHandler;
     private String          ruleBaseUpdateHandler;
     private boolean         mutabilityEnabled;
@@ -168,6 +175,8 @@ public class RuleBaseConfiguration
 
     private Map<String, ActivationListenerFactory> activationListeners;
 
+    private JoinOrder joinOrder;
+
     private List<Map<String, Object>> workDefinitions;
     private boolean                   advancedProcessRuleIntegration;
 
@@ -202,8 +211,10 @@ public class RuleBaseConfiguration
         out.writeInt(compositeKeyDepth);
         out.writeBoolean(indexLeftBetaMemory);
         out.writeBoolean(indexRightBetaMemory);
+        out.writeBoolean(primitiveBetaMemory);
         out.writeObject(indexPrecedenceOption);
         out.writeObject(assertBehaviour);
+        out.writeBoolean(fingerprintObjectStore);
         out.writeObject(consequenceExceptionHandler);
         out.writeObject(ruleBaseUpdateHandler);
         out.writeObject(conflictResolver);
@@ -234,8 +245,10 @@ public class RuleBaseConfiguration
         compositeKeyDepth = in.readInt();
         indexLeftBetaMemory = in.readBoolean();
         indexRightBetaMemory = in.readBoolean();
+        primitiveBetaMemory = in.readBoolean();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
         assertBehaviour = (AssertBehaviour) in.readObject();
+        fingerprintObjectStore = in.readBoolean();
         consequenceExceptionHandler = (String) in.readObject();
         ruleBaseUpdateHandler = (String) in.readObject();
         conflictResolver = (ConflictResolver) in.readObject();
@@ -321,10 +334,14 @@ public class RuleBaseConfiguration
             setIndexLeftBetaMemory( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
         } else if ( name.equals( IndexRightBetaMemoryOption.PROPERTY_NAME ) ) {
             setIndexRightBetaMemory( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
+        } else if ( name.equals( PrimitiveBetaMemoryOption.PROPERTY_NAME ) ) {
+            setPrimitiveBetaMemory( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             setIndexPrecedenceOption( StringUtils.isEmpty( value ) ? IndexPrecedenceOption.EQUALITY_PRIORITY : IndexPrecedenceOption.determineIndexPrecedence(value));
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
             setAssertBehaviour( AssertBehaviour.determineAssertBehaviour( StringUtils.isEmpty( value ) ? "identity" : value));
+        } else if ( name.equals( FingerprintObjectStoreOption.PROPERTY_NAME ) ) {
+            setFingerprintObjectStore( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( ConsequenceExceptionHandlerOption.PROPERTY_NAME ) ) {
             setConsequenceExceptionHandler( StringUtils.isEmpty( value ) ? DefaultConsequenceExceptionHandler.class.getName() : value);
         } else if ( name.equals( "drools.ruleBaseUpdateHandler" ) ) {
@@ -378,10 +395,14 @@ public class RuleBaseConfiguration
             return Boolean.toString( isIndexLeftBetaMemory() );
         } else if ( name.equals( IndexRightBetaMemoryOption.PROPERTY_NAME ) ) {
             return Boolean.toString( isIndexRightBetaMemory());
+        } else if ( name.equals( PrimitiveBetaMemoryOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isPrimitiveBetaMemory() );
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             return getIndexPrecedenceOption().getValue();
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
             return getAssertBehaviour().toExternalForm();
+        } else if ( name.equals( FingerprintObjectStoreOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isFingerprintObjectStore() );
         } else if ( name.equals( ConsequenceExceptionHandlerOption.PROPERTY_NAME ) ) {
             return getConsequenceExceptionHandler();
         } else if ( name.equals( "drools.ruleBaseUpdateHandler" ) ) {
@@ -458,10 +479,14 @@ public class RuleBaseConfiguration
 
         setIndexRightBetaMemory(Boolean.valueOf(this.chainedProperties.getProperty(IndexRightBetaMemoryOption.PROPERTY_NAME, "true")).booleanValue());
 
+        setPrimitiveBetaMemory(Boolean.valueOf(this.chainedProperties.getProperty(PrimitiveBetaMemoryOption.PROPERTY_NAME, "false")));
+
         setIndexPrecedenceOption(IndexPrecedenceOption.determineIndexPrecedence(this.chainedProperties.getProperty(IndexPrecedenceOption.PROPERTY_NAME, "equality")));
 
         setAssertBehaviour(AssertBehaviour.determineAssertBehaviour(this.chainedProperties.getProperty(EqualityBehaviorOption.PROPERTY_NAME, "identity")));
 
+        setFingerprintObjectStore(Boolean.valueOf(this.chainedProperties.getProperty(FingerprintObjectStoreOption.PROPERTY_NAME, "false")));
+
         setConsequenceExceptionHandler(this.chainedProperties.getProperty(ConsequenceExceptionHandlerOption.PROPERTY_NAME, "org.drools.core.runtime.rule.impl.DefaultConsequenceExceptionHandler"));
 
         setRuleBaseUpdateHandler(this.chainedProperties.getProperty("drools.ruleBaseUpdateHandler", ""));
@@ -633,6 +658,15 @@ public class RuleBaseConfiguration
         this.assertBehaviour = assertBehaviour;
     }
 
+    public boolean isFingerprintObjectStore() {
+        return this.fingerprintObjectStore;
+    }
+
+    public void setFingerprintObjectStore(final boolean fingerprintObjectStore) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.fingerprintObjectStore = fingerprintObjectStore;
+    }
+
     public EventProcessingOption getEventProcessingMode() {
         return this.eventProcessingMode;
     }
@@ -675,6 +709,15 @@ public class RuleBaseConfiguration
         this.indexRightBetaMemory = indexRightBetaMemory;
     }
 
+    public boolean isPrimitiveBetaMemory() {
+        return this.primitiveBetaMemory;
+    }
+
+    public void setPrimitiveBetaMemory(final boolean primitiveBetaMemory) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.primitiveBetaMemory = primitiveBetaMemory;
+    }
+
     public IndexPrecedenceOption getIndexPrecedenceOption() {
         return this.indexPrecedenceOption;
     }
@@ -859,6 +902,18 @@ public class RuleBaseConfiguration
         throw new IllegalArgumentException( "ActivationListenerFactory not found for '" + name + "'" );
     }
 
+    public JoinOrder getJoinOrder() {
+        return this.joinOrder;
+    }
+
+    /**
+     * Sets the order in which the patterns of the rules will be joined when they are added to the rule base
+     */
+    public void setJoinOrder(JoinOrder joinOrder) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.joinOrder = joinOrder;
+    }
+
     public ClassLoader getClassLoader() {
         return this.classLoader;
     }
@@ -1034,10 +1089,14 @@ public class RuleBaseConfiguration
             return (T) (this.indexLeftBetaMemory ? IndexLeftBetaMemoryOption.YES : IndexLeftBetaMemoryOption.NO);
         } else if (IndexRightBetaMemoryOption.class.equals(option)) {
             return (T) (this.indexRightBetaMemory ? IndexRightBetaMemoryOption.YES : IndexRightBetaMemoryOption.NO);
+        } else if (PrimitiveBetaMemoryOption.class.equals(option)) {
+            return (T) (this.primitiveBetaMemory ? PrimitiveBetaMemoryOption.ENABLED : PrimitiveBetaMemoryOption.DISABLED);
         } else if (IndexPrecedenceOption.class.equals(option)) {
             return (T) getIndexPrecedenceOption();
         } else if (EqualityBehaviorOption.class.equals(option)) {
             return (T) ((this.assertBehaviour == AssertBehaviour.IDENTITY) ? EqualityBehaviorOption.IDENTITY : EqualityBehaviorOption.EQUALITY);
+        } else if (FingerprintObjectStoreOption.class.equals(option)) {
+            return (T) (this.fingerprintObjectStore ? FingerprintObjectStoreOption.ENABLED : FingerprintObjectStoreOption.DISABLED);
         } else if (SequentialAgendaOption.class.equals(option)) {
             return (T) ((this.sequentialAgenda == SequentialAgenda.SEQUENTIAL) ? SequentialAgendaOption.SEQUENTIAL : SequentialAgendaOption.DYNAMIC);
         } else if (PermGenThresholdOption.class.equals(option)) {
@@ -1093,10 +1152,14 @@ public class RuleBaseConfiguration
             setIndexLeftBetaMemory(((IndexLeftBetaMemoryOption) option).isIndexLeftBetaMemory());
         } else if (option instanceof IndexRightBetaMemoryOption) {
             setIndexRightBetaMemory(((IndexRightBetaMemoryOption) option).isIndexRightBetaMemory());
+        } else if (option instanceof PrimitiveBetaMemoryOption) {
+            setPrimitiveBetaMemory(((PrimitiveBetaMemoryOption) option).isPrimitiveBetaMemoryEnabled());
         } else if (option instanceof IndexPrecedenceOption) {
             setIndexPrecedenceOption((IndexPrecedenceOption) option);
         } else if (option instanceof EqualityBehaviorOption) {
             setAssertBehaviour((option == EqualityBehaviorOption.IDENTITY) ? AssertBehaviour.IDENTITY : AssertBehaviour.EQUALITY);
+        } else if (option instanceof FingerprintObjectStoreOption) {
+            setFingerprintObjectStore(((FingerprintObjectStoreOption) option).isFingerprintObjectStoreEnabled());
         } else if (option instanceof SequentialAgendaOption) {
             setSequentialAgenda((option == SequentialAgendaOption.SEQUENTIAL) ? SequentialAgenda.SEQUENTIAL : SequentialAgenda.DYNAMIC);
         } else if (option instanceof PermGenThresholdOption) {
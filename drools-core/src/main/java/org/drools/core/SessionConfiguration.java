@@ -44,6 +44,8 @@ import org.kie.api.runtime.conf.WorkItemHandlerOption;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
+import org.kie.internal.runtime.conf.SlidingWindowStoreOption;
 
 public abstract class SessionConfiguration implements KieSessionConfiguration, Externalizable {
 
@@ -107,6 +109,15 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract QueryListenerOption getQueryListenerOption();
     public abstract void setQueryListenerOption( QueryListenerOption queryListener );
 
+    public abstract SlidingWindowStoreOption getSlidingWindowStore();
+    public abstract void setSlidingWindowStore( SlidingWindowStoreOption slidingWindowStore );
+
+    public abstract long getSlidingWindowTick();
+    public abstract void setSlidingWindowTick( long slidingWindowTick );
+
+    public abstract PropagationListOption getPropagationList();
+    public abstract void setPropagationList( PropagationListOption propagationList );
+
     public final <T extends KieSessionOption> void setOption(T option) {
         if ( option instanceof ClockTypeOption ) {
             setClockType( ClockType.resolveClockType( ((ClockTypeOption) option).getClockType() ) );
@@ -131,6 +142,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( (QueryListenerOption) option );
         } else if ( option instanceof BeliefSystemTypeOption ) {
             setBeliefSystemType( ((BeliefSystemType.resolveBeliefSystemType( ((BeliefSystemTypeOption) option).getBeliefSystemType() ))) );
+        } else if ( option instanceof SlidingWindowStoreOption ) {
+            setSlidingWindowStore( (SlidingWindowStoreOption) option );
+        } else if ( option instanceof PropagationListOption ) {
+            setPropagationList( (PropagationListOption) option );
         }
     }
 
@@ -152,6 +167,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return (T) getQueryListenerOption();
         } else if ( BeliefSystemTypeOption.class.equals( option ) ) {
             return (T) BeliefSystemTypeOption.get( this.getBeliefSystemType().getId() );
+        } else if ( SlidingWindowStoreOption.class.equals( option ) ) {
+            return (T) getSlidingWindowStore();
+        } else if ( PropagationListOption.class.equals( option ) ) {
+            return (T) getPropagationList();
         }
         return null;
     }
@@ -194,6 +213,12 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( property ) );
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
+        } else if ( name.equals( SlidingWindowStoreOption.PROPERTY_NAME ) ) {
+            setSlidingWindowStore(SlidingWindowStoreOption.determineSlidingWindowStore(StringUtils.isEmpty(value) ? SlidingWindowStoreOption.HEAP.getAsString() : value));
+        } else if ( name.equals( SlidingWindowStoreOption.TICK_PROPERTY_NAME ) ) {
+            setSlidingWindowTick(StringUtils.isEmpty(value) ? SlidingWindowStoreOption.DEFAULT_TICK : Long.parseLong(value));
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            setPropagationList(PropagationListOption.determinePropagationList(StringUtils.isEmpty(value) ? PropagationListOption.SYNCHRONIZED.getAsString() : value));
         }
     }
 
@@ -219,6 +244,12 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return getQueryListenerOption().getAsString();
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             return getBeliefSystemType().getId();
+        } else if ( name.equals( SlidingWindowStoreOption.PROPERTY_NAME ) ) {
+            return getSlidingWindowStore().getAsString();
+        } else if ( name.equals( SlidingWindowStoreOption.TICK_PROPERTY_NAME ) ) {
+            return Long.toString(getSlidingWindowTick());
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            return getPropagationList().getAsString();
         }
         return null;
     }
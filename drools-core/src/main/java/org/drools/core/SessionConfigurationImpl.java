@@ -44,6 +44,8 @@ import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
+import org.kie.internal.runtime.conf.SlidingWindowStoreOption;
 import org.kie.internal.utils.ChainedProperties;
 
 /**
@@ -63,6 +65,9 @@ import org.kie.internal.utils.ChainedProperties;
  * 
  * drools.keepReference = <true|false>
  * drools.clockType = <pseudo|realtime|heartbeat|implicit>
+ * drools.slidingWindowStore = <heap|timing_wheel>
+ * drools.slidingWindowStore.tick = <tick size in milliseconds of the timing wheel>
+ * drools.propagationList = <synchronized|lock_free>
  */
 public class SessionConfigurationImpl extends SessionConfiguration {
 
@@ -89,6 +94,11 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private QueryListenerOption            queryListener;
 
+    private SlidingWindowStoreOption       slidingWindowStore;
+    private long                           slidingWindowTick;
+
+    private PropagationListOption          propagationList;
+
     private Map<String, WorkItemHandler>   workItemHandlers;
     private WorkItemManagerFactory         workItemManagerFactory;
     private ExecutableRunner runner;
@@ -180,6 +190,12 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( getPropertyValue( QueryListenerOption.PROPERTY_NAME, QueryListenerOption.STANDARD.getAsString() ) ) );
 
         setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType( getPropertyValue( TimerJobFactoryOption.PROPERTY_NAME, TimerJobFactoryType.THREAD_SAFE_TRACKABLE.getId() ) ));
+
+        setSlidingWindowStore( SlidingWindowStoreOption.determineSlidingWindowStore( getPropertyValue( SlidingWindowStoreOption.PROPERTY_NAME, SlidingWindowStoreOption.HEAP.getAsString() ) ) );
+
+        setSlidingWindowTick( Long.parseLong( getPropertyValue( SlidingWindowStoreOption.TICK_PROPERTY_NAME, Long.toString( SlidingWindowStoreOption.DEFAULT_TICK ) ) ) );
+
+        setPropagationList( PropagationListOption.determinePropagationList( getPropertyValue( PropagationListOption.PROPERTY_NAME, PropagationListOption.SYNCHRONIZED.getAsString() ) ) );
     }
 
     public SessionConfigurationImpl addDefaultProperties(Properties properties) {
@@ -441,4 +457,34 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         checkCanChange();
         this.queryListener = queryListener;
     }
+
+    public SlidingWindowStoreOption getSlidingWindowStore() {
+        return this.slidingWindowStore;
+    }
+
+    public void setSlidingWindowStore( SlidingWindowStoreOption slidingWindowStore ) {
+        checkCanChange();
+        this.slidingWindowStore = slidingWindowStore;
+    }
+
+    public long getSlidingWindowTick() {
+        return this.slidingWindowTick;
+    }
+
+    public void setSlidingWindowTick( long slidingWindowTick ) {
+        checkCanChange();
+        if ( slidingWindowTick <= 0 ) {
+            throw new IllegalArgumentException( "The sliding window tick must be positive, got " + slidingWindowTick );
+        }
+        this.slidingWindowTick = slidingWindowTick;
+    }
+
+    public PropagationListOption getPropagationList() {
+        return this.propagationList;
+    }
+
+    public void setPropagationList( PropagationListOption propagationList ) {
+        checkCanChange();
+        this.propagationList = propagationList;
+    }
 }
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import org.drools.core.util.LongSortedBag;
+
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
@@ -34,17 +36,33 @@ public class IntegerMaxAccumulateFunction extends AbstractAccumulateFunction<Int
 
     }
 
+    /**
+     * Externalized as the bag of all the accumulated values. The form written by the previous versions, holding the
+     * max only, can still be read: then no value can be reversed until all of them are accumulated again.
+     */
     protected static class MaxData implements Externalizable {
-        public Integer max = null;
+        public LongSortedBag values = new LongSortedBag();
+
+        /**
+         * true when read from the form holding the max only, which is then written again, until all the values
+         * are accumulated again
+         */
+        boolean resultOnly;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Integer) in.readObject();
+            Object read = in.readObject();
+            if (read instanceof LongSortedBag) {
+                values = (LongSortedBag) read;
+            } else if (read != null) {
+                resultOnly = true;
+                values.add( ((Integer) read).longValue() );
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            out.writeObject(resultOnly ? Integer.valueOf( (int) values.last() ) : values);
         }
 
         @Override
@@ -58,36 +76,35 @@ public class IntegerMaxAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
+        data.resultOnly = false;
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            data.max = data.max == null || data.max < number ? number : data.max;
+            data.values.add( ((Integer) value).longValue() );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        if (!tryReverse( data, value )) {
+            throw new IllegalStateException( "Unable to reverse " + value + " as it has not been accumulated" );
+        }
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            Integer number = (Integer)value;
-            return data.max > number;
-        }
-        return true;
+        return value == null || (!data.resultOnly && data.values.remove( ((Integer) value).longValue() ));
     }
 
     public Object getResult( MaxData data) {
-        return data.max;
+        return data.values.isEmpty() ? null : (int) data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import org.drools.core.util.LongSortedBag;
+
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
@@ -34,17 +36,33 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
 
     }
 
+    /**
+     * Externalized as the bag of all the accumulated values. The form written by the previous versions, holding the
+     * min only, can still be read: then no value can be reversed until all of them are accumulated again.
+     */
     protected static class MinData implements Externalizable {
-        public Integer min = null;
+        public LongSortedBag values = new LongSortedBag();
+
+        /**
+         * true when read from the form holding the min only, which is then written again, until all the values
+         * are accumulated again
+         */
+        boolean resultOnly;
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Integer) in.readObject();
+            Object read = in.readObject();
+            if (read instanceof LongSortedBag) {
+                values = (LongSortedBag) read;
+            } else if (read != null) {
+                resultOnly = true;
+                values.add( ((Integer) read).longValue() );
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(resultOnly ? Integer.valueOf( (int) values.first() ) : values);
         }
 
         @Override
@@ -57,37 +75,36 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
         return new MinData();
     }
 
-    public void init( MinData data) {
-        data.min = null;
+    public void init(MinData data) {
+        data.values.clear();
+        data.resultOnly = false;
     }
 
-    public void accumulate( MinData data,
-                            Object value) {
+    public void accumulate(MinData data,
+                           Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            data.min = data.min == null || data.min > number ? number : data.min;
+            data.values.add( ((Integer) value).longValue() );
         }
     }
 
-    public void reverse( MinData data,
-                         Object value) {
+    public void reverse(MinData data,
+                        Object value) {
+        if (!tryReverse( data, value )) {
+            throw new IllegalStateException( "Unable to reverse " + value + " as it has not been accumulated" );
+        }
     }
 
     @Override
     public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            Integer number = (Integer)value;
-            return data.min < number;
-        }
-        return true;
+        return value == null || (!data.resultOnly && data.values.remove( ((Integer) value).longValue() ));
     }
 
-    public Object getResult( MinData data ) {
-        return data.min;
+    public Object getResult( MinData data) {
+        return data.values.isEmpty() ? null : (int) data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -21,8 +21,12 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import org.drools.core.util.SortedBag;
+
 /**
- * An implementation of an accumulator capable of calculating maximum values
+ * An implementation of an accumulator capable of calculating maximum values.
+ * The accumulated values are kept in a counted sorted structure, so that reversing
+ * a value doesn't require to reaccumulate all the remaining ones.
  */
 public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumulateFunction.MaxData> {
 
@@ -34,17 +38,33 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
 
     }
 
+    /**
+     * Externalized as the bag of all the accumulated values. The form written by the previous versions, holding the
+     * max only, can still be read: then no value can be reversed until all of them are accumulated again.
+     */
     protected static class MaxData implements Externalizable {
-        public Comparable max = null;
+        public SortedBag<Comparable> values = new SortedBag<>();
+
+        /**
+         * true when read from the form holding the max only, which is then written again, until all the values
+         * are accumulated again
+         */
+        boolean resultOnly;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Comparable) in.readObject();
+            Object read = in.readObject();
+            if (read instanceof SortedBag) {
+                values = (SortedBag<Comparable>) read;
+            } else if (read != null) {
+                resultOnly = true;
+                values.add( (Comparable) read );
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            out.writeObject(resultOnly ? values.last() : values);
         }
 
         @Override
@@ -58,36 +78,36 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
+        data.resultOnly = false;
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            data.max = data.max == null || data.max.compareTo( value ) < 0 ?
-                       (Comparable) value :
-                       data.max;
+            data.values.add( (Comparable) value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        if (!tryReverse( data, value )) {
+            throw new IllegalStateException( "Unable to reverse " + value + " as it has not been accumulated" );
+        }
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            return data.max.compareTo( value ) > 0;
-        }
-        return true;
+        // if the value cannot be found (e.g. it has been mutated) a full reaccumulation is required
+        return value == null || (!data.resultOnly && data.values.remove( (Comparable) value ));
     }
 
     public Object getResult(MaxData data) {
-        return data.max;
+        return data.values.isEmpty() ? null : data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -21,8 +21,12 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import org.drools.core.util.SortedBag;
+
 /**
- * An implementation of an accumulator capable of calculating minimun values
+ * An implementation of an accumulator capable of calculating minimum values.
+ * The accumulated values are kept in a counted sorted structure, so that reversing
+ * a value doesn't require to reaccumulate all the remaining ones.
  */
 public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumulateFunction.MinData> {
 
@@ -34,17 +38,33 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
 
     }
 
+    /**
+     * Externalized as the bag of all the accumulated values. The form written by the previous versions, holding the
+     * min only, can still be read: then no value can be reversed until all of them are accumulated again.
+     */
     protected static class MinData implements Externalizable {
-        public Comparable min = null;
-        
+        public SortedBag<Comparable> values = new SortedBag<>();
+
+        /**
+         * true when read from the form holding the min only, which is then written again, until all the values
+         * are accumulated again
+         */
+        boolean resultOnly;
+
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Comparable) in.readObject();
+            Object read = in.readObject();
+            if (read instanceof SortedBag) {
+                values = (SortedBag<Comparable>) read;
+            } else if (read != null) {
+                resultOnly = true;
+                values.add( (Comparable) read );
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            out.writeObject(resultOnly ? values.first() : values);
         }
 
         @Override
@@ -58,36 +78,36 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     }
 
     public void init(MinData data) {
-        data.min = null;
+        data.values.clear();
+        data.resultOnly = false;
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
-            data.min = data.min == null || data.min.compareTo( value ) > 0 ?
-                       (Comparable) value :
-                       data.min;
+            data.values.add( (Comparable) value );
         }
     }
 
-    @Override
-    public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            return data.min.compareTo( value ) < 0;
+    public void reverse(MinData data,
+                        Object value) {
+        if (!tryReverse( data, value )) {
+            throw new IllegalStateException( "Unable to reverse " + value + " as it has not been accumulated" );
         }
-        return true;
     }
 
-    public void reverse(MinData data,
-                        Object value) {
+    @Override
+    public boolean tryReverse( MinData data, Object value ) {
+        // if the value cannot be found (e.g. it has been mutated) a full reaccumulation is required
+        return value == null || (!data.resultOnly && data.values.remove( (Comparable) value ));
     }
 
     public Object getResult(MinData data) {
-        return data.min;
+        return data.values.isEmpty() ? null : data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
+import org.drools.core.util.LongSortedBag;
+
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
@@ -34,17 +36,33 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
 
     }
 
+    /**
+     * Externalized as the bag of all the accumulated values. The form written by the previous versions, holding the
+     * max only, can still be read: then no value can be reversed until all of them are accumulated again.
+     */
     protected static class MaxData implements Externalizable {
-        public Number max = null;
+        public LongSortedBag values = new LongSortedBag();
+
+        /**
+         * true when read from the form holding the max only, which is then written again, until all the values
+         * are accumulated again
+         */
+        boolean resultOnly;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Number) in.readObject();
+            Object read = in.readObject();
+            if (read instanceof LongSortedBag) {
+                values = (LongSortedBag) read;
+            } else if (read != null) {
+                resultOnly = true;
+                values.add( LongSortedBag.doubleToSortableLong( ((Number) read).doubleValue() ), read );
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            out.writeObject(resultOnly ? values.lastValue() : values);
         }
 
         @Override
@@ -58,36 +76,35 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
+        data.resultOnly = false;
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.max = data.max == null || data.max.doubleValue() < number.doubleValue() ? number : data.max;
+            data.values.add( LongSortedBag.doubleToSortableLong( ((Number) value).doubleValue() ), value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        if (!tryReverse( data, value )) {
+            throw new IllegalStateException( "Unable to reverse " + value + " as it has not been accumulated" );
+        }
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            Number number = (Number)value;
-            return data.max.doubleValue() > number.doubleValue();
-        }
-        return true;
+        return value == null || (!data.resultOnly && data.values.remove( LongSortedBag.doubleToSortableLong( ((Number) value).doubleValue() ), value ));
     }
 
-    public Object getResult(MaxData data) {
-        return data.max;
+    public Object getResult( MaxData data) {
+        return data.values.isEmpty() ? null : data.values.lastValue();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -45,6 +45,8 @@ public abstract class BaseNode
 
     protected int                 hashcode;
 
+    private transient Metrics     metrics;
+
     public BaseNode() {
 
     }
@@ -89,6 +91,17 @@ public abstract class BaseNode
         }
     }
 
+    /**
+     * Returns the metrics collected on this node by an optional monitoring module, if any
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
     public boolean isStreamMode() {
         return this.streamMode;
     }
@@ -221,4 +234,9 @@ public abstract class BaseNode
         }
         return sinks;
     }
+
+    /**
+     * The metrics that an optional monitoring module keeps on a node
+     */
+    public interface Metrics { }
 }
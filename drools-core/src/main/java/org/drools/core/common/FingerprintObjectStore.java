@@ -0,0 +1,649 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Lock;
+
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.ObjectFilter;
+
+import static org.drools.core.common.ClassAwareObjectStore.getActualClass;
+
+/**
+ * An ObjectStore for the equality assert behavior that, instead of hash maps, uses two open addressing tables
+ * of fact handles: one indexed by the hash code of the facts and one by their identity.
+ *
+ * The hash code of each fact is computed only once, when it is added, and cached as a fingerprint in both
+ * tables, so that equals is invoked only on facts having the same fingerprint and a fact handle can be removed,
+ * even when its fact has been modified in place, without invoking either hashCode or equals.
+ * The handles of each concrete class are also kept in a compact array, used to iterate them by class.
+ */
+public class FingerprintObjectStore implements Externalizable, ObjectStore {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // assuming compressed references
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+
+    private Lock lock;
+
+    private InternalFactHandle[] equalityHandles;
+    private int[] equalityFingerprints;
+    private int equalitySize;
+
+    private InternalFactHandle[] identityHandles;
+    private int[] identityFingerprints;
+    private int[] classPositions;
+
+    private int size;
+
+    private Map<String, ClassStore> classStores = new LinkedHashMap<>();
+
+    private Map<Object, InternalFactHandle> negatedHandles;
+
+    private Map<Long, InternalFactHandle> factsById;
+
+    /**
+     * Updated whenever the indexes are reallocated, on insertion and deletion, so that it can be read from any thread
+     */
+    private volatile long memoryFootprint;
+
+    public FingerprintObjectStore() { }
+
+    public FingerprintObjectStore( Lock lock ) {
+        this.lock = lock;
+        init();
+    }
+
+    private void init() {
+        equalityHandles = new InternalFactHandle[DEFAULT_CAPACITY];
+        equalityFingerprints = new int[DEFAULT_CAPACITY];
+        equalitySize = 0;
+        identityHandles = new InternalFactHandle[DEFAULT_CAPACITY];
+        identityFingerprints = new int[DEFAULT_CAPACITY];
+        classPositions = new int[DEFAULT_CAPACITY];
+        size = 0;
+        classStores = new LinkedHashMap<>();
+        negatedHandles = null;
+        factsById = null;
+        updateMemoryFootprint();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        List<InternalFactHandle> handles = new ArrayList<>( size );
+        iterateFactHandles().forEachRemaining( handles::add );
+        out.writeObject(handles);
+        out.writeObject(negatedHandles != null ? new ArrayList<>( negatedHandles.values() ) : null);
+        out.writeObject(lock);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        init();
+        List<InternalFactHandle> handles = (List<InternalFactHandle>) in.readObject();
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            addHandle(handles.get(i), handles.get(i).getObject());
+        }
+        List<InternalFactHandle> negated = (List<InternalFactHandle>) in.readObject();
+        if (negated != null) {
+            negated.forEach( handle -> addHandle(handle, handle.getObject()) );
+        }
+        lock = (Lock) in.readObject();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        init();
+    }
+
+    @Override
+    public Object getObjectForHandle(InternalFactHandle handle) {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            InternalFactHandle reconnectedHandle = reconnect(handle);
+            return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public InternalFactHandle reconnect(InternalFactHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        if (handle.isDisconnected()) {
+            return factsIndexedById().get(handle.getId());
+        }
+        if (handle.isNegated()) {
+            return negatedHandles != null ? negatedHandles.get(handle.getObject()) : null;
+        }
+        InternalFactHandle reconnectedHandle = getHandleForObjectIdentity(handle.getObject());
+        return reconnectedHandle != null || handle.getObjectClassName() != null ? reconnectedHandle : getHandleForObject(handle.getObject());
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObject(Object object) {
+        if (object == null) {
+            return null;
+        }
+        int slot = findEqualitySlot(object, object.hashCode());
+        return slot >= 0 ? equalityHandles[slot] : null;
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObjectIdentity(Object object) {
+        if (object == null) {
+            return null;
+        }
+        int slot = findIdentitySlot(object);
+        return slot >= 0 ? identityHandles[slot] : null;
+    }
+
+    @Override
+    public void updateHandle(InternalFactHandle handle, Object object) {
+        removeHandle(handle);
+        handle.setObject(object);
+        addHandle(handle, object);
+    }
+
+    @Override
+    public void addHandle(InternalFactHandle handle, Object object) {
+        if (handle.isNegated()) {
+            if (negatedHandles == null) {
+                negatedHandles = new IdentityHashMap<>();
+            }
+            negatedHandles.put(object, handle);
+            return;
+        }
+
+        int fingerprint = object.hashCode();
+        int slot = findIdentitySlot(object);
+        if (slot >= 0) {
+            // the same fact has been added again, possibly with another handle
+            int equalitySlot = findEqualitySlotOfHandle(identityHandles[slot], identityFingerprints[slot]);
+            if (equalitySlot >= 0) {
+                deleteEqualitySlot(equalitySlot);
+            }
+        }
+        putEquality(handle, object, fingerprint);
+
+        if (slot >= 0) {
+            getOrCreateClassStore(object).handles[classPositions[slot]] = handle;
+            identityHandles[slot] = handle;
+            identityFingerprints[slot] = fingerprint;
+        } else {
+            if (size + 1 > identityHandles.length * LOAD_FACTOR) {
+                resizeIdentity(identityHandles.length * 2);
+            }
+            slot = findFreeSlot(identityHandles, System.identityHashCode(object));
+            identityHandles[slot] = handle;
+            identityFingerprints[slot] = fingerprint;
+            ClassStore classStore = getOrCreateClassStore(object);
+            int classStoreCapacity = classStore.handles.length;
+            classPositions[slot] = classStore.add(handle);
+            if (classStore.handles.length != classStoreCapacity) {
+                updateMemoryFootprint();
+            }
+            size++;
+        }
+
+        if (factsById != null) {
+            factsById.put(handle.getId(), handle);
+        }
+    }
+
+    @Override
+    public void removeHandle(InternalFactHandle handle) {
+        if (handle.isNegated()) {
+            if (negatedHandles != null) {
+                negatedHandles.remove(handle.getObject());
+            }
+            return;
+        }
+
+        Object object = handle.getObject();
+        int slot = findIdentitySlot(object);
+        if (slot < 0) {
+            return;
+        }
+        InternalFactHandle storedHandle = identityHandles[slot];
+
+        int equalitySlot = findEqualitySlotOfHandle(storedHandle, identityFingerprints[slot]);
+        if (equalitySlot >= 0) {
+            deleteEqualitySlot(equalitySlot);
+        }
+
+        ClassStore classStore = classStores.get(getActualClass(object).getName());
+        int position = classPositions[slot];
+        InternalFactHandle movedHandle = classStore.remove(position);
+        deleteIdentitySlot(slot);
+        if (movedHandle != null) {
+            classPositions[findIdentitySlot(movedHandle.getObject())] = position;
+        }
+        size--;
+
+        if (factsById != null) {
+            factsById.remove(storedHandle.getId());
+        }
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects() {
+        return new ObjectIterator(new FactHandleIterator(classStores.values(), null));
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects(ObjectFilter filter) {
+        if (filter instanceof ClassObjectFilter) {
+            return new ObjectIterator(new FactHandleIterator(getClassStores(((ClassObjectFilter) filter).getFilteredClass()), null));
+        }
+        return new ObjectIterator(new FactHandleIterator(classStores.values(), filter));
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles() {
+        return new FactHandleIterator(classStores.values(), null);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles(ObjectFilter filter) {
+        if (filter instanceof ClassObjectFilter) {
+            return new FactHandleIterator(getClassStores(((ClassObjectFilter) filter).getFilteredClass()), null);
+        }
+        return new FactHandleIterator(classStores.values(), filter);
+    }
+
+    @Override
+    public Iterator<Object> iterateNegObjects(ObjectFilter filter) {
+        return new ObjectIterator(iterateNegFactHandles(filter));
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateNegFactHandles(ObjectFilter filter) {
+        if (negatedHandles == null) {
+            return Collections.emptyIterator();
+        }
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for (InternalFactHandle handle : negatedHandles.values()) {
+            if (filter == null || filter.accept(handle.getObject())) {
+                handles.add(handle);
+            }
+        }
+        return handles.iterator();
+    }
+
+    @Override
+    public FactHandleClassStore getStoreForClass(Class<?> clazz) {
+        return () -> new FactHandleIterator(getClassStores(clazz), null);
+    }
+
+    @Override
+    public boolean clearClassStore(Class<?> clazz) {
+        ClassStore classStore = classStores.get(clazz.getName());
+        if (classStore == null) {
+            return false;
+        }
+        boolean hadFacts = classStore.size > 0;
+        while (classStore.size > 0) {
+            removeHandle(classStore.handles[classStore.size - 1]);
+        }
+        classStores.remove(clazz.getName());
+        updateMemoryFootprint();
+        return hadFacts;
+    }
+
+    /**
+     * Returns the approximate number of bytes used by the tables and the arrays indexing the fact handles,
+     * excluding the fact handles and the facts themselves
+     */
+    public long getMemoryFootprint() {
+        return memoryFootprint;
+    }
+
+    private void updateMemoryFootprint() {
+        long footprint = referenceArrayFootprint(equalityHandles.length) + intArrayFootprint(equalityFingerprints.length) +
+                         referenceArrayFootprint(identityHandles.length) + intArrayFootprint(identityFingerprints.length) +
+                         intArrayFootprint(classPositions.length);
+        for (ClassStore classStore : classStores.values()) {
+            footprint += referenceArrayFootprint(classStore.handles.length);
+        }
+        memoryFootprint = footprint;
+    }
+
+    private static long referenceArrayFootprint(int length) {
+        return ARRAY_HEADER_SIZE + (long) length * REFERENCE_SIZE;
+    }
+
+    private static long intArrayFootprint(int length) {
+        return ARRAY_HEADER_SIZE + (long) length * Integer.BYTES;
+    }
+
+    // /////////////////////
+    // /// Equality table
+    // /////////////////////
+
+    private int findEqualitySlot(Object object, int fingerprint) {
+        int mask = equalityHandles.length - 1;
+        for (int i = spread(fingerprint) & mask; equalityHandles[i] != null; i = (i + 1) & mask) {
+            if (equalityFingerprints[i] == fingerprint) {
+                Object other = equalityHandles[i].getObject();
+                if (other == object || object.equals(other)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int findEqualitySlotOfHandle(InternalFactHandle handle, int fingerprint) {
+        int mask = equalityHandles.length - 1;
+        for (int i = spread(fingerprint) & mask; equalityHandles[i] != null; i = (i + 1) & mask) {
+            if (equalityHandles[i] == handle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void putEquality(InternalFactHandle handle, Object object, int fingerprint) {
+        int slot = findEqualitySlot(object, fingerprint);
+        if (slot >= 0) {
+            equalityHandles[slot] = handle;
+            return;
+        }
+        if (equalitySize + 1 > equalityHandles.length * LOAD_FACTOR) {
+            resizeEquality(equalityHandles.length * 2);
+        }
+        slot = findFreeSlot(equalityHandles, fingerprint);
+        equalityHandles[slot] = handle;
+        equalityFingerprints[slot] = fingerprint;
+        equalitySize++;
+    }
+
+    private void deleteEqualitySlot(int slot) {
+        int mask = equalityHandles.length - 1;
+        int free = slot;
+        // shifts back the following entries of the cluster, so that no tombstone is needed
+        for (int i = (free + 1) & mask; equalityHandles[i] != null; i = (i + 1) & mask) {
+            if (canMove(free, i, spread(equalityFingerprints[i]) & mask)) {
+                equalityHandles[free] = equalityHandles[i];
+                equalityFingerprints[free] = equalityFingerprints[i];
+                free = i;
+            }
+        }
+        equalityHandles[free] = null;
+        equalityFingerprints[free] = 0;
+        equalitySize--;
+    }
+
+    private void resizeEquality(int capacity) {
+        InternalFactHandle[] oldHandles = equalityHandles;
+        int[] oldFingerprints = equalityFingerprints;
+        equalityHandles = new InternalFactHandle[capacity];
+        equalityFingerprints = new int[capacity];
+        for (int i = 0; i < oldHandles.length; i++) {
+            if (oldHandles[i] != null) {
+                int slot = findFreeSlot(equalityHandles, oldFingerprints[i]);
+                equalityHandles[slot] = oldHandles[i];
+                equalityFingerprints[slot] = oldFingerprints[i];
+            }
+        }
+        updateMemoryFootprint();
+    }
+
+    // /////////////////////
+    // /// Identity table
+    // /////////////////////
+
+    private int findIdentitySlot(Object object) {
+        int mask = identityHandles.length - 1;
+        for (int i = spread(System.identityHashCode(object)) & mask; identityHandles[i] != null; i = (i + 1) & mask) {
+            if (identityHandles[i].getObject() == object) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void deleteIdentitySlot(int slot) {
+        int mask = identityHandles.length - 1;
+        int free = slot;
+        for (int i = (free + 1) & mask; identityHandles[i] != null; i = (i + 1) & mask) {
+            if (canMove(free, i, spread(System.identityHashCode(identityHandles[i].getObject())) & mask)) {
+                identityHandles[free] = identityHandles[i];
+                identityFingerprints[free] = identityFingerprints[i];
+                classPositions[free] = classPositions[i];
+                free = i;
+            }
+        }
+        identityHandles[free] = null;
+    }
+
+    private void resizeIdentity(int capacity) {
+        InternalFactHandle[] oldHandles = identityHandles;
+        int[] oldFingerprints = identityFingerprints;
+        int[] oldPositions = classPositions;
+        identityHandles = new InternalFactHandle[capacity];
+        identityFingerprints = new int[capacity];
+        classPositions = new int[capacity];
+        for (int i = 0; i < oldHandles.length; i++) {
+            if (oldHandles[i] != null) {
+                int slot = findFreeSlot(identityHandles, System.identityHashCode(oldHandles[i].getObject()));
+                identityHandles[slot] = oldHandles[i];
+                identityFingerprints[slot] = oldFingerprints[i];
+                classPositions[slot] = oldPositions[i];
+            }
+        }
+        updateMemoryFootprint();
+    }
+
+    private static int findFreeSlot(InternalFactHandle[] handles, int hash) {
+        int mask = handles.length - 1;
+        int i = spread(hash) & mask;
+        while (handles[i] != null) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Checks if the entry in the given slot, whose home slot is the given one, can be moved in the free slot
+     * without being no longer reachable from its home slot
+     */
+    private static boolean canMove(int free, int slot, int home) {
+        return free <= slot ? home <= free || home > slot : home <= free && home > slot;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // /////////////////////
+    // /// Class stores
+    // /////////////////////
+
+    private ClassStore getOrCreateClassStore(Object object) {
+        Class<?> clazz = getActualClass(object);
+        ClassStore classStore = classStores.get(clazz.getName());
+        if (classStore == null) {
+            classStore = new ClassStore(clazz);
+            classStores.put(clazz.getName(), classStore);
+            updateMemoryFootprint();
+        }
+        return classStore;
+    }
+
+    private List<ClassStore> getClassStores(Class<?> clazz) {
+        List<ClassStore> stores = new ArrayList<>();
+        for (ClassStore classStore : classStores.values()) {
+            if (clazz.isAssignableFrom(classStore.storedClass)) {
+                stores.add(classStore);
+            }
+        }
+        return stores;
+    }
+
+    private Map<Long, InternalFactHandle> factsIndexedById() {
+        if (factsById == null) {
+            factsById = new HashMap<>();
+            iterateFactHandles().forEachRemaining( fh -> factsById.put(fh.getId(), fh) );
+        }
+        return factsById;
+    }
+
+    private static class ClassStore {
+        private final Class<?> storedClass;
+        private InternalFactHandle[] handles = new InternalFactHandle[16];
+        private int size;
+
+        private ClassStore(Class<?> storedClass) {
+            this.storedClass = storedClass;
+        }
+
+        private int add(InternalFactHandle handle) {
+            if (size == handles.length) {
+                InternalFactHandle[] newHandles = new InternalFactHandle[size + (size >> 1)];
+                System.arraycopy(handles, 0, newHandles, 0, size);
+                handles = newHandles;
+            }
+            handles[size] = handle;
+            return size++;
+        }
+
+        /**
+         * Removes the handle in the given position replacing it with the last one, that is returned if moved
+         */
+        private InternalFactHandle remove(int position) {
+            size--;
+            InternalFactHandle last = handles[size];
+            handles[size] = null;
+            if (position == size) {
+                return null;
+            }
+            handles[position] = last;
+            return last;
+        }
+    }
+
+    /**
+     * Iterates the handles of each class store backward, so that removing the last returned handle
+     * doesn't make the iteration skip any other handle
+     */
+    private static class FactHandleIterator implements Iterator<InternalFactHandle> {
+        private final Iterator<ClassStore> stores;
+        private final ObjectFilter filter;
+
+        private ClassStore currentStore;
+        private int position;
+        private InternalFactHandle next;
+
+        private FactHandleIterator(Iterable<ClassStore> stores, ObjectFilter filter) {
+            List<ClassStore> storesSnapshot = new ArrayList<>();
+            stores.forEach( storesSnapshot::add );
+            this.stores = storesSnapshot.iterator();
+            this.filter = filter;
+            fetchNext();
+        }
+
+        private void fetchNext() {
+            next = null;
+            while (true) {
+                if (currentStore != null) {
+                    position = Math.min(position, currentStore.size) - 1;
+                    if (position >= 0) {
+                        InternalFactHandle handle = currentStore.handles[position];
+                        if (filter == null || filter.accept(handle.getObject())) {
+                            next = handle;
+                            return;
+                        }
+                        continue;
+                    }
+                }
+                if (!stores.hasNext()) {
+                    return;
+                }
+                currentStore = stores.next();
+                position = Integer.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public InternalFactHandle next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            InternalFactHandle result = next;
+            fetchNext();
+            return result;
+        }
+    }
+
+    private static class ObjectIterator implements Iterator<Object> {
+        private final Iterator<InternalFactHandle> handles;
+
+        private ObjectIterator(Iterator<InternalFactHandle> handles) {
+            this.handles = handles;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return handles.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return handles.next().getObject();
+        }
+    }
+}
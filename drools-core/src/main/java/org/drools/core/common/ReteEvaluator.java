@@ -28,6 +28,7 @@ import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.rule.EntryPointId;
+import org.drools.core.rule.SlidingWindowTimingWheel;
 import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.accessor.GlobalResolver;
 import org.drools.core.rule.consequence.KnowledgeHelper;
@@ -99,6 +100,14 @@ public interface ReteEvaluator {
 
     SessionConfiguration getSessionConfiguration();
 
+    /**
+     * Returns the timing wheel shared by all the sliding time windows of this session or null
+     * if this session doesn't support it, in which case each window uses its own priority queue.
+     */
+    default SlidingWindowTimingWheel getSlidingWindowTimingWheel() {
+        return null;
+    }
+
     RuleEventListenerSupport getRuleEventSupport();
 
     RuleRuntimeEventSupport getRuleRuntimeEventSupport();
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The per partition throughput counters of a session with multithread evaluation.
+ * The counters are updated by the threads evaluating the partitions, so they are kept in LongAdders
+ * in order to not make those threads contend.
+ */
+public class ParallelAgendaMonitor implements ParallelAgendaMonitorMBean {
+
+    private final LongAdder[] firedRules;
+    private final LongAdder[] evaluations;
+    private final LongAdder[] evaluationTime;
+
+    public ParallelAgendaMonitor(int partitionsNumber) {
+        this.firedRules = createCounters( partitionsNumber );
+        this.evaluations = createCounters( partitionsNumber );
+        this.evaluationTime = createCounters( partitionsNumber );
+    }
+
+    private static LongAdder[] createCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    public void rulesFired(int partition, int fireCount) {
+        firedRules[partition].add( fireCount );
+    }
+
+    public void partitionEvaluated(int partition, long elapsedNanos) {
+        evaluations[partition].increment();
+        evaluationTime[partition].add( elapsedNanos );
+    }
+
+    @Override
+    public int getPartitionsNumber() {
+        return firedRules.length;
+    }
+
+    @Override
+    public long[] getFiredRules() {
+        return sums( firedRules );
+    }
+
+    @Override
+    public long[] getEvaluations() {
+        return sums( evaluations );
+    }
+
+    @Override
+    public long[] getEvaluationTime() {
+        long[] times = sums( evaluationTime );
+        for (int i = 0; i < times.length; i++) {
+            times[i] = TimeUnit.NANOSECONDS.toMillis( times[i] );
+        }
+        return times;
+    }
+
+    @Override
+    public double getFiredRulesSkew() {
+        long[] fired = getFiredRules();
+        long total = 0;
+        long max = 0;
+        for (long count : fired) {
+            total += count;
+            max = Math.max( max, count );
+        }
+        return total == 0 ? 1.0 : (double) max * fired.length / total;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < firedRules.length; i++) {
+            firedRules[i].reset();
+            evaluations[i].reset();
+            evaluationTime[i].reset();
+        }
+    }
+
+    private static long[] sums(LongAdder[] counters) {
+        long[] sums = new long[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            sums[i] = counters[i].sum();
+        }
+        return sums;
+    }
+}
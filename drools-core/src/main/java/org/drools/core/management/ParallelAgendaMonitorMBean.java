@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+/**
+ * An interface for the MBean monitoring the partitions of a session with multithread evaluation
+ */
+public interface ParallelAgendaMonitorMBean {
+
+    /**
+     * @return the number of partitions of the session
+     */
+    int getPartitionsNumber();
+
+    /**
+     * @return the number of rules fired by each partition
+     */
+    long[] getFiredRules();
+
+    /**
+     * @return the number of times each partition has been evaluated
+     */
+    long[] getEvaluations();
+
+    /**
+     * @return the time in milliseconds spent evaluating each partition
+     */
+    long[] getEvaluationTime();
+
+    /**
+     * @return the ratio between the rules fired by the busiest partition and the average of all the partitions,
+     * 1.0 meaning that the load is evenly spread among the partitions
+     */
+    double getFiredRulesSkew();
+
+    /**
+     * Resets all the counters
+     */
+    void reset();
+}
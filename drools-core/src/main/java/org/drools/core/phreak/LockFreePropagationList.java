@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * A multi producer single consumer propagation list that doesn't use any lock.
+ *
+ * The producers push their entries on a stack with a compare-and-set on its head, while the engine
+ * thread atomically detaches the whole stack in {@link #takeAll()} and reverses it, so that the
+ * entries are flushed in the same order in which each producer added them, as it happens with the
+ * {@link SynchronizedPropagationList}.
+ *
+ * While firing until halt the engine thread waiting for new entries spins for a short while and then
+ * parks itself, and it is unparked by the first producer adding an entry to the empty list.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private static final int SPINS_BEFORE_PARKING = 64;
+
+    private final ReteEvaluator reteEvaluator;
+
+    private final AtomicReference<PropagationEntry> head = new AtomicReference<>();
+
+    private volatile Thread waiter;
+
+    private volatile boolean notified = false;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean hasEntriesDeferringExpiration = false;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry currentHead;
+        do {
+            currentHead = head.get();
+            entry.setNext( currentHead );
+        } while ( !head.compareAndSet( currentHead, entry ) );
+
+        if ( entry.defersExpiration() ) {
+            hasEntriesDeferringExpiration = true;
+        }
+
+        // only the entry making the list not empty has to wake up the engine,
+        // any later one will be found by the engine when it re-checks the list before parking
+        if ( currentHead == null ) {
+            Thread currentWaiter = waiter;
+            if ( currentWaiter != null ) {
+                LockSupport.unpark( currentWaiter );
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( reteEvaluator, takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        flush( reteEvaluator, currentHead );
+    }
+
+    private void flush( ReteEvaluator reteEvaluator, PropagationEntry currentHead ) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return hasEntriesDeferringExpiration;
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        // the flag is cleared before detaching the stack, so at worst it remains set for an entry
+        // already taken, which only postpones the expiration to the next round
+        hasEntriesDeferringExpiration = false;
+        return reverse( head.getAndSet( null ) );
+    }
+
+    private static PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry reversed = null;
+        while ( entry != null ) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( reversed );
+            reversed = entry;
+            entry = next;
+        }
+        return reversed;
+    }
+
+    @Override
+    public void reset() {
+        head.set( null );
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    @Override
+    public void waitOnRest() {
+        waiter = Thread.currentThread();
+        try {
+            for (int i = 0; i < SPINS_BEFORE_PARKING; i++) {
+                if ( notified || head.get() != null ) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+            while ( !notified && head.get() == null ) {
+                LockSupport.park( this );
+                if ( Thread.interrupted() ) {
+                    // as for the synchronized list an interruption just ends the wait
+                    return;
+                }
+            }
+        } finally {
+            waiter = null;
+            notified = false;
+        }
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        notified = true;
+        Thread currentWaiter = waiter;
+        if ( currentWaiter != null ) {
+            LockSupport.unpark( currentWaiter );
+        }
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        List<PropagationEntry> entries = new ArrayList<>();
+        for (PropagationEntry entry = head.get(); entry != null; entry = entry.getNext()) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return Collections.unmodifiableList( entries ).iterator();
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        // producers only need to know if the engine is actually parked, which is tracked by the waiter
+    }
+}
@@ -37,6 +37,7 @@ import org.drools.core.common.PropagationContext;
 import org.drools.core.reteoo.Tuple;
 import org.drools.core.util.AbstractHashTable;
 import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.TupleLongIndexHashTable;
 
 import static org.drools.core.phreak.RuleNetworkEvaluator.normalizeStagedTuples;
 
@@ -223,6 +224,8 @@ public class PhreakAccumulateNode {
 
         if (srcRightTuples.getInsertSize() > 32 && rtm instanceof AbstractHashTable ) {
             ((AbstractHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());
+        } else if (srcRightTuples.getInsertSize() > 32 && rtm instanceof TupleLongIndexHashTable ) {
+            ((TupleLongIndexHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());
         }
 
         boolean tupleMemoryEnabled = accNode.isLeftTupleMemoryEnabled();
@@ -27,6 +27,7 @@ import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.rule.ContextEntry;
 import org.drools.core.util.AbstractHashTable;
 import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.TupleLongIndexHashTable;
 
 public class PhreakJoinNode {
     public void doNode(JoinNode joinNode,
@@ -132,6 +133,8 @@ public class PhreakJoinNode {
 
         if (srcRightTuples.getInsertSize() > 32 && rtm instanceof AbstractHashTable ) {
             ((AbstractHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());
+        } else if (srcRightTuples.getInsertSize() > 32 && rtm instanceof TupleLongIndexHashTable ) {
+            ((TupleLongIndexHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());
         }
 
         for (RightTuple rightTuple = srcRightTuples.getInsertFirst(); rightTuple != null; ) {
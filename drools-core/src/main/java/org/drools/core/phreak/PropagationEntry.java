@@ -277,6 +277,63 @@ public interface PropagationEntry {
         }
     }
 
+    /**
+     * The insertion of a batch of facts of the same type, propagated together through each of their object type nodes
+     */
+    class InsertBatch extends AbstractPropagationEntry {
+        private final InternalFactHandle[] handles;
+        private final PropagationContext[] contexts;
+        private final ObjectTypeConf objectTypeConf;
+
+        public InsertBatch( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            this.handles = handles;
+            this.contexts = contexts;
+            this.objectTypeConf = objectTypeConf;
+
+            scheduleExpirations( handles, contexts, reteEvaluator, objectTypeConf );
+        }
+
+        public static void execute( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            scheduleExpirations( handles, contexts, reteEvaluator, objectTypeConf );
+            propagate( handles, contexts, reteEvaluator, objectTypeConf );
+        }
+
+        private static void scheduleExpirations( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            long currentTime = -1;
+            for ( int i = 0; i < handles.length; i++ ) {
+                if ( handles[i].isEvent() ) {
+                    if ( currentTime < 0 ) {
+                        currentTime = reteEvaluator.getTimerService().getCurrentTime();
+                    }
+                    Insert.scheduleExpiration( reteEvaluator, handles[i], contexts[i], objectTypeConf, currentTime );
+                }
+            }
+        }
+
+        private static void propagate( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                for ( int i = 0; i < handles.length; i++ ) {
+                    otn.propagateAssert( handles[i], contexts[i], reteEvaluator );
+                }
+            }
+            for ( InternalFactHandle handle : handles ) {
+                if ( Insert.isOrphanHandle( handle, reteEvaluator ) ) {
+                    handle.setDisconnected( true );
+                    handle.getEntryPoint( reteEvaluator ).getObjectStore().removeHandle( handle );
+                }
+            }
+        }
+
+        public void execute( ReteEvaluator reteEvaluator ) {
+            propagate( handles, contexts, reteEvaluator, objectTypeConf );
+        }
+
+        @Override
+        public String toString() {
+            return "Insert batch of " + handles.length + " facts";
+        }
+    }
+
     class Update extends AbstractPropagationEntry {
         private final InternalFactHandle handle;
         private final PropagationContext context;
@@ -200,6 +200,21 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
         }
     }
 
+    public void assertObjects(final InternalFactHandle[] handles,
+                              final PropagationContext[] contexts,
+                              final ObjectTypeConf objectTypeConf,
+                              final ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert batch of {} facts", handles.length);
+        }
+
+        if ( partitionsEnabled || !reteEvaluator.isThreadSafe() ) {
+            PropagationEntry.InsertBatch.execute( handles, contexts, reteEvaluator, objectTypeConf );
+        } else {
+            reteEvaluator.addPropagation( new PropagationEntry.InsertBatch( handles, contexts, reteEvaluator, objectTypeConf ) );
+        }
+    }
+
 
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
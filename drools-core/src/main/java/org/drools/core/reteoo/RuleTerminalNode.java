@@ -125,6 +125,10 @@ public class RuleTerminalNode extends AbstractTerminalNode {
         return this.subrule;
     }
 
+    public int getSubruleIndex() {
+        return this.subruleIndex;
+    }
+
 
     public String toString() {
         StringBuilder sb = new StringBuilder();
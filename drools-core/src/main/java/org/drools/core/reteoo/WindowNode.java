@@ -235,7 +235,7 @@ public class WindowNode extends ObjectSource
      */
     public WindowMemory createMemory(final RuleBaseConfiguration config, ReteEvaluator reteEvaluator) {
         WindowMemory memory = new WindowMemory();
-        memory.behaviorContext = this.behavior.createBehaviorContext();
+        memory.behaviorContext = this.behavior.createBehaviorContext( reteEvaluator );
         return memory;
     }
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.rule.Declaration;
+import org.drools.core.rule.GroupElement;
+import org.drools.core.rule.Pattern;
+import org.drools.core.rule.RuleConditionElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The order in which the patterns of some rules have to be joined when they are added to a rule base,
+ * overriding the order in which they have been written.
+ *
+ * The order of a subrule is a permutation of the positions of the children of its AND group element,
+ * where order[i] is the position of the child to be put in position i. Only plain patterns, i.e.
+ * patterns without a source, a reactive xpath or a behavior, can be moved and never beyond another
+ * kind of element like a not, an exists, an eval or an accumulate. Moreover a pattern can't be moved
+ * before any of the patterns whose declarations are used by its constraints.
+ * An order that doesn't respect these rules, for instance because the rule has been changed since the
+ * order has been computed, is ignored.
+ */
+public class JoinOrder {
+
+    private static final Logger logger = LoggerFactory.getLogger( JoinOrder.class );
+
+    private final Map<String, int[]> orders = new HashMap<>();
+
+    public void setOrder( String packageName, String ruleName, int subruleIndex, int[] order ) {
+        orders.put( key( packageName, ruleName, subruleIndex ), order.clone() );
+    }
+
+    public int[] getOrder( String packageName, String ruleName, int subruleIndex ) {
+        return orders.get( key( packageName, ruleName, subruleIndex ) );
+    }
+
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    private static String key( String packageName, String ruleName, int subruleIndex ) {
+        return packageName + "." + ruleName + "#" + subruleIndex;
+    }
+
+    /**
+     * Reorders the children of the given subrule, if an order has been defined for it
+     */
+    public void apply( RuleImpl rule, int subruleIndex, GroupElement subrule ) {
+        int[] order = getOrder( rule.getPackageName(), rule.getName(), subruleIndex );
+        if ( order == null ) {
+            return;
+        }
+        if ( !isValidOrder( subrule, order ) ) {
+            logger.warn( "Ignoring join order " + Arrays.toString( order ) + " for subrule " + subruleIndex + " of rule " + rule.getFullyQualifiedName() +
+                         " because it isn't compatible with its patterns" );
+            return;
+        }
+        List<RuleConditionElement> children = subrule.getChildren();
+        List<RuleConditionElement> original = new ArrayList<>( children );
+        for ( int i = 0; i < order.length; i++ ) {
+            children.set( i, original.get( order[i] ) );
+        }
+    }
+
+    /**
+     * Checks if the given element is a pattern that can be joined in a different position
+     */
+    public static boolean isReorderable( RuleConditionElement element ) {
+        if ( !(element instanceof Pattern) ) {
+            return false;
+        }
+        Pattern pattern = (Pattern) element;
+        return pattern.getSource() == null &&
+               pattern.getXpathConstraint() == null &&
+               !pattern.isPassive() &&
+               pattern.getBehaviors().isEmpty() &&
+               pattern.getObjectType() != ClassObjectType.InitialFact_ObjectType;
+    }
+
+    /**
+     * Checks if the given pattern uses any declaration of the other one
+     */
+    public static boolean dependsOn( Pattern pattern, Pattern other ) {
+        for ( Declaration declaration : pattern.getRequiredDeclarations() ) {
+            Pattern declaringPattern = declaration.getPattern();
+            if ( declaringPattern != null && declaringPattern.getPatternId() == other.getPatternId() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isValidOrder( GroupElement subrule, int[] order ) {
+        List<RuleConditionElement> children = subrule.getChildren();
+        if ( !subrule.isAnd() || order.length != children.size() ) {
+            return false;
+        }
+
+        // the elements that can't be moved split the children in segments, and each pattern must remain in its own segment
+        int[] segments = new int[children.size()];
+        int segment = 0;
+        for ( int i = 0; i < children.size(); i++ ) {
+            if ( !isReorderable( children.get( i ) ) ) {
+                segment++;
+            }
+            segments[i] = segment;
+        }
+
+        boolean[] used = new boolean[order.length];
+        for ( int i = 0; i < order.length; i++ ) {
+            int from = order[i];
+            if ( from < 0 || from >= order.length || used[from] ) {
+                return false;
+            }
+            used[from] = true;
+            if ( from != i && ( !isReorderable( children.get( from ) ) || segments[from] != segments[i] ) ) {
+                return false;
+            }
+        }
+
+        for ( int i = 0; i < order.length; i++ ) {
+            if ( !isReorderable( children.get( order[i] ) ) ) {
+                continue;
+            }
+            Pattern pattern = (Pattern) children.get( order[i] );
+            for ( int j = i + 1; j < order.length && segments[order[j]] == segments[order[i]]; j++ ) {
+                if ( dependsOn( pattern, (Pattern) children.get( order[j] ) ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -116,8 +116,15 @@ public class ReteooRuleBuilder implements RuleBuilder {
         // transform rule and gets the array of subrules
         final GroupElement[] subrules = rule.getTransformedLhs( LogicTransformer.getInstance(), kBase.getGlobals() );
 
+        final JoinOrder joinOrder = kBase.getConfiguration().getJoinOrder();
+
         for (int i = 0; i < subrules.length; i++) {
 
+            // reorders the patterns as suggested by the statistics of a previous run, if any
+            if (joinOrder != null) {
+                joinOrder.apply( rule, i, subrules[i] );
+            }
+
             // creates a clean build context for each subrule
             final BuildContext context = new BuildContext( kBase, workingMemories );
             context.setRule( rule );
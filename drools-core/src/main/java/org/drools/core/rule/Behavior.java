@@ -67,6 +67,14 @@ public interface Behavior extends RuleComponent, Cloneable {
      */
     Context createContext();
 
+    /**
+     * Creates the context object associated with this behavior for the given session.
+     * Behaviors whose context depends on the session configuration can override this method.
+     */
+    default Context createContext(ReteEvaluator reteEvaluator) {
+        return createContext();
+    }
+
     /**
      * Makes the behavior aware of the new fact entering behavior's scope
      * 
@@ -63,10 +63,10 @@ public class BehaviorManager
     /**
      * Creates the behaviors' context 
      */
-    public Behavior.Context[] createBehaviorContext() {
+    public Behavior.Context[] createBehaviorContext(ReteEvaluator reteEvaluator) {
         Behavior.Context[] behaviorCtx = new Behavior.Context[behaviors.length];
         for ( int i = 0; i < behaviors.length; i++ ) {
-            behaviorCtx[i] = behaviors[i].createContext();
+            behaviorCtx[i] = behaviors[i].createContext( reteEvaluator );
         }
         return behaviorCtx;
     }
@@ -33,11 +33,13 @@ import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.WindowNode;
 import org.drools.core.reteoo.WindowNode.WindowMemory;
 import org.drools.core.common.PropagationContext;
+import org.drools.core.rule.SlidingWindowTimingWheel.TimingWheelWindowContext;
 import org.drools.core.time.Job;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.JobHandle;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.PointInTimeTrigger;
+import org.kie.internal.runtime.conf.SlidingWindowStoreOption;
 
 import static org.drools.core.common.PhreakPropagationContextFactory.createPropagationContextForFact;
 
@@ -112,18 +114,34 @@ public class SlidingTimeWindow
         return new SlidingTimeWindowContext();
     }
 
+    @Override
+    public Behavior.Context createContext(ReteEvaluator reteEvaluator) {
+        if ( reteEvaluator.getSessionConfiguration().getSlidingWindowStore() == SlidingWindowStoreOption.TIMING_WHEEL ) {
+            SlidingWindowTimingWheel timingWheel = reteEvaluator.getSlidingWindowTimingWheel();
+            if ( timingWheel != null ) {
+                return new TimingWheelWindowContext( timingWheel );
+            }
+        }
+        return createContext();
+    }
+
     @Override
     public boolean assertFact(final Object context,
                               final InternalFactHandle fact,
                               final PropagationContext pctx,
                               final ReteEvaluator reteEvaluator) {
-        final SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
         final EventFactHandle handle = (EventFactHandle) fact;
         long currentTime = reteEvaluator.getTimerService().getCurrentTime();
         if ( isExpired( currentTime, handle ) ) {
             return false;
         }
 
+        if ( context instanceof TimingWheelWindowContext ) {
+            ((TimingWheelWindowContext) context).add( handle, handle.getStartTimestamp() + this.size, reteEvaluator );
+            return true;
+        }
+
+        final SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
         queue.add( handle );
         if ( handle.equals( queue.peek() ) ) {
             // update next expiration time
@@ -141,8 +159,16 @@ public class SlidingTimeWindow
                             final InternalFactHandle fact,
                             final PropagationContext pctx,
                             final ReteEvaluator reteEvaluator) {
-        final SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
         final EventFactHandle handle = (EventFactHandle) fact;
+        if ( context instanceof TimingWheelWindowContext ) {
+            TimingWheelWindowContext wheelContext = (TimingWheelWindowContext) context;
+            if ( !handle.equals( wheelContext.getExpiringHandle() ) ) {
+                wheelContext.remove( handle, reteEvaluator );
+            }
+            return;
+        }
+
+        final SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
         // it may be a call back to expire the tuple that is already being expired
         if ( !handle.equals( queue.getExpiringHandle() ) ) {
             if ( handle.equals( queue.peek() ) ) {
@@ -166,6 +192,12 @@ public class SlidingTimeWindow
     public void expireFacts(final Object context,
                             final PropagationContext pctx,
                             final ReteEvaluator reteEvaluator) {
+        if ( context instanceof TimingWheelWindowContext ) {
+            // the events of this window are expired in batch by the session timing wheel
+            reteEvaluator.getSlidingWindowTimingWheel().expire( reteEvaluator );
+            return;
+        }
+
         TimerService clock = reteEvaluator.getTimerService();
         long currentTime = clock.getCurrentTime();
         SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.PropagationContext;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.PointInTimeTrigger;
+
+import static org.drools.core.common.PhreakPropagationContextFactory.createPropagationContextForFact;
+
+/**
+ * A timing wheel shared by all the sliding time windows of a session.
+ *
+ * Events are stored in buckets keyed by their expiration tick (the expiration timestamp divided by
+ * the tick size, rounded up). The wheel covers a single round of ticks starting from the one following
+ * the last expired tick, so each of its slots holds at most one bucket and it is reached in constant time.
+ * The buckets of the farther ticks are kept in an overflow map ordered by tick, and they are moved into
+ * the wheel when the wheel advances over their round. A single timer job is scheduled for the whole
+ * session at the first non empty tick, and when it fires all the events falling in the expired ticks
+ * are retracted together, regardless of the window they belong to.
+ *
+ * All the methods of this class are supposed to be invoked by the engine thread, either while
+ * propagating insertions and deletions through the window nodes or while executing the expiration
+ * propagation enqueued by the timer job.
+ */
+public class SlidingWindowTimingWheel {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    // stateless job
+    private static final TimingWheelJob job = new TimingWheelJob();
+
+    private final long tick;
+
+    /**
+     * The buckets of the ticks in [baseTick, baseTick + WHEEL_SIZE), one per slot
+     */
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private int wheelBucketsCount;
+    private long baseTick = Long.MIN_VALUE;
+
+    /**
+     * The buckets of the ticks outside the round covered by the wheel
+     */
+    private final TreeMap<Long, Bucket> overflow = new TreeMap<>();
+
+    private long scheduledTick = Long.MAX_VALUE;
+    private JobHandle jobHandle;
+
+    public SlidingWindowTimingWheel(long tick) {
+        this.tick = tick;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getBucketsCount() {
+        return wheelBucketsCount + overflow.size();
+    }
+
+    void add(TimingWheelWindowContext context, EventFactHandle handle, long expirationTime, ReteEvaluator reteEvaluator) {
+        long expirationTick = Math.floorDiv( expirationTime + tick - 1, tick );
+        if ( baseTick == Long.MIN_VALUE ) {
+            // the wheel is still empty: it starts from the tick following the current one
+            advanceTo( Math.floorDiv( reteEvaluator.getTimerService().getCurrentTime(), tick ) + 1 );
+        }
+        Bucket bucket = findOrCreateBucket( expirationTick );
+        Entry entry = new Entry( context, handle, bucket );
+        bucket.append( entry );
+
+        Entry previous = context.entries.put( handle, entry );
+        if ( previous != null ) {
+            remove( previous );
+        }
+
+        if ( expirationTick < scheduledTick ) {
+            schedule( expirationTick, reteEvaluator );
+        }
+    }
+
+    void remove(Entry entry) {
+        Bucket bucket = entry.bucket;
+        bucket.unlink( entry );
+        if ( bucket.isEmpty() && !bucket.detached ) {
+            unlinkBucket( bucket );
+        }
+    }
+
+    /**
+     * Expires all the events whose expiration tick has been reached by the session clock
+     */
+    public void expire(ReteEvaluator reteEvaluator) {
+        expire( reteEvaluator, null );
+    }
+
+    /**
+     * Expires all the events whose expiration tick has been reached by the session clock
+     * @param firedJobHandle the handle of the job that enqueued this expiration, or null when it is requested
+     * by a window while the job is still pending
+     */
+    void expire(ReteEvaluator reteEvaluator, JobHandle firedJobHandle) {
+        TimerService clock = reteEvaluator.getTimerService();
+        long currentTick = Math.floorDiv( clock.getCurrentTime(), tick );
+
+        if ( firedJobHandle != null && firedJobHandle == jobHandle ) {
+            // the scheduled job has been fired, so it no longer needs to be removed or replaced
+            scheduledTick = Long.MAX_VALUE;
+            jobHandle = null;
+        }
+
+        List<Bucket> expired = detachExpiredBuckets( currentTick );
+        advanceTo( currentTick + 1 );
+
+        for ( Bucket bucket : expired ) {
+            // retracting an event may cause other events of the same bucket to be retracted,
+            // so take a snapshot of the bucket first and skip the entries removed in the meanwhile
+            for ( Entry entry : bucket.snapshot() ) {
+                if ( entry.context.entries.get( entry.handle ) == entry ) {
+                    entry.context.entries.remove( entry.handle );
+                    entry.context.expire( entry.handle, reteEvaluator );
+                }
+            }
+        }
+
+        long nextTick = findNextTick();
+        if ( nextTick == Long.MAX_VALUE ) {
+            unschedule( reteEvaluator );
+        } else if ( nextTick != scheduledTick ) {
+            schedule( nextTick, reteEvaluator );
+        }
+    }
+
+    private void schedule(long expirationTick, ReteEvaluator reteEvaluator) {
+        TimerService clock = reteEvaluator.getTimerService();
+        if ( jobHandle != null ) {
+            clock.removeJob( jobHandle );
+        }
+        scheduledTick = expirationTick;
+        TimingWheelJobContext jobctx = new TimingWheelJobContext( reteEvaluator, this );
+        jobHandle = clock.scheduleJob( job,
+                                       jobctx,
+                                       PointInTimeTrigger.createPointInTimeTrigger( expirationTick * tick, null ) );
+    }
+
+    private void unschedule(ReteEvaluator reteEvaluator) {
+        if ( jobHandle != null ) {
+            reteEvaluator.getTimerService().removeJob( jobHandle );
+            jobHandle = null;
+        }
+        scheduledTick = Long.MAX_VALUE;
+    }
+
+    private boolean isInWheel(long expirationTick) {
+        return baseTick != Long.MIN_VALUE && expirationTick >= baseTick && expirationTick - baseTick < WHEEL_SIZE;
+    }
+
+    private Bucket findOrCreateBucket(long expirationTick) {
+        if ( isInWheel( expirationTick ) ) {
+            int slot = (int) (expirationTick & WHEEL_MASK);
+            Bucket bucket = wheel[slot];
+            if ( bucket == null ) {
+                bucket = new Bucket( expirationTick );
+                wheel[slot] = bucket;
+                wheelBucketsCount++;
+            }
+            return bucket;
+        }
+        return overflow.computeIfAbsent( expirationTick, Bucket::new );
+    }
+
+    private void unlinkBucket(Bucket bucket) {
+        if ( isInWheel( bucket.tick ) ) {
+            int slot = (int) (bucket.tick & WHEEL_MASK);
+            if ( wheel[slot] == bucket ) {
+                wheel[slot] = null;
+                wheelBucketsCount--;
+            }
+        } else {
+            overflow.remove( bucket.tick, bucket );
+        }
+    }
+
+    private List<Bucket> detachExpiredBuckets(long currentTick) {
+        List<Bucket> expired = new ArrayList<>();
+        if ( wheelBucketsCount > 0 && currentTick >= baseTick ) {
+            long lastTick = Math.min( currentTick, baseTick + WHEEL_SIZE - 1 );
+            for ( long t = baseTick; t <= lastTick; t++ ) {
+                int slot = (int) (t & WHEEL_MASK);
+                Bucket bucket = wheel[slot];
+                if ( bucket != null ) {
+                    wheel[slot] = null;
+                    wheelBucketsCount--;
+                    expired.add( bucket );
+                }
+            }
+        }
+        Map<Long, Bucket> expiredOverflow = overflow.headMap( currentTick, true );
+        if ( !expiredOverflow.isEmpty() ) {
+            expired.addAll( expiredOverflow.values() );
+            expiredOverflow.clear();
+            if ( expired.size() > 1 ) {
+                expired.sort( (b1, b2) -> Long.compare( b1.tick, b2.tick ) );
+            }
+        }
+        for ( Bucket bucket : expired ) {
+            bucket.detached = true;
+        }
+        return expired;
+    }
+
+    /**
+     * Moves the wheel to the round starting at the given tick, moving into it the overflow buckets of that round.
+     * All the buckets of the wheel before the given tick must have already been detached.
+     */
+    private void advanceTo(long newBaseTick) {
+        if ( newBaseTick <= baseTick ) {
+            return;
+        }
+        baseTick = newBaseTick;
+        Map<Long, Bucket> round = overflow.subMap( newBaseTick, true, newBaseTick + WHEEL_SIZE - 1, true );
+        if ( !round.isEmpty() ) {
+            for ( Bucket bucket : round.values() ) {
+                wheel[(int) (bucket.tick & WHEEL_MASK)] = bucket;
+                wheelBucketsCount++;
+            }
+            round.clear();
+        }
+    }
+
+    private Bucket findNextBucket() {
+        Bucket next = null;
+        if ( wheelBucketsCount > 0 ) {
+            for ( long t = baseTick; next == null; t++ ) {
+                next = wheel[(int) (t & WHEEL_MASK)];
+            }
+        }
+        // the overflow may also hold ticks before the wheel ones, added after the last expiration
+        Map.Entry<Long, Bucket> firstOverflow = overflow.firstEntry();
+        if ( firstOverflow != null && ( next == null || firstOverflow.getKey() < next.tick ) ) {
+            next = firstOverflow.getValue();
+        }
+        return next;
+    }
+
+    private long findNextTick() {
+        Bucket next = findNextBucket();
+        return next == null ? Long.MAX_VALUE : next.tick;
+    }
+
+    /**
+     * Returns the first event of the earliest non empty tick, or null if no event is stored
+     */
+    public EventFactHandle getNextExpiringHandle() {
+        Bucket next = findNextBucket();
+        return next == null ? null : next.first.handle;
+    }
+
+    void windowEmptied(ReteEvaluator reteEvaluator) {
+        if ( getBucketsCount() == 0 ) {
+            unschedule( reteEvaluator );
+        }
+    }
+
+    static class Bucket {
+        private final long tick;
+        private Entry first;
+        private Entry last;
+        private boolean detached;
+
+        Bucket(long tick) {
+            this.tick = tick;
+        }
+
+        boolean isEmpty() {
+            return first == null;
+        }
+
+        void append(Entry entry) {
+            if ( last == null ) {
+                first = entry;
+            } else {
+                last.next = entry;
+                entry.previous = last;
+            }
+            last = entry;
+        }
+
+        void unlink(Entry entry) {
+            if ( entry.previous == null ) {
+                first = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if ( entry.next == null ) {
+                last = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+        }
+
+        List<Entry> snapshot() {
+            List<Entry> entries = new ArrayList<>();
+            for ( Entry entry = first; entry != null; entry = entry.next ) {
+                entries.add( entry );
+            }
+            return entries;
+        }
+    }
+
+    static class Entry {
+        private final TimingWheelWindowContext context;
+        private final EventFactHandle handle;
+        private final Bucket bucket;
+        private Entry previous;
+        private Entry next;
+
+        Entry(TimingWheelWindowContext context, EventFactHandle handle, Bucket bucket) {
+            this.context = context;
+            this.handle = handle;
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * The context of a single sliding window storing its events in the session timing wheel
+     */
+    public static class TimingWheelWindowContext implements Behavior.Context {
+
+        private final SlidingWindowTimingWheel timingWheel;
+        private final Map<EventFactHandle, Entry> entries = new HashMap<>();
+        private EventFactHandle expiringHandle;
+
+        public TimingWheelWindowContext(SlidingWindowTimingWheel timingWheel) {
+            this.timingWheel = timingWheel;
+        }
+
+        public EventFactHandle getExpiringHandle() {
+            return expiringHandle;
+        }
+
+        public void add(EventFactHandle handle, long expirationTime, ReteEvaluator reteEvaluator) {
+            timingWheel.add( this, handle, expirationTime, reteEvaluator );
+        }
+
+        public void remove(EventFactHandle handle, ReteEvaluator reteEvaluator) {
+            Entry entry = entries.remove( handle );
+            if ( entry != null ) {
+                timingWheel.remove( entry );
+                if ( entries.isEmpty() ) {
+                    timingWheel.windowEmptied( reteEvaluator );
+                }
+            }
+        }
+
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        void expire(EventFactHandle handle, ReteEvaluator reteEvaluator) {
+            expiringHandle = handle;
+            if ( handle.isValid() ) {
+                // if not expired yet, expire it
+                final PropagationContext expiresPctx = createPropagationContextForFact( reteEvaluator, handle, PropagationContext.Type.EXPIRATION );
+                ObjectTypeNode.doRetractObject( handle, expiresPctx, reteEvaluator );
+            }
+            expiringHandle = null;
+        }
+
+        @Override
+        public Collection<EventFactHandle> getFactHandles() {
+            return entries.keySet();
+        }
+    }
+
+    public static class TimingWheelJobContext implements JobContext {
+
+        private final ReteEvaluator reteEvaluator;
+        private final SlidingWindowTimingWheel timingWheel;
+        private JobHandle jobHandle;
+
+        public TimingWheelJobContext(ReteEvaluator reteEvaluator, SlidingWindowTimingWheel timingWheel) {
+            this.reteEvaluator = reteEvaluator;
+            this.timingWheel = timingWheel;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return reteEvaluator;
+        }
+
+        public SlidingWindowTimingWheel getTimingWheel() {
+            return timingWheel;
+        }
+    }
+
+    public static class TimingWheelJob implements Job {
+
+        @Override
+        public void execute(JobContext ctx) {
+            TimingWheelJobContext context = (TimingWheelJobContext) ctx;
+            context.reteEvaluator.addPropagation( new TimingWheelExpireAction( context.timingWheel, context.jobHandle ), true );
+        }
+    }
+
+    public static class TimingWheelExpireAction extends PropagationEntry.AbstractPropagationEntry {
+
+        private final SlidingWindowTimingWheel timingWheel;
+        private final JobHandle jobHandle;
+
+        public TimingWheelExpireAction(SlidingWindowTimingWheel timingWheel, JobHandle jobHandle) {
+            this.timingWheel = timingWheel;
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public void execute(ReteEvaluator reteEvaluator) {
+            timingWheel.expire( reteEvaluator, jobHandle );
+        }
+    }
+}
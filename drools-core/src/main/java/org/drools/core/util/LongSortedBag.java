@@ -0,0 +1,394 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted multiset of primitive longs implemented as an array backed treap.
+ * Each distinct key is stored once together with its number of occurrences, so adding,
+ * removing and reading the smallest or largest key are all O(log n) and no key is ever boxed.
+ *
+ * Doubles can be stored through {@link #doubleToSortableLong(double)}, which maps them
+ * on longs preserving their natural ordering.
+ *
+ * Optionally every occurrence of a key can carry the value object that has been added with it,
+ * so that callers can give back an original instance instead of a boxed key. The value given back
+ * for a key is always the one of an occurrence still present in the bag.
+ */
+public class LongSortedBag implements Externalizable {
+
+    private static final int NIL = 0;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] counts;
+    private int[] left;
+    private int[] right;
+    private int[] priorities;
+    private List<Object>[] values;
+
+    private int root = NIL;
+    private int freeList = NIL;
+    private int nextNode = 1;
+    private int size = 0;
+
+    private int seed = 0x2545F491;
+    private boolean removed;
+    private Object valueToRemove;
+
+    public LongSortedBag() {
+        keys = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        left = new int[INITIAL_CAPACITY];
+        right = new int[INITIAL_CAPACITY];
+        priorities = new int[INITIAL_CAPACITY];
+    }
+
+    public static long doubleToSortableLong(double value) {
+        // adding 0.0 turns -0.0 into 0.0, so that they are the same key as they are equal numbers
+        long bits = Double.doubleToLongBits( value + 0.0 );
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    public static double sortableLongToDouble(long value) {
+        return Double.longBitsToDouble( value ^ ((value >> 63) & Long.MAX_VALUE) );
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(long key) {
+        root = insert( root, key, null );
+        size++;
+    }
+
+    public void add(long key, Object value) {
+        if (values == null) {
+            values = new List[keys.length];
+        }
+        root = insert( root, key, value );
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of the given key
+     * @return true if the key was present, false otherwise
+     */
+    public boolean remove(long key) {
+        return remove( key, null );
+    }
+
+    /**
+     * Removes one occurrence of the given key, together with the given value if it has been added with it
+     * @return true if the key was present, false otherwise
+     */
+    public boolean remove(long key, Object value) {
+        removed = false;
+        valueToRemove = value;
+        root = delete( root, key );
+        valueToRemove = null;
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    public int count(long key) {
+        int node = root;
+        while (node != NIL) {
+            int c = Long.compare( key, keys[node] );
+            if (c == 0) {
+                return counts[node];
+            }
+            node = c < 0 ? left[node] : right[node];
+        }
+        return 0;
+    }
+
+    public long first() {
+        return keys[firstNode()];
+    }
+
+    public long last() {
+        return keys[lastNode()];
+    }
+
+    public Object firstValue() {
+        return values == null ? null : values[firstNode()].get( 0 );
+    }
+
+    public Object lastValue() {
+        return values == null ? null : values[lastNode()].get( 0 );
+    }
+
+    public void clear() {
+        Arrays.fill( left, NIL );
+        Arrays.fill( right, NIL );
+        if (values != null) {
+            Arrays.fill( values, null );
+        }
+        root = NIL;
+        freeList = NIL;
+        nextNode = 1;
+        size = 0;
+    }
+
+    private int firstNode() {
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int node = root;
+        while (left[node] != NIL) {
+            node = left[node];
+        }
+        return node;
+    }
+
+    private int lastNode() {
+        if (root == NIL) {
+            throw new NoSuchElementException();
+        }
+        int node = root;
+        while (right[node] != NIL) {
+            node = right[node];
+        }
+        return node;
+    }
+
+    private int insert(int node, long key, Object value) {
+        if (node == NIL) {
+            return newNode( key, value );
+        }
+        int c = Long.compare( key, keys[node] );
+        if (c == 0) {
+            counts[node]++;
+            if (values != null) {
+                values[node].add( value );
+            }
+            return node;
+        }
+        // the arrays can be grown while inserting, so they must be dereferenced only after the recursive call
+        if (c < 0) {
+            int child = insert( left[node], key, value );
+            left[node] = child;
+            if (priorities[child] > priorities[node]) {
+                node = rotateRight( node );
+            }
+        } else {
+            int child = insert( right[node], key, value );
+            right[node] = child;
+            if (priorities[child] > priorities[node]) {
+                node = rotateLeft( node );
+            }
+        }
+        return node;
+    }
+
+    private int delete(int node, long key) {
+        if (node == NIL) {
+            return NIL;
+        }
+        int c = Long.compare( key, keys[node] );
+        if (c < 0) {
+            left[node] = delete( left[node], key );
+            return node;
+        }
+        if (c > 0) {
+            right[node] = delete( right[node], key );
+            return node;
+        }
+        removed = true;
+        if (--counts[node] > 0) {
+            if (values != null) {
+                removeValue( values[node], valueToRemove );
+            }
+            return node;
+        }
+        return deleteNode( node );
+    }
+
+    private int deleteNode(int node) {
+        if (left[node] == NIL) {
+            int child = right[node];
+            freeNode( node );
+            return child;
+        }
+        if (right[node] == NIL) {
+            int child = left[node];
+            freeNode( node );
+            return child;
+        }
+        if (priorities[left[node]] > priorities[right[node]]) {
+            int newRoot = rotateRight( node );
+            right[newRoot] = deleteNode( node );
+            return newRoot;
+        }
+        int newRoot = rotateLeft( node );
+        left[newRoot] = deleteNode( node );
+        return newRoot;
+    }
+
+    private static void removeValue(List<Object> nodeValues, Object value) {
+        int index = -1;
+        for (int i = 0; i < nodeValues.size() && index < 0; i++) {
+            if (nodeValues.get( i ) == value) {
+                index = i;
+            }
+        }
+        if (index < 0) {
+            index = nodeValues.indexOf( value );
+        }
+        nodeValues.remove( index < 0 ? nodeValues.size() - 1 : index );
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        return pivot;
+    }
+
+    private int newNode(long key, Object value) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            if (nextNode == keys.length) {
+                grow();
+            }
+            node = nextNode++;
+        }
+        keys[node] = key;
+        counts[node] = 1;
+        left[node] = NIL;
+        right[node] = NIL;
+        priorities[node] = nextPriority();
+        if (values != null) {
+            List<Object> nodeValues = new ArrayList<>( 1 );
+            nodeValues.add( value );
+            values[node] = nodeValues;
+        }
+        return node;
+    }
+
+    private void freeNode(int node) {
+        if (values != null) {
+            values[node] = null;
+        }
+        right[node] = NIL;
+        left[node] = freeList;
+        freeList = node;
+    }
+
+    private void grow() {
+        int newCapacity = keys.length << 1;
+        keys = Arrays.copyOf( keys, newCapacity );
+        counts = Arrays.copyOf( counts, newCapacity );
+        left = Arrays.copyOf( left, newCapacity );
+        right = Arrays.copyOf( right, newCapacity );
+        priorities = Arrays.copyOf( priorities, newCapacity );
+        if (values != null) {
+            values = Arrays.copyOf( values, newCapacity );
+        }
+    }
+
+    private int nextPriority() {
+        // xorshift, good enough to keep the treap balanced in expectation
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeBoolean( values != null );
+        out.writeInt( size );
+        writeNode( out, root );
+    }
+
+    private void writeNode(ObjectOutput out, int node) throws IOException {
+        if (node == NIL) {
+            return;
+        }
+        writeNode( out, left[node] );
+        for (int i = 0; i < counts[node]; i++) {
+            out.writeLong( keys[node] );
+            if (values != null) {
+                out.writeObject( values[node].get( i ) );
+            }
+        }
+        writeNode( out, right[node] );
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        clear();
+        boolean hasValues = in.readBoolean();
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            long key = in.readLong();
+            if (hasValues) {
+                add( key, in.readObject() );
+            } else {
+                add( key );
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder( "[" );
+        appendNode( sb, root );
+        return sb.append( "]" ).toString();
+    }
+
+    private void appendNode(StringBuilder sb, int node) {
+        if (node == NIL) {
+            return;
+        }
+        appendNode( sb, left[node] );
+        if (sb.length() > 1) {
+            sb.append( ", " );
+        }
+        sb.append( keys[node] ).append( "x" ).append( counts[node] );
+        appendNode( sb, right[node] );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * A sorted multiset of {@link Comparable}s: adding, removing and reading the smallest
+ * or largest element are all O(log n).
+ *
+ * The elements comparing as equal, e.g. the BigDecimals 1.0 and 1.00, share the same key, under which all
+ * the added instances still present are kept, so that the smallest or largest element given back is always
+ * one of them, in the order they have been added.
+ */
+public class SortedBag<T extends Comparable> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TreeMap<T, List<T>> map = new TreeMap<>();
+
+    private int size = 0;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(T t) {
+        List<T> instances = map.get(t);
+        if (instances == null) {
+            instances = new ArrayList<>(1);
+            map.put( t, instances );
+        }
+        instances.add( t );
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of the given element: the given instance if it has been added, otherwise
+     * an equal one
+     * @return true if the element was present, false otherwise
+     */
+    public boolean remove(T t) {
+        List<T> instances = map.get(t);
+        if (instances == null) {
+            return false;
+        }
+        // the key of the instances is always the first of them
+        T key = instances.get( 0 );
+        instances.remove( indexOf( instances, t ) );
+        if (instances.isEmpty()) {
+            map.remove( key );
+        } else if (instances.get( 0 ) != key) {
+            // a removed instance must not be retained as a key, and put() would keep the existing key
+            map.remove( key );
+            map.put( instances.get( 0 ), instances );
+        }
+        size--;
+        return true;
+    }
+
+    public T first() {
+        return map.firstEntry().getValue().get( 0 );
+    }
+
+    public T last() {
+        return map.lastEntry().getValue().get( 0 );
+    }
+
+    public void clear() {
+        map.clear();
+        size = 0;
+    }
+
+    private static <T> int indexOf(List<T> instances, T t) {
+        for (int i = 0; i < instances.size(); i++) {
+            if (instances.get( i ) == t) {
+                return i;
+            }
+        }
+        int index = instances.indexOf( t );
+        return index < 0 ? instances.size() - 1 : index;
+    }
+
+    @Override
+    public String toString() {
+        return map.values().toString();
+    }
+}
@@ -363,6 +363,9 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
+                if (isPrimitiveIndex(config, indexSpec)) {
+                    return new TupleLongIndexHashTable( indexSpec.indexes, false );
+                }
                 return new TupleIndexHashTable( indexSpec.indexes, false );
             }
 
@@ -382,6 +385,9 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
+                if (isPrimitiveIndex(config, indexSpec)) {
+                    return new TupleLongIndexHashTable( indexSpec.indexes, true );
+                }
                 return new TupleIndexHashTable( indexSpec.indexes, true );
             }
 
@@ -392,6 +398,10 @@ public class IndexUtil {
             return new TupleList();
         }
 
+        private static boolean isPrimitiveIndex(RuleBaseConfiguration config, IndexSpec indexSpec) {
+            return config.isPrimitiveBetaMemory() && indexSpec.indexes.length == 1 && TupleLongIndexHashTable.isSupported(indexSpec.indexes[0]);
+        }
+
         public static ContextEntry[] createContext(BetaNodeFieldConstraint... constraints) {
             ContextEntry[] entries = new ContextEntry[constraints.length];
             for (int i = 0; i < constraints.length; i++) {
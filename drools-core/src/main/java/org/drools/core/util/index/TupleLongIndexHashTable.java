@@ -0,0 +1,447 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import org.drools.core.base.ValueType;
+import org.drools.core.reteoo.Tuple;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.rule.Declaration;
+import org.drools.core.rule.accessor.ReadAccessor;
+import org.drools.core.rule.accessor.TupleValueExtractor;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.Entry;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.LinkedList;
+
+/**
+ * An equality indexed tuple memory specialized for a single int or long join key.
+ *
+ * Differently from the {@link TupleIndexHashTable} the keys are never boxed: they are read from the
+ * facts through the primitive accessors and stored in a long[] probed with open addressing, while a
+ * parallel array holds the {@link TupleList} of the tuples having that key. Null values of boxed
+ * fields are kept in a dedicated bucket. Removed buckets leave a tombstone in their slot, so that the
+ * other buckets are moved only when the table is rehashed, that happens only while adding a tuple
+ * as for the chained hash table.
+ */
+public class TupleLongIndexHashTable implements TupleMemory {
+
+    private static final int   DEFAULT_CAPACITY = 128;
+    private static final float LOAD_FACTOR      = 0.5f;
+
+    private static final LongTupleList DELETED = new LongTupleList( -1 );
+
+    private final FieldIndex          index;
+    private final boolean             left;
+
+    private final ReadAccessor        rightExtractor;
+    private final Declaration         leftDeclaration;
+    private final TupleValueExtractor leftExtractor;
+    private final boolean             truncateLeftToInt;
+
+    private long[]                    keys;
+    private LongTupleList[]           buckets;
+    private int                       threshold;
+
+    // the number of non empty slots, including the tombstones
+    private int                       usedSlots;
+    private int                       bucketsSize;
+    private int                       factSize;
+
+    private LongTupleList             nullBucket;
+
+    private transient FullFastIterator  fullFastIterator;
+    private transient FullIterator      fullIterator;
+
+    public TupleLongIndexHashTable( FieldIndex[] index, boolean left ) {
+        this( DEFAULT_CAPACITY, index, left );
+    }
+
+    public TupleLongIndexHashTable( int capacity, FieldIndex[] index, boolean left ) {
+        if ( index.length != 1 || !isSupported( index[0] ) ) {
+            throw new IllegalArgumentException( "TupleLongIndexHashTable can only use a single int or long index" );
+        }
+        this.index = index[0];
+        this.left = left;
+
+        this.rightExtractor = this.index.getRightExtractor();
+        this.leftExtractor = this.index.getLeftExtractor();
+        this.leftDeclaration = leftExtractor instanceof Declaration ? (Declaration) leftExtractor : null;
+        // a long value compared with an int field is coerced to int, as done by the FieldIndex
+        this.truncateLeftToInt = this.index.requiresCoercion() && isIntType( rightExtractor.getValueType() );
+
+        init( tableSizeFor( capacity ) );
+    }
+
+    /**
+     * Checks if both sides of the given index are int or long values, primitive or boxed,
+     * so that their hash table can be replaced by a {@link TupleLongIndexHashTable}
+     */
+    public static boolean isSupported( FieldIndex index ) {
+        return isIntegralType( index.getRightExtractor().getValueType() ) && isIntegralType( index.getLeftExtractor().getValueType() );
+    }
+
+    private static boolean isIntegralType( ValueType valueType ) {
+        return isIntType( valueType ) || valueType == ValueType.PLONG_TYPE || valueType == ValueType.LONG_TYPE;
+    }
+
+    private static boolean isIntType( ValueType valueType ) {
+        return valueType == ValueType.PINTEGER_TYPE || valueType == ValueType.INTEGER_TYPE;
+    }
+
+    private static int tableSizeFor( int capacity ) {
+        int size = DEFAULT_CAPACITY;
+        while ( size * LOAD_FACTOR < capacity ) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private void init( int tableSize ) {
+        this.keys = new long[tableSize];
+        this.buckets = new LongTupleList[tableSize];
+        this.threshold = (int) (tableSize * LOAD_FACTOR);
+        this.usedSlots = 0;
+        this.bucketsSize = 0;
+    }
+
+    private static int indexOf( long key, int length ) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (length - 1);
+    }
+
+    private Object targetOf( Tuple tuple, boolean isLeftTuple ) {
+        if ( !isLeftTuple ) {
+            return tuple.getFactHandle().getObject();
+        }
+        return leftDeclaration != null ? tuple.get( leftDeclaration ).getObject() : leftExtractor.getValue( tuple );
+    }
+
+    private boolean isNullKey( Object target, boolean isLeftTuple ) {
+        if ( !isLeftTuple ) {
+            return rightExtractor.isNullValue( null, target );
+        }
+        return leftDeclaration != null ? leftDeclaration.getExtractor().isNullValue( null, target ) : target == null;
+    }
+
+    private long keyOf( Object target, boolean isLeftTuple ) {
+        if ( !isLeftTuple ) {
+            return rightExtractor.getLongValue( null, target );
+        }
+        long key = leftDeclaration != null ? leftDeclaration.getLongValue( null, target ) : ( (Number) target ).longValue();
+        return truncateLeftToInt ? (int) key : key;
+    }
+
+    private LongTupleList get( Tuple tuple, boolean isLeftTuple ) {
+        Object target = targetOf( tuple, isLeftTuple );
+        if ( isNullKey( target, isLeftTuple ) ) {
+            return nullBucket;
+        }
+        long key = keyOf( target, isLeftTuple );
+        for ( int i = indexOf( key, keys.length ); ; i = (i + 1) & (keys.length - 1) ) {
+            LongTupleList bucket = buckets[i];
+            if ( bucket == null ) {
+                return null;
+            }
+            if ( bucket != DELETED && keys[i] == key ) {
+                return bucket;
+            }
+        }
+    }
+
+    /**
+     * Finds the bucket of the given tuple probing the table only once, creating it if it doesn't exist yet.
+     */
+    private LongTupleList getOrCreate( Tuple tuple ) {
+        Object target = targetOf( tuple, left );
+        if ( isNullKey( target, left ) ) {
+            if ( nullBucket == null ) {
+                nullBucket = new LongTupleList( -1 );
+            }
+            return nullBucket;
+        }
+
+        long key = keyOf( target, left );
+        int firstDeleted = -1;
+        int i = indexOf( key, keys.length );
+        for ( LongTupleList bucket = buckets[i]; bucket != null; bucket = buckets[i] ) {
+            if ( bucket == DELETED ) {
+                if ( firstDeleted < 0 ) {
+                    firstDeleted = i;
+                }
+            } else if ( keys[i] == key ) {
+                return bucket;
+            }
+            i = (i + 1) & (keys.length - 1);
+        }
+
+        if ( firstDeleted >= 0 ) {
+            i = firstDeleted;
+        } else {
+            usedSlots++;
+        }
+        LongTupleList bucket = new LongTupleList( i );
+        keys[i] = key;
+        buckets[i] = bucket;
+        bucketsSize++;
+
+        if ( usedSlots > threshold ) {
+            // grow only if the table is really full, otherwise just get rid of the tombstones
+            rehash( bucketsSize >= threshold / 2 ? keys.length << 1 : keys.length );
+        }
+        return bucket;
+    }
+
+    private void removeBucket( LongTupleList bucket ) {
+        if ( bucket == nullBucket ) {
+            nullBucket = null;
+        } else {
+            buckets[bucket.slot] = DELETED;
+            bucketsSize--;
+        }
+    }
+
+    private void rehash( int tableSize ) {
+        long[] oldKeys = this.keys;
+        LongTupleList[] oldBuckets = this.buckets;
+        int oldBucketsSize = this.bucketsSize;
+
+        init( tableSize );
+        for ( int i = 0; i < oldBuckets.length; i++ ) {
+            LongTupleList bucket = oldBuckets[i];
+            if ( bucket != null && bucket != DELETED ) {
+                int j = indexOf( oldKeys[i], tableSize );
+                while ( buckets[j] != null ) {
+                    j = (j + 1) & (tableSize - 1);
+                }
+                keys[j] = oldKeys[i];
+                buckets[j] = bucket;
+                bucket.slot = j;
+            }
+        }
+        this.usedSlots = oldBucketsSize;
+        this.bucketsSize = oldBucketsSize;
+    }
+
+    public void ensureCapacity( int itemsToBeAdded ) {
+        int newCapacity = this.bucketsSize + itemsToBeAdded;
+        if ( newCapacity > this.threshold ) {
+            rehash( tableSizeFor( newCapacity ) );
+        }
+    }
+
+    public Tuple getFirst( final Tuple tuple ) {
+        TupleList bucket = get( tuple, !left );
+        return bucket != null ? bucket.getFirst() : null;
+    }
+
+    public void removeAdd( Tuple tuple ) {
+        LongTupleList memory = (LongTupleList) tuple.getMemory();
+        memory.remove( tuple );
+
+        if ( memory == get( tuple, left ) ) {
+            // it's the same bucket, so re-use and return
+            memory.add( tuple );
+            return;
+        }
+
+        this.factSize--;
+        if ( memory.getFirst() == null ) {
+            removeBucket( memory );
+        }
+        add( tuple );
+    }
+
+    public void add( final Tuple tuple ) {
+        getOrCreate( tuple ).add( tuple );
+        this.factSize++;
+    }
+
+    public void remove( final Tuple tuple ) {
+        LongTupleList memory = (LongTupleList) tuple.getMemory();
+        memory.remove( tuple );
+        this.factSize--;
+        if ( memory.getFirst() == null ) {
+            removeBucket( memory );
+        }
+        tuple.clear();
+    }
+
+    public boolean contains( final Tuple tuple ) {
+        return get( tuple, left ) != null;
+    }
+
+    public boolean isIndexed() {
+        return true;
+    }
+
+    public int size() {
+        return this.factSize;
+    }
+
+    public FieldIndex getFieldIndex() {
+        return this.index;
+    }
+
+    public Iterator<Tuple> iterator() {
+        if ( this.fullIterator == null ) {
+            this.fullIterator = new FullIterator( this );
+        } else {
+            this.fullIterator.reset();
+        }
+        return this.fullIterator;
+    }
+
+    public FastIterator fastIterator() {
+        return LinkedList.fastIterator;
+    }
+
+    public FastIterator fullFastIterator() {
+        if ( fullFastIterator == null ) {
+            fullFastIterator = new FullFastIterator( this );
+        } else {
+            fullFastIterator.reset();
+        }
+        return fullFastIterator;
+    }
+
+    public FastIterator fullFastIterator( Tuple tuple ) {
+        fullFastIterator.resume( (LongTupleList) tuple.getMemory() );
+        return fullFastIterator;
+    }
+
+    public Tuple[] toArray() {
+        Tuple[] result = new Tuple[this.factSize];
+        int i = 0;
+        FastIterator it = new FullFastIterator( this );
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            result[i++] = tuple;
+        }
+        return result;
+    }
+
+    public IndexType getIndexType() {
+        return IndexType.EQUAL;
+    }
+
+    public void clear() {
+        init( tableSizeFor( DEFAULT_CAPACITY ) );
+        this.factSize = 0;
+        this.nullBucket = null;
+        this.fullFastIterator = null;
+        this.fullIterator = null;
+    }
+
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        Iterator<Tuple> it = iterator();
+        for ( Tuple tuple = it.next(); tuple != null; tuple = it.next() ) {
+            builder.append( tuple ).append( "\n" );
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The list of the tuples sharing the same key, that remembers its slot in the table
+     * so it can be removed or resumed by an iterator without probing the table again.
+     * The bucket of the null values has a negative slot.
+     */
+    public static class LongTupleList extends TupleList {
+
+        private int slot;
+
+        public LongTupleList( int slot ) {
+            this.slot = slot;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+    }
+
+    /**
+     * Iterates all the tuples of the table, starting from the bucket of the null values.
+     * As for the {@link TupleIndexHashTable.FullFastIterator} the current tuple can be removed while iterating.
+     */
+    public static class FullFastIterator implements FastIterator {
+
+        private final TupleLongIndexHashTable table;
+        private LongTupleList[]               buckets;
+        private int                           row;
+
+        public FullFastIterator( TupleLongIndexHashTable table ) {
+            this.table = table;
+            reset();
+        }
+
+        public void reset() {
+            this.buckets = table.buckets;
+            this.row = -1;
+        }
+
+        public void resume( LongTupleList target ) {
+            this.buckets = table.buckets;
+            this.row = target.getSlot() + 1; // row always points to the row after the current bucket
+        }
+
+        public Entry next( Entry object ) {
+            Tuple tuple = (Tuple) object;
+            if ( tuple != null && tuple.getMemory() != null && tuple.getNext() != null ) {
+                return tuple.getNext();
+            }
+
+            if ( row < 0 ) {
+                row = 0;
+                LongTupleList nullBucket = table.nullBucket;
+                if ( nullBucket != null && nullBucket.getFirst() != null ) {
+                    return nullBucket.getFirst();
+                }
+            }
+            while ( row < buckets.length ) {
+                LongTupleList bucket = buckets[row++];
+                if ( bucket != null && bucket != DELETED && bucket.getFirst() != null ) {
+                    return bucket.getFirst();
+                }
+            }
+            return null;
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
+    public static class FullIterator implements Iterator<Tuple> {
+
+        private final FullFastIterator fastIterator;
+        private Tuple                  current;
+
+        public FullIterator( TupleLongIndexHashTable table ) {
+            this.fastIterator = new FullFastIterator( table );
+        }
+
+        public Tuple next() {
+            current = (Tuple) fastIterator.next( current );
+            return current;
+        }
+
+        public void reset() {
+            this.fastIterator.reset();
+            this.current = null;
+        }
+    }
+}
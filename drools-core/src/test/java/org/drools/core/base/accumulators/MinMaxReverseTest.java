@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MinMaxReverseTest {
+
+    @Test
+    public void testComparableMaxMin() throws Exception {
+        assertMaxMin(new MaxAccumulateFunction(), new MinAccumulateFunction(), "b", "d", "a", "d");
+    }
+
+    @Test
+    public void testIntegerMaxMin() throws Exception {
+        assertMaxMin(new IntegerMaxAccumulateFunction(), new IntegerMinAccumulateFunction(), 2, 4, 1, 4);
+    }
+
+    @Test
+    public void testLongMaxMin() throws Exception {
+        assertMaxMin(new LongMaxAccumulateFunction(), new LongMinAccumulateFunction(), 2L, 4L, 1L, 4L);
+    }
+
+    @Test
+    public void testNumericMaxMin() throws Exception {
+        assertMaxMin(new NumericMaxAccumulateFunction(), new NumericMinAccumulateFunction(), 2.5, new BigDecimal("4.5"), -1.0f, new BigDecimal("4.5"));
+    }
+
+    @Test
+    public void testComparableMaxMinGiveBackLiveInstances() throws Exception {
+        MaxAccumulateFunction maxFunction = new MaxAccumulateFunction();
+        MaxAccumulateFunction.MaxData max = maxFunction.createContext();
+        maxFunction.init(max);
+        BigDecimal first = new BigDecimal("1.0");
+        BigDecimal second = new BigDecimal("1.00");
+        maxFunction.accumulate(max, BigDecimal.ZERO);
+        maxFunction.accumulate(max, first);
+        maxFunction.accumulate(max, second);
+        assertThat(maxFunction.getResult(max)).isSameAs(first);
+
+        // the first added instance is no longer accumulated, but an equal one is
+        maxFunction.reverse(max, first);
+        assertThat(maxFunction.getResult(max)).isSameAs(second);
+        maxFunction.reverse(max, second);
+        assertThat(maxFunction.getResult(max)).isSameAs(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void testReverseOfNotAccumulatedValue() {
+        MinAccumulateFunction minFunction = new MinAccumulateFunction();
+        MinAccumulateFunction.MinData min = minFunction.createContext();
+        minFunction.init(min);
+        minFunction.accumulate(min, "b");
+
+        assertThat(minFunction.tryReverse(min, "a")).isFalse();
+        assertThatThrownBy(() -> minFunction.reverse(min, "a")).isInstanceOf(IllegalStateException.class);
+        assertThat(minFunction.getResult(min)).isEqualTo("b");
+    }
+
+    @Test
+    public void testPreviousExternalizedFormIsRead() throws Exception {
+        // the previous form of the context holds the max only
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(4L);
+        }
+        LongMaxAccumulateFunction maxFunction = new LongMaxAccumulateFunction();
+        LongMaxAccumulateFunction.MaxData max = maxFunction.createContext();
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            max.readExternal(in);
+        }
+        assertThat(maxFunction.getResult(max)).isEqualTo(4L);
+
+        // the other accumulated values are unknown, so reversing any of them requires a reaccumulation
+        assertThat(maxFunction.tryReverse(max, 4L)).isFalse();
+        assertThat(maxFunction.tryReverse(max, 2L)).isFalse();
+
+        maxFunction.init(max);
+        maxFunction.accumulate(max, 2L);
+        maxFunction.accumulate(max, 4L);
+        assertThat(maxFunction.tryReverse(max, 4L)).isTrue();
+        assertThat(maxFunction.getResult(max)).isEqualTo(2L);
+    }
+
+    private <C extends Serializable, D extends Serializable> void assertMaxMin(AccumulateFunction<C> maxFunction, AccumulateFunction<D> minFunction,
+                                                                               Object v1, Object v2, Object v3, Object v4) throws Exception {
+        assertThat(maxFunction.supportsReverse()).isTrue();
+        assertThat(minFunction.supportsReverse()).isTrue();
+
+        C max = maxFunction.createContext();
+        D min = minFunction.createContext();
+        maxFunction.init(max);
+        minFunction.init(min);
+        assertThat(maxFunction.getResult(max)).isNull();
+        assertThat(minFunction.getResult(min)).isNull();
+
+        for (Object v : new Object[] { v1, v2, v3, v4 }) {
+            maxFunction.accumulate(max, v);
+            minFunction.accumulate(min, v);
+        }
+        assertThat(maxFunction.getResult(max)).isEqualTo(v2);
+        assertThat(minFunction.getResult(min)).isEqualTo(v3);
+
+        // the maximum is duplicated so it stays in place after a single removal
+        assertThat(maxFunction.tryReverse(max, v2)).isTrue();
+        assertThat(maxFunction.getResult(max)).isEqualTo(v4);
+        assertThat(maxFunction.tryReverse(max, v4)).isTrue();
+        assertThat(maxFunction.getResult(max)).isEqualTo(v1);
+
+        assertThat(minFunction.tryReverse(min, v3)).isTrue();
+        assertThat(minFunction.getResult(min)).isEqualTo(v1);
+
+        assertThat(maxFunction.tryReverse(max, v3)).isTrue();
+        assertThat(maxFunction.tryReverse(max, v1)).isTrue();
+        assertThat(maxFunction.getResult(max)).isNull();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+import org.kie.api.runtime.ClassObjectFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FingerprintObjectStoreTest {
+
+    private final FingerprintObjectStore underTest = new FingerprintObjectStore(new ReentrantLock());
+
+    @Test
+    public void getHandleForObjectUsesEquality() {
+        InternalFactHandle handle = insertObjectWithFactHandle(new Value(1));
+
+        assertThat(underTest.getHandleForObject(new Value(1))).isSameAs(handle);
+        assertThat(underTest.getHandleForObjectIdentity(new Value(1))).isNull();
+        assertThat(underTest.getHandleForObjectIdentity(handle.getObject())).isSameAs(handle);
+        assertThat(underTest.getHandleForObject(new Value(2))).isNull();
+    }
+
+    @Test
+    public void removeHandleOfObjectModifiedInPlace() {
+        Value value = new Value(1);
+        InternalFactHandle handle = insertObjectWithFactHandle(value);
+
+        value.value = 2;
+        underTest.updateHandle(handle, value);
+        assertThat(underTest.getHandleForObject(new Value(1))).isNull();
+        assertThat(underTest.getHandleForObject(new Value(2))).isSameAs(handle);
+
+        value.value = 3;
+        underTest.removeHandle(handle);
+        assertThat(underTest.size()).isEqualTo(0);
+        assertThat(underTest.getHandleForObject(new Value(2))).isNull();
+        assertThat(underTest.getHandleForObjectIdentity(value)).isNull();
+    }
+
+    @Test
+    public void addAndRemoveManyObjectsWithCollidingHashCodes() {
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            handles.add(insertObjectWithFactHandle(new Value(i, i % 7)));
+        }
+        assertThat(underTest.size()).isEqualTo(1000);
+
+        for (int i = 0; i < 1000; i += 2) {
+            underTest.removeHandle(handles.get(i));
+        }
+        assertThat(underTest.size()).isEqualTo(500);
+
+        for (int i = 0; i < 1000; i++) {
+            InternalFactHandle expected = i % 2 == 0 ? null : handles.get(i);
+            assertThat(underTest.getHandleForObject(new Value(i, i % 7))).isSameAs(expected);
+            assertThat(underTest.getHandleForObjectIdentity(handles.get(i).getObject())).isSameAs(expected);
+        }
+        assertThat(new HashSet<>(collect(underTest.iterateFactHandles()))).hasSize(500);
+    }
+
+    @Test
+    public void iterateFactHandlesByClass() {
+        insertObjectWithFactHandle(new SubClass());
+        insertObjectWithFactHandle(new SuperClass());
+        insertObjectWithFactHandle("some string");
+
+        assertThat(collect(underTest.iterateFactHandles(SubClass.class))).hasSize(1);
+        assertThat(collect(underTest.iterateFactHandles(SuperClass.class))).hasSize(2);
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class)))).hasSize(2);
+        assertThat(collect(underTest.iterateObjects(SubClass.class::isInstance))).hasSize(1);
+        assertThat(collect(underTest.iterateObjects())).hasSize(3);
+    }
+
+    @Test
+    public void removeFactHandlesWhileIterating() {
+        for (int i = 0; i < 100; i++) {
+            insertObjectWithFactHandle(new Value(i));
+        }
+
+        int iterated = 0;
+        for (Iterator<InternalFactHandle> i = underTest.iterateFactHandles(Value.class); i.hasNext(); ) {
+            underTest.removeHandle(i.next());
+            iterated++;
+        }
+        assertThat(iterated).isEqualTo(100);
+        assertThat(underTest.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void clearClassStoreRemovesOnlyItsObjects() {
+        insertObjectWithFactHandle(new SubClass());
+        insertObjectWithFactHandle(new SuperClass());
+
+        assertThat(underTest.clearClassStore(SubClass.class)).isTrue();
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(collect(underTest.iterateFactHandles(SuperClass.class))).hasSize(1);
+        assertThat(underTest.clearClassStore(SubClass.class)).isFalse();
+    }
+
+    @Test
+    public void memoryFootprintGrowsWithFacts() {
+        long emptyFootprint = underTest.getMemoryFootprint();
+        for (int i = 0; i < 1000; i++) {
+            insertObjectWithFactHandle(new Value(i));
+        }
+        assertThat(underTest.getMemoryFootprint()).isGreaterThan(emptyFootprint);
+
+        underTest.clear();
+        assertThat(underTest.getMemoryFootprint()).isEqualTo(emptyFootprint);
+    }
+
+    @Test
+    public void memoryFootprintFollowsTheClassStores() {
+        long emptyFootprint = underTest.getMemoryFootprint();
+        insertObjectWithFactHandle(new SuperClass());
+        long superClassFootprint = underTest.getMemoryFootprint();
+        assertThat(superClassFootprint).isGreaterThan(emptyFootprint);
+        insertObjectWithFactHandle(new SubClass());
+        assertThat(underTest.getMemoryFootprint()).isGreaterThan(superClassFootprint);
+
+        underTest.clearClassStore(SubClass.class);
+        assertThat(underTest.getMemoryFootprint()).isEqualTo(superClassFootprint);
+    }
+
+    private InternalFactHandle insertObjectWithFactHandle(Object objectToInsert) {
+        InternalFactHandle handle = handleFor(objectToInsert);
+        underTest.addHandle(handle, objectToInsert);
+        return handle;
+    }
+
+    private static <T> Collection<T> collect(Iterator<T> objects) {
+        List<T> result = new ArrayList<T>();
+        while (objects.hasNext()) {
+            result.add(objects.next());
+        }
+        return result;
+    }
+
+    private static final AtomicInteger factCounter = new AtomicInteger(0);
+
+    private InternalFactHandle handleFor(Object object) {
+        return new DefaultFactHandle(factCounter.getAndIncrement(), object);
+    }
+
+    private static class Value {
+        private int value;
+        private final Integer fixedHashCode;
+
+        private Value(int value) {
+            this(value, null);
+        }
+
+        private Value(int value, Integer fixedHashCode) {
+            this.value = value;
+            this.fixedHashCode = fixedHashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Value && ((Value) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return fixedHashCode != null ? fixedHashCode : Objects.hash(value);
+        }
+    }
+
+    private static class SuperClass {
+    }
+
+    private static class SubClass extends SuperClass {
+    }
+}
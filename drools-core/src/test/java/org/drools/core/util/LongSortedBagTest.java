@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongSortedBagTest {
+
+    @Test
+    public void testAddRemove() {
+        LongSortedBag bag = new LongSortedBag();
+        assertThat(bag.isEmpty()).isTrue();
+
+        bag.add(5);
+        bag.add(3);
+        bag.add(5);
+        bag.add(-7);
+
+        assertThat(bag.size()).isEqualTo(4);
+        assertThat(bag.first()).isEqualTo(-7);
+        assertThat(bag.last()).isEqualTo(5);
+        assertThat(bag.count(5)).isEqualTo(2);
+
+        assertThat(bag.remove(5)).isTrue();
+        assertThat(bag.last()).isEqualTo(5);
+        assertThat(bag.remove(5)).isTrue();
+        assertThat(bag.last()).isEqualTo(3);
+        assertThat(bag.remove(5)).isFalse();
+
+        assertThat(bag.remove(-7)).isTrue();
+        assertThat(bag.first()).isEqualTo(3);
+        assertThat(bag.remove(3)).isTrue();
+        assertThat(bag.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testDoubleEncodingPreservesOrder() {
+        double[] values = { Double.NEGATIVE_INFINITY, -1e300, -2.5, 0.0, 1e-300, 2.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY };
+        for (int i = 0; i < values.length; i++) {
+            long encoded = LongSortedBag.doubleToSortableLong(values[i]);
+            assertThat(LongSortedBag.sortableLongToDouble(encoded)).isEqualTo(values[i]);
+            if (i > 0) {
+                assertThat(encoded).isGreaterThan(LongSortedBag.doubleToSortableLong(values[i - 1]));
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeZeroIsTheSameKeyOfZero() {
+        assertThat(LongSortedBag.doubleToSortableLong(-0.0)).isEqualTo(LongSortedBag.doubleToSortableLong(0.0));
+
+        LongSortedBag bag = new LongSortedBag();
+        bag.add(LongSortedBag.doubleToSortableLong(-0.0), -0.0);
+        assertThat(bag.remove(LongSortedBag.doubleToSortableLong(0.0), 0.0)).isTrue();
+        assertThat(bag.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testValueOfRemovedOccurrenceIsNotGivenBack() {
+        Integer five = 5;
+        Long otherFive = 5L;
+        LongSortedBag bag = new LongSortedBag();
+        bag.add(LongSortedBag.doubleToSortableLong(5.0), five);
+        bag.add(LongSortedBag.doubleToSortableLong(5.0), otherFive);
+        bag.add(LongSortedBag.doubleToSortableLong(7.0), 7);
+
+        assertThat(bag.firstValue()).isSameAs(five);
+        bag.remove(LongSortedBag.doubleToSortableLong(5.0), five);
+        assertThat(bag.firstValue()).isSameAs(otherFive);
+        bag.remove(LongSortedBag.doubleToSortableLong(5.0), otherFive);
+        assertThat(bag.firstValue()).isEqualTo(7);
+    }
+
+    @Test
+    public void testValues() {
+        LongSortedBag bag = new LongSortedBag();
+        bag.add(LongSortedBag.doubleToSortableLong(1.5), 1.5);
+        bag.add(LongSortedBag.doubleToSortableLong(3.0), 3.0f);
+
+        assertThat(bag.lastValue()).isEqualTo(3.0f);
+        assertThat(bag.firstValue()).isEqualTo(1.5);
+
+        bag.remove(LongSortedBag.doubleToSortableLong(3.0));
+        assertThat(bag.lastValue()).isEqualTo(1.5);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstTreeMap() {
+        Random random = new Random(0);
+        LongSortedBag bag = new LongSortedBag();
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        int size = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                boolean present = expected.containsKey(key);
+                assertThat(bag.remove(key)).isEqualTo(present);
+                if (present) {
+                    size--;
+                    expected.computeIfPresent(key, (k, c) -> c == 1 ? null : c - 1);
+                }
+            } else {
+                bag.add(key);
+                size++;
+                expected.merge(key, 1, Integer::sum);
+            }
+
+            assertThat(bag.size()).isEqualTo(size);
+            if (!expected.isEmpty()) {
+                assertThat(bag.first()).isEqualTo(expected.firstKey());
+                assertThat(bag.last()).isEqualTo(expected.lastKey());
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        LongSortedBag bag = new LongSortedBag();
+        bag.add(10, "a");
+        bag.add(10, "b");
+        bag.add(2, "c");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(bag);
+        }
+        LongSortedBag copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            copy = (LongSortedBag) in.readObject();
+        }
+
+        assertThat(copy.size()).isEqualTo(3);
+        assertThat(copy.count(10)).isEqualTo(2);
+        assertThat(copy.first()).isEqualTo(2);
+        assertThat(copy.lastValue()).isEqualTo("a");
+    }
+}
@@ -26,6 +26,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 
 import org.drools.core.common.ActivationsFilter;
 import org.drools.core.common.AgendaGroupsManager;
@@ -38,6 +41,9 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.RuleBase;
+import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.management.ParallelAgendaMonitor;
+import org.drools.core.management.ParallelAgendaMonitorMBean;
 import org.drools.core.phreak.ExecutableEntry;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
@@ -73,6 +79,8 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     private PropagationList propagationList;
 
+    private ParallelAgendaMonitor monitor;
+
     public CompositeDefaultAgenda() { }
 
     public CompositeDefaultAgenda(RuleBase kBase) {
@@ -139,6 +147,30 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         Stream.of( agendas ).forEach( a -> a.setWorkingMemory( workingMemory ) );
         // this composite agenda and the first partitioned one share the same propagation list
         this.propagationList = agendas[0].getPropagationList();
+
+        this.monitor = new ParallelAgendaMonitor( agendas.length );
+        for ( DefaultAgenda agenda : agendas ) {
+            if ( agenda instanceof PartitionedDefaultAgenda ) {
+                ( (PartitionedDefaultAgenda) agenda ).setMonitor( monitor );
+            }
+        }
+        if ( workingMemory.getKnowledgeBase().getConfiguration().isMBeansEnabled() ) {
+            registerMonitor( workingMemory );
+        }
+    }
+
+    private void registerMonitor( InternalWorkingMemory workingMemory ) {
+        try {
+            StandardMBean adapter = new StandardMBean( monitor, ParallelAgendaMonitorMBean.class );
+            ObjectName name = DroolsManagementAgent.createObjectName( DroolsManagementAgent.createObjectNameFor( workingMemory ) + ",group=ParallelAgenda" );
+            DroolsManagementAgent.getInstance().registerMBean( this, adapter, name );
+        } catch ( NotCompliantMBeanException e ) {
+            log.error( "Unable to register ParallelAgendaMonitor mbean into the platform MBean Server", e );
+        }
+    }
+
+    public ParallelAgendaMonitor getMonitor() {
+        return monitor;
     }
 
     @Override
@@ -178,16 +210,27 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         CompletableFuture<Integer>[] results = new CompletableFuture[agendas.length-1];
         for (int i = 0; i < results.length; i++) {
             final int j = i;
-            results[j] = supplyAsync( () -> agendas[j].internalFireAllRules( agendaFilter, fireLimit, false ), EXECUTOR );
+            results[j] = supplyAsync( () -> fireAllRulesOnPartition( j, agendaFilter, fireLimit ), EXECUTOR );
         }
 
-        int result = agendas[agendas.length-1].internalFireAllRules( agendaFilter, fireLimit, false );
+        int result = fireAllRulesOnPartition( agendas.length-1, agendaFilter, fireLimit );
         for (int i = 0; i < results.length; i++) {
             result += results[i].join();
         }
         return result;
     }
 
+    private int fireAllRulesOnPartition( int partition, AgendaFilter agendaFilter, int fireLimit ) {
+        long start = System.nanoTime();
+        try {
+            return agendas[partition].internalFireAllRules( agendaFilter, fireLimit, false );
+        } finally {
+            if ( monitor != null ) {
+                monitor.partitionEvaluated( partition, System.nanoTime() - start );
+            }
+        }
+    }
+
     @Override
     public RuleAgendaItem createRuleAgendaItem( int salience, PathMemory rs, TerminalNode rtn ) {
         return getPartitionedAgendaForNode(rtn).createRuleAgendaItem( salience, rs, rtn );
@@ -248,6 +291,7 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         for ( int i = 0; i < agendas.length; i++ ) {
             agendas[i].getPropagationList().dispose();
         }
+        DroolsManagementAgent.getInstance().unregisterMBeansFromOwner( this );
         return executionStateMachine.dispose( wm );
     }
 
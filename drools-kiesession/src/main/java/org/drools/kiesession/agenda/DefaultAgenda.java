@@ -46,6 +46,7 @@ import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -78,6 +79,7 @@ import org.kie.api.runtime.process.ProcessInstance;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.AgendaGroup;
 import org.kie.api.runtime.rule.Match;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -227,8 +229,12 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        return workingMemory.getSessionConfiguration().getPropagationList() == PropagationListOption.LOCK_FREE ?
+               new LockFreePropagationList( workingMemory ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -747,6 +753,7 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     // The while loop may continue to loop, to keep flushing the action propagation queue
                     returnedFireCount = ruleEvaluator.evaluateAndFire( agendaFilter, fireCount, fireLimit, group );
                     fireCount += returnedFireCount;
+                    onRulesFired( returnedFireCount );
 
                     limitReached = ( fireLimit > 0 && fireCount >= fireLimit );
                     head = propagationList.takeAll();
@@ -775,6 +782,8 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         return fireCount;
     }
 
+    protected void onRulesFired( int fireCount ) { }
+
     interface RestHandler {
         RestHandler FIRE_ALL_RULES = new FireAllRulesRestHandler();
         RestHandler FIRE_UNTIL_HALT = new FireUntilHaltRestHandler();
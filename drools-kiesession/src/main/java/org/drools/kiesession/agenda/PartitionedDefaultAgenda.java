@@ -19,6 +19,7 @@ package org.drools.kiesession.agenda;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
 import org.drools.core.impl.RuleBase;
+import org.drools.core.management.ParallelAgendaMonitor;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.common.PropagationContext;
 
@@ -26,6 +27,8 @@ public class PartitionedDefaultAgenda extends DefaultAgenda {
 
     private final int partition;
 
+    private ParallelAgendaMonitor monitor;
+
     PartitionedDefaultAgenda(RuleBase kBase,
                              boolean initMain,
                              ExecutionStateMachine executionStateMachine,
@@ -41,6 +44,17 @@ public class PartitionedDefaultAgenda extends DefaultAgenda {
         partition = 0;
     }
 
+    void setMonitor( ParallelAgendaMonitor monitor ) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void onRulesFired( int fireCount ) {
+        if ( monitor != null && fireCount > 0 ) {
+            monitor.rulesFired( partition, fireCount );
+        }
+    }
+
     @Override
     protected void doRetract( PropagationContext ectx ) {
         InternalFactHandle factHandle = ectx.getFactHandle();
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.kiesession.debug;
+
+import java.util.List;
+
+/**
+ * The reordering of the patterns of a subrule proposed by the {@link JoinOrderAdvisor}.
+ *
+ * The costs are the estimated number of tuples stored in the left memories of the joins of the
+ * reordered patterns, with the current and with the proposed order.
+ */
+public class JoinOrderAdvice {
+
+    private final String packageName;
+    private final String ruleName;
+    private final int subruleIndex;
+    private final int[] order;
+    private final List<String> currentPatterns;
+    private final List<String> proposedPatterns;
+    private final double currentCost;
+    private final double proposedCost;
+
+    public JoinOrderAdvice(String packageName,
+                           String ruleName,
+                           int subruleIndex,
+                           int[] order,
+                           List<String> currentPatterns,
+                           List<String> proposedPatterns,
+                           double currentCost,
+                           double proposedCost) {
+        this.packageName = packageName;
+        this.ruleName = ruleName;
+        this.subruleIndex = subruleIndex;
+        this.order = order;
+        this.currentPatterns = currentPatterns;
+        this.proposedPatterns = proposedPatterns;
+        this.currentCost = currentCost;
+        this.proposedCost = proposedCost;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public int getSubruleIndex() {
+        return subruleIndex;
+    }
+
+    /**
+     * Returns the proposed order as a permutation of the positions of the elements of the subrule
+     */
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    public List<String> getCurrentPatterns() {
+        return currentPatterns;
+    }
+
+    public List<String> getProposedPatterns() {
+        return proposedPatterns;
+    }
+
+    public double getCurrentCost() {
+        return currentCost;
+    }
+
+    public double getProposedCost() {
+        return proposedCost;
+    }
+
+    public String toString() {
+        return "Rule " + packageName + "." + ruleName + ( subruleIndex > 0 ? " (subrule " + subruleIndex + ")" : "" ) +
+               ": join " + proposedPatterns + " instead of " + currentPatterns +
+               " (estimated left memory tuples " + Math.round( proposedCost ) + " instead of " + Math.round( currentCost ) + ")";
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.kiesession.debug;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.LeftInputAdapterNode;
+import org.drools.core.reteoo.LeftTupleNode;
+import org.drools.core.reteoo.QueryTerminalNode;
+import org.drools.core.reteoo.RuleTerminalNode;
+import org.drools.core.reteoo.builder.JoinOrder;
+import org.drools.core.rule.GroupElement;
+import org.drools.core.rule.Pattern;
+import org.drools.core.rule.RuleConditionElement;
+import org.kie.api.KieBaseConfiguration;
+
+/**
+ * Proposes a different join order for the patterns of the rules, using the sizes of the beta memories
+ * of a running session gathered by the {@link SessionInspector}.
+ *
+ * For each pattern it estimates the number of facts matching its alpha constraints, from the right
+ * memory of its join, and the selectivity of its beta constraints, comparing the number of tuples
+ * produced by its join with the product of the sizes of the join memories. Then it greedily joins
+ * first the pattern producing the smallest number of tuples, among the ones whose declarations
+ * dependencies are already satisfied, so that the left memories of the following joins grow as little
+ * as possible. A pattern whose selectivity can't be observed, like the last one of a rule, is
+ * conservatively assumed to join with all the tuples.
+ *
+ * The proposed orders can be applied when the rule base is rebuilt, through {@link #applyTo(KieBaseConfiguration)}.
+ * They must be computed with a rule base built without any join order, since they refer to the
+ * original positions of the patterns.
+ */
+public class JoinOrderAdvisor {
+
+    private final StatefulKnowledgeSessionInfo info;
+
+    public JoinOrderAdvisor(StatefulKnowledgeSessionInfo info) {
+        this.info = info;
+    }
+
+    /**
+     * Returns the proposed reorderings, sorted by decreasing estimated saving
+     */
+    public List<JoinOrderAdvice> getAdvices() {
+        Map<String, RuleTerminalNode> terminalNodes = new LinkedHashMap<>();
+        for ( NodeInfo nodeInfo : info.getNodeInfos() ) {
+            if ( nodeInfo.getNode() instanceof RuleTerminalNode && !(nodeInfo.getNode() instanceof QueryTerminalNode) ) {
+                RuleTerminalNode rtn = (RuleTerminalNode) nodeInfo.getNode();
+                // a named consequence creates another terminal node for the same subrule, but only the last one has the whole path
+                String key = rtn.getRule().getFullyQualifiedName() + "#" + rtn.getSubruleIndex();
+                RuleTerminalNode other = terminalNodes.get( key );
+                if ( other == null || other.getPathIndex() < rtn.getPathIndex() ) {
+                    terminalNodes.put( key, rtn );
+                }
+            }
+        }
+
+        List<JoinOrderAdvice> advices = new ArrayList<>();
+        for ( RuleTerminalNode rtn : terminalNodes.values() ) {
+            JoinOrderAdvice advice = advise( rtn );
+            if ( advice != null ) {
+                advices.add( advice );
+            }
+        }
+        advices.sort( Comparator.comparingDouble( (JoinOrderAdvice a) -> a.getProposedCost() - a.getCurrentCost() ) );
+        return advices;
+    }
+
+    public JoinOrder getJoinOrder() {
+        JoinOrder joinOrder = new JoinOrder();
+        for ( JoinOrderAdvice advice : getAdvices() ) {
+            joinOrder.setOrder( advice.getPackageName(), advice.getRuleName(), advice.getSubruleIndex(), advice.getOrder() );
+        }
+        return joinOrder;
+    }
+
+    /**
+     * Sets the proposed join order on the given configuration, that has to be used to rebuild the rule base
+     */
+    public void applyTo(KieBaseConfiguration conf) {
+        ( (RuleBaseConfiguration) conf ).setJoinOrder( getJoinOrder() );
+    }
+
+    private JoinOrderAdvice advise(RuleTerminalNode rtn) {
+        GroupElement subrule = rtn.getSubRule();
+        if ( !subrule.isAnd() ) {
+            return null;
+        }
+        List<RuleConditionElement> children = subrule.getChildren();
+        // the initial fact pattern is added while building the rule, so it isn't part of the order
+        int offset = !children.isEmpty() && isInitialFactPattern( children.get( 0 ) ) ? 1 : 0;
+        int size = children.size() - offset;
+        LeftTupleNode[] pathNodes = rtn.getPathNodes();
+
+        int[] order = new int[size];
+        for ( int i = 0; i < size; i++ ) {
+            order[i] = i;
+        }
+
+        double currentCost = 0;
+        double proposedCost = 0;
+        boolean changed = false;
+
+        int start = 0;
+        while ( start < size ) {
+            if ( !JoinOrder.isReorderable( children.get( start + offset ) ) ) {
+                start++;
+                continue;
+            }
+            int end = start + 1;
+            while ( end < size && JoinOrder.isReorderable( children.get( end + offset ) ) ) {
+                end++;
+            }
+
+            Pattern[] patterns = new Pattern[end - start];
+            for ( int i = 0; i < patterns.length; i++ ) {
+                patterns[i] = (Pattern) children.get( start + i + offset );
+            }
+            JoinStatistics[] statistics = patterns.length > 1 ? getStatistics( patterns, pathNodes ) : null;
+            if ( statistics != null ) {
+                int[] segmentOrder = proposeOrder( patterns, statistics );
+                double segmentCurrentCost = estimateCost( statistics, null );
+                double segmentProposedCost = estimateCost( statistics, segmentOrder );
+                currentCost += segmentCurrentCost;
+                if ( segmentProposedCost < segmentCurrentCost ) {
+                    for ( int i = 0; i < segmentOrder.length; i++ ) {
+                        order[start + i] = start + segmentOrder[i];
+                    }
+                    proposedCost += segmentProposedCost;
+                    changed = true;
+                } else {
+                    proposedCost += segmentCurrentCost;
+                }
+            }
+            start = end;
+        }
+
+        if ( !changed ) {
+            return null;
+        }
+
+        List<String> currentPatterns = new ArrayList<>();
+        List<String> proposedPatterns = new ArrayList<>();
+        for ( int i = 0; i < size; i++ ) {
+            currentPatterns.add( describe( children.get( i + offset ) ) );
+            proposedPatterns.add( describe( children.get( order[i] + offset ) ) );
+        }
+        return new JoinOrderAdvice( rtn.getRule().getPackageName(), rtn.getRule().getName(), rtn.getSubruleIndex(), order,
+                                    currentPatterns, proposedPatterns, currentCost, proposedCost );
+    }
+
+    private JoinStatistics[] getStatistics(Pattern[] patterns, LeftTupleNode[] pathNodes) {
+        JoinStatistics[] statistics = new JoinStatistics[patterns.length];
+        for ( int i = 0; i < patterns.length; i++ ) {
+            statistics[i] = getStatistics( patterns[i], pathNodes );
+            if ( statistics[i] == null ) {
+                return null;
+            }
+        }
+        return statistics;
+    }
+
+    private JoinStatistics getStatistics(Pattern pattern, LeftTupleNode[] pathNodes) {
+        int tupleIndex = pattern.getTupleIndex();
+        if ( tupleIndex >= pathNodes.length ) {
+            return null;
+        }
+        LeftTupleNode node = pathNodes[tupleIndex];
+
+        if ( tupleIndex == 0 ) {
+            // the first pattern of the rule enters the network through the left input adapter, so it can only be
+            // counted in the left memory of the following join
+            long facts = getTupleMemorySize( pathNodes, 1 );
+            return node instanceof LeftInputAdapterNode && facts >= 0 ? new JoinStatistics( 1, facts, 1 ) : null;
+        }
+
+        if ( !(node instanceof JoinNode) ) {
+            return null;
+        }
+        NodeInfo nodeInfo = info.getNodeInfo( (JoinNode) node );
+        long leftTuples = nodeInfo.getTupleMemorySize();
+        long facts = nodeInfo.getFactMemorySize();
+        if ( leftTuples < 0 || facts < 0 ) {
+            return null;
+        }
+        long producedTuples = getTupleMemorySize( pathNodes, tupleIndex + 1 );
+        double selectivity = producedTuples >= 0 && leftTuples > 0 && facts > 0 ?
+                (double) producedTuples / ( (double) leftTuples * facts ) :
+                1;
+        return new JoinStatistics( leftTuples, facts, selectivity );
+    }
+
+    private long getTupleMemorySize(LeftTupleNode[] pathNodes, int pathIndex) {
+        if ( pathIndex >= pathNodes.length || !(pathNodes[pathIndex] instanceof BetaNode) ) {
+            return -1;
+        }
+        NodeInfo nodeInfo = info.getNodeInfo( (BetaNode) pathNodes[pathIndex] );
+        return nodeInfo != null ? nodeInfo.getTupleMemorySize() : -1;
+    }
+
+    private static int[] proposeOrder(Pattern[] patterns, JoinStatistics[] statistics) {
+        int[] order = new int[patterns.length];
+        boolean[] placed = new boolean[patterns.length];
+        for ( int position = 0; position < patterns.length; position++ ) {
+            int best = -1;
+            for ( int i = 0; i < patterns.length; i++ ) {
+                if ( !placed[i] && dependenciesPlaced( patterns, placed, i ) &&
+                     ( best < 0 || statistics[i].getGrowth() < statistics[best].getGrowth() ) ) {
+                    best = i;
+                }
+            }
+            order[position] = best;
+            placed[best] = true;
+        }
+        return order;
+    }
+
+    private static boolean dependenciesPlaced(Pattern[] patterns, boolean[] placed, int pattern) {
+        for ( int i = 0; i < patterns.length; i++ ) {
+            if ( !placed[i] && i != pattern && JoinOrder.dependsOn( patterns[pattern], patterns[i] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the number of tuples stored in the left memories of the joins following each pattern but the last one,
+     * since the number of tuples produced by the last join doesn't depend on the order
+     */
+    private static double estimateCost(JoinStatistics[] statistics, int[] order) {
+        double tuples = statistics[0].getEnteringTuples();
+        double cost = 0;
+        for ( int i = 0; i < statistics.length - 1; i++ ) {
+            tuples *= statistics[order != null ? order[i] : i].getGrowth();
+            cost += tuples;
+        }
+        return cost;
+    }
+
+    private static boolean isInitialFactPattern(RuleConditionElement element) {
+        return element instanceof Pattern && ( (Pattern) element ).getObjectType() == ClassObjectType.InitialFact_ObjectType;
+    }
+
+    private static String describe(RuleConditionElement element) {
+        if ( element instanceof Pattern ) {
+            Pattern pattern = (Pattern) element;
+            String className = pattern.getObjectType().getClassName();
+            String type = className.substring( className.lastIndexOf( '.' ) + 1 );
+            return pattern.getDeclaration() != null ? pattern.getDeclaration().getIdentifier() + " : " + type : type;
+        }
+        if ( element instanceof GroupElement ) {
+            return ( (GroupElement) element ).getType().toString().toLowerCase() + "(...)";
+        }
+        return element.getClass().getSimpleName();
+    }
+
+    private static class JoinStatistics {
+        private final double enteringTuples;
+        private final double facts;
+        private final double selectivity;
+
+        private JoinStatistics(double enteringTuples, double facts, double selectivity) {
+            this.enteringTuples = enteringTuples;
+            this.facts = facts;
+            this.selectivity = selectivity;
+        }
+
+        private double getEnteringTuples() {
+            return enteringTuples;
+        }
+
+        /**
+         * The factor by which this pattern multiplies the number of tuples when joined
+         */
+        private double getGrowth() {
+            return facts * selectivity;
+        }
+    }
+}
@@ -24,7 +24,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -33,6 +35,7 @@ import org.drools.core.base.TraitHelper;
 import org.drools.core.common.ClassAwareObjectStore;
 import org.drools.core.common.EqualityKey;
 import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.FingerprintObjectStore;
 import org.drools.core.common.IdentityObjectStore;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
@@ -110,9 +113,13 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         RuleBaseConfiguration conf = this.ruleBase.getConfiguration();
         this.pctxFactory = RuntimeComponentFactory.get().getPropagationContextFactory();
         this.isEqualityBehaviour = RuleBaseConfiguration.AssertBehaviour.EQUALITY.equals(conf.getAssertBehaviour());
-        this.objectStore = isEqualityBehaviour || conf.isMutabilityEnabled() ?
-                new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
-                new IdentityObjectStore();
+        if (isEqualityBehaviour && conf.isFingerprintObjectStore()) {
+            this.objectStore = new FingerprintObjectStore( this.lock );
+        } else {
+            this.objectStore = isEqualityBehaviour || conf.isMutabilityEnabled() ?
+                    new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
+                    new IdentityObjectStore();
+        }
     }
 
     public void lock() {
@@ -234,6 +241,125 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>( objects.size() );
+        if ( this.reteEvaluator.isSequential() ) {
+            for ( Object object : objects ) {
+                handles.add( insert( object ) );
+            }
+            return handles;
+        }
+
+        try {
+            this.reteEvaluator.startOperation();
+            lock();
+            try {
+                this.ruleBase.executeQueuedActions();
+
+                // the new facts are grouped by type, so that each group can be propagated through the network at once
+                PendingInsertions pendingInsertions = new PendingInsertions();
+                for ( Object object : objects ) {
+                    if ( object == null ) {
+                        handles.add( null );
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() ) {
+                        // the facts before this one are asserted first, so that the events are notified in order
+                        flushPendingInsertions( pendingInsertions );
+                        handles.add( insert( object, false, null, null ) );
+                        continue;
+                    }
+
+                    // check if the object already exists in the WM
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        PropagationContext propagationContext = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                                PropagationContext.Type.INSERTION,
+                                null,
+                                null,
+                                handle,
+                                entryPoint);
+                        if ( typeConf.isDynamic() ) {
+                            addPropertyChangeListener( handle, false );
+                        }
+
+                        this.objectStore.addHandle( handle, object );
+                        pendingInsertions.add( typeConf, handle, propagationContext );
+                    }
+                    handles.add( handle );
+                }
+                flushPendingInsertions( pendingInsertions );
+            } finally {
+                unlock();
+            }
+            return handles;
+        } finally {
+            this.reteEvaluator.endOperation();
+        }
+    }
+
+    /**
+     * Asserts the pending facts, one batch per type, and then notifies their insertion in the order they have been
+     * added, as done by {@link #insert(Object)} for a single fact
+     */
+    private void flushPendingInsertions( PendingInsertions pendingInsertions ) {
+        if ( pendingInsertions.isEmpty() ) {
+            return;
+        }
+        for ( Map.Entry<ObjectTypeConf, Batch> batch : pendingInsertions.batches.entrySet() ) {
+            this.entryPointNode.assertObjects( batch.getValue().getHandles(), batch.getValue().getContexts(), batch.getKey(), this.reteEvaluator );
+        }
+        for ( int i = 0; i < pendingInsertions.handles.size(); i++ ) {
+            InternalFactHandle handle = pendingInsertions.handles.get( i );
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted( pendingInsertions.contexts.get( i ), handle, handle.getObject(), this.reteEvaluator );
+        }
+        pendingInsertions.clear();
+    }
+
+    private static class PendingInsertions {
+        private final Map<ObjectTypeConf, Batch> batches = new LinkedHashMap<>();
+        private final List<InternalFactHandle> handles = new ArrayList<>();
+        private final List<PropagationContext> contexts = new ArrayList<>();
+
+        private void add( ObjectTypeConf typeConf, InternalFactHandle handle, PropagationContext context ) {
+            batches.computeIfAbsent( typeConf, c -> new Batch() ).add( handle, context );
+            handles.add( handle );
+            contexts.add( context );
+        }
+
+        private boolean isEmpty() {
+            return handles.isEmpty();
+        }
+
+        private void clear() {
+            batches.clear();
+            handles.clear();
+            contexts.clear();
+        }
+    }
+
+    private static class Batch {
+        private final List<InternalFactHandle> handles = new ArrayList<>();
+        private final List<PropagationContext> contexts = new ArrayList<>();
+
+        private void add( InternalFactHandle handle, PropagationContext context ) {
+            handles.add( handle );
+            contexts.add( context );
+        }
+
+        private InternalFactHandle[] getHandles() {
+            return handles.toArray( new InternalFactHandle[handles.size()] );
+        }
+
+        private PropagationContext[] getContexts() {
+            return contexts.toArray( new PropagationContext[contexts.size()] );
+        }
+    }
+
     public void insert(InternalFactHandle handle,
                        Object object,
                        RuleImpl rule,
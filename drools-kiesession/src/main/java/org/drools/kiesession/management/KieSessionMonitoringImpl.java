@@ -2,12 +2,17 @@ package org.drools.kiesession.management;
 
 import javax.management.ObjectName;
 
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.common.FingerprintObjectStore;
+import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.InternalWorkingMemoryActions;
+import org.drools.core.common.ObjectStore;
 import org.drools.core.management.DroolsManagementAgent;
 import org.drools.core.management.GenericKieSessionMonitoringImpl;
 import org.kie.api.builder.model.KieSessionModel.KieSessionType;
 import org.kie.api.event.KieRuntimeEventManager;
 import org.kie.api.management.KieSessionMonitoringMXBean;
+import org.kie.api.runtime.rule.EntryPoint;
 
 public class KieSessionMonitoringImpl extends GenericKieSessionMonitoringImpl implements KieSessionMonitoringMXBean {
     
@@ -37,4 +42,22 @@ public class KieSessionMonitoringImpl extends GenericKieSessionMonitoringImpl im
         }
         return result;
     }
+
+    @Override
+    public long getTotalObjectStoreFootprint() {
+        long result = 0;
+        for (KieRuntimeEventManager s : ksessions) {
+            if (!(s instanceof InternalWorkingMemory)) {
+                continue;
+            }
+            // the footprint is kept up to date by each store, so the stores are not iterated from this thread
+            for (EntryPoint ep : ((InternalWorkingMemory) s).getEntryPoints()) {
+                ObjectStore objectStore = ep instanceof WorkingMemoryEntryPoint ? ((WorkingMemoryEntryPoint) ep).getObjectStore() : null;
+                if (objectStore instanceof FingerprintObjectStore) {
+                    result += ((FingerprintObjectStore) objectStore).getMemoryFootprint();
+                }
+            }
+        }
+        return result;
+    }
 }
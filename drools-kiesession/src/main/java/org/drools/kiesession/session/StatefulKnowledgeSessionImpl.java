@@ -89,6 +89,7 @@ import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.rule.Declaration;
 import org.drools.core.rule.EntryPointId;
+import org.drools.core.rule.SlidingWindowTimingWheel;
 import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.accessor.GlobalResolver;
 import org.drools.core.rule.consequence.Activation;
@@ -201,6 +202,8 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
     private volatile TimerService timerService;
 
+    private volatile SlidingWindowTimingWheel slidingWindowTimingWheel;
+
     protected InternalFactHandle initialFactHandle;
 
     private PropagationContextFactory pctxFactory;
@@ -853,6 +856,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         if (this.timerService != null) {
             this.timerService.reset();
         }
+        this.slidingWindowTimingWheel = null;
 
         if (this.processRuntime != null) {
             this.processRuntime.dispose();
@@ -868,6 +872,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         if (nodeMemories != null) {
             nodeMemories.clear();
         }
+        this.slidingWindowTimingWheel = null;
         this.agenda.clear();
 
         for ( WorkingMemoryEntryPoint ep : this.entryPointsManager.getEntryPoints() ) {
@@ -1221,6 +1226,12 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
                        null );
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        checkAlive();
+        return this.entryPointsManager.getDefaultEntryPoint().insertAll(objects);
+    }
+
     public void submit(AtomicAction action) {
         agenda.addPropagation( new PropagationEntry.AbstractPropagationEntry() {
             @Override
@@ -1451,6 +1462,18 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.timerService;
     }
 
+    @Override
+    public SlidingWindowTimingWheel getSlidingWindowTimingWheel() {
+        if (this.slidingWindowTimingWheel == null) {
+            synchronized (this) {
+                if (this.slidingWindowTimingWheel == null) {
+                    this.slidingWindowTimingWheel = new SlidingWindowTimingWheel( this.config.getSlidingWindowTick() );
+                }
+            }
+        }
+        return this.slidingWindowTimingWheel;
+    }
+
     protected TimerService createTimerService() {
         return TimerServiceFactory.getTimerService( this.config );
     }
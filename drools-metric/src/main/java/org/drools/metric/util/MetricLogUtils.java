@@ -16,6 +16,8 @@
 
 package org.drools.metric.util;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.drools.core.common.BaseNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,7 +33,10 @@ public class MetricLogUtils {
     public static final String METRIC_LOGGER_THRESHOLD = "drools.metric.logger.threshold";
     private int threshold = Integer.parseInt(System.getProperty(METRIC_LOGGER_THRESHOLD, "500")); // microseconds
 
-    private final ThreadLocal<NodeStats> nodeStats = new ThreadLocal<>();
+    public static final String METRIC_LOGGER_SAMPLING = "drools.metric.logger.sampling";
+    private volatile int sampling = Math.max(1, Integer.parseInt(System.getProperty(METRIC_LOGGER_SAMPLING, "1"))); // time 1 evaluation out of sampling
+
+    private final ThreadLocal<NodeStats> nodeStats = ThreadLocal.withInitial(NodeStats::new);
 
     private static final MetricLogUtils INSTANCE = new MetricLogUtils();
 
@@ -57,22 +62,37 @@ public class MetricLogUtils {
         return threshold;
     }
 
+    public int getSampling() {
+        return sampling;
+    }
+
+    /**
+     * Changes at runtime the number of node executions out of which only 1 is timed
+     */
+    public void setSampling(int sampling) {
+        this.sampling = Math.max(1, sampling);
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
 
     public void startMetrics(BaseNode baseNode) {
         if (enabled) {
-            nodeStats.set(new NodeStats(baseNode));
+            nodeStats.get().start(baseNode, isSampled());
         } else {
             logger.warn("Metrics must not be started when disabled");
         }
     }
 
+    private boolean isSampled() {
+        return sampling == 1 || ThreadLocalRandom.current().nextInt(sampling) == 0;
+    }
+
     public void incrementEvalCount() {
         if (enabled) {
             NodeStats stats = nodeStats.get();
-            if (stats != null && stats.isStarted()) {
+            if (stats.isStarted()) {
                 stats.incrementEvalCount();
             }
         } else {
@@ -83,21 +103,26 @@ public class MetricLogUtils {
     public void logAndEndMetrics() {
         if (enabled) {
             NodeStats stats = nodeStats.get();
-            if (stats != null && stats.isStarted()) {
+            if (stats.isStarted()) {
                 long evalCount = stats.getEvalCount();
-                long elapsedTimeInNanos = (System.nanoTime() - stats.getStartTime());
-                long elapsedTimeInMicro = elapsedTimeInNanos / 1000;
-                if (evalCount > 0 && elapsedTimeInMicro > threshold) {
-                    if (micrometerAvailable) {
-                        MicrometerUtils.INSTANCE.triggerMicrometer(stats.getNode(), evalCount, elapsedTimeInNanos);
-                    } else {  // Only log when Micrometer is not enabled.
-                        logger.trace("{}, evalCount:{}, elapsedMicro:{}", stats.getNode(), evalCount, elapsedTimeInMicro);
+                // as before the sampling, the evaluations are counted only when their node execution is timed and
+                // exceeds the threshold, so with a sampling above 1 the counts are sampled as well
+                if (evalCount > 0 && stats.isSampled()) {
+                    long elapsedTimeInNanos = (System.nanoTime() - stats.getStartTime());
+                    long elapsedTimeInMicro = elapsedTimeInNanos / 1000;
+                    if (elapsedTimeInMicro > threshold) {
+                        NodeMetrics metrics = NodeMetrics.get(stats.getNode(), micrometerAvailable);
+                        if (metrics.hasMeters()) {
+                            metrics.record(evalCount, elapsedTimeInNanos);
+                        } else {  // Only log when Micrometer is not enabled.
+                            logger.trace("{}, evalCount:{}, elapsedMicro:{}", stats.getNode(), evalCount, elapsedTimeInMicro);
+                        }
                     }
                 }
             } else {
                 logger.warn("nodeStats has to be initialized. Call startMetrics() beforehand : stats = {}", stats);
             }
-            nodeStats.remove();
+            stats.end();
         }
     }
 
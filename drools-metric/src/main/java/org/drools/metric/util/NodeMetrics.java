@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.metric.util;
+
+import org.drools.core.common.BaseNode;
+
+/**
+ * The metrics of a single node, created the first time one of its executions is recorded and then kept on the node itself,
+ * so that the evaluations don't have to look up their meters.
+ */
+public class NodeMetrics implements BaseNode.Metrics {
+
+    private final MicrometerUtils.NodeMeters meters;
+
+    private NodeMetrics(MicrometerUtils.NodeMeters meters) {
+        this.meters = meters;
+    }
+
+    public static NodeMetrics get(BaseNode node, boolean micrometerAvailable) {
+        BaseNode.Metrics metrics = node.getMetrics();
+        if (metrics instanceof NodeMetrics && ((NodeMetrics) metrics).isCurrent()) {
+            return (NodeMetrics) metrics;
+        }
+        // concurrent threads may create the metrics of the same node twice, this is harmless
+        // because the registry gives back the same meters for the same node
+        NodeMetrics nodeMetrics = new NodeMetrics(micrometerAvailable ? MicrometerUtils.INSTANCE.createNodeMeters(node) : null);
+        node.setMetrics(nodeMetrics);
+        return nodeMetrics;
+    }
+
+    public boolean hasMeters() {
+        return meters != null;
+    }
+
+    /**
+     * The meters looked up before {@link MicrometerUtils#clear()} may have been removed from the registry
+     */
+    private boolean isCurrent() {
+        return meters == null || meters.isCurrent();
+    }
+
+    public void record(long evalCount, long elapsedTimeInNanos) {
+        meters.record(evalCount, elapsedTimeInNanos);
+    }
+}
@@ -16,28 +16,46 @@
 
 package org.drools.metric.util;
 
-import java.lang.ref.WeakReference;
-
 import org.drools.core.common.BaseNode;
 
+/**
+ * The statistics of the node currently evaluated by a thread. A single instance is reused by each thread
+ * for all the evaluations it performs, so that starting the metrics of a node doesn't allocate anything.
+ */
 public class NodeStats {
 
     private boolean started = false;
+    private boolean sampled = false;
     private long evalCount = 0;
     private long startTime = 0;
-    private WeakReference<BaseNode> nodeRef = null;
+    private BaseNode node = null;
 
-    public NodeStats(BaseNode node) {
+    public NodeStats() { }
+
+    public void start(BaseNode node, boolean sampled) {
         this.started = true;
+        this.sampled = sampled;
         this.evalCount = 0;
-        this.startTime = System.nanoTime();
-        this.nodeRef = new WeakReference<>(node);
+        this.startTime = sampled ? System.nanoTime() : 0;
+        this.node = node;
+    }
+
+    public void end() {
+        this.started = false;
+        this.node = null;
     }
 
     public boolean isStarted() {
         return started;
     }
 
+    /**
+     * Only the sampled evaluations are timed
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
     public long getEvalCount() {
         return evalCount;
     }
@@ -51,11 +69,11 @@ public class NodeStats {
     }
 
     public BaseNode getNode() {
-        return nodeRef.get();
+        return node;
     }
 
     @Override
     public String toString() {
-        return "NodeStats [started=" + started + ", evalCount=" + evalCount + ", startTime=" + startTime + ", node=" + (nodeRef == null ? "null" : nodeRef.get()) + "]";
+        return "NodeStats [started=" + started + ", sampled=" + sampled + ", evalCount=" + evalCount + ", startTime=" + startTime + ", node=" + node + "]";
     }
 }
@@ -22,8 +22,14 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.search.Search;
+import org.drools.core.common.BaseNode;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.ReteDumper;
+import org.drools.metric.util.MetricLogUtils;
+import org.drools.metric.util.NodeMetrics;
 import org.drools.mvel.compiler.Address;
 import org.drools.mvel.compiler.Person;
 import org.junit.Test;
@@ -344,4 +350,79 @@ public class MetricLogUtilsTest extends AbstractMetricTest {
                 .counters();
         assertThat(counters).hasSize(1);
     }
+
+    @Test
+    public void testSampling() {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p1 : Person(age > 5)\n" +
+                        "  $p2 : Person(age > $p1.age)\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+
+        MetricLogUtils.getInstance().setSampling(Integer.MAX_VALUE);
+        try {
+            KieSession ksession = kbase.newKieSession();
+            IntStream.range(0, 10).mapToObj(i -> new Person("John" + i, i)).forEach(ksession::insert);
+            assertThat(ksession.fireAllRules()).isEqualTo(6);
+            ksession.dispose();
+        } finally {
+            MetricLogUtils.getInstance().setSampling(1);
+        }
+
+        // none of the few node executions is timed, so neither the time nor the evaluations are recorded
+        assertThat(Search.in(registry).name("org.drools.metric.elapsed.time").timers()).isEmpty();
+        assertThat(Search.in(registry).name("org.drools.metric.evaluation.count").counters()).isEmpty();
+        assertThat(joinNodes(kbase)).allSatisfy(node -> assertThat(node.getMetrics()).isNull());
+    }
+
+    @Test
+    public void testMetersAreKeptOnTheNodes() {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p1 : Person(age > 5)\n" +
+                        "  $p2 : Person(age > $p1.age)\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+
+        KieSession ksession = kbase.newKieSession();
+        IntStream.range(0, 10).mapToObj(i -> new Person("John" + i, i)).forEach(ksession::insert);
+        assertThat(ksession.fireAllRules()).isEqualTo(6);
+
+        List<BaseNode> joinNodes = joinNodes(kbase);
+        assertThat(joinNodes).hasSize(1);
+        BaseNode.Metrics metrics = joinNodes.get(0).getMetrics();
+        assertThat(metrics).isInstanceOf(NodeMetrics.class);
+        assertThat(((NodeMetrics) metrics).hasMeters()).isTrue();
+        Counter counter = Search.in(registry)
+                .name("org.drools.metric.evaluation.count")
+                .tag("node.id", Long.toString(joinNodes.get(0).getId()))
+                .counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isPositive();
+
+        // once the meters are removed from the registry, the node looks up new ones
+        clearMeters();
+        registry = Metrics.globalRegistry;
+        ksession.insert(new Person("John10", 10));
+        assertThat(ksession.fireAllRules()).isEqualTo(4);
+        ksession.dispose();
+
+        assertThat(joinNodes.get(0).getMetrics()).isNotSameAs(metrics).isInstanceOf(NodeMetrics.class);
+        assertThat(Search.in(registry).name("org.drools.metric.evaluation.count").counters()).hasSize(1);
+    }
+
+    private static List<BaseNode> joinNodes(KieBase kbase) {
+        return ReteDumper.collectRete(kbase).stream()
+                .filter(JoinNode.class::isInstance)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,112 @@
+package org.drools.model.codegen.execmodel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.concurrent.KieExecutors;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.MultithreadEvaluationOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the fireAllRules of a partitioned rulebase scales with the number of partitions.
+ * The ParallelAgendaMonitor of the session reports how the fired rules are spread among the partitions.
+ *
+ * Each combination of parameters runs in its own forked JVM, so the number of partitions
+ * can be set in the setup before any rulebase is created.
+ * The rules are deliberately skewed: the first quarter of them joins each Integer with all the long
+ * Strings, while the other ones join it only with its own String.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelAgendaBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int partitions;
+
+    @Param("128")
+    private int numberOfRules;
+
+    @Param("2000")
+    private int numberOfFacts;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        KieExecutors.Pool.SIZE = partitions;
+
+        KieServices kieServices = KieServices.get();
+        KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        kieFileSystem.write( "src/main/resources/r0.drl", generateDrl() );
+        KieBuilder kieBuilder = kieServices.newKieBuilder( kieFileSystem ).buildAll();
+        if ( kieBuilder.getResults().hasMessages( Message.Level.ERROR ) ) {
+            throw new IllegalStateException( kieBuilder.getResults().toString() );
+        }
+        KieContainer kieContainer = kieServices.newKieContainer( kieServices.getRepository().getDefaultReleaseId() );
+
+        KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
+        kieBaseConfiguration.setOption( MultithreadEvaluationOption.YES );
+        kieBase = kieContainer.newKieBase( kieBaseConfiguration );
+
+    }
+
+    private String generateDrl() {
+        StringBuilder drl = new StringBuilder();
+        drl.append( "global java.util.concurrent.atomic.AtomicInteger counter;\n" );
+        for (int i = 0; i < numberOfRules; i++) {
+            String join = i < numberOfRules / 4 ? "length() > 3" : "this == \"\" + $i";
+            drl.append( "rule R" ).append( i ).append( " when\n" )
+                    .append( "  $i : Integer( intValue % " ).append( numberOfRules ).append( " == " ).append( i ).append( " )\n" )
+                    .append( "  String( " ).append( join ).append( " )\n" )
+                    .append( "then\n" )
+                    .append( "  counter.incrementAndGet();\n" )
+                    .append( "end\n" );
+        }
+        return drl.toString();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        kieSession.setGlobal( "counter", new AtomicInteger() );
+        for (int i = 0; i < numberOfFacts; i++) {
+            kieSession.insert( i );
+            kieSession.insert( "" + i );
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int fireAllRules() {
+        return kieSession.fireAllRules();
+    }
+}
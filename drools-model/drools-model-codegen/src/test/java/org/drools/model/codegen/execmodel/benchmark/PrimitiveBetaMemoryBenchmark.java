@@ -0,0 +1,111 @@
+package org.drools.model.codegen.execmodel.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.model.codegen.execmodel.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.PrimitiveBetaMemoryOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hash table indexing a join on a long key, with and without the primitive beta memory,
+ * inserting the facts of both sides of the join and firing the resulting matches.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveBetaMemoryBenchmark {
+
+    @Param({"false", "true"})
+    private boolean primitiveBetaMemory;
+
+    @Param({"1000", "100000"})
+    private int numberOfCustomers;
+
+    @Param("4")
+    private int ordersPerCustomer;
+
+    private KieBase kieBase;
+    private List<Person> customers;
+    private List<Person> orders;
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule R when\n" +
+                "  $c : Person( name == \"customer\" )\n" +
+                "  Person( name == \"order\", ageLong == $c.ageLong )\n" +
+                "then\n" +
+                "end\n";
+
+        KieServices kieServices = KieServices.get();
+        KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        kieFileSystem.write( "src/main/resources/r0.drl", drl );
+        KieBuilder kieBuilder = kieServices.newKieBuilder( kieFileSystem ).buildAll();
+        if ( kieBuilder.getResults().hasMessages( Message.Level.ERROR ) ) {
+            throw new IllegalStateException( kieBuilder.getResults().toString() );
+        }
+        KieContainer kieContainer = kieServices.newKieContainer( kieServices.getRepository().getDefaultReleaseId() );
+
+        KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
+        kieBaseConfiguration.setOption( primitiveBetaMemory ? PrimitiveBetaMemoryOption.ENABLED : PrimitiveBetaMemoryOption.DISABLED );
+        kieBase = kieContainer.newKieBase( kieBaseConfiguration );
+
+        customers = new ArrayList<>();
+        orders = new ArrayList<>();
+        for (int i = 0; i < numberOfCustomers; i++) {
+            long id = i * 31L + Integer.MAX_VALUE;
+            customers.add( new Person( "customer" ).setAgeLong( id ) );
+            for (int j = 0; j < ordersPerCustomer; j++) {
+                orders.add( new Person( "order" ).setAgeLong( id ) );
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Person order : orders) {
+            kieSession.insert( order );
+        }
+        for (Person customer : customers) {
+            kieSession.insert( customer );
+        }
+        return kieSession.fireAllRules();
+    }
+}
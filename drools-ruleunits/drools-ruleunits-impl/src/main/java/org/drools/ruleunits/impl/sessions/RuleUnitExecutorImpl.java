@@ -59,6 +59,7 @@ import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.reteoo.Tuple;
 import org.drools.core.rule.Declaration;
+import org.drools.core.rule.SlidingWindowTimingWheel;
 import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.accessor.GlobalResolver;
 import org.drools.core.common.PropagationContext;
@@ -104,6 +105,8 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
 
     private final TimerService timerService;
 
+    private SlidingWindowTimingWheel slidingWindowTimingWheel;
+
     private Calendars calendars;
 
     private RuleUnits ruleUnits;
@@ -184,6 +187,14 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
         return timerService;
     }
 
+    @Override
+    public SlidingWindowTimingWheel getSlidingWindowTimingWheel() {
+        if (slidingWindowTimingWheel == null) {
+            slidingWindowTimingWheel = new SlidingWindowTimingWheel( sessionConfiguration.getSlidingWindowTick() );
+        }
+        return slidingWindowTimingWheel;
+    }
+
     @Override
     public void addPropagation(PropagationEntry propagationEntry, boolean register) {
         try {
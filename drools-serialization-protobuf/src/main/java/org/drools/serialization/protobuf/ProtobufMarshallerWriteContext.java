@@ -33,7 +33,9 @@ import org.drools.core.phreak.PhreakTimerNode.TimerNodeJobContext;
 import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.ObjectTypeNode.ExpireJobContext;
 import org.drools.core.rule.SlidingTimeWindow;
+import org.drools.core.rule.SlidingWindowTimingWheel;
 import org.drools.serialization.protobuf.timers.BehaviorJobContextTimerOutputMarshaller;
+import org.drools.serialization.protobuf.timers.TimingWheelJobContextTimerOutputMarshaller;
 import org.drools.serialization.protobuf.timers.ExpireJobContextTimerOutputMarshaller;
 import org.drools.serialization.protobuf.timers.TimerNodeTimerOutputMarshaller;
 import org.kie.api.marshalling.ObjectMarshallingStrategy;
@@ -97,6 +99,8 @@ public class ProtobufMarshallerWriteContext extends ObjectOutputStream implement
 
         this.writersByClass.put( SlidingTimeWindow.BehaviorJobContext.class, new BehaviorJobContextTimerOutputMarshaller() );
 
+        this.writersByClass.put( SlidingWindowTimingWheel.TimingWheelJobContext.class, new TimingWheelJobContextTimerOutputMarshaller() );
+
         this.writersByClass.put( ExpireJobContext.class, new ExpireJobContextTimerOutputMarshaller() );
         
         this.writersByClass.put( TimerNodeJobContext.class, new TimerNodeTimerOutputMarshaller() );
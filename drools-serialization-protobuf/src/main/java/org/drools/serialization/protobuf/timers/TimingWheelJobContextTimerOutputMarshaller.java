@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022. Red Hat, Inc. and/or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf.timers;
+
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.marshalling.MarshallerWriteContext;
+import org.drools.core.rule.SlidingWindowTimingWheel;
+import org.drools.core.rule.SlidingWindowTimingWheel.TimingWheelJobContext;
+import org.drools.core.time.JobContext;
+import org.drools.serialization.protobuf.ProtobufMessages;
+import org.drools.serialization.protobuf.TimersOutputMarshaller;
+
+/**
+ * Writes the job of the session timing wheel as the behavior timer of the first expiring event, as done
+ * for the job of a single sliding window. As for that one, when the session is unmarshalled the timing
+ * wheel is repopulated, and its job rescheduled, by reasserting the events in the windows.
+ */
+public class TimingWheelJobContextTimerOutputMarshaller implements TimersOutputMarshaller {
+
+    @Override
+    public ProtobufMessages.Timers.Timer serialize(JobContext jobCtx, MarshallerWriteContext outputCtx) {
+        SlidingWindowTimingWheel timingWheel = ( (TimingWheelJobContext) jobCtx ).getTimingWheel();
+
+        EventFactHandle handle = timingWheel.getNextExpiringHandle();
+        if ( handle == null ) {
+            throw new IllegalStateException( "The timing wheel job is scheduled without any event to expire" );
+        }
+
+        return ProtobufMessages.Timers.Timer.newBuilder()
+                .setType( ProtobufMessages.Timers.TimerType.BEHAVIOR )
+                .setBehavior( ProtobufMessages.Timers.BehaviorTimer.newBuilder()
+                        .setHandleId( handle.getId() )
+                        .build() )
+                .build();
+    }
+}
@@ -101,6 +101,7 @@ import org.kie.api.time.SessionPseudoClock;
 import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.marshalling.MarshallerFactory;
+import org.kie.internal.runtime.conf.SlidingWindowStoreOption;
 import org.kie.internal.runtime.StatefulKnowledgeSession;
 import org.kie.internal.utils.KieHelper;
 
@@ -2269,6 +2270,63 @@ public class MarshallingTest extends CommonTestMethodBase {
         assertThat(list.size()).isEqualTo(0);
     }
 
+    @Test
+    public void testMarshallSlidingTimeWindowWithTimingWheel() throws Exception {
+        String str =
+                "package org.domain.test \n" +
+                        "import " + getClass().getCanonicalName() + ".*\n" +
+                        "global java.util.List list\n" +
+                        "declare A\n" +
+                        " @role( event )\n" +
+                        "end\n" +
+                        "rule a1\n" +
+                        "when\n" +
+                        "   $n : Number() from accumulate( A() over window:time(10s) from entry-point 'a-ep', count(1) )\n" +
+                        "then\n" +
+                        "   list.add( $n.intValue() );" +
+                        "end\n";
+
+        KieBaseConfiguration conf = RuleBaseFactory.newKnowledgeBaseConfiguration();
+        conf.setOption( EventProcessingOption.STREAM );
+        final KieBase kbase = loadKnowledgeBaseFromString( conf, str );
+
+        KieSessionConfiguration ksconf = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        ksconf.setOption( ClockTypeOption.PSEUDO );
+        ksconf.setOption( TimerJobFactoryOption.get("trackable") );
+        ksconf.setOption( SlidingWindowStoreOption.TIMING_WHEEL );
+        KieSession ksession = kbase.newKieSession( ksconf, null );
+
+        List<Integer> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        ksession.getEntryPoint( "a-ep" ).insert( new A() );
+        ksession.<SessionPseudoClock> getSessionClock().advanceTime( 5, TimeUnit.SECONDS );
+        ksession.getEntryPoint( "a-ep" ).insert( new A() );
+        ksession.fireAllRules();
+        assertThat(list).containsExactly(2);
+
+        // the events expiring at 10s and 15s are still pending in the timing wheel when the session is marshalled
+        Marshaller marshaller = MarshallerFactory.newMarshaller( kbase );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshall( out, ksession );
+        ksession.dispose();
+
+        ksession = marshaller.unmarshall( new ByteArrayInputStream( out.toByteArray() ), ksconf, EnvironmentFactory.newEnvironment() );
+        ksession.setGlobal( "list", list );
+        assertThat(((ReteEvaluator) ksession).getSlidingWindowTimingWheel().getBucketsCount()).isEqualTo(2);
+
+        list.clear();
+        ksession.<SessionPseudoClock> getSessionClock().advanceTime( 6, TimeUnit.SECONDS );
+        ksession.fireAllRules();
+        assertThat(list).containsExactly(1);
+
+        list.clear();
+        ksession.<SessionPseudoClock> getSessionClock().advanceTime( 5, TimeUnit.SECONDS );
+        ksession.fireAllRules();
+        assertThat(list).containsExactly(0);
+        assertThat(((ReteEvaluator) ksession).getSlidingWindowTimingWheel().getBucketsCount()).isEqualTo(0);
+    }
+
     @Test @Ignore("beta4 phreak")
     public void testMarshallEntryPointsWithSlidingTimeWindow() throws Exception {
         String str =
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.conf.EqualityBehaviorOption;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class InsertAllTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Cheese.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "rule R1 when\n" +
+            "   $p : Person( age > 18 )\n" +
+            "   Cheese( type == $p.likes )\n" +
+            "then\n" +
+            "   list.add( $p.getName() );\n" +
+            "end\n" +
+            "rule R2 when\n" +
+            "   $c : Cheese() from entry-point \"cheeses\"\n" +
+            "then\n" +
+            "   list.add( $c.getType() );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public InsertAllTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testInsertAll() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, DRL);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mark = new Person("Mark", 37);
+            mark.setLikes("stilton");
+            final Person mario = new Person("Mario", 44);
+            mario.setLikes("brie");
+            final Person edson = new Person("Edson", 10);
+            edson.setLikes("stilton");
+            final Cheese stilton = new Cheese("stilton");
+
+            final List<FactHandle> handles = ksession.insertAll(Arrays.asList(mark, stilton, null, mario, edson));
+            assertThat(handles).hasSize(5);
+            assertThat(handles.get(2)).isNull();
+            assertThat(ksession.getObject(handles.get(0))).isSameAs(mark);
+            assertThat(ksession.getObject(handles.get(1))).isSameAs(stilton);
+            assertThat(ksession.getFactCount()).isEqualTo(4);
+
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mark");
+
+            // facts inserted in a batch can be updated and deleted as the ones inserted one by one
+            mario.setLikes("stilton");
+            ksession.update(handles.get(3), mario);
+            ksession.delete(handles.get(0));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mark", "Mario");
+
+            final EntryPoint cheeses = ksession.getEntryPoint("cheeses");
+            cheeses.insertAll(Arrays.asList(new Cheese("brie"), new Cheese("gouda")));
+            assertThat(cheeses.getFactCount()).isEqualTo(2);
+            assertThat(ksession.fireAllRules()).isEqualTo(2);
+            assertThat(list).containsExactlyInAnyOrder("Mark", "Mario", "brie", "gouda");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertAllNotifiesTheInsertionsInOrder() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, DRL);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mark = new Person("Mark", 37);
+            mark.setLikes("stilton");
+            final Cheese stilton = new Cheese("stilton");
+            final Person mario = new Person("Mario", 44);
+            final Cheese brie = new Cheese("brie");
+
+            // the events are notified in the order of the collection, even if the facts are propagated grouped by type
+            final List<Object> inserted = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectInserted(final ObjectInsertedEvent event) {
+                    inserted.add(event.getObject());
+                }
+            });
+            ksession.insertAll(Arrays.asList(mark, stilton, null, mario, brie, mark));
+            assertThat(inserted).containsExactly(mark, stilton, mario, brie);
+
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly("Mark");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertAllWithEqualityBehavior() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("insert-all-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, EqualityBehaviorOption.EQUALITY);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", new ArrayList<>());
+
+            final FactHandle existing = ksession.insert(new Person("Mark", 37));
+            final List<FactHandle> handles = ksession.insertAll(Arrays.asList(new Person("Mark", 37), new Person("Mario", 44), new Person("Mario", 44)));
+            assertThat(handles.get(0)).isSameAs(existing);
+            assertThat(handles.get(2)).isSameAs(handles.get(1));
+            assertThat(ksession.getFactCount()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
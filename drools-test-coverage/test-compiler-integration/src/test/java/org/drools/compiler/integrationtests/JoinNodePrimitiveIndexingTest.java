@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.Collection;
+
+import org.drools.ancompiler.CompiledNetwork;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.reteoo.BetaMemory;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectSinkPropagator;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.util.index.TupleLongIndexHashTable;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.model.Pet;
+import org.drools.testcoverage.common.model.Pet.PetType;
+import org.drools.testcoverage.common.model.Primitives;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.PrimitiveBetaMemoryOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class JoinNodePrimitiveIndexingTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public JoinNodePrimitiveIndexingTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    private KieBase getKieBaseWithPrimitiveBetaMemoryOption(String drl) {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("indexing-test", kieBaseTestConfiguration, drl);
+        return KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, PrimitiveBetaMemoryOption.ENABLED);
+    }
+
+    @Test
+    public void testIntJoin() {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Pet.class.getCanonicalName() + ";\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $pet : Pet()\n" +
+                           "   Person( age == $pet.age )\n" +
+                           "then\n" +
+                           "end\n";
+
+        final KieBase kbase = getKieBaseWithPrimitiveBetaMemoryOption(drl);
+
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            BetaMemory bm = (BetaMemory) ((InternalWorkingMemory) ksession).getNodeMemory(getJoinNode(kbase, Person.class));
+            assertThat(bm.getLeftTupleMemory()).isInstanceOf(TupleLongIndexHashTable.class);
+            assertThat(bm.getRightTupleMemory()).isInstanceOf(TupleLongIndexHashTable.class);
+
+            for (int i = 0; i < 300; i++) {
+                ksession.insert(new Pet(PetType.CAT, i % 100));
+            }
+            Person paul = new Person("Paul", 10);
+            FactHandle paulFh = ksession.insert(paul);
+            ksession.insert(new Person("Mark", 20));
+            ksession.insert(new Person("John", 200));
+            assertThat(ksession.fireAllRules()).isEqualTo(6);
+
+            // moving a fact to another bucket
+            paul.setAge(30);
+            ksession.update(paulFh, paul);
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+
+            ksession.delete(paulFh);
+            ksession.insert(new Pet(PetType.DOG, 200));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(bm.getRightTupleMemory().size()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testLongJoinWithIntDeclaration() {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Primitives.class.getCanonicalName() + ";\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $p : Person()\n" +
+                           "   Primitives( longPrimitive == $p.age )\n" +
+                           "then\n" +
+                           "end\n";
+
+        final KieBase kbase = getKieBaseWithPrimitiveBetaMemoryOption(drl);
+
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            BetaMemory bm = (BetaMemory) ((InternalWorkingMemory) ksession).getNodeMemory(getJoinNode(kbase, Primitives.class));
+            assertThat(bm.getRightTupleMemory()).isInstanceOf(TupleLongIndexHashTable.class);
+
+            ksession.insert(new Person("Paul", 10));
+            ksession.insert(new Person("Mark", 20));
+            for (long i = 0; i < 40; i++) {
+                Primitives primitives = new Primitives();
+                primitives.setLongPrimitive(i % 20 == 10 ? 10L : i + (1L << 32));
+                ksession.insert(primitives);
+            }
+            assertThat(ksession.fireAllRules()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testBoxedLongJoinWithNulls() throws Exception {
+        final String drl = "package org.drools.compiler.integrationtests;\n" +
+                           "declare Customer\n" +
+                           "   id : Long\n" +
+                           "end\n" +
+                           "declare Order\n" +
+                           "   customerId : Long\n" +
+                           "end\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $c : Customer()\n" +
+                           "   Order( customerId == $c.id )\n" +
+                           "then\n" +
+                           "end\n";
+
+        final KieBase kbase = getKieBaseWithPrimitiveBetaMemoryOption(drl);
+        final FactType customerType = kbase.getFactType("org.drools.compiler.integrationtests", "Customer");
+        final FactType orderType = kbase.getFactType("org.drools.compiler.integrationtests", "Order");
+
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            for (Long id : new Long[] { 1L, 2L, null }) {
+                Object customer = customerType.newInstance();
+                customerType.set(customer, "id", id);
+                ksession.insert(customer);
+            }
+            for (Long customerId : new Long[] { 1L, 1L, 2L, null, 3L }) {
+                Object order = orderType.newInstance();
+                orderType.set(order, "customerId", customerId);
+                ksession.insert(order);
+            }
+            assertThat(ksession.fireAllRules()).isEqualTo(4);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private JoinNode getJoinNode(KieBase kbase, Class<?> factClass) {
+        final ObjectTypeNode otn = KieUtil.getObjectTypeNode(kbase, factClass);
+        assertThat(otn).isNotNull();
+
+        ObjectSinkPropagator objectSinkPropagator = otn.getObjectSinkPropagator();
+        if (this.kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            objectSinkPropagator = ((CompiledNetwork) objectSinkPropagator).getOriginalSinkPropagator();
+        }
+
+        for (ObjectSink sink : objectSinkPropagator.getSinks()) {
+            if (sink instanceof JoinNode) {
+                return (JoinNode) sink;
+            }
+        }
+        throw new IllegalStateException("No JoinNode found for " + factClass);
+    }
+}
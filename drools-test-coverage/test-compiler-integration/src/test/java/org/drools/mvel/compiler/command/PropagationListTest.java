@@ -20,14 +20,19 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.SynchronizedPropagationList;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class PropagationListTest {
 
     @Test @Ignore
@@ -93,6 +98,74 @@ public class PropagationListTest {
         }
     }
 
+    @Test(timeout = 20000)
+    public void testLockFreePropagationListKeepsProducersOrder() throws Exception {
+        final int OBJECT_NR = 100000;
+        final int THREAD_NR = 8;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_NR);
+        try {
+            final Checker checker = new Checker(THREAD_NR);
+            final PropagationList propagationList = new LockFreePropagationList(null);
+            final CompletionService<Boolean> ecs = new ExecutorCompletionService<Boolean>(executor);
+
+            for (int i = 0; i < THREAD_NR; i++) {
+                ecs.submit(getTask(OBJECT_NR, checker, propagationList, i));
+            }
+
+            int completed = 0;
+            while (completed < THREAD_NR) {
+                propagationList.flush();
+                while (ecs.poll() != null) {
+                    completed++;
+                }
+            }
+            propagationList.flush();
+
+            assertThat(propagationList.isEmpty()).isTrue();
+            for (int i = 0; i < THREAD_NR; i++) {
+                assertThat(checker.counters[i]).isEqualTo(OBJECT_NR);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testLockFreePropagationListWakesUpWaitingEngine() throws Exception {
+        final Checker checker = new Checker(1);
+        final PropagationList propagationList = new LockFreePropagationList(null);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PropagationEntry> engine = executor.submit(() -> {
+                PropagationEntry head = propagationList.takeAll();
+                while (head == null) {
+                    propagationList.waitOnRest();
+                    head = propagationList.takeAll();
+                }
+                return head;
+            });
+
+            Thread.sleep(100L);
+            propagationList.addEntry(new TestEntry(checker, 0, 0));
+            propagationList.addEntry(new TestEntry(checker, 0, 1));
+
+            PropagationEntry head = engine.get(5, TimeUnit.SECONDS);
+            propagationList.flush(head);
+            propagationList.flush();
+            assertThat(checker.counters[0]).isEqualTo(2);
+
+            // a notification must end the wait even when no entry has been added
+            Future<?> waiting = executor.submit(propagationList::waitOnRest);
+            Thread.sleep(100L);
+            propagationList.notifyWaitOnRest();
+            waiting.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void analyzeResults(final long[] results) {
         long min = results[0];
         long max = results[0];
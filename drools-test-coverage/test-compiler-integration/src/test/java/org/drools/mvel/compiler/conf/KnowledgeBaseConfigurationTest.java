@@ -32,12 +32,14 @@ import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
+import org.kie.internal.conf.FingerprintObjectStoreOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.PrimitiveBetaMemoryOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
@@ -305,6 +307,46 @@ public class KnowledgeBaseConfigurationTest {
         assertThat(config.getProperty(BetaRangeIndexOption.PROPERTY_NAME)).isEqualTo("false");
     }
 
+    @Test
+    public void testPrimitiveBetaMemoryConfiguration() {
+        // setting the option using the enum
+        config.setOption( PrimitiveBetaMemoryOption.ENABLED );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(PrimitiveBetaMemoryOption.class)).isEqualTo(PrimitiveBetaMemoryOption.ENABLED);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(PrimitiveBetaMemoryOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( PrimitiveBetaMemoryOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(PrimitiveBetaMemoryOption.class)).isEqualTo(PrimitiveBetaMemoryOption.DISABLED);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(PrimitiveBetaMemoryOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
+    @Test
+    public void testFingerprintObjectStoreConfiguration() {
+        // setting the option using the enum
+        config.setOption( FingerprintObjectStoreOption.ENABLED );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(FingerprintObjectStoreOption.class)).isEqualTo(FingerprintObjectStoreOption.ENABLED);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(FingerprintObjectStoreOption.PROPERTY_NAME)).isEqualTo("true");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( FingerprintObjectStoreOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(FingerprintObjectStoreOption.class)).isEqualTo(FingerprintObjectStoreOption.DISABLED);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(FingerprintObjectStoreOption.PROPERTY_NAME)).isEqualTo("false");
+    }
+
     @Test
     public void testPermGenThresholdConfiguration() {
         Assume.assumeTrue("JVM with perm gen", MemoryUtil.hasPermGen());
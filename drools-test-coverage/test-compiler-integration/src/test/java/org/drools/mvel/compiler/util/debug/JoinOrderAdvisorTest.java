@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.compiler.util.debug;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.kiesession.debug.JoinOrderAdvice;
+import org.drools.kiesession.debug.JoinOrderAdvisor;
+import org.drools.kiesession.debug.SessionInspector;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.model.Pet;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class JoinOrderAdvisorTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Pet.class.getCanonicalName() + ";\n" +
+            "import " + Cheese.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "rule R when\n" +
+            "   $p : Person()\n" +
+            "   $pet : Pet( age == $p.age )\n" +
+            "   $c : Cheese( type == \"stilton\" )\n" +
+            "then\n" +
+            "   list.add( $p.getName() + \"-\" + $pet.getName() );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public JoinOrderAdvisorTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testAdviseAndApplyJoinOrder() {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("join-order-test", kieBaseTestConfiguration, DRL);
+
+        KieBase kbase = KieBaseUtil.newKieBaseFromReleaseId(kieModule.getReleaseId(), kieBaseTestConfiguration.getKieBaseConfiguration());
+        KieSession ksession = kbase.newKieSession();
+        List<String> list = new ArrayList<>();
+        JoinOrderAdvisor advisor;
+        try {
+            assertThat(fire(ksession, list)).isEqualTo(10);
+            advisor = new JoinOrderAdvisor(new SessionInspector(ksession).getSessionInfo());
+        } finally {
+            ksession.dispose();
+        }
+
+        List<JoinOrderAdvice> advices = advisor.getAdvices();
+        assertThat(advices).hasSize(1);
+        JoinOrderAdvice advice = advices.get(0);
+        assertThat(advice.getRuleName()).isEqualTo("R");
+        assertThat(advice.getOrder()).containsExactly(2, 0, 1);
+        assertThat(advice.getProposedPatterns()).containsExactly("$c : Cheese", "$p : Person", "$pet : Pet");
+        assertThat(advice.getProposedCost()).isLessThan(advice.getCurrentCost());
+
+        KieBaseConfiguration conf = kieBaseTestConfiguration.getKieBaseConfiguration();
+        advisor.applyTo(conf);
+        KieBase reorderedKbase = KieBaseUtil.newKieBaseFromReleaseId(kieModule.getReleaseId(), conf);
+        KieSession reorderedKsession = reorderedKbase.newKieSession();
+        List<String> reorderedList = new ArrayList<>();
+        try {
+            assertThat(fire(reorderedKsession, reorderedList)).isEqualTo(10);
+            assertThat(reorderedList).containsExactlyInAnyOrderElementsOf(list);
+
+            // the patterns are already joined in the best order
+            assertThat(new JoinOrderAdvisor(new SessionInspector(reorderedKsession).getSessionInfo()).getAdvices()).isEmpty();
+        } finally {
+            reorderedKsession.dispose();
+        }
+    }
+
+    @Test
+    public void testNoAdviceForSelectiveOrder() {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("join-order-test", kieBaseTestConfiguration, DRL);
+        KieBase kbase = KieBaseUtil.newKieBaseFromReleaseId(kieModule.getReleaseId(), kieBaseTestConfiguration.getKieBaseConfiguration());
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", new ArrayList<>());
+            ksession.insert(new Person("Mark", 1));
+            ksession.insert(new Pet("Toby", 1));
+            for (int i = 0; i < 100; i++) {
+                ksession.insert(new Cheese("stilton", i));
+            }
+            assertThat(ksession.fireAllRules()).isEqualTo(100);
+
+            assertThat(new JoinOrderAdvisor(new SessionInspector(ksession).getSessionInfo()).getAdvices()).isEmpty();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private int fire(KieSession ksession, List<String> list) {
+        ksession.setGlobal("list", list);
+        for (int i = 0; i < 1000; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+        for (int i = 0; i < 10; i++) {
+            ksession.insert(new Pet("Pet" + i, i * 100));
+        }
+        ksession.insert(new Cheese("stilton", 10));
+        ksession.insert(new Cheese("brie", 10));
+        return ksession.fireAllRules();
+    }
+}
@@ -35,6 +35,8 @@ import org.drools.core.base.ClassObjectType;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.management.ParallelAgendaMonitor;
+import org.drools.kiesession.agenda.CompositeDefaultAgenda;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
 import org.drools.core.reteoo.EntryPointNode;
@@ -134,6 +136,41 @@ public class ParallelEvaluationTest {
         assertThat(list.size()).isEqualTo(ruleNr);
     }
 
+    @Test(timeout = 40000L)
+    public void testWithInsertionsAndMonitor() {
+        StringBuilder sb = new StringBuilder( 4000 );
+        sb.append( "global java.util.List list;\n" );
+        int ruleNr = 200;
+
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "insert( $i + 10 );\ninsert( \"\" + ($i + 10) );\n" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, MultithreadEvaluationOption.YES );
+        KieSession ksession = kbase.newKieSession();
+
+        assertThat(((InternalWorkingMemory) ksession).getAgenda().isParallelAgenda()).isTrue();
+
+        List<Integer> list = new DebugList<Integer>();
+        ksession.setGlobal( "list", list );
+
+        for (int i = 0; i < 10; i++) {
+            ksession.insert( i );
+            ksession.insert( "" + i );
+        }
+
+        ksession.fireAllRules();
+
+        assertThat(list.size()).isEqualTo(ruleNr);
+
+        ParallelAgendaMonitor monitor = ((CompositeDefaultAgenda) ((InternalWorkingMemory) ksession).getAgenda()).getMonitor();
+        assertThat(Arrays.stream(monitor.getFiredRules()).sum()).isEqualTo(ruleNr);
+        assertThat(Arrays.stream(monitor.getEvaluations()).sum()).isGreaterThanOrEqualTo(monitor.getPartitionsNumber());
+
+        ksession.dispose();
+    }
+
     @Test(timeout = 40000L)
     public void testWithDeletes() {
         StringBuilder sb = new StringBuilder( 400 );
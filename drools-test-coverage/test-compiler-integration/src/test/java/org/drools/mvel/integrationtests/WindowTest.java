@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.drools.core.common.ReteEvaluator;
 import org.drools.core.impl.RuleBaseFactory;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
@@ -34,8 +35,10 @@ import org.kie.api.KieBase;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.runtime.conf.SlidingWindowStoreOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,6 +56,8 @@ public class WindowTest {
         return TestParametersUtil.getKieBaseStreamConfigurations(true);
     }
 
+    private KieBase kbase;
+
     private KieSession ksession;
 
     private SessionPseudoClock clock;
@@ -132,7 +137,7 @@ public class WindowTest {
 
     @Before
     public void initialization() {
-        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
 
         KieSessionConfiguration ksconfig = RuleBaseFactory
                 .newKnowledgeSessionConfiguration();
@@ -241,6 +246,89 @@ public class WindowTest {
         }
     }
 
+    @Test
+    public void testTimingWheelWithExpirationsBeyondOneRound() {
+        ksession.dispose();
+
+        final String farDrl =
+                "package org.drools.mvel.integrationtests;\n" +
+                "import org.drools.mvel.integrationtests.WindowTest.TestEvent\n" +
+                "declare TestEvent\n" +
+                "    @role( event )\n" +
+                "end\n" +
+                "query TestFarTimeWindow\n" +
+                "    Number( $eventCount : longValue ) from accumulate (\n" +
+                "        TestEvent ( name == \"far\" ) over window:time( 2s ) from entry-point EventStream,\n" +
+                "        count( 1 ) )\n" +
+                "end\n";
+        KieBase farKbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, farDrl);
+
+        KieSessionConfiguration ksconfig = RuleBaseFactory
+                .newKnowledgeSessionConfiguration();
+        ksconfig.setOption(ClockTypeOption.PSEUDO);
+        ksconfig.setOption(TimerJobFactoryOption.get("trackable"));
+        ksconfig.setOption(SlidingWindowStoreOption.TIMING_WHEEL);
+        // 1ms ticks: the 2s window spans several rounds of the wheel
+        ksconfig.setProperty(SlidingWindowStoreOption.TICK_PROPERTY_NAME, "1");
+
+        ksession = farKbase.newKieSession(ksconfig, null);
+        clock = ksession.getSessionClock();
+        ReteEvaluator reteEvaluator = (ReteEvaluator) ksession;
+        EntryPoint entryPoint = ksession.getEntryPoint("EventStream");
+
+        for (int i = 0; i < 30; i++) {
+            entryPoint.insert(new TestEvent(null, "far", null));
+            assertThat(ksession.getQueryResults("TestFarTimeWindow")
+                    .iterator().next().get("$eventCount")).isEqualTo((long) Math.min(i + 1, 20));
+            // a single job is scheduled for the whole wheel
+            assertThat(reteEvaluator.getTimerService().getTimerJobInstances(0)).hasSize(1);
+            clock.advanceTime(100, TimeUnit.MILLISECONDS);
+        }
+
+        clock.advanceTime(2, TimeUnit.SECONDS);
+        assertThat(ksession.getQueryResults("TestFarTimeWindow")
+                .iterator().next().get("$eventCount")).isEqualTo(0L);
+        assertThat(reteEvaluator.getSlidingWindowTimingWheel().getBucketsCount()).isEqualTo(0);
+        assertThat(reteEvaluator.getTimerService().getTimerJobInstances(0)).isEmpty();
+    }
+
+    @Test
+    public void testTimeWindowsWithTimingWheel() {
+        ksession.dispose();
+
+        KieSessionConfiguration ksconfig = RuleBaseFactory
+                .newKnowledgeSessionConfiguration();
+        ksconfig.setOption(ClockTypeOption.PSEUDO);
+        ksconfig.setOption(SlidingWindowStoreOption.TIMING_WHEEL);
+
+        ksession = kbase.newKieSession(ksconfig, null);
+        clock = ksession.getSessionClock();
+
+        // both windows share the same timing wheel
+        final long timeResults[] = new long[] { 1, 1, 1, 2, 2, 2, 3, 3, 3, 4 };
+        final long declaredResults[] = new long[] { 1, 2, 3, 4, 5, 5, 5, 5, 5, 5 };
+        EntryPoint entryPoint = ksession.getEntryPoint("EventStream");
+
+        for (int i = 0; i < 10; i++) {
+            entryPoint.insert(new TestEvent(null, "timeDec", null));
+            if (i % 3 == 0) {
+                entryPoint.insert(new TestEvent(null, "time", null));
+            }
+
+            assertThat(ksession.getQueryResults("TestDeclaredTimeWindow")
+                    .iterator().next().get("$eventCount")).isEqualTo(declaredResults[i]);
+            assertThat(ksession.getQueryResults("TestTimeWindow")
+                    .iterator().next().get("$eventCount")).isEqualTo(timeResults[i]);
+            clock.advanceTime(10, TimeUnit.MILLISECONDS);
+        }
+
+        clock.advanceTime(300, TimeUnit.MILLISECONDS);
+        assertThat(ksession.getQueryResults("TestDeclaredTimeWindow")
+                .iterator().next().get("$eventCount")).isEqualTo(0L);
+        assertThat(ksession.getQueryResults("TestTimeWindow")
+                .iterator().next().get("$eventCount")).isEqualTo(0L);
+    }
+
     public class TestEvent implements Serializable {
 
         private static final long serialVersionUID = -6985691286327371275L;
@@ -73,7 +73,10 @@ public class ModelLocalUriId extends LocalUriId implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(model, basePath, fullPath);
+        // same value of Objects.hash(model, basePath, fullPath), without allocating its array
+        int result = 31 + Objects.hashCode(model);
+        result = 31 * result + Objects.hashCode(basePath);
+        return 31 * result + Objects.hashCode(fullPath);
     }
     static LocalUri.LocalUriPathComponent getFirstLocalUriPathComponent(LocalUri localUri) {
         if (localUri.parent() instanceof LocalUri.LocalUriPathComponent) {
@@ -43,6 +43,10 @@ public final class IndexFile extends File {
 
     public static final String INDEX_FILE = "IndexFile";
     public static final String FINAL_SUFFIX = "_json";
+    /**
+     * Suffix of the binary copy of the <code>IndexFile</code>, written beside it
+     */
+    public static final String BINARY_SUFFIX = "_bin";
     private static final long serialVersionUID = -3471854812784089038L;
 
     private static final Logger logger = LoggerFactory.getLogger(IndexFile.class);
@@ -54,6 +58,10 @@ public final class IndexFile extends File {
         return String.format("%s.%s%s", INDEX_FILE, modelType, FINAL_SUFFIX);
     }
 
+    static String getBinaryIndexFileName(String modelType) {
+        return String.format("%s.%s%s", INDEX_FILE, modelType, BINARY_SUFFIX);
+    }
+
     static String validatePathName(String toValidate) {
         String fileName = getFileName(toValidate);
         if (!fileName.endsWith(FINAL_SUFFIX)) {
@@ -109,6 +117,22 @@ public final class IndexFile extends File {
         return memoryFile != null ? memoryFile.getContent() : readContent();
     }
 
+    /**
+     * @return <code>true</code> if the content of this <code>IndexFile</code> has been read from the classpath
+     * (e.g. from a jar) and it is kept in memory
+     */
+    public boolean isInMemory() {
+        return memoryFile != null;
+    }
+
+    /**
+     * @return the <code>File</code> of the binary copy of this <code>IndexFile</code>, in the same directory. It
+     * may not exist.
+     */
+    public File getBinaryIndexFile() {
+        return new File(getAbsoluteFile().getParentFile(), getBinaryIndexFileName(getModel()));
+    }
+
 
     @Override
     public boolean equals(Object obj) {
@@ -74,6 +74,24 @@ public interface EfestoContext<T extends EfestoListener> {
         return GeneratedClassesRepository.INSTANCE.getGeneratedClasses(modelLocalUriId);
     }
 
+    /**
+     * Get a previously generated class by its full class name
+     * @param fullClassName
+     * @return the bytecode of the class, or <code>null</code> if it has not been generated
+     */
+    default byte[] getGeneratedClass(String fullClassName) {
+        return GeneratedClassesRepository.INSTANCE.getGeneratedClass(fullClassName);
+    }
+
+    /**
+     * Get the previously generated classes by full class name, as they are when invoked: the returned
+     * <code>Map</code> is unmodifiable, and the classes added or removed later are not reflected in it
+     * @return generatedClasses
+     */
+    default Map<String, byte[]> getGeneratedClassesSnapshot() {
+        return GeneratedClassesRepository.INSTANCE.getGeneratedClassesSnapshot();
+    }
+
     /**
      * Add generated classes with the key {@code fri}
      * @param modelLocalUriId
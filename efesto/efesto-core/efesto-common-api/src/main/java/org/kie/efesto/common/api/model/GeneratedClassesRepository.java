@@ -15,6 +15,10 @@
  */
 package org.kie.efesto.common.api.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,17 +33,53 @@ enum GeneratedClassesRepository {
     INSTANCE;
 
     private Map<ModelLocalUriId, Map<String, byte[]>> generatedClassesMap = new ConcurrentHashMap<>();
+    /**
+     * The <code>ModelLocalUriId</code>s whose generated classes contain each full class name, in the order they
+     * have been added. Guarded by this
+     */
+    private Map<String, List<ModelLocalUriId>> classNameOwners = new HashMap<>();
+    /**
+     * The same generated classes, by full class name, to define them lazily when first loaded. The last added one
+     * wins for a class name shared by more <code>ModelLocalUriId</code>s. It is replaced, and never modified, on each
+     * change, so it may be kept as the snapshot of the classes available at a given time
+     */
+    private volatile Map<String, byte[]> generatedClassesByName = Collections.emptyMap();
 
-    public void addGeneratedClasses(ModelLocalUriId modelLocalUriId, Map<String, byte[]> generatedClasses) {
+    public synchronized void addGeneratedClasses(ModelLocalUriId modelLocalUriId, Map<String, byte[]> generatedClasses) {
+        Map<String, byte[]> byName = new HashMap<>(generatedClassesByName);
+        removeGeneratedClasses(modelLocalUriId, byName);
         generatedClassesMap.put(modelLocalUriId, generatedClasses);
+        generatedClasses.forEach((fullClassName, bytecode) -> {
+            classNameOwners.computeIfAbsent(fullClassName, name -> new ArrayList<>()).add(modelLocalUriId);
+            byName.put(fullClassName, bytecode);
+        });
+        generatedClassesByName = Collections.unmodifiableMap(byName);
     }
 
     public Map<String, byte[]> getGeneratedClasses(ModelLocalUriId modelLocalUriId) {
         return generatedClassesMap.get(modelLocalUriId);
     }
 
-    public Map<String, byte[]> removeGeneratedClasses(ModelLocalUriId modelLocalUriId) {
-        return generatedClassesMap.remove(modelLocalUriId);
+    public byte[] getGeneratedClass(String fullClassName) {
+        return generatedClassesByName.get(fullClassName);
+    }
+
+    /**
+     * @return the generated classes by full class name, as they are now: the returned <code>Map</code> is
+     * unmodifiable and does not reflect the later changes
+     */
+    public Map<String, byte[]> getGeneratedClassesSnapshot() {
+        return generatedClassesByName;
+    }
+
+    public synchronized Map<String, byte[]> removeGeneratedClasses(ModelLocalUriId modelLocalUriId) {
+        if (!generatedClassesMap.containsKey(modelLocalUriId)) {
+            return null;
+        }
+        Map<String, byte[]> byName = new HashMap<>(generatedClassesByName);
+        Map<String, byte[]> toReturn = removeGeneratedClasses(modelLocalUriId, byName);
+        generatedClassesByName = Collections.unmodifiableMap(byName);
+        return toReturn;
     }
 
     public boolean containsKey(ModelLocalUriId modelLocalUriId) {
@@ -50,7 +90,33 @@ enum GeneratedClassesRepository {
         return generatedClassesMap.keySet();
     }
 
-    public void clear() {
+    public synchronized void clear() {
         generatedClassesMap.clear();
+        classNameOwners.clear();
+        generatedClassesByName = Collections.emptyMap();
+    }
+
+    /**
+     * Remove the classes of the given <code>ModelLocalUriId</code> from the given by-name copy: each class name
+     * still generated for other <code>ModelLocalUriId</code>s is restored to the last added of them
+     */
+    private Map<String, byte[]> removeGeneratedClasses(ModelLocalUriId modelLocalUriId, Map<String, byte[]> byName) {
+        Map<String, byte[]> toReturn = generatedClassesMap.remove(modelLocalUriId);
+        if (toReturn != null) {
+            for (String fullClassName : toReturn.keySet()) {
+                List<ModelLocalUriId> owners = classNameOwners.get(fullClassName);
+                if (owners != null) {
+                    owners.remove(modelLocalUriId);
+                }
+                if (owners == null || owners.isEmpty()) {
+                    classNameOwners.remove(fullClassName);
+                    byName.remove(fullClassName);
+                } else {
+                    ModelLocalUriId lastOwner = owners.get(owners.size() - 1);
+                    byName.put(fullClassName, generatedClassesMap.get(lastOwner).get(fullClassName));
+                }
+            }
+        }
+        return toReturn;
     }
 }
@@ -77,6 +77,15 @@ class IndexFileTest {
         assertThat(indexFile.getModel()).isEqualTo(expected);
     }
 
+    @Test
+    void getBinaryIndexFile() {
+        IndexFile indexFile = new IndexFile("not/exist/", "model");
+        File retrieved = indexFile.getBinaryIndexFile();
+        assertThat(retrieved.getName()).isEqualTo("IndexFile.model_bin");
+        assertThat(retrieved.getParentFile()).isEqualTo(indexFile.getAbsoluteFile().getParentFile());
+        assertThat(indexFile.isInMemory()).isFalse();
+    }
+
     @Test
     void isEqualExisting() {
         IndexFile compareFile = getFileByFilePath("./target/test-classes/IndexFile.test_json")
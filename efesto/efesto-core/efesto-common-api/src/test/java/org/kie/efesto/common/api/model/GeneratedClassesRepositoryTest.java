@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.efesto.common.api.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
+import org.kie.efesto.common.api.identifiers.ReflectiveAppRoot;
+import org.kie.efesto.common.api.identifiers.componentroots.ComponentRootA;
+import org.kie.efesto.common.api.identifiers.componentroots.ComponentRootB;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedClassesRepositoryTest {
+
+    private static final String SHARED_CLASS_NAME = "full.class.Shared";
+    private static final String FIRST_CLASS_NAME = "full.class.First";
+    private static final String SECOND_CLASS_NAME = "full.class.Second";
+
+    private static ModelLocalUriId firstModelLocalUriId;
+    private static ModelLocalUriId secondModelLocalUriId;
+
+    @BeforeAll
+    public static void setup() {
+        firstModelLocalUriId = new ModelLocalUriId(new ReflectiveAppRoot("foo")
+                                                           .get(ComponentRootB.class)
+                                                           .get("this", "is", "localUri")
+                                                           .asLocalUri());
+        secondModelLocalUriId = new ModelLocalUriId(new ReflectiveAppRoot("foo")
+                                                            .get(ComponentRootA.class)
+                                                            .get("this", "different-localUri")
+                                                            .asLocalUri());
+    }
+
+    @AfterEach
+    void clear() {
+        GeneratedClassesRepository.INSTANCE.clear();
+    }
+
+    @Test
+    void removeGeneratedClassesKeepsSharedClassName() {
+        byte[] firstShared = new byte[]{1};
+        byte[] secondShared = new byte[]{2};
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(firstModelLocalUriId,
+                                                                 getGeneratedClasses(FIRST_CLASS_NAME, firstShared));
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(secondModelLocalUriId,
+                                                                 getGeneratedClasses(SECOND_CLASS_NAME, secondShared));
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SHARED_CLASS_NAME)).isSameAs(secondShared);
+
+        GeneratedClassesRepository.INSTANCE.removeGeneratedClasses(secondModelLocalUriId);
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SHARED_CLASS_NAME)).isSameAs(firstShared);
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SECOND_CLASS_NAME)).isNull();
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(FIRST_CLASS_NAME)).isNotNull();
+
+        GeneratedClassesRepository.INSTANCE.removeGeneratedClasses(firstModelLocalUriId);
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SHARED_CLASS_NAME)).isNull();
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClassesSnapshot()).isEmpty();
+    }
+
+    @Test
+    void addGeneratedClassesAgainReplacesThem() {
+        byte[] replaced = new byte[]{1};
+        byte[] replacing = new byte[]{2};
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(firstModelLocalUriId,
+                                                                 getGeneratedClasses(FIRST_CLASS_NAME, replaced));
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(firstModelLocalUriId,
+                                                                 getGeneratedClasses(FIRST_CLASS_NAME, replacing));
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SHARED_CLASS_NAME)).isSameAs(replacing);
+
+        GeneratedClassesRepository.INSTANCE.removeGeneratedClasses(firstModelLocalUriId);
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClass(SHARED_CLASS_NAME)).isNull();
+    }
+
+    @Test
+    void getGeneratedClassesSnapshotIsNotChanged() {
+        byte[] firstShared = new byte[]{1};
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(firstModelLocalUriId,
+                                                                 getGeneratedClasses(FIRST_CLASS_NAME, firstShared));
+        Map<String, byte[]> snapshot = GeneratedClassesRepository.INSTANCE.getGeneratedClassesSnapshot();
+
+        GeneratedClassesRepository.INSTANCE.addGeneratedClasses(secondModelLocalUriId,
+                                                                 getGeneratedClasses(SECOND_CLASS_NAME, new byte[]{2}));
+        GeneratedClassesRepository.INSTANCE.removeGeneratedClasses(firstModelLocalUriId);
+
+        assertThat(snapshot).containsOnlyKeys(SHARED_CLASS_NAME, FIRST_CLASS_NAME);
+        assertThat(snapshot.get(SHARED_CLASS_NAME)).isSameAs(firstShared);
+        assertThat(GeneratedClassesRepository.INSTANCE.getGeneratedClassesSnapshot())
+                .containsOnlyKeys(SHARED_CLASS_NAME, SECOND_CLASS_NAME);
+    }
+
+    private static Map<String, byte[]> getGeneratedClasses(String fullClassName, byte[] sharedBytecode) {
+        Map<String, byte[]> toReturn = new HashMap<>();
+        toReturn.put(fullClassName, new byte[]{0});
+        toReturn.put(SHARED_CLASS_NAME, sharedBytecode);
+        return toReturn;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.efesto.common.core.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.kie.efesto.common.api.exceptions.KieEfestoCommonException;
+import org.kie.efesto.common.api.identifiers.LocalUri;
+import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
+import org.kie.efesto.common.api.io.IndexFile;
+import org.kie.efesto.common.api.model.GeneratedClassResource;
+import org.kie.efesto.common.api.model.GeneratedExecutableResource;
+import org.kie.efesto.common.api.model.GeneratedRedirectResource;
+import org.kie.efesto.common.api.model.GeneratedResource;
+import org.kie.efesto.common.api.model.GeneratedResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary copy of the <code>IndexFile</code>, written beside it and read at once into a heap buffer.
+ * Its layout is: the {@link #MAGIC} int, the {@link #VERSION} short, the {@link #DIGEST_ALGORITHM} digest of the
+ * json <code>IndexFile</code> content it has been written from, the number of <code>GeneratedResource</code>s, and then each
+ * <code>GeneratedResource</code> as its type byte followed by its fields. Strings are written as their length (-1
+ * for <code>null</code>) followed by their UTF-8 bytes; a <code>ModelLocalUriId</code> as its full path.
+ */
+public class BinaryIndexUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryIndexUtils.class.getName());
+
+    static final int MAGIC = 0x45464958; // "EFIX"
+    static final short VERSION = 2;
+
+    static final String DIGEST_ALGORITHM = "SHA-256";
+    static final int DIGEST_LENGTH = 32;
+
+    static final byte EXECUTABLE = 0;
+    static final byte REDIRECT = 1;
+    static final byte CLASS = 2;
+
+    private BinaryIndexUtils() {
+    }
+
+    /**
+     * Writes the binary copy of the given <code>IndexFile</code>, to be invoked after each update of its json content
+     */
+    public static void writeGeneratedResourcesObject(GeneratedResources toWrite, IndexFile indexFile) throws IOException {
+        File binaryIndexFile = indexFile.getBinaryIndexFile();
+        logger.debug("writeGeneratedResourcesObject {}", binaryIndexFile);
+        byte[] digest = getDigest(indexFile);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binaryIndexFile)))) {
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.write(digest);
+            output.writeInt(toWrite.size());
+            for (GeneratedResource generatedResource : toWrite) {
+                writeGeneratedResource(generatedResource, output);
+            }
+        }
+    }
+
+    /**
+     * Reads the binary copy of the given <code>IndexFile</code>, when it exists and it has been written from its
+     * current json content
+     * @return the read <code>GeneratedResources</code>, or <code>Optional.empty()</code> for an <code>IndexFile</code>
+     * in memory, without binary copy or with an outdated one
+     */
+    public static Optional<GeneratedResources> getGeneratedResourcesObject(IndexFile indexFile) throws IOException {
+        return indexFile.isInMemory() ? Optional.empty() : getGeneratedResourcesObject(indexFile, getDigest(indexFile));
+    }
+
+    /**
+     * Reads the binary copy of the given <code>IndexFile</code>, when it exists and it has been written from the json
+     * content with the given digest
+     * @see #getGeneratedResourcesObject(IndexFile)
+     */
+    public static Optional<GeneratedResources> getGeneratedResourcesObject(IndexFile indexFile, byte[] digest) throws IOException {
+        if (indexFile.isInMemory()) {
+            return Optional.empty();
+        }
+        File binaryIndexFile = indexFile.getBinaryIndexFile();
+        if (!binaryIndexFile.exists()) {
+            return Optional.empty();
+        }
+        logger.debug("getGeneratedResourcesObject {}", binaryIndexFile);
+        // not memory-mapped: the mapping would outlive the read and prevent rewriting the file on some platforms
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(binaryIndexFile.toPath()));
+        if (!isWrittenFrom(content, digest)) {
+            logger.debug("{} is outdated", binaryIndexFile);
+            return Optional.empty();
+        }
+        return Optional.of(getGeneratedResourcesObject(content));
+    }
+
+    /**
+     * @return the {@link #DIGEST_ALGORITHM} digest of the current json content of the given <code>IndexFile</code>
+     */
+    public static byte[] getDigest(IndexFile indexFile) throws IOException {
+        byte[] content = indexFile.isInMemory() ? indexFile.getContent() : Files.readAllBytes(indexFile.toPath());
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new KieEfestoCommonException(e);
+        }
+    }
+
+    /**
+     * Reads the header of the given binary content, checking that it has been written from a json
+     * <code>IndexFile</code> content with the given digest
+     */
+    static boolean isWrittenFrom(ByteBuffer content, byte[] digest) {
+        try {
+            if (content.remaining() < Integer.BYTES || content.getInt() != MAGIC) {
+                throw new KieEfestoCommonException("Not a binary IndexFile");
+            }
+            short version = content.getShort();
+            if (version != VERSION) {
+                throw new KieEfestoCommonException("Unsupported binary IndexFile version " + version);
+            }
+            byte[] writtenFromDigest = new byte[DIGEST_LENGTH];
+            content.get(writtenFromDigest);
+            return Arrays.equals(writtenFromDigest, digest);
+        } catch (BufferUnderflowException e) {
+            throw new KieEfestoCommonException("Truncated binary IndexFile", e);
+        }
+    }
+
+    /**
+     * Reads the <code>GeneratedResource</code>s of the given binary content, positioned after its header
+     */
+    static GeneratedResources getGeneratedResourcesObject(ByteBuffer content) {
+        try {
+            int size = content.getInt();
+            GeneratedResources toReturn = new GeneratedResources();
+            for (int i = 0; i < size; i++) {
+                toReturn.add(readGeneratedResource(content));
+            }
+            return toReturn;
+        } catch (BufferUnderflowException e) {
+            throw new KieEfestoCommonException("Truncated binary IndexFile", e);
+        }
+    }
+
+    static void writeGeneratedResource(GeneratedResource toWrite, DataOutputStream output) throws IOException {
+        if (toWrite instanceof GeneratedExecutableResource) {
+            GeneratedExecutableResource executableResource = (GeneratedExecutableResource) toWrite;
+            output.writeByte(EXECUTABLE);
+            writeModelLocalUriId(executableResource.getModelLocalUriId(), output);
+            List<String> fullClassNames = executableResource.getFullClassNames();
+            output.writeInt(fullClassNames != null ? fullClassNames.size() : -1);
+            if (fullClassNames != null) {
+                for (String fullClassName : fullClassNames) {
+                    writeString(fullClassName, output);
+                }
+            }
+        } else if (toWrite instanceof GeneratedRedirectResource) {
+            GeneratedRedirectResource redirectResource = (GeneratedRedirectResource) toWrite;
+            output.writeByte(REDIRECT);
+            writeModelLocalUriId(redirectResource.getModelLocalUriId(), output);
+            writeString(redirectResource.getTarget(), output);
+        } else if (toWrite instanceof GeneratedClassResource) {
+            output.writeByte(CLASS);
+            writeString(((GeneratedClassResource) toWrite).getFullClassName(), output);
+        } else {
+            throw new KieEfestoCommonException("Unmanaged type " + toWrite.getClass().getName());
+        }
+    }
+
+    static GeneratedResource readGeneratedResource(ByteBuffer content) {
+        byte type = content.get();
+        switch (type) {
+            case EXECUTABLE:
+                ModelLocalUriId modelLocalUriId = readModelLocalUriId(content);
+                int size = content.getInt();
+                List<String> fullClassNames = null;
+                if (size >= 0) {
+                    fullClassNames = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        fullClassNames.add(readString(content));
+                    }
+                }
+                return new GeneratedExecutableResource(modelLocalUriId, fullClassNames);
+            case REDIRECT:
+                return new GeneratedRedirectResource(readModelLocalUriId(content), readString(content));
+            case CLASS:
+                return new GeneratedClassResource(readString(content));
+            default:
+                throw new KieEfestoCommonException("Unmanaged binary GeneratedResource type " + type);
+        }
+    }
+
+    static void writeModelLocalUriId(ModelLocalUriId toWrite, DataOutputStream output) throws IOException {
+        writeString(toWrite != null ? toWrite.fullPath() : null, output);
+    }
+
+    static ModelLocalUriId readModelLocalUriId(ByteBuffer content) {
+        String fullPath = readString(content);
+        return fullPath != null ? new ModelLocalUriId(LocalUri.parse(fullPath)) : null;
+    }
+
+    static void writeString(String toWrite, DataOutputStream output) throws IOException {
+        if (toWrite == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = toWrite.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(ByteBuffer content) {
+        int length = content.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > content.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (content.hasArray()) {
+            String toReturn = new String(content.array(), content.arrayOffset() + content.position(), length, StandardCharsets.UTF_8);
+            content.position(content.position() + length);
+            return toReturn;
+        }
+        byte[] bytes = new byte[length];
+        content.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.efesto.common.core.utils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kie.efesto.common.api.io.IndexFile;
+import org.kie.efesto.common.api.model.GeneratedResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the <code>IndexFile</code>s once, sharing their parsed content between all the contexts
+ */
+public class IndexFileUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexFileUtils.class.getName());
+
+    /**
+     * Maximum number of parsed <code>IndexFile</code>s kept at the same time
+     */
+    static final int MAX_SIZE = 64;
+
+    /**
+     * The parsed <code>IndexFile</code>s by path, never modified once stored. Each entry is replaced when the digest
+     * of the <code>IndexFile</code> content at the same path changes, and one entry is evicted when
+     * {@link #MAX_SIZE} paths are stored.
+     */
+    private static final Map<String, ParsedIndexFile> parsedIndexFiles = new ConcurrentHashMap<>();
+
+    private IndexFileUtils() {
+    }
+
+    /**
+     * Returns the <code>GeneratedResources</code> of the given <code>IndexFile</code>. Its content is parsed only
+     * the first time and after each change, and each invocation returns a new copy of it, which the caller may
+     * modify.
+     * An <code>IndexFile</code> on the file system is read from its binary copy, when that is up to date.
+     */
+    public static GeneratedResources getGeneratedResources(IndexFile indexFile) throws IOException {
+        String path = indexFile.getAbsolutePath();
+        byte[] digest = BinaryIndexUtils.getDigest(indexFile);
+        ParsedIndexFile parsed = parsedIndexFiles.get(path);
+        if (parsed == null || !Arrays.equals(parsed.digest, digest)) {
+            parsed = new ParsedIndexFile(digest, readGeneratedResources(indexFile, digest));
+            if (parsedIndexFiles.put(path, parsed) == null) {
+                evictIfFull(path);
+            }
+        }
+        GeneratedResources toReturn = new GeneratedResources();
+        toReturn.addAll(parsed.generatedResources);
+        return toReturn;
+    }
+
+    static GeneratedResources readGeneratedResources(IndexFile indexFile, byte[] digest) throws IOException {
+        logger.debug("readGeneratedResources {}", indexFile);
+        Optional<GeneratedResources> fromBinaryIndexFile = BinaryIndexUtils.getGeneratedResourcesObject(indexFile, digest);
+        return fromBinaryIndexFile.isPresent() ? fromBinaryIndexFile.get() : JSONUtils.getGeneratedResourcesObject(indexFile);
+    }
+
+    static int size() {
+        return parsedIndexFiles.size();
+    }
+
+    static void clear() {
+        parsedIndexFiles.clear();
+    }
+
+    private static void evictIfFull(String added) {
+        Iterator<String> paths = parsedIndexFiles.keySet().iterator();
+        while (parsedIndexFiles.size() > MAX_SIZE && paths.hasNext()) {
+            String path = paths.next();
+            if (!path.equals(added)) {
+                logger.debug("evicting {}", path);
+                paths.remove();
+            }
+        }
+    }
+
+    private static class ParsedIndexFile {
+
+        private final byte[] digest;
+        private final GeneratedResources generatedResources;
+
+        private ParsedIndexFile(byte[] digest, GeneratedResources generatedResources) {
+            this.digest = digest;
+            this.generatedResources = generatedResources;
+        }
+    }
+}
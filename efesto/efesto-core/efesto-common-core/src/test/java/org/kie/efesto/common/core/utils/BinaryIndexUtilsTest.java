@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.efesto.common.core.utils;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.efesto.common.api.exceptions.KieEfestoCommonException;
+import org.kie.efesto.common.api.identifiers.LocalUri;
+import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
+import org.kie.efesto.common.api.identifiers.ReflectiveAppRoot;
+import org.kie.efesto.common.api.io.IndexFile;
+import org.kie.efesto.common.api.model.GeneratedClassResource;
+import org.kie.efesto.common.api.model.GeneratedExecutableResource;
+import org.kie.efesto.common.api.model.GeneratedRedirectResource;
+import org.kie.efesto.common.api.model.GeneratedResource;
+import org.kie.efesto.common.api.model.GeneratedResources;
+import org.kie.efesto.common.core.identifiers.componentroots.ComponentFoo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryIndexUtilsTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void writeAndGetGeneratedResourcesObject() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        assertThat(indexFile.getBinaryIndexFile()).exists();
+
+        Optional<GeneratedResources> retrieved = BinaryIndexUtils.getGeneratedResourcesObject(indexFile);
+        assertThat(retrieved).isPresent();
+        assertThat(retrieved.get()).isEqualTo(generatedResources);
+        GeneratedExecutableResource executableResource = retrieved.get().stream()
+                .filter(GeneratedExecutableResource.class::isInstance)
+                .map(GeneratedExecutableResource.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Missing GeneratedExecutableResource"));
+        assertThat(executableResource.getFullClassNames()).containsExactly("full.class.Name", "full.class.Other");
+    }
+
+    @Test
+    void getGeneratedResourcesObjectOutdated() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+
+        generatedResources.add(new GeneratedClassResource("full.class.Added"));
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        assertThat(BinaryIndexUtils.getGeneratedResourcesObject(indexFile)).isNotPresent();
+    }
+
+    @Test
+    void getGeneratedResourcesObjectOutdatedWithSameModificationTimeAndLength() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+
+        long lastModified = indexFile.lastModified();
+        byte[] content = Files.readAllBytes(indexFile.toPath());
+        content[0] = (byte) (content[0] == ' ' ? '\t' : ' ');
+        Files.write(indexFile.toPath(), content);
+        assertThat(indexFile.setLastModified(lastModified)).isTrue();
+        assertThat(indexFile.length()).isEqualTo(content.length);
+        assertThat(BinaryIndexUtils.getGeneratedResourcesObject(indexFile)).isNotPresent();
+    }
+
+    @Test
+    void getGeneratedResourcesObjectWithoutBinaryIndexFile() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        JSONUtils.writeGeneratedResourcesObject(getGeneratedResources(), indexFile);
+        assertThat(BinaryIndexUtils.getGeneratedResourcesObject(indexFile)).isNotPresent();
+    }
+
+    @Test
+    void getGeneratedResourcesObjectInvalid() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        JSONUtils.writeGeneratedResourcesObject(getGeneratedResources(), indexFile);
+        Files.write(indexFile.getBinaryIndexFile().toPath(), "not binary".getBytes());
+        assertThatThrownBy(() -> BinaryIndexUtils.getGeneratedResourcesObject(indexFile))
+                .isInstanceOf(KieEfestoCommonException.class)
+                .hasMessage("Not a binary IndexFile");
+    }
+
+    @Test
+    void getGeneratedResourcesObjectTruncated() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        byte[] content = Files.readAllBytes(indexFile.getBinaryIndexFile().toPath());
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(content, content.length - 4));
+        assertThat(BinaryIndexUtils.isWrittenFrom(truncated, BinaryIndexUtils.getDigest(indexFile))).isTrue();
+        assertThatThrownBy(() -> BinaryIndexUtils.getGeneratedResourcesObject(truncated))
+                .isInstanceOf(KieEfestoCommonException.class)
+                .hasMessage("Truncated binary IndexFile");
+    }
+
+    private static GeneratedResources getGeneratedResources() {
+        LocalUri modelLocalUriId = new ReflectiveAppRoot("test")
+                .get(ComponentFoo.class)
+                .get("this", "is", "fri")
+                .asLocalUri();
+        ModelLocalUriId localUriId = new ModelLocalUriId(modelLocalUriId);
+        GeneratedResource executableResource = new GeneratedExecutableResource(localUriId,
+                                                                               Arrays.asList("full.class.Name",
+                                                                                             "full.class.Other"));
+        GeneratedResource redirectResource = new GeneratedRedirectResource(localUriId, "foo");
+        GeneratedResource classResource = new GeneratedClassResource("full.class.Name");
+        GeneratedResources toReturn = new GeneratedResources();
+        toReturn.add(executableResource);
+        toReturn.add(redirectResource);
+        toReturn.add(classResource);
+        return toReturn;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.efesto.common.core.utils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.efesto.common.api.identifiers.LocalUri;
+import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
+import org.kie.efesto.common.api.identifiers.ReflectiveAppRoot;
+import org.kie.efesto.common.api.io.IndexFile;
+import org.kie.efesto.common.api.model.GeneratedClassResource;
+import org.kie.efesto.common.api.model.GeneratedExecutableResource;
+import org.kie.efesto.common.api.model.GeneratedResources;
+import org.kie.efesto.common.core.identifiers.componentroots.ComponentFoo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexFileUtilsTest {
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void clear() {
+        IndexFileUtils.clear();
+    }
+
+    @Test
+    void getGeneratedResourcesReturnsCopies() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+
+        GeneratedResources retrieved = IndexFileUtils.getGeneratedResources(indexFile);
+        assertThat(retrieved).isEqualTo(generatedResources);
+        retrieved.add(new GeneratedClassResource("full.class.Added"));
+        GeneratedResources retrievedAgain = IndexFileUtils.getGeneratedResources(indexFile);
+        assertThat(retrievedAgain).isNotSameAs(retrieved).isEqualTo(generatedResources);
+    }
+
+    @Test
+    void getGeneratedResourcesAfterUpdate() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        assertThat(IndexFileUtils.getGeneratedResources(indexFile)).isEqualTo(generatedResources);
+
+        generatedResources.add(new GeneratedClassResource("full.class.Added"));
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        assertThat(IndexFileUtils.getGeneratedResources(indexFile)).isEqualTo(generatedResources);
+        assertThat(IndexFileUtils.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getGeneratedResourcesIsBounded() throws Exception {
+        GeneratedResources generatedResources = getGeneratedResources();
+        for (int i = 0; i <= IndexFileUtils.MAX_SIZE; i++) {
+            File directory = new File(tempDir, "dir" + i);
+            assertThat(directory.mkdir()).isTrue();
+            IndexFile indexFile = new IndexFile(directory.getAbsolutePath(), "test");
+            JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+            assertThat(IndexFileUtils.getGeneratedResources(indexFile)).isEqualTo(generatedResources);
+        }
+        assertThat(IndexFileUtils.size()).isEqualTo(IndexFileUtils.MAX_SIZE);
+    }
+
+    @Test
+    void readGeneratedResourcesFromBinaryIndexFile() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        // a binary copy differing from the json content proves that it is read instead
+        GeneratedResources binaryGeneratedResources = new GeneratedResources();
+        binaryGeneratedResources.add(new GeneratedClassResource("full.class.Binary"));
+        BinaryIndexUtils.writeGeneratedResourcesObject(binaryGeneratedResources, indexFile);
+
+        assertThat(IndexFileUtils.getGeneratedResources(indexFile)).isEqualTo(binaryGeneratedResources);
+    }
+
+    @Test
+    void getGeneratedResourcesAfterUpdateWithSameModificationTimeAndLength() throws Exception {
+        IndexFile indexFile = new IndexFile(tempDir.getAbsolutePath(), "test");
+        GeneratedResources generatedResources = getGeneratedResources();
+        JSONUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
+        assertThat(IndexFileUtils.getGeneratedResources(indexFile)).isEqualTo(generatedResources);
+
+        long lastModified = indexFile.lastModified();
+        String content = new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8);
+        Files.write(indexFile.toPath(), content.replace("full.class.Name", "full.class.Same").getBytes(StandardCharsets.UTF_8));
+        assertThat(indexFile.setLastModified(lastModified)).isTrue();
+
+        assertThat(IndexFileUtils.getGeneratedResources(indexFile))
+                .contains(new GeneratedClassResource("full.class.Same"))
+                .doesNotContain(new GeneratedClassResource("full.class.Name"));
+    }
+
+    private static GeneratedResources getGeneratedResources() {
+        LocalUri modelLocalUriId = new ReflectiveAppRoot("test")
+                .get(ComponentFoo.class)
+                .get("this", "is", "fri")
+                .asLocalUri();
+        ModelLocalUriId localUriId = new ModelLocalUriId(modelLocalUriId);
+        GeneratedResources toReturn = new GeneratedResources();
+        toReturn.add(new GeneratedExecutableResource(localUriId, Collections.singletonList("full.class.Name")));
+        toReturn.add(new GeneratedClassResource("full.class.Name"));
+        return toReturn;
+    }
+}
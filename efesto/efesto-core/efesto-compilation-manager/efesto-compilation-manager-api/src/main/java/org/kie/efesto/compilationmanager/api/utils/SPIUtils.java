@@ -16,6 +16,7 @@
 package org.kie.efesto.compilationmanager.api.utils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +43,14 @@ public class SPIUtils {
     private static final ServiceLoader<CompilationManager> compilationManagerLoader = ServiceLoader.load(CompilationManager.class);
     private static final ServiceLoader<KieCompilerService> kieCompilerServiceLoader = ServiceLoader.load(KieCompilerService.class);
 
+    /**
+     * The <code>ServiceLoader</code>s are not thread-safe, so the discovered services are iterated only when they
+     * are (re)loaded, and published as unmodifiable instances
+     */
+    private static volatile List<KieCompilerService> kieCompilerServices = loadKieCompilerServices(kieCompilerServiceLoader);
+
+    private static volatile Optional<CompilationManager> compilationManager = loadCompilationManager(compilationManagerLoader);
+
     public static Optional<KieCompilerService> getKieCompilerService(EfestoResource resource, boolean refresh) {
         logger.debug("getKieCompilerService {} {}", resource, refresh);
         return findAtMostOne(getServices(refresh), service -> service.canManageResource(resource),
@@ -57,9 +66,7 @@ public class SPIUtils {
 
     public static List<KieCompilerService> getKieCompilerServices(boolean refresh) {
         logger.debug("getKieCompilerServices {}", refresh);
-        List<KieCompilerService> toReturn = new ArrayList<>();
-        Iterable<KieCompilerService> services = getServices(refresh);
-        services.forEach(toReturn::add);
+        List<KieCompilerService> toReturn = new ArrayList<>(getServices(refresh));
         logger.debug("toReturn {} {}", toReturn, toReturn.size());
         if (logger.isTraceEnabled()) {
             toReturn.forEach(provider -> logger.trace("{}", provider));
@@ -69,22 +76,33 @@ public class SPIUtils {
 
     public static Optional<CompilationManager> getCompilationManager(boolean refresh) {
         logger.debug("getCompilationManager {}", refresh);
-        Iterable<CompilationManager> managers = getManagers(refresh);
-        return managers.iterator().hasNext() ? Optional.of(managers.iterator().next()) : Optional.empty();
+        if (!refresh) {
+            return compilationManager;
+        }
+        synchronized (compilationManagerLoader) {
+            compilationManagerLoader.reload();
+            return compilationManager = loadCompilationManager(compilationManagerLoader);
+        }
     }
 
-    private static Iterable<KieCompilerService> getServices(boolean refresh) {
-        if (refresh) {
+    private static List<KieCompilerService> getServices(boolean refresh) {
+        if (!refresh) {
+            return kieCompilerServices;
+        }
+        synchronized (kieCompilerServiceLoader) {
             kieCompilerServiceLoader.reload();
+            return kieCompilerServices = loadKieCompilerServices(kieCompilerServiceLoader);
         }
-        return kieCompilerServiceLoader;
     }
 
-    private static Iterable<CompilationManager> getManagers(boolean refresh) {
-        if (refresh) {
-            compilationManagerLoader.reload();
-        }
-        return compilationManagerLoader;
+    private static List<KieCompilerService> loadKieCompilerServices(Iterable<KieCompilerService> serviceIterable) {
+        List<KieCompilerService> toReturn = new ArrayList<>();
+        serviceIterable.forEach(toReturn::add);
+        return Collections.unmodifiableList(toReturn);
+    }
+
+    private static Optional<CompilationManager> loadCompilationManager(Iterable<CompilationManager> managers) {
+        return managers.iterator().hasNext() ? Optional.of(managers.iterator().next()) : Optional.empty();
     }
 
     public static Set<String> collectModelTypes(EfestoCompilationContext context) {
@@ -21,11 +21,11 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
-import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
 import org.kie.efesto.common.api.io.IndexFile;
 import org.kie.efesto.common.api.listener.EfestoListener;
 import org.kie.efesto.common.api.model.GeneratedResources;
-import org.kie.efesto.common.core.utils.JSONUtils;
+import org.kie.efesto.common.core.utils.BinaryIndexUtils;
+import org.kie.efesto.common.core.utils.IndexFileUtils;
 import org.kie.efesto.compilationmanager.api.exceptions.EfestoCompilationManagerException;
 import org.kie.efesto.compilationmanager.api.model.EfestoCompilationContext;
 import org.kie.efesto.compilationmanager.api.service.KieCompilerService;
@@ -50,10 +50,9 @@ public class EfestoCompilationContextImpl<T extends EfestoListener> implements E
     }
 
     private void prepareClassLoader() {
-        for (ModelLocalUriId modelLocalUriId : localUriIdKeySet()) {
-            Map<String, byte[]> generatedClasses = getGeneratedClasses(modelLocalUriId);
-            generatedClasses.forEach(memoryCompilerClassLoader::addCodeIfAbsent);
-        }
+        // the generated classes present now are defined only when first loaded, instead of being copied in each
+        // context
+        memoryCompilerClassLoader.setCodeLookup(getGeneratedClassesSnapshot()::get);
     }
 
     private void populateGeneratedResourcesMap() {
@@ -61,7 +60,7 @@ public class EfestoCompilationContextImpl<T extends EfestoListener> implements E
         Map<String, IndexFile> indexFileMap = IndexFile.findIndexFilesFromClassLoader(memoryCompilerClassLoader, modelTypes);
         indexFileMap.forEach((model, indexFile) -> {
             try {
-                GeneratedResources generatedResources = JSONUtils.getGeneratedResourcesObject(indexFile);
+                GeneratedResources generatedResources = IndexFileUtils.getGeneratedResources(indexFile);
                 generatedResourcesMap.put(model, generatedResources);
             } catch (Exception e) {
                 throw new EfestoCompilationManagerException("Failed to read IndexFile content : " + indexFile.getAbsolutePath(), e);
@@ -119,6 +118,7 @@ public class EfestoCompilationContextImpl<T extends EfestoListener> implements E
                     generatedResources.addAll(existingGeneratedResources);
                 }
                 writeGeneratedResourcesObject(generatedResources, indexFile);
+                BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, indexFile);
             } catch (Exception e) {
                 throw new EfestoCompilationManagerException("Failed to write to IndexFile : " + indexFile.getAbsolutePath(), e);
             }
@@ -26,6 +26,7 @@ import org.kie.efesto.common.api.model.GeneratedExecutableResource;
 import org.kie.efesto.common.api.model.GeneratedRedirectResource;
 import org.kie.efesto.common.api.model.GeneratedResource;
 import org.kie.efesto.common.api.model.GeneratedResources;
+import org.kie.efesto.common.core.utils.BinaryIndexUtils;
 import org.kie.efesto.compilationmanager.api.exceptions.KieCompilerServiceException;
 import org.kie.efesto.compilationmanager.api.model.EfestoCallableOutput;
 import org.kie.efesto.compilationmanager.api.model.EfestoCallableOutputClassesContainer;
@@ -119,6 +120,7 @@ public class CompilationManagerUtils {
             GeneratedResources generatedResources = getGeneratedResourcesObject(toPopulate);
             populateGeneratedResources(generatedResources, compilationOutput);
             writeGeneratedResourcesObject(generatedResources, toPopulate);
+            BinaryIndexUtils.writeGeneratedResourcesObject(generatedResources, toPopulate);
         } catch (Exception e) {
             throw new KieCompilerServiceException(e);
         }
@@ -16,6 +16,7 @@
 package org.kie.efesto.runtimemanager.api.utils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -43,7 +44,13 @@ public class SPIUtils {
 
     private static final ServiceLoader<KieRuntimeService> kieRuntimeServiceLoader = ServiceLoader.load(KieRuntimeService.class);
 
-    private static List<KieRuntimeService> kieRuntimeServices = getKieRuntimeServices(kieRuntimeServiceLoader);
+    /**
+     * The <code>ServiceLoader</code>s are not thread-safe, so the discovered services are iterated only when they
+     * are (re)loaded, and published as unmodifiable instances
+     */
+    private static volatile List<KieRuntimeService> kieRuntimeServices = getKieRuntimeServices(kieRuntimeServiceLoader);
+
+    private static volatile Optional<RuntimeManager> runtimeManager = loadRuntimeManager(runtimeManagerLoader);
 
     public static List<KieRuntimeService> getDiscoveredKieRuntimeServices() {
         return kieRuntimeServices;
@@ -73,7 +80,9 @@ public class SPIUtils {
         if (!refresh) {
             return kieRuntimeServices;
         }
-        return kieRuntimeServices = getKieRuntimeServices(getServices(refresh));
+        synchronized (kieRuntimeServiceLoader) {
+            return kieRuntimeServices = getKieRuntimeServices(getServices(refresh));
+        }
     }
 
     private static List<KieRuntimeService> getKieRuntimeServices(Iterable<KieRuntimeService> serviceIterable) {
@@ -83,12 +92,20 @@ public class SPIUtils {
             logger.trace("toReturn {} {}", toReturn, toReturn.size());
             toReturn.forEach(provider -> logger.trace("{}", provider));
         }
-        return toReturn;
+        return Collections.unmodifiableList(toReturn);
     }
 
     public static Optional<RuntimeManager> getRuntimeManager(boolean refresh) {
         logger.debug("getRuntimeManager {}", refresh);
-        Iterable<RuntimeManager> managers = getManagers(refresh);
+        if (!refresh) {
+            return runtimeManager;
+        }
+        synchronized (runtimeManagerLoader) {
+            return runtimeManager = loadRuntimeManager(getManagers(refresh));
+        }
+    }
+
+    private static Optional<RuntimeManager> loadRuntimeManager(Iterable<RuntimeManager> managers) {
         return managers.iterator().hasNext() ? Optional.of(managers.iterator().next()) : Optional.empty();
     }
 
@@ -20,11 +20,10 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
-import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
 import org.kie.efesto.common.api.io.IndexFile;
 import org.kie.efesto.common.api.listener.EfestoListener;
 import org.kie.efesto.common.api.model.GeneratedResources;
-import org.kie.efesto.common.core.utils.JSONUtils;
+import org.kie.efesto.common.core.utils.IndexFileUtils;
 import org.kie.efesto.runtimemanager.api.exceptions.EfestoRuntimeManagerException;
 import org.kie.efesto.runtimemanager.api.model.EfestoRuntimeContext;
 import org.kie.efesto.runtimemanager.api.service.KieRuntimeService;
@@ -37,6 +36,8 @@ public class EfestoRuntimeContextImpl<T extends EfestoListener> implements Efest
 
     protected final Map<String, GeneratedResources> generatedResourcesMap = new HashMap<>();
 
+    private Map<String, byte[]> generatedClassesSnapshot;
+
     protected EfestoRuntimeContextImpl(KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader) {
         this.memoryCompilerClassLoader = memoryCompilerClassLoader;
         prepareClassLoader();
@@ -50,10 +51,10 @@ public class EfestoRuntimeContextImpl<T extends EfestoListener> implements Efest
     }
 
     private void prepareClassLoader() {
-        for (ModelLocalUriId modelLocalUriId : localUriIdKeySet()) {
-            Map<String, byte[]> generatedClasses = getGeneratedClasses(modelLocalUriId);
-            generatedClasses.forEach(memoryCompilerClassLoader::addCodeIfAbsent);
-        }
+        // the generated classes present now are defined only when first loaded, instead of being copied in each
+        // context
+        generatedClassesSnapshot = EfestoRuntimeContext.super.getGeneratedClassesSnapshot();
+        memoryCompilerClassLoader.setCodeLookup(generatedClassesSnapshot::get);
     }
 
     private void populateGeneratedResourcesMap() {
@@ -62,7 +63,7 @@ public class EfestoRuntimeContextImpl<T extends EfestoListener> implements Efest
                                                                                       modelTypes);
         indexFileMap.forEach((model, indexFile) -> {
             try {
-                GeneratedResources generatedResources = JSONUtils.getGeneratedResourcesObject(indexFile);
+                GeneratedResources generatedResources = IndexFileUtils.getGeneratedResources(indexFile);
                 generatedResourcesMap.put(model, generatedResources);
             } catch (Exception e) {
                 throw new EfestoRuntimeManagerException("Failed to read IndexFile content : " + indexFile.getAbsolutePath(), e);
@@ -75,6 +76,14 @@ public class EfestoRuntimeContextImpl<T extends EfestoListener> implements Efest
         return generatedResourcesMap;
     }
 
+    /**
+     * @return the generated classes this context loads, as they were when it has been created
+     */
+    @Override
+    public Map<String, byte[]> getGeneratedClassesSnapshot() {
+        return generatedClassesSnapshot;
+    }
+
     @Override
     public Class<?> loadClass(String className) throws ClassNotFoundException {
         return memoryCompilerClassLoader.loadClass(className);
@@ -16,13 +16,13 @@
 package org.kie.efesto.runtimemanager.core.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.kie.efesto.common.api.cache.EfestoClassKey;
-import org.kie.efesto.common.api.cache.EfestoIdentifierClassKey;
+import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
 import org.kie.efesto.runtimemanager.api.model.EfestoInput;
 import org.kie.efesto.runtimemanager.api.model.EfestoOutput;
 import org.kie.efesto.runtimemanager.api.model.EfestoRuntimeContext;
@@ -38,8 +38,17 @@ public class RuntimeManagerUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(RuntimeManagerUtils.class.getName());
 
-    protected static final Map<EfestoClassKey, List<KieRuntimeService>> firstLevelCache = new HashMap<>();
-    protected static final Map<EfestoIdentifierClassKey, KieRuntimeService> secondLevelCache = new HashMap<>();
+    /**
+     * <code>KieRuntimeService</code>s by <code>EfestoClassKey</code>, populated with the discovered ones when this class
+     * is loaded. Its lists are never modified once stored: they are replaced by new ones.
+     */
+    protected static final Map<EfestoClassKey, List<KieRuntimeService>> firstLevelCache = new ConcurrentHashMap<>();
+
+    /**
+     * <code>KieRuntimeService</code>s already resolved, by <code>ModelLocalUriId</code>, <code>EfestoInput</code> class
+     * and input data class (<code>Void</code> without input data), so that looking them up does not allocate any key
+     */
+    protected static final Map<ModelLocalUriId, Map<Class<?>, Map<Class<?>, KieRuntimeService>>> secondLevelCache = new ConcurrentHashMap<>();
 
     private RuntimeManagerUtils() {
     }
@@ -57,16 +66,17 @@ public class RuntimeManagerUtils {
                                         final Map<EfestoClassKey, List<KieRuntimeService>> toPopulate) {
         discoveredKieRuntimeServices.forEach(kieRuntimeService -> {
             EfestoClassKey efestoClassKey = kieRuntimeService.getEfestoClassKeyIdentifier();
-            toPopulate.merge(efestoClassKey, List.of(kieRuntimeService), (previous,
-                                                                          toAdd) -> {
-                List<KieRuntimeService> toReturn = new ArrayList<>();
-                toReturn.addAll(previous);
-                toReturn.addAll(toAdd);
-                return toReturn;
-            });
+            toPopulate.merge(efestoClassKey, List.of(kieRuntimeService), RuntimeManagerUtils::mergeKieRuntimeServices);
         });
     }
 
+    static List<KieRuntimeService> mergeKieRuntimeServices(List<KieRuntimeService> previous, List<KieRuntimeService> toAdd) {
+        List<KieRuntimeService> toReturn = new ArrayList<>();
+        toReturn.addAll(previous);
+        toReturn.addAll(toAdd);
+        return toReturn;
+    }
+
     static Optional<KieRuntimeService> getKieRuntimeServiceLocal(EfestoRuntimeContext context, EfestoInput input) {
 
         KieRuntimeService cachedKieRuntimeService = getKieRuntimeServiceFromSecondLevelCache(input);
@@ -80,18 +90,31 @@ public class RuntimeManagerUtils {
         if (retrieved.isEmpty()) {
             logger.warn("Cannot find KieRuntimeService for {}", input.getModelLocalUriId());
         } else {
-            secondLevelCache.put(input.getSecondLevelCacheKey(), retrieved.get());
+            secondLevelCache.computeIfAbsent(input.getModelLocalUriId(), modelLocalUriId -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(input.getClass(), inputClass -> new ConcurrentHashMap<>())
+                    .put(getInputDataClass(input), retrieved.get());
         }
         return retrieved;
     }
 
     /**
-     * Looks for <code>KieRuntimeService</code> inside the <b>secondLevelCache</b> by <code>EfestoIdentifierClassKey</code>
+     * Looks for <code>KieRuntimeService</code> inside the <b>secondLevelCache</b> by <code>ModelLocalUriId</code>,
+     * <code>EfestoInput</code> class and input data class
      * @param input
      * @return The found <code>KieRuntimeService</code>, or <code>null</code>
      */
     static KieRuntimeService getKieRuntimeServiceFromSecondLevelCache(EfestoInput input) {
-        return secondLevelCache.get(input.getSecondLevelCacheKey());
+        Map<Class<?>, Map<Class<?>, KieRuntimeService>> byInputClass = secondLevelCache.get(input.getModelLocalUriId());
+        if (byInputClass == null) {
+            return null;
+        }
+        Map<Class<?>, KieRuntimeService> byInputDataClass = byInputClass.get(input.getClass());
+        return byInputDataClass != null ? byInputDataClass.get(getInputDataClass(input)) : null;
+    }
+
+    static Class<?> getInputDataClass(EfestoInput input) {
+        Object inputData = input.getInputData();
+        return inputData != null ? inputData.getClass() : Void.class;
     }
 
     /**
@@ -120,15 +143,8 @@ public class RuntimeManagerUtils {
         logger.warn("Cannot find KieRuntimeService for {}, looking inside context classloader",
                     input.getModelLocalUriId());
         Optional<KieRuntimeService> retrieved = getKieRuntimeServiceFromEfestoRuntimeContext(input, context);
-        if (retrieved.isPresent()) {
-            KieRuntimeService toAdd = retrieved.get();
-            List<KieRuntimeService> stored = firstLevelCache.get(input.getFirstLevelCacheKey());
-            if (stored == null) {
-                stored = new ArrayList<>();
-                firstLevelCache.put(input.getFirstLevelCacheKey(), stored);
-            }
-            stored.add(toAdd);
-        }
+        retrieved.ifPresent(toAdd -> firstLevelCache.merge(input.getFirstLevelCacheKey(), List.of(toAdd),
+                                                           RuntimeManagerUtils::mergeKieRuntimeServices));
         return retrieved;
     }
 
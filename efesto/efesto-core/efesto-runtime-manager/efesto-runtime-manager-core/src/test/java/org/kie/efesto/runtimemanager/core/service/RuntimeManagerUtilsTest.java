@@ -15,12 +15,18 @@
  */
 package org.kie.efesto.runtimemanager.core.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -190,6 +196,61 @@ class RuntimeManagerUtilsTest {
         assertThat(retrieved).isNotNull().isNotPresent();
     }
 
+    @Test
+    void getKieRuntimeServiceLocalFromConcurrentThreads() throws Exception {
+        RuntimeManagerUtils.secondLevelCache.clear();
+        RuntimeManagerUtils.firstLevelCache.clear();
+        RuntimeManagerUtils.firstLevelCache.put(baseInputService.getEfestoClassKeyIdentifier(),
+                                                Collections.singletonList(baseInputService));
+        RuntimeManagerUtils.firstLevelCache.put(baseInputExtenderService.getEfestoClassKeyIdentifier(),
+                                                Collections.singletonList(baseInputExtenderService));
+
+        int threads = 8;
+        int models = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int resolved = 0;
+                    for (int i = 0; i < models; i++) {
+                        // each thread goes through the models in a different order, to get concurrent insertions
+                        ModelLocalUriId modelLocalUriId = new ModelLocalUriId(LocalUri.parse("/example/stress-" + ((i + offset * 61) % models)));
+                        EfestoInput input = i % 2 == 0 ? new BaseEfestoInput(modelLocalUriId, "One") :
+                                new BaseEfestoInputExtender(modelLocalUriId, "One");
+                        KieRuntimeService expected = i % 2 == 0 ? baseInputService : baseInputExtenderService;
+                        Optional<KieRuntimeService> retrieved = RuntimeManagerUtils.getKieRuntimeServiceLocal(context, input);
+                        if (retrieved.isPresent() && retrieved.get() == expected) {
+                            resolved++;
+                        }
+                    }
+                    return resolved;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(models);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // no entry has been lost by the concurrent insertions
+        assertThat(RuntimeManagerUtils.secondLevelCache).hasSize(models);
+        for (int i = 0; i < models; i++) {
+            ModelLocalUriId modelLocalUriId = new ModelLocalUriId(LocalUri.parse("/example/stress-" + i));
+            assertThat(RuntimeManagerUtils.getKieRuntimeServiceFromSecondLevelCache(new BaseEfestoInput(modelLocalUriId, "One")))
+                    .isNotNull();
+            assertThat(RuntimeManagerUtils.getKieRuntimeServiceFromSecondLevelCache(new BaseEfestoInputExtender(modelLocalUriId, "One")))
+                    .isNotNull();
+        }
+        assertThat(RuntimeManagerUtils.firstLevelCache.get(baseInputService.getEfestoClassKeyIdentifier()))
+                .containsExactly(baseInputService);
+    }
+
     static class BaseEfestoInputExtender extends BaseEfestoInput<String> {
 
         public BaseEfestoInputExtender(ModelLocalUriId modelLocalUriId, String inputData) {
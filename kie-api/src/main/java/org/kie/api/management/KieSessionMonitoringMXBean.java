@@ -24,4 +24,9 @@ public interface KieSessionMonitoringMXBean extends GenericKieSessionMonitoringM
      * @return the total fact count current loaded into the session      
      */       
     long getTotalFactCount();
+
+    /**
+     * @return the approximate number of bytes used to index the facts by the sessions using the fingerprint object store
+     */
+    long getTotalObjectStoreFootprint();
 }
\ No newline at end of file
@@ -16,7 +16,9 @@
 
 package org.kie.api.runtime.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.kie.api.runtime.ObjectFilter;
 
@@ -61,6 +63,26 @@ public interface EntryPoint {
      */
     FactHandle insert(Object object);
 
+    /**
+     * Inserts all the given facts into this entry point, reducing the cost of bulk loading many facts.
+     * Each fact is inserted as by {@link #insert(Object)}, and the insertion of each new fact is notified
+     * after it has been asserted, in the order of the given collection. However the engine can propagate
+     * the facts grouped by type, so the order in which they reach the rules, and then the order of the
+     * resulting matches of rules with the same salience, can differ from inserting them one by one.
+     *
+     * @param objects
+     *        the facts to be inserted
+     *
+     * @return the fact handles created for the given facts, in the same order
+     */
+    default List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            handles.add(insert(object));
+        }
+        return handles;
+    }
+
     /**
      * Retracts the fact for which the given FactHandle was assigned.
      *
@@ -27,4 +27,12 @@ public interface AfterInvokeBKMEvent
         return null;
     }
 
+    /**
+     * @return true if the invocation result has been memoized by a previous invocation with the same arguments,
+     * so that the business knowledge model has not been evaluated again
+     */
+    default boolean isMemoizedResult() {
+        return false;
+    }
+
 }
@@ -71,8 +71,10 @@ public class DMNAssemblerService implements KieAssemblerService {
     public static final String DMN_DECISION_LOGIC_COMPILER = ORG_KIE_DMN_PREFIX + ".decisionlogiccompilerfactory";
     public static final String DMN_COMPILER_CACHE_KEY = "DMN_COMPILER_CACHE_KEY";
     public static final String DMN_PROFILES_CACHE_KEY = "DMN_PROFILES_CACHE_KEY";
+    public static final String DMN_SNAPSHOT_CACHE_KEY = "DMN_SNAPSHOT_CACHE_KEY";
 
     private DMNCompilerConfigurationImpl externalCompilerConfiguration;
+    private DMNModelSnapshot snapshotCollector;
 
     public DMNAssemblerService(DMNCompilerConfigurationImpl externalCompilerConfiguration) {
         this.externalCompilerConfiguration = externalCompilerConfiguration;
@@ -81,6 +83,14 @@ public class DMNAssemblerService implements KieAssemblerService {
     public DMNAssemblerService() {
     }
 
+    /**
+     * Collects in the given snapshot the definitions unmarshalled from the assembled DMN resources,
+     * instead of looking them up in the existing snapshots.
+     */
+    public void setSnapshotCollector(DMNModelSnapshot snapshotCollector) {
+        this.snapshotCollector = snapshotCollector;
+    }
+
     @Override
     public ResourceType getResourceType() {
         return ResourceType.DMN;
@@ -92,9 +102,17 @@ public class DMNAssemblerService implements KieAssemblerService {
         KnowledgeBuilderImpl kbuilderImpl = (KnowledgeBuilderImpl) kbuilder;
         DMNCompilerImpl dmnCompiler = (DMNCompilerImpl) kbuilderImpl.getCachedOrCreate(DMN_COMPILER_CACHE_KEY, () -> getCompiler(kbuilderImpl));
         DMNMarshaller dmnMarshaller = dmnCompiler.getMarshaller();
+        DMNModelSnapshot snapshot = kbuilderImpl.getCachedOrCreate(DMN_SNAPSHOT_CACHE_KEY, () -> getSnapshot(kbuilderImpl));
         List<DMNResource> dmnResources = new ArrayList<>();
         for (ResourceWithConfiguration r : resources) {
-            Definitions definitions = dmnMarshaller.unmarshal(r.getResource().getReader());
+            // the snapshot replaces the unmarshalling only, the definitions are compiled below in any case
+            Definitions definitions = snapshot.lookup(r.getResource());
+            if (definitions == null) {
+                definitions = dmnMarshaller.unmarshal(r.getResource().getReader());
+                if (snapshotCollector != null) {
+                    snapshotCollector.add(r.getResource(), definitions);
+                }
+            }
             DMNResource dmnResource = new DMNResource(definitions, r);
             dmnResources.add(dmnResource);
         }
@@ -201,6 +219,18 @@ public class DMNAssemblerService implements KieAssemblerService {
         return model;
     }
 
+    private DMNModelSnapshot getSnapshot(KnowledgeBuilderImpl kbuilderImpl) {
+        String enabled = kbuilderImpl.getBuilderConfiguration().getChainedProperties().getProperty(DMNModelSnapshot.SNAPSHOT_ENABLED_PROPERTY, "true");
+        if (snapshotCollector != null || !Boolean.parseBoolean(enabled)) {
+            return new DMNModelSnapshot();
+        }
+        DMNModelSnapshot snapshot = DMNModelSnapshot.load(kbuilderImpl.getRootClassLoader());
+        if (!snapshot.isEmpty()) {
+            logger.debug("Loaded the DMN model snapshots of {} resources", snapshot.size());
+        }
+        return snapshot;
+    }
+
     protected List<DMNProfile> getDMNProfiles(KnowledgeBuilderImpl kbuilderImpl) {
         ChainedProperties chainedProperties = kbuilderImpl.getBuilderConfiguration().getChainedProperties();
 
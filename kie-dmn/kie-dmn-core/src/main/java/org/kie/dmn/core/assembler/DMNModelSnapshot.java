@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.assembler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.drools.util.IoUtils;
+import org.kie.api.io.Resource;
+import org.kie.dmn.model.api.Definitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.dmn.core.assembler.DMNAssemblerService.ORG_KIE_DMN_PREFIX;
+
+/**
+ * A binary snapshot of the unmarshalled DMN definitions of a kie module, written at build time by the kie-maven-plugin
+ * and used by the {@link DMNAssemblerService} in place of the XStream unmarshalling of the DMN xml.
+ * It does not hold the compiled models: they are still compiled, FEEL expressions included, when assembled.
+ * <p>
+ * Each entry is keyed by the source path of the DMN resource and holds the serialized {@link Definitions}
+ * together with the digest of the xml it was unmarshalled from: an entry is used only when the digest
+ * still matches the content of the resource, so a stale snapshot silently falls back to the xml.
+ */
+public class DMNModelSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DMNModelSnapshot.class);
+
+    public static final String SNAPSHOT_RESOURCE_NAME = "META-INF/kie/dmn.snapshot";
+    public static final String SNAPSHOT_ENABLED_PROPERTY = ORG_KIE_DMN_PREFIX + ".snapshot.enabled";
+
+    private static final int MAGIC = 0x444D4E53; // DMNS
+    private static final int FORMAT_VERSION = 2;
+    /**
+     * The model classes have a fixed serialVersionUID, so a snapshot is read only by the same version of them it has
+     * been written with, instead of relying on their serialized form being unchanged across versions
+     */
+    private static final String MODEL_VERSION = String.valueOf(Definitions.class.getPackage().getImplementationVersion());
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // only the DMN model classes and the few java types they refer to can be deserialized
+    private static final ObjectInputFilter MODEL_CLASSES_FILTER =
+            ObjectInputFilter.Config.createFilter("org.kie.dmn.model.**;java.lang.*;java.util.*;javax.xml.namespace.QName;!*");
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Loads and merges all the snapshots visible to the given class loader; an unreadable snapshot is ignored.
+     */
+    public static DMNModelSnapshot load(ClassLoader classLoader) {
+        DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(SNAPSHOT_RESOURCE_NAME);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (InputStream is = url.openStream()) {
+                    readFrom(is).entries.forEach(snapshot.entries::putIfAbsent);
+                } catch (IOException e) {
+                    logger.warn("Unable to read the DMN model snapshot {}, the DMN xml will be used instead", url, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to look up the DMN model snapshots, the DMN xml will be used instead", e);
+        }
+        return snapshot;
+    }
+
+    public static DMNModelSnapshot readFrom(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a DMN model snapshot");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported DMN model snapshot version " + version);
+        }
+        String modelVersion = in.readUTF();
+        if (!modelVersion.equals(MODEL_VERSION)) {
+            throw new IOException("DMN model snapshot written with kie-dmn-model " + modelVersion + " instead of " + MODEL_VERSION);
+        }
+        DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String sourcePath = in.readUTF();
+            byte[] digest = readBytes(in);
+            byte[] definitions = readBytes(in);
+            snapshot.entries.put(sourcePath, new Entry(digest, definitions));
+        }
+        return snapshot;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(MODEL_VERSION);
+        out.writeInt(entries.size());
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            out.writeUTF(e.getKey());
+            writeBytes(out, e.getValue().digest);
+            writeBytes(out, e.getValue().definitions);
+        }
+        out.flush();
+    }
+
+    /**
+     * Adds the definitions unmarshalled from the given resource; they must be added before being compiled,
+     * as the compilation can enrich them.
+     * @return false if the definitions can't be serialized, for instance because of a custom extension element
+     */
+    public boolean add(Resource resource, Definitions definitions) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(definitions);
+        } catch (IOException e) {
+            logger.warn("Unable to add the DMN model {} to the snapshot: {}", resource.getSourcePath(), e.getMessage());
+            return false;
+        }
+        try {
+            entries.put(resource.getSourcePath(), new Entry(digestOf(resource), bytes.toByteArray()));
+            return true;
+        } catch (IOException e) {
+            logger.warn("Unable to read the DMN resource {}: {}", resource.getSourcePath(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the definitions of the given resource, or null if the snapshot doesn't contain them,
+     * or it contains the ones of a different version of the resource.
+     */
+    public Definitions lookup(Resource resource) {
+        if (resource.getSourcePath() == null) {
+            return null;
+        }
+        Entry entry = entries.get(resource.getSourcePath());
+        if (entry == null) {
+            return null;
+        }
+        try {
+            if (!Arrays.equals(entry.digest, digestOf(resource))) {
+                logger.debug("The DMN model snapshot of {} is stale, the DMN xml will be used instead", resource.getSourcePath());
+                return null;
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.definitions))) {
+                in.setObjectInputFilter(MODEL_CLASSES_FILTER);
+                return (Definitions) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Unable to read the DMN model snapshot of {}, the DMN xml will be used instead: {}", resource.getSourcePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static byte[] digestOf(Resource resource) throws IOException {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(IoUtils.readBytesFromInputStream(resource.getInputStream()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static class Entry {
+
+        private final byte[] digest;
+        private final byte[] definitions;
+
+        private Entry(byte[] digest, byte[] definitions) {
+            this.digest = digest;
+            this.definitions = definitions;
+        }
+    }
+}
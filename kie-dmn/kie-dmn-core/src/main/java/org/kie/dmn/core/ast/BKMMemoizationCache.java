@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.ast;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kie.dmn.feel.util.BoundedConcurrentCache;
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * Bounded cache of the results of a business knowledge model, keyed by the arguments of the invocation.
+ * The numeric arguments are coerced to BigDecimal, as the FEEL runtime would do, before being used as key,
+ * and the least recently used entries are evicted, approximately, when the maximum size is exceeded.
+ *
+ * The cached results can be shared by several evaluations and callers: the lists and the contexts
+ * are copied when cached and when returned, so that a caller modifying its result does not modify the
+ * result memoized for the others. The other FEEL values are immutable.
+ *
+ * The size can be configured with the {@value #MAX_SIZE_PROPERTY} system property, read once by each runtime.
+ */
+public class BKMMemoizationCache {
+
+    public static final String MAX_SIZE_PROPERTY = "org.kie.dmn.runtime.bkm.memoization.maxSize";
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Returned by {@link #get(List)} when no result is cached for the arguments, as null is a legit BKM result.
+     */
+    public static final Object MISS = new Object();
+
+    private final BoundedConcurrentCache<List<Object>, Object> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public static int maxSizeFromSystemProperties() {
+        return Integer.parseInt(System.getProperty(MAX_SIZE_PROPERTY, String.valueOf(DEFAULT_MAX_SIZE)));
+    }
+
+    public BKMMemoizationCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The size of the BKM memoization cache cannot be negative");
+        }
+        this.entries = new BoundedConcurrentCache<>(maxSize);
+    }
+
+    public static List<Object> keyOf(Object[] params) {
+        List<Object> key = new ArrayList<>(params.length);
+        for (Object param : params) {
+            key.add(EvalHelper.coerceNumber(param));
+        }
+        return key;
+    }
+
+    /**
+     * Returns a copy of the result cached for the given arguments, or {@link #MISS} if none is cached.
+     */
+    public Object get(List<Object> key) {
+        Object value = entries.getOrDefault(key, MISS);
+        if (value == MISS) {
+            misses.incrementAndGet();
+            return MISS;
+        }
+        hits.incrementAndGet();
+        return copyOf(value);
+    }
+
+    /**
+     * Caches a copy of the given result
+     */
+    public void put(List<Object> key, Object value) {
+        if (!entries.isEnabled()) {
+            return;
+        }
+        entries.put(key, copyOf(value));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    private static Object copyOf(Object value) {
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyOf(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copyOf(entry.getValue()));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "BKMMemoizationCache[size=" + size() + ", maxSize=" + entries.getMaxSize() + ", hits=" + hits.get() + ", misses=" + misses.get() + "]";
+    }
+}
@@ -19,11 +19,14 @@ package org.kie.dmn.core.ast;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.DMNType;
 import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
@@ -34,6 +37,7 @@ import org.kie.dmn.core.api.EvaluatorResult;
 import org.kie.dmn.core.api.EvaluatorResult.ResultType;
 import org.kie.dmn.core.impl.BaseDMNTypeImpl;
 import org.kie.dmn.core.impl.DMNContextFEELCtxWrapper;
+import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.core.impl.DMNResultImpl;
 import org.kie.dmn.core.impl.DMNRuntimeEventManagerUtils;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
@@ -43,6 +47,10 @@ import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.functions.BaseFEELFunction;
 import org.kie.dmn.model.api.FunctionDefinition;
+import org.kie.dmn.model.api.FunctionKind;
+import org.kie.dmn.model.api.InformationItem;
+import org.kie.dmn.model.api.LiteralExpression;
+import org.kie.dmn.model.api.UnaryTests;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +63,12 @@ public class DMNFunctionDefinitionEvaluator
     private final DMNNode originatorNode;
     private List<FormalParameter> parameters = new ArrayList<>(  );
     private DMNExpressionEvaluator evaluator;
+    private volatile BKMMemoizationCache runtimeMemoizationCache;
+    /**
+     * Whether the function reads only its parameters and the BKMs it requires, so that its results can be shared
+     * across the evaluations; null until first needed
+     */
+    private volatile Boolean readsOnlyParameters;
 
     public DMNFunctionDefinitionEvaluator(DMNNode originatorNode, FunctionDefinition fdef) {
         this.name = originatorNode.getName();
@@ -95,10 +109,96 @@ public class DMNFunctionDefinitionEvaluator
     public EvaluatorResult evaluate(DMNRuntimeEventManager eventManager, DMNResult dmnr) {
         DMNResultImpl result = (DMNResultImpl) dmnr;
         // when this evaluator is executed, it should return a "FEEL function" to register in the context
-        DMNFunction function = new DMNFunction( name, originatorNode, parameters, functionDefinition, evaluator, eventManager, result );
+        DMNFunction function = new DMNFunction( name, originatorNode, parameters, functionDefinition, evaluator, eventManager, result, memoizationCache( eventManager, result ) );
         return new EvaluatorResultImpl( function, ResultType.SUCCESS );
     }
 
+    /**
+     * Only the FEEL business knowledge models are memoized: the Java and PMML functions can have side effects.
+     */
+    private BKMMemoizationCache memoizationCache(DMNRuntimeEventManager eventManager, DMNResultImpl result) {
+        if (!(originatorNode instanceof BusinessKnowledgeModelNode) || functionDefinition.getKind() != FunctionKind.FEEL || result.getModel() == null) {
+            return null;
+        }
+        DMNRuntimeImpl runtime = (DMNRuntimeImpl) eventManager.getRuntime();
+        switch (runtime.bkmMemoization(result.getModel())) {
+            case EVALUATION:
+                // a new function is registered in the context at each evaluation of the model;
+                // the cache allocates its table only when the function is first invoked
+                return new BKMMemoizationCache(runtime.bkmMemoizationMaxSize());
+            case RUNTIME:
+                if (!readsOnlyParameters(result.getModel())) {
+                    // the closure of the function changes with the evaluation, so its results do too
+                    return new BKMMemoizationCache(runtime.bkmMemoizationMaxSize());
+                }
+                if (runtimeMemoizationCache == null) {
+                    synchronized (this) {
+                        if (runtimeMemoizationCache == null) {
+                            runtimeMemoizationCache = new BKMMemoizationCache(runtime.bkmMemoizationMaxSize());
+                        }
+                    }
+                }
+                return runtimeMemoizationCache;
+            default:
+                return null;
+        }
+    }
+
+    private boolean readsOnlyParameters(DMNModel model) {
+        if (readsOnlyParameters == null) {
+            readsOnlyParameters = readsOnlyParameters((BusinessKnowledgeModelNode) originatorNode, closureNames(model), new HashSet<>());
+        }
+        return readsOnlyParameters;
+    }
+
+    /**
+     * The names, or the prefixes of the names, of the values in the closure of a function which depend on the evaluation
+     */
+    private static Set<String> closureNames(DMNModel model) {
+        Set<String> toReturn = new HashSet<>();
+        model.getInputs().forEach(n -> toReturn.add(n.getName()));
+        model.getDecisions().forEach(n -> toReturn.add(n.getName()));
+        model.getDecisionServices().forEach(n -> toReturn.add(n.getName()));
+        if (model instanceof DMNModelImpl) {
+            toReturn.addAll(((DMNModelImpl) model).getImportAliasesForNS().keySet());
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns true if the expressions of the given BKM, and of the BKMs it requires, never mention any of the given
+     * names but the ones of their own parameters, which hide them; this errs on the safe side, as a name can be
+     * mentioned without being read, e.g. in a string literal.
+     * A BKM without any expression, as the ones built through the API without their children, is never considered so.
+     */
+    private static boolean readsOnlyParameters(BusinessKnowledgeModelNode bkm, Set<String> closureNames, Set<String> visitedIds) {
+        if (!visitedIds.add(bkm.getId())) {
+            return true;
+        }
+        FunctionDefinition logic = bkm.getBusinessKnowledModel().getEncapsulatedLogic();
+        if (logic == null) {
+            return false;
+        }
+        Set<String> parameterNames = logic.getFormalParameter().stream().map(InformationItem::getName).collect(Collectors.toSet());
+        List<String> texts = new ArrayList<>();
+        logic.findAllChildren(LiteralExpression.class).forEach(e -> texts.add(e.getText()));
+        logic.findAllChildren(UnaryTests.class).forEach(e -> texts.add(e.getText()));
+        if (texts.isEmpty()) {
+            return false;
+        }
+        for (String text : texts) {
+            if (text != null && closureNames.stream().anyMatch(n -> !parameterNames.contains(n) && text.contains(n))) {
+                return false;
+            }
+        }
+        for (DMNNode dependency : ((DMNBaseNode) bkm).getDependencies().values()) {
+            if (!(dependency instanceof BusinessKnowledgeModelNode) || !readsOnlyParameters((BusinessKnowledgeModelNode) dependency, closureNames, visitedIds)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static class FormalParameter {
 
         public final String name;
@@ -125,9 +225,18 @@ public class DMNFunctionDefinitionEvaluator
         private final DMNContext closureContext;
         private final FunctionDefinition functionDefinition;
         private final boolean performRuntimeTypeCheck;
+        private final BKMMemoizationCache memoizationCache;
 
         public DMNFunction(String name, DMNNode originatorNode, List<FormalParameter> parameters, FunctionDefinition functionDefinition, DMNExpressionEvaluator evaluator, DMNRuntimeEventManager eventManager,
                            DMNResultImpl result) {
+            this(name, originatorNode, parameters, functionDefinition, evaluator, eventManager, result, null);
+        }
+
+        /**
+         * @param memoizationCache the cache of the results by arguments, or null to evaluate the function at each invocation
+         */
+        public DMNFunction(String name, DMNNode originatorNode, List<FormalParameter> parameters, FunctionDefinition functionDefinition, DMNExpressionEvaluator evaluator, DMNRuntimeEventManager eventManager,
+                           DMNResultImpl result, BKMMemoizationCache memoizationCache) {
             super( name );
             this.originatorNode = originatorNode;
             this.functionDefinition = functionDefinition;
@@ -138,9 +247,31 @@ public class DMNFunctionDefinitionEvaluator
             this.closureContext = result.getContext().clone();
             this.closureContext.set(name, this); // allow recursion in closure.
             performRuntimeTypeCheck = ((DMNRuntimeImpl) eventManager.getRuntime()).performRuntimeTypeCheck(result.getModel());
+            this.memoizationCache = memoizationCache;
+        }
+
+        public BKMMemoizationCache getMemoizationCache() {
+            return memoizationCache;
         }
 
         public Object invoke(EvaluationContext ctx, Object[] params) {
+            if (memoizationCache == null || evaluator == null) {
+                return doInvoke(ctx, params, null);
+            }
+            List<Object> key = BKMMemoizationCache.keyOf(params);
+            Object memoized = memoizationCache.get(key);
+            if (memoized != BKMMemoizationCache.MISS) {
+                DMNRuntimeEventManagerUtils.fireBeforeInvokeBKM(eventManager, (BusinessKnowledgeModelNode) originatorNode, resultContext, Arrays.asList(params));
+                DMNRuntimeEventManagerUtils.fireAfterInvokeBKM(eventManager, (BusinessKnowledgeModelNode) originatorNode, resultContext, memoized, true);
+                return memoized;
+            }
+            return doInvoke(ctx, params, key);
+        }
+
+        /**
+         * @param memoizationKey the key to memoize the result with, or null if the result is not to be memoized
+         */
+        private Object doInvoke(EvaluationContext ctx, Object[] params, List<Object> memoizationKey) {
             DMNContext previousContext = resultContext.getContext();
             // we could be more strict and only set the parameters and the dependencies as values in the new
             // context, but for now, cloning the original context
@@ -152,6 +283,7 @@ public class DMNFunctionDefinitionEvaluator
                     DMNRuntimeEventManagerUtils.fireBeforeInvokeBKM(eventManager, (BusinessKnowledgeModelNode) originatorNode, resultContext, Arrays.asList(params));
                 }
                 if( evaluator != null ) {
+                    int messagesBefore = resultContext.getMessages().size();
                     closureContext.getAll().forEach(dmnContext::set);
                     for( int i = 0; i < params.length; i++ ) {
                         final String paramName = parameters.get(i).name;
@@ -175,6 +307,10 @@ public class DMNFunctionDefinitionEvaluator
                     EvaluatorResult result = evaluator.evaluate( eventManager, resultContext );
                     if( result.getResultType() == ResultType.SUCCESS ) {
                         invocationResult = result.getResult();
+                        // an invocation reporting messages is evaluated again, so that the messages are reported again
+                        if (memoizationKey != null && resultContext.getMessages().size() == messagesBefore) {
+                            memoizationCache.put(memoizationKey, invocationResult);
+                        }
                         return invocationResult;
                     }
                     return null;
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.compiler;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * When enabled, the results of the FEEL business knowledge models are memoized by their (coerced) arguments,
+ * so that a BKM invoked again with the same arguments is not evaluated again.
+ * Enabling this option declares the business knowledge models of the model as pure functions of their parameters.
+ */
+public class BKMMemoizationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.bkm.memoization";
+
+    public enum Scope {
+        /**
+         * the business knowledge models are evaluated at each invocation
+         */
+        NONE,
+        /**
+         * the results are memoized for the duration of a single evaluation
+         */
+        EVALUATION,
+        /**
+         * the results are memoized across the evaluations, up to the maximum size of the cache; a BKM whose
+         * expressions mention an input data, a decision, a decision service or an import, which it reads from the
+         * evaluation instead of its parameters, is memoized as with {@link #EVALUATION}
+         */
+        RUNTIME
+    }
+
+    /**
+     * The default value for this option
+     */
+    public static final Scope DEFAULT_VALUE = Scope.NONE;
+
+    private final Scope scope;
+
+    public BKMMemoizationOption(Scope value) {
+        this.scope = value == null ? DEFAULT_VALUE : value;
+    }
+
+    public BKMMemoizationOption(String value) {
+        this(value == null || value.trim().isEmpty() ? DEFAULT_VALUE : Scope.valueOf(value.trim().toUpperCase()));
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+}
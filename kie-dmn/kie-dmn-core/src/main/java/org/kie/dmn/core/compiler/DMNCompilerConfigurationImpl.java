@@ -85,6 +85,10 @@ public class DMNCompilerConfigurationImpl implements DMNCompilerConfiguration {
             return (T) new ExecModelCompilerOption(properties.get(ExecModelCompilerOption.PROPERTY_NAME));
         } else if (AlphaNetworkOption.class.equals(option)) {
             return (T) new AlphaNetworkOption(properties.get(AlphaNetworkOption.PROPERTY_NAME));
+        } else if (ParallelEvaluationOption.class.equals(option)) {
+            return (T) new ParallelEvaluationOption(properties.get(ParallelEvaluationOption.PROPERTY_NAME));
+        } else if (BKMMemoizationOption.class.equals(option)) {
+            return (T) new BKMMemoizationOption(properties.get(BKMMemoizationOption.PROPERTY_NAME));
         }
         throw new RuntimeException("Unknown option: " + option.toString());
     }
@@ -204,6 +204,8 @@ public class DMNCompilerImpl implements DMNCompiler {
         }
         DMNModelImpl model = new DMNModelImpl(dmndefs, resource);
         model.setRuntimeTypeCheck(((DMNCompilerConfigurationImpl) dmnCompilerConfig).getOption(RuntimeTypeCheckOption.class).isRuntimeTypeCheck());
+        model.setParallelEvaluation(((DMNCompilerConfigurationImpl) dmnCompilerConfig).getOption(ParallelEvaluationOption.class).isParallelEvaluation());
+        model.setBKMMemoization(((DMNCompilerConfigurationImpl) dmnCompilerConfig).getOption(BKMMemoizationOption.class).getScope());
         DMNCompilerConfigurationImpl cc = (DMNCompilerConfigurationImpl) dmnCompilerConfig;
         List<FEELProfile> helperFEELProfiles = cc.getFeelProfiles();
         DMNFEELHelper feel = new DMNFEELHelper(cc.getRootClassLoader(), helperFEELProfiles);
@@ -65,6 +65,7 @@ import org.kie.dmn.feel.lang.impl.RootExecutionFrame;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
+import org.kie.dmn.feel.runtime.decisiontables.DTIndexableEntry;
 import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
 import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
 import org.kie.dmn.feel.runtime.decisiontables.DecisionTableImpl;
@@ -711,6 +712,7 @@ public class DMNEvaluatorCompiler implements DMNDecisionLogicCompiler {
                     Boolean result = t.apply( c, x );
                     return result != null && result;
                 } ) );
+                rule.getIndexableInputEntry().add( ut != null ? DTIndexableEntry.parse( ut.getText() ) : null );
             }
             for ( LiteralExpression le : dr.getOutputEntry() ) {
                 String expressionText = le.getText();
@@ -27,16 +27,15 @@ public class AlphaNetworkEvaluationContext {
 
     private final Variable<PropertyEvaluator> variable;
     private final Declaration declaration;
-    private final Results results;
+    // the results of the invocation in progress on each thread: the result collectors of the network are shared by all the invocations
+    private final ThreadLocal<Results> results = new ThreadLocal<>();
 
-    public AlphaNetworkEvaluationContext(Results results) {
+    public AlphaNetworkEvaluationContext() {
         ClassObjectType objectType = new ClassObjectType(PropertyEvaluator.class);
         variable = declarationOf(PropertyEvaluator.class, "$ctx");
 
         Pattern pattern = new Pattern(1, objectType, "$ctx");
         declaration = pattern.getDeclaration();
-
-        this.results = results;
     }
 
     public Variable<PropertyEvaluator> getVariable() {
@@ -48,6 +47,14 @@ public class AlphaNetworkEvaluationContext {
     }
 
     public Results getResultCollector() {
-        return results;
+        return results.get();
+    }
+
+    public void setResultCollector(Results results) {
+        this.results.set(results);
+    }
+
+    public void clearResultCollector() {
+        this.results.remove();
     }
 }
@@ -25,8 +25,17 @@ import org.kie.dmn.feel.runtime.events.InvalidInputEvent;
 // TODO DT-ANC review these four names
 public interface DMNAlphaNetworkEvaluator {
 
-    Optional<InvalidInputEvent> validate(EvaluationContext evaluationContext);
+    /**
+     * Reads the inputs of the decision table from the given context, once per invocation
+     */
+    PropertyEvaluator createPropertyEvaluator(EvaluationContext evaluationContext);
 
-    Object evaluate(EvaluationContext evaluationContext, DecisionTable decisionTable);
+    Optional<InvalidInputEvent> validate(EvaluationContext evaluationContext, PropertyEvaluator propertyEvaluator);
+
+    /**
+     * Collects the matching rules of the invocation into the given results, and applies the hit policy on them.
+     * The network is shared by all the invocations of the decision table and is never modified by them.
+     */
+    Object evaluate(EvaluationContext evaluationContext, PropertyEvaluator propertyEvaluator, Results results, DecisionTable decisionTable);
 
 }
@@ -17,6 +17,7 @@
 package org.kie.dmn.core.compiler.alphanetbased;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,9 +38,13 @@ import org.kie.dmn.core.compiler.DMNEvaluatorCompiler;
 import org.kie.dmn.core.compiler.DMNFEELHelper;
 import org.kie.dmn.core.compiler.alphanetbased.evaluator.OutputClausesWithType;
 import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.core.util.Msg;
+import org.kie.dmn.feel.lang.CompiledExpression;
 import org.kie.dmn.feel.lang.CompilerContext;
 import org.kie.dmn.feel.lang.Type;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.InputClause;
+import org.kie.dmn.model.api.OutputClause;
 import org.kie.memorycompiler.KieMemoryCompiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +64,37 @@ public class DMNAlphaNetworkEvaluatorCompiler extends DMNEvaluatorCompiler {
                                                           DMNBaseNode dmnBaseNode,
                                                           String decisionTableName,
                                                           DecisionTable decisionTable) {
+        // the fallback is decided table by table, so that a single unsupported table doesn't disable the alpha network for the whole model
+        String unsupportedReason = unsupportedReason(decisionTable);
+        if (unsupportedReason != null) {
+            logger.debug("Decision table {} is evaluated without the alpha network: {}", decisionTableName, unsupportedReason);
+            return super.compileDecisionTable(dmnCompilerContext, dmnModelImpl, dmnBaseNode, decisionTableName, decisionTable);
+        }
+        try {
+            return compileAlphaNetwork(dmnCompilerContext, dmnModelImpl, dmnBaseNode, decisionTableName, decisionTable);
+        } catch (RuntimeException e) {
+            logger.warn("Cannot compile decision table {} to an alpha network, it will be evaluated without it", decisionTableName, e);
+            return super.compileDecisionTable(dmnCompilerContext, dmnModelImpl, dmnBaseNode, decisionTableName, decisionTable);
+        }
+    }
+
+    private static String unsupportedReason(DecisionTable decisionTable) {
+        if (decisionTable.getInput().isEmpty() || decisionTable.getRule().isEmpty()) {
+            return "no input clauses or no rules";
+        }
+        for (OutputClause outputClause : decisionTable.getOutput()) {
+            if (outputClause.getDefaultOutputEntry() != null) {
+                return "default output entries";
+            }
+        }
+        return null;
+    }
+
+    private DMNExpressionEvaluator compileAlphaNetwork(DMNCompilerContext dmnCompilerContext,
+                                                       DMNModelImpl dmnModelImpl,
+                                                       DMNBaseNode dmnBaseNode,
+                                                       String decisionTableName,
+                                                       DecisionTable decisionTable) {
 
         DMNFEELHelper feelHelper = dmnCompilerContext.getFeelHelper();
         CompilerContext compilerContext = dmnCompilerContext.toCompilerContext();
@@ -95,8 +131,7 @@ public class DMNAlphaNetworkEvaluatorCompiler extends DMNEvaluatorCompiler {
 
         Class<?> compiledNetworkClass = compiledClasses.get(compiledNetworkSource.getName());
         CompiledNetwork compiledAlphaNetwork = compiledNetworkSource.createInstanceAndSet(compiledNetworkClass);
-        Results results = new Results();
-        AlphaNetworkEvaluationContext evaluationContext = new AlphaNetworkEvaluationContext(results);
+        AlphaNetworkEvaluationContext evaluationContext = new AlphaNetworkEvaluationContext();
         DMNAlphaNetworkEvaluator dmnCompiledAlphaNetworkEvaluator = generatedSources
                 .newInstanceOfAlphaNetwork(compiledClasses, compiledAlphaNetwork, evaluationContext);
 
@@ -108,7 +143,37 @@ public class DMNAlphaNetworkEvaluatorCompiler extends DMNEvaluatorCompiler {
 
         FeelDecisionTable feelDecisionTable = new FeelDecisionTable(decisionTableName, outputs, feelHelper, variableTypes, dmnModelImpl.getTypeRegistry().unknown());
 
-        return new DMNAlphaNetworkEvaluatorImpl(dmnCompiledAlphaNetworkEvaluator, feelHelper, decisionTableName, feelDecisionTable, dmnBaseNode, results);
+        Map<String, CompiledExpression> derivedInputs = compileDerivedInputs(dmnCompilerContext, dmnModelImpl, decisionTableName, decisionTable);
+
+        return new DMNAlphaNetworkEvaluatorImpl(dmnCompiledAlphaNetworkEvaluator, feelHelper, decisionTableName, feelDecisionTable, dmnBaseNode, derivedInputs);
+    }
+
+    // The network reads each input by the text of its expression, so the expressions which are not a variable in scope
+    // (e.g. Applicant.age on a structured type) are evaluated before the network and bound to that text
+    private Map<String, CompiledExpression> compileDerivedInputs(DMNCompilerContext dmnCompilerContext,
+                                                                 DMNModelImpl dmnModelImpl,
+                                                                 String decisionTableName,
+                                                                 DecisionTable decisionTable) {
+        Map<String, CompiledExpression> derivedInputs = new LinkedHashMap<>();
+        int index = 0;
+        for (InputClause inputClause : decisionTable.getInput()) {
+            index++;
+            String inputExpressionText = inputClause.getInputExpression().getText();
+            if (dmnCompilerContext.resolve(inputExpressionText.trim()) == null && !derivedInputs.containsKey(inputExpressionText)) {
+                CompiledExpression compiledInput = dmnCompilerContext.getFeelHelper().compileFeelExpression(dmnCompilerContext,
+                                                                                                           inputExpressionText,
+                                                                                                           dmnModelImpl,
+                                                                                                           decisionTable,
+                                                                                                           Msg.ERR_COMPILING_FEEL_EXPR_ON_DT_INPUT_CLAUSE_IDX,
+                                                                                                           inputExpressionText,
+                                                                                                           decisionTableName,
+                                                                                                           index);
+                if (compiledInput != null) {
+                    derivedInputs.put(inputExpressionText, compiledInput);
+                }
+            }
+        }
+        return derivedInputs;
     }
 
     private ObjectTypeNodeCompiler createAlphaNetworkCompiler(ObjectTypeNode firstObjectTypeNodeOfRete) {
@@ -18,6 +18,7 @@ package org.kie.dmn.core.compiler.alphanetbased;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.kie.dmn.api.core.DMNMessage;
@@ -35,6 +36,8 @@ import org.kie.dmn.core.impl.DMNRuntimeEventManagerUtils;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
+import org.kie.dmn.feel.lang.CompiledExpression;
 import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
 import org.kie.dmn.feel.runtime.events.InvalidInputEvent;
@@ -47,38 +50,47 @@ public class DMNAlphaNetworkEvaluatorImpl implements DMNExpressionEvaluator {
 
     private static Logger logger = LoggerFactory.getLogger(DMNAlphaNetworkEvaluatorImpl.class);
 
+    // shared by all the invocations of this decision table: the state of an invocation is created by each invocation
     private final DMNAlphaNetworkEvaluator compiledNetwork;
-    private Results results;
     private final DMNFEELHelper feel;
     private final String decisionTableName;
     private final FeelDecisionTable feelDecisionTable;
     private final DMNBaseNode node;
+    // input expressions which are not a variable name, e.g. the field of a structured type
+    private final Map<String, CompiledExpression> derivedInputs;
 
     public DMNAlphaNetworkEvaluatorImpl(DMNAlphaNetworkEvaluator compiledNetwork,
                                         DMNFEELHelper feel,
                                         String decisionTableName,
                                         FeelDecisionTable feelDecisionTable,
                                         DMNBaseNode node,
-                                        Results results) {
+                                        Map<String, CompiledExpression> derivedInputs) {
         this.feel = feel;
         this.decisionTableName = decisionTableName;
         this.feelDecisionTable = feelDecisionTable;
         this.node = node;
         this.compiledNetwork = compiledNetwork;
-        this.results = results;
+        this.derivedInputs = derivedInputs;
     }
 
     @Override
     public EvaluatorResult evaluate(DMNRuntimeEventManager eventManager, DMNResult dmnResult) {
         DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecisionTable(eventManager, node.getName(), decisionTableName, dmnResult);
 
+        Results results = new Results();
         EvaluationContext evalCtx = createEvaluationContext(results.getEvents(), eventManager, dmnResult);
         evalCtx.enterFrame();
 
         DMNDTExpressionEvaluator.EventResults eventResults = null;
         try {
+            // the network reads the inputs by the text of their expression
+            for (Map.Entry<String, CompiledExpression> derivedInput : derivedInputs.entrySet()) {
+                evalCtx.setValue(derivedInput.getKey(), ((CompiledFEELExpression) derivedInput.getValue()).apply(evalCtx));
+            }
+
 
-            Optional<InvalidInputEvent> potentialError = compiledNetwork.validate(evalCtx);
+            PropertyEvaluator propertyEvaluator = compiledNetwork.createPropertyEvaluator(evalCtx);
+            Optional<InvalidInputEvent> potentialError = compiledNetwork.validate(evalCtx, propertyEvaluator);
             if (potentialError.isPresent()) {
                 InvalidInputEvent actualError = potentialError.get();
                 MsgUtil.reportMessage(logger,
@@ -92,7 +104,7 @@ public class DMNAlphaNetworkEvaluatorImpl implements DMNExpressionEvaluator {
                 return new EvaluatorResultImpl(null, EvaluatorResult.ResultType.FAILURE);
             }
 
-            Object result = compiledNetwork.evaluate(evalCtx, feelDecisionTable);
+            Object result = compiledNetwork.evaluate(evalCtx, propertyEvaluator, results, feelDecisionTable);
 
             eventResults = processEvents(results.getEvents(), eventManager, (DMNResultImpl) dmnResult, node);
 
@@ -25,20 +25,20 @@ public class DMNResultCollector implements ResultCollectorSink {
     private final int row;
     private final String columnName;
     private final Function1<EvaluationContext, Object> outputEvaluationFunction;
-    private final Results results;
+    private final AlphaNetworkEvaluationContext alphaNetworkEvaluationContext;
 
     public DMNResultCollector(int row,
                               String columnName,
-                              Results results,
+                              AlphaNetworkEvaluationContext alphaNetworkEvaluationContext,
                               Function1<EvaluationContext, Object> outputEvaluationFunction) {
         this.row = row;
         this.columnName = columnName;
-        this.results = results;
+        this.alphaNetworkEvaluationContext = alphaNetworkEvaluationContext;
         this.outputEvaluationFunction = outputEvaluationFunction;
     }
 
     @Override
     public void collectObject() {
-        results.addResult(row, columnName, outputEvaluationFunction);
+        alphaNetworkEvaluationContext.getResultCollector().addResult(row, columnName, outputEvaluationFunction);
     }
 }
@@ -74,7 +74,7 @@ public class DMNResultCollectorAlphaSink extends LeftInputAdapterNode implements
         objectCreationExpr.setType(StaticJavaParser.parseClassOrInterfaceType(DMNResultCollector.class.getCanonicalName()));
         objectCreationExpr.addArgument(new IntegerLiteralExpr(row));
         objectCreationExpr.addArgument(new StringLiteralExpr(columnName));
-        objectCreationExpr.addArgument(StaticJavaParser.parseExpression("ctx.getResultCollector()"));
+        objectCreationExpr.addArgument(StaticJavaParser.parseExpression("ctx"));
 
         Expression lambdaExpr = StaticJavaParser.parseExpression(String.format("(org.kie.dmn.feel.lang.EvaluationContext x) -> %s.getInstance().apply(x)", outputClass));
         objectCreationExpr.addArgument(lambdaExpr);
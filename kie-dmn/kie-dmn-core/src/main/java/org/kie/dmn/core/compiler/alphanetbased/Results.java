@@ -18,6 +18,7 @@ package org.kie.dmn.core.compiler.alphanetbased;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -88,9 +89,14 @@ public class Results {
             return resultGroupedByRow
                     .values()
                     .stream()
-                    .map(resultsGroupedByRow -> resultsGroupedByRow.stream().collect(
-                            Collectors.toMap(ResultObject::getColumnName,
-                                             (ResultObject resultObject) -> resultObject.eval(evaluationContext))))
+                    .map(resultsGroupedByRow -> {
+                        // an output entry can evaluate to null, which Collectors.toMap doesn't allow
+                        Map<String, Object> row = new HashMap<>();
+                        for (ResultObject resultObject : resultsGroupedByRow) {
+                            row.put(resultObject.getColumnName(), resultObject.eval(evaluationContext));
+                        }
+                        return row;
+                    })
                     .collect(toList());
         }
     }
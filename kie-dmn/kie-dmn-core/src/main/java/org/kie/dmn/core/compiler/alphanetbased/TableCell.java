@@ -132,7 +132,8 @@ public class TableCell {
         } else if (type.equals(BuiltInType.STRING)) {
             return AlphaNetworkCreation.createIndex(String.class, x -> (String) x.getValue(tableIndex.columnIndex()), null);
         } else {
-            throw new UnsupportedOperationException("Unknown Index Type");
+            // columns of other types (booleans, dates, structured types...) are evaluated by their FEEL test only
+            return null;
         }
     }
 
@@ -26,11 +26,17 @@ public class AfterInvokeBKMEventImpl
     private BusinessKnowledgeModelNode bkm;
     private DMNResult                  result;
     private Object invocationResult;
+    private boolean memoizedResult;
 
     public AfterInvokeBKMEventImpl(BusinessKnowledgeModelNode bkm, DMNResult result, Object invocationResult) {
+        this(bkm, result, invocationResult, false);
+    }
+
+    public AfterInvokeBKMEventImpl(BusinessKnowledgeModelNode bkm, DMNResult result, Object invocationResult, boolean memoizedResult) {
         this.bkm = bkm;
         this.result = result;
         this.invocationResult = invocationResult;
+        this.memoizedResult = memoizedResult;
     }
 
     @Override
@@ -48,6 +54,11 @@ public class AfterInvokeBKMEventImpl
         return invocationResult;
     }
 
+    @Override
+    public boolean isMemoizedResult() {
+        return memoizedResult;
+    }
+
     @Override
     public String toString() {
         return "AfterInvokeBKMEvent{ name='"+bkm.getName()+"' id='"+bkm.getId()+"' }";
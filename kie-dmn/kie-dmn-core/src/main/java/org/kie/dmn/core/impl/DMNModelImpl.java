@@ -57,6 +57,7 @@ import org.kie.dmn.core.api.DMNMessageManager;
 import org.kie.dmn.core.assembler.DMNAssemblerService;
 import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
 import org.kie.dmn.core.ast.DecisionNodeImpl;
+import org.kie.dmn.core.compiler.BKMMemoizationOption;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNTypeRegistry;
 import org.kie.dmn.core.compiler.DMNTypeRegistryV11;
@@ -95,6 +96,14 @@ public class DMNModelImpl
      * a compile-time preference to indicate if type-check should be performed during runtime evaluation. 
      */
     private boolean runtimeTypeCheck = false;
+    /**
+     * a compile-time preference to indicate if the independent decisions should be evaluated concurrently.
+     */
+    private boolean parallelEvaluation = false;
+    /**
+     * a compile-time preference to indicate if the results of the business knowledge models should be memoized.
+     */
+    private BKMMemoizationOption.Scope bkmMemoization = BKMMemoizationOption.DEFAULT_VALUE;
 
     private Map<String, QName> importAliases = new HashMap<>();
     private ImportChain importChain;
@@ -414,6 +423,28 @@ public class DMNModelImpl
         this.runtimeTypeCheck = runtimeTypeCheck;
     }
 
+    /**
+     * @return a compile-time preference to indicate if the independent decisions should be evaluated concurrently.
+     */
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.parallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * @return a compile-time preference to indicate if the results of the business knowledge models should be memoized.
+     */
+    public BKMMemoizationOption.Scope getBKMMemoization() {
+        return bkmMemoization;
+    }
+
+    public void setBKMMemoization(BKMMemoizationOption.Scope bkmMemoization) {
+        this.bkmMemoization = bkmMemoization;
+    }
+
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(serializedAs);
@@ -462,6 +493,8 @@ public class DMNModelImpl
         this.messages  = compiledModel.messages  ;
         this.types     = compiledModel.types     ;
         this.runtimeTypeCheck = compiledModel.runtimeTypeCheck;
+        this.parallelEvaluation = compiledModel.parallelEvaluation;
+        this.bkmMemoization = compiledModel.bkmMemoization;
         this.importAliases = compiledModel.importAliases;
     }
 
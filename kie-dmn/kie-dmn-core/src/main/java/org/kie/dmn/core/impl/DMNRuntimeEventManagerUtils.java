@@ -127,8 +127,12 @@ public final class DMNRuntimeEventManagerUtils {
     }
 
     public static void fireAfterInvokeBKM( DMNRuntimeEventManager eventManager, BusinessKnowledgeModelNode bkm, DMNResult result, Object invocationResult ) {
+        fireAfterInvokeBKM(eventManager, bkm, result, invocationResult, false);
+    }
+
+    public static void fireAfterInvokeBKM( DMNRuntimeEventManager eventManager, BusinessKnowledgeModelNode bkm, DMNResult result, Object invocationResult, boolean memoizedResult ) {
         if (eventManager.hasListeners()) {
-            AfterInvokeBKMEvent event = new AfterInvokeBKMEventImpl(bkm, result, invocationResult);
+            AfterInvokeBKMEvent event = new AfterInvokeBKMEventImpl(bkm, result, invocationResult, memoizedResult);
             notifyListeners(eventManager, l -> l.afterInvokeBKM(event));
         }
     }
@@ -147,7 +151,7 @@ public final class DMNRuntimeEventManagerUtils {
         }
     }
 
-    private static void notifyListeners(DMNRuntimeEventManager eventManager, Consumer<DMNRuntimeEventListener> consumer) {
+    static void notifyListeners(DMNRuntimeEventManager eventManager, Consumer<DMNRuntimeEventListener> consumer) {
         for( DMNRuntimeEventListener listener : eventManager.getListeners() ) {
             try {
                 consumer.accept( listener );
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.AfterInvokeBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeInvokeBKMEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
+
+/**
+ * Records the events of a decision evaluated on another thread, on its own copy of the result, so that they can be
+ * notified to the actual listeners by the evaluating thread, in the same order they have been fired.
+ * The replayed events refer to the result the copy has been merged into, instead of the copy.
+ * The evaluations of the BKMs are not recorded, as the BKMs are evaluated again on the merged result.
+ */
+class DMNRuntimeEventsRecorder implements DMNRuntimeEventListener {
+
+    private final List<Function<DMNResult, Consumer<DMNRuntimeEventListener>>> events = new ArrayList<>();
+    private final Map<BeforeEvaluateDecisionEvent, BeforeEvaluateDecisionEvent> replayedBeforeEvaluateDecision = new IdentityHashMap<>();
+
+    void replay(DMNRuntimeEventManager eventManager, DMNResult result) {
+        for (Function<DMNResult, Consumer<DMNRuntimeEventListener>> event : events) {
+            DMNRuntimeEventManagerUtils.notifyListeners(eventManager, event.apply(result));
+        }
+        events.clear();
+        replayedBeforeEvaluateDecision.clear();
+    }
+
+    @Override
+    public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+        events.add(result -> {
+            BeforeEvaluateDecisionEvent replayed = new BeforeEvaluateDecisionEventImpl(event.getDecision(), result);
+            replayedBeforeEvaluateDecision.put(event, replayed);
+            return l -> l.beforeEvaluateDecision(replayed);
+        });
+    }
+
+    @Override
+    public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+        events.add(result -> {
+            BeforeEvaluateDecisionEvent before = event instanceof AfterEvaluateDecisionEventImpl ?
+                    replayedBeforeEvaluateDecision.get(((AfterEvaluateDecisionEventImpl) event).getBeforeEvent()) : null;
+            AfterEvaluateDecisionEvent replayed = new AfterEvaluateDecisionEventImpl(event.getDecision(), result, before);
+            return l -> l.afterEvaluateDecision(replayed);
+        });
+    }
+
+    @Override
+    public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+        // not recorded: the BKMs a copy evaluates for itself are evaluated again, and notified once, on the merged result
+    }
+
+    @Override
+    public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+        // not recorded, as the matching before event
+    }
+
+    @Override
+    public void beforeEvaluateContextEntry(BeforeEvaluateContextEntryEvent event) {
+        events.add(result -> {
+            BeforeEvaluateContextEntryEvent replayed = new BeforeEvaluateContextEntryEventImpl(event.getNodeName(), event.getVariableName(), event.getVariableId(),
+                                                                                               event.getExpressionId(), result);
+            return l -> l.beforeEvaluateContextEntry(replayed);
+        });
+    }
+
+    @Override
+    public void afterEvaluateContextEntry(AfterEvaluateContextEntryEvent event) {
+        events.add(result -> {
+            AfterEvaluateContextEntryEvent replayed = new AfterEvaluateContextEntryEventImpl(event.getNodeName(), event.getVariableName(), event.getVariableId(),
+                                                                                             event.getExpressionId(), event.getExpressionResult(), result);
+            return l -> l.afterEvaluateContextEntry(replayed);
+        });
+    }
+
+    @Override
+    public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+        events.add(result -> {
+            BeforeEvaluateDecisionTableEvent replayed = new BeforeEvaluateDecisionTableEventImpl(event.getNodeName(), event.getDecisionTableName(), result);
+            return l -> l.beforeEvaluateDecisionTable(replayed);
+        });
+    }
+
+    @Override
+    public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+        events.add(result -> {
+            AfterEvaluateDecisionTableEvent replayed = new AfterEvaluateDecisionTableEventImpl(event.getNodeName(), event.getDecisionTableName(), result,
+                                                                                               event.getMatches(), event.getSelected());
+            return l -> l.afterEvaluateDecisionTable(replayed);
+        });
+    }
+
+    @Override
+    public void beforeEvaluateDecisionService(BeforeEvaluateDecisionServiceEvent event) {
+        events.add(result -> {
+            BeforeEvaluateDecisionServiceEvent replayed = new BeforeEvaluateDecisionServiceEventImpl(event.getDecisionService(), result);
+            return l -> l.beforeEvaluateDecisionService(replayed);
+        });
+    }
+
+    @Override
+    public void afterEvaluateDecisionService(AfterEvaluateDecisionServiceEvent event) {
+        events.add(result -> {
+            AfterEvaluateDecisionServiceEvent replayed = new AfterEvaluateDecisionServiceEventImpl(event.getDecisionService(), result);
+            return l -> l.afterEvaluateDecisionService(replayed);
+        });
+    }
+
+    @Override
+    public void beforeInvokeBKM(BeforeInvokeBKMEvent event) {
+        events.add(result -> {
+            BeforeInvokeBKMEvent replayed = new BeforeInvokeBKMEventImpl(event.getBusinessKnowledgeModel(), result, event.getInvocationParameters());
+            return l -> l.beforeInvokeBKM(replayed);
+        });
+    }
+
+    @Override
+    public void afterInvokeBKM(AfterInvokeBKMEvent event) {
+        events.add(result -> {
+            AfterInvokeBKMEvent replayed = new AfterInvokeBKMEventImpl(event.getBusinessKnowledgeModel(), result, event.getInvocationResult(), event.isMemoizedResult());
+            return l -> l.afterInvokeBKM(replayed);
+        });
+    }
+
+    @Override
+    public void beforeEvaluateAll(BeforeEvaluateAllEvent event) {
+        // a decision evaluated concurrently never evaluates the whole model
+        events.add(result -> l -> l.beforeEvaluateAll(event));
+    }
+
+    @Override
+    public void afterEvaluateAll(AfterEvaluateAllEvent event) {
+        events.add(result -> l -> l.afterEvaluateAll(event));
+    }
+}
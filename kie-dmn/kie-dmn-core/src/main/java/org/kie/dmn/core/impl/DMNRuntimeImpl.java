@@ -16,12 +16,20 @@
 
 package org.kie.dmn.core.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -44,6 +52,7 @@ import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
 import org.kie.dmn.core.api.DMNFactory;
 import org.kie.dmn.core.api.EvaluatorResult;
+import org.kie.dmn.core.ast.BKMMemoizationCache;
 import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
 import org.kie.dmn.core.ast.DMNBaseNode;
 import org.kie.dmn.core.ast.DMNDecisionServiceEvaluator;
@@ -53,6 +62,8 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.BKMMemoizationOption;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -72,17 +83,35 @@ public class DMNRuntimeImpl
     private final DMNRuntimeKB runtimeKB;
 
     private boolean overrideRuntimeTypeCheck = false;
+    private ParallelEvaluationOption overrideParallelEvaluation;
+    private BKMMemoizationOption overrideBKMMemoization;
+    private final int bkmMemoizationMaxSize;
 
     private DMNResultImplFactory dmnResultFactory = new DMNResultImplFactory();
 
     public DMNRuntimeImpl(DMNRuntimeKB runtimeKB) {
         this.runtimeKB = runtimeKB != null ? runtimeKB : new VoidDMNRuntimeKB();
         this.eventManager = new DMNRuntimeEventManagerImpl();
+        this.bkmMemoizationMaxSize = BKMMemoizationCache.maxSizeFromSystemProperties();
         for (DMNRuntimeEventListener listener : this.runtimeKB.getListeners()) {
             this.addListener(listener);
         }
     }
 
+    /**
+     * A runtime notifying its events only to the given recorder, if any, for the decisions evaluated concurrently.
+     */
+    private DMNRuntimeImpl(DMNRuntimeImpl parent, DMNRuntimeEventsRecorder recorder) {
+        this.runtimeKB = parent.runtimeKB;
+        this.eventManager = new DMNRuntimeEventManagerImpl();
+        this.eventManager.addListener(recorder);
+        this.overrideRuntimeTypeCheck = parent.overrideRuntimeTypeCheck;
+        this.overrideParallelEvaluation = parent.overrideParallelEvaluation;
+        this.overrideBKMMemoization = parent.overrideBKMMemoization;
+        this.bkmMemoizationMaxSize = parent.bkmMemoizationMaxSize;
+        this.dmnResultFactory = parent.dmnResultFactory;
+    }
+
     @Override
     public List<DMNModel> getModels() {
         return runtimeKB.getModels();
@@ -111,6 +140,7 @@ public class DMNRuntimeImpl
         DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll( eventManager, model, result );
         // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
         Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+        evaluateDecisionsInParallel(result, decisions, performRuntimeTypeCheck);
         for( DecisionNode decision : decisions ) {
             evaluateDecision(context, result, decision, performRuntimeTypeCheck);
         }
@@ -118,6 +148,46 @@ public class DMNRuntimeImpl
         return result;
     }
 
+    /**
+     * Evaluates all the decisions of the model for each of the given contexts, returning the results in the same order.
+     * This is a convenience loop over {@link #evaluateAll(DMNModel, DMNContext)}: each row is evaluated on its own result
+     * and frames, with its events fired before moving to the next row, and only the selection of the decisions and the
+     * runtime type check option are resolved once for the whole batch. An unexpected error evaluating a decision of a row
+     * is reported in the result of that row only.
+     */
+    public List<DMNResult> evaluateAll(DMNModel model, List<? extends DMNContext> contexts) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        Objects.requireNonNull(contexts, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "contexts"));
+        boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
+        Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+        List<DMNResult> results = new ArrayList<>(contexts.size());
+        for (DMNContext context : contexts) {
+            Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+            DMNResultImpl result = createResult(model, context);
+            DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll(eventManager, model, result);
+            evaluateDecisionsInParallel(result, decisions, performRuntimeTypeCheck);
+            for (DecisionNode decision : decisions) {
+                try {
+                    evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+                } catch (RuntimeException e) {
+                    DMNMessage message = MsgUtil.reportMessage(logger,
+                                                               DMNMessage.Severity.ERROR,
+                                                               ((DecisionNodeImpl) decision).getSource(),
+                                                               result,
+                                                               e,
+                                                               null,
+                                                               Msg.ERROR_EVAL_DECISION_NODE,
+                                                               getIdentifier(decision),
+                                                               e.getMessage());
+                    reportFailure((DMNDecisionResultImpl) result.getDecisionResultById(decision.getId()), message, DMNDecisionResult.DecisionEvaluationStatus.FAILED);
+                }
+            }
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateAll(eventManager, model, result);
+            results.add(result);
+        }
+        return results;
+    }
+
     @Override
     @Deprecated
     public DMNResult evaluateDecisionByName(DMNModel model, String decisionName, DMNContext context) {
@@ -156,6 +226,9 @@ public class DMNRuntimeImpl
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionByName(name));
         if (decision.isPresent()) {
             final boolean walkingIntoScope = walkIntoImportScopeInternalDecisionInvocation(result, model, decision.get());
+            if (!walkingIntoScope) {
+                evaluateDecisionsInParallel(result, Collections.singleton(decision.get()), performRuntimeTypeCheck);
+            }
             evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
             if (walkingIntoScope) {
                 result.getContext().popScope();
@@ -192,6 +265,9 @@ public class DMNRuntimeImpl
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionById(id));
         if (decision.isPresent()) {
             final boolean walkingIntoScope = walkIntoImportScopeInternalDecisionInvocation(result, model, decision.get());
+            if (!walkingIntoScope) {
+                evaluateDecisionsInParallel(result, Collections.singleton(decision.get()), performRuntimeTypeCheck);
+            }
             evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
             if (walkingIntoScope) {
                 result.getContext().popScope();
@@ -723,6 +799,191 @@ public class DMNRuntimeImpl
         }
     }
 
+    /**
+     * Evaluates the given decisions, together with the decisions they depend on, by waves: the decisions of a wave only
+     * depend on the ones of the previous waves, so they are evaluated concurrently, each on its own copy of the result
+     * holding only the inputs and the decisions it depends on.
+     * Their outcome is then merged back, and their events notified, by the calling thread in the order of the model definition.
+     * The functions of the BKMs and Decision Services are bound to the result they have been evaluated for, so they are never
+     * shared: each copy evaluates the ones it requires, without notifying it, and the ones of the calling result are
+     * evaluated, and notified, at the end, so that the listeners see each BKM evaluated once as in the sequential evaluation.
+     * Whatever is not evaluated here, e.g. the decisions of a model with imports, is left to the sequential evaluation.
+     */
+    private void evaluateDecisionsInParallel(DMNResultImpl result, Collection<DecisionNode> decisions, boolean typeCheck) {
+        DMNModelImpl model = (DMNModelImpl) result.getModel();
+        Executor executor = parallelEvaluationExecutor(model);
+        if (executor == null || !model.getImportAliasesForNS().isEmpty()) {
+            return;
+        }
+        Set<String> collectedIds = new HashSet<>();
+        collectDecisionIds(decisions, collectedIds);
+        Set<String> pendingIds = new HashSet<>(collectedIds);
+        // the entries of the context which are not the value of a decision, shared by all the copies of the result
+        Set<String> decisionNames = model.getDecisions().stream().map(DMNNode::getName).collect(Collectors.toSet());
+        Map<String, Object> inputEntries = new LinkedHashMap<>();
+        result.getContext().getAll().forEach((name, value) -> {
+            if (!decisionNames.contains(name)) {
+                inputEntries.put(name, value);
+            }
+        });
+        List<DecisionNode> pending = model.getDecisions().stream().filter(d -> pendingIds.contains(d.getId())).collect(Collectors.toList());
+        while (!pending.isEmpty()) {
+            List<DecisionNode> wave = pending.stream()
+                                             .filter(d -> ((DecisionNodeImpl) d).getDependencies().values().stream().noneMatch(dep -> pendingIds.contains(dep.getId())))
+                                             .collect(Collectors.toList());
+            if (wave.isEmpty()) {
+                break; // a dependency cycle is reported by the sequential evaluation
+            }
+            evaluateWave(result, wave, inputEntries, typeCheck, executor);
+            pending.removeAll(wave);
+            wave.forEach(d -> pendingIds.remove(d.getId()));
+        }
+        for (DecisionNode decision : model.getDecisions()) {
+            if (!pendingIds.contains(decision.getId()) && collectedIds.contains(decision.getId())) {
+                evaluateFunctionDependencies(result, (DecisionNodeImpl) decision, typeCheck);
+            }
+        }
+    }
+
+    private void evaluateFunctionDependencies(DMNResultImpl result, DecisionNodeImpl decision, boolean typeCheck) {
+        for (DMNNode dep : decision.getDependencies().values()) {
+            if (!isNodeValueDefined(result, decision, dep)) {
+                if (dep instanceof BusinessKnowledgeModelNode) {
+                    evaluateBKM(result.getContext(), result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                } else if (dep instanceof DecisionServiceNode) {
+                    evaluateDecisionService(result.getContext(), result, (DecisionServiceNode) dep, typeCheck);
+                }
+            }
+        }
+    }
+
+    private static void collectDecisionIds(Collection<? extends DMNNode> nodes, Set<String> ids) {
+        for (DMNNode node : nodes) {
+            if (node instanceof DecisionNode && ids.add(node.getId())) {
+                collectDecisionIds(((DecisionNodeImpl) node).getDependencies().values(), ids);
+            }
+        }
+    }
+
+    private void evaluateWave(DMNResultImpl result, List<DecisionNode> wave, Map<String, Object> inputEntries, boolean typeCheck, Executor executor) {
+        List<DecisionNode> toEvaluate = wave.stream()
+                                            .filter(d -> !isNodeValueDefined(result, d, d))
+                                            .filter(d -> result.getDecisionResultById(d.getId()).getEvaluationStatus() == DMNDecisionResult.DecisionEvaluationStatus.NOT_EVALUATED)
+                                            .collect(Collectors.toList());
+        // the copies are created by this thread, before any of them starts mutating its own result
+        List<ParallelDecisionEvaluation> evaluations = toEvaluate.stream().map(d -> new ParallelDecisionEvaluation(d, result, inputEntries, typeCheck)).collect(Collectors.toList());
+        if (evaluations.size() == 1) {
+            evaluations.get(0).run();
+            evaluations.get(0).mergeInto(result);
+            return;
+        }
+        List<CompletableFuture<Void>> futures = evaluations.stream().map(e -> CompletableFuture.runAsync(e, executor)).collect(Collectors.toList());
+        for (int i = 0; i < evaluations.size(); i++) {
+            try {
+                futures.get(i).join();
+                evaluations.get(i).mergeInto(result);
+            } catch (CompletionException e) {
+                // the decision is still not evaluated, so it will be by the sequential evaluation
+                logger.warn("Unable to evaluate decision {} concurrently, falling back to sequential evaluation", getIdentifier(evaluations.get(i).decision), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * A decision evaluated on its own copy of the result, with its events recorded to be notified when merged back.
+     * The copy holds the inputs and the decisions the decision depends on, or the whole result when they cannot be told
+     * apart, i.e. when the decision requires a decision service, which can read any decision, or a decision left
+     * not evaluated by a previous wave.
+     */
+    private class ParallelDecisionEvaluation implements Runnable {
+
+        private final DecisionNode decision;
+        private final DMNResultImpl copy;
+        private final DMNRuntimeEventsRecorder recorder;
+        private final boolean typeCheck;
+
+        private ParallelDecisionEvaluation(DecisionNode decision, DMNResultImpl result, Map<String, Object> inputEntries, boolean typeCheck) {
+            this.decision = decision;
+            this.typeCheck = typeCheck;
+            this.recorder = hasListeners() ? new DMNRuntimeEventsRecorder() : null;
+            this.copy = dmnResultFactory.newDMNResultImpl(result.getModel());
+            Set<DMNNode> dependencies = new HashSet<>();
+            if (collectDependencies(decision, result, dependencies)) {
+                Map<String, Object> entries = new LinkedHashMap<>(inputEntries);
+                for (DMNNode dependency : dependencies) {
+                    if (dependency instanceof DecisionNode) {
+                        if (result.getContext().isDefined(dependency.getName())) {
+                            entries.put(dependency.getName(), result.getContext().get(dependency.getName()));
+                        }
+                        copyDecisionResult(result.getDecisionResultById(dependency.getId()));
+                    }
+                }
+                copy.setContext(new DMNContextImpl(entries, result.getContext().getMetadata().asMap()));
+                copyDecisionResult(result.getDecisionResultById(decision.getId()));
+            } else {
+                copy.setContext(result.getContext().clone());
+                result.getDecisionResults().forEach(this::copyDecisionResult);
+            }
+        }
+
+        /**
+         * Collects the dependencies of the given node, walking into the BKMs but not into the decisions, which have been
+         * evaluated by the previous waves; returns false if the dependencies cannot be told apart.
+         */
+        private boolean collectDependencies(DMNNode node, DMNResultImpl result, Set<DMNNode> dependencies) {
+            for (DMNNode dependency : ((DMNBaseNode) node).getDependencies().values()) {
+                if (dependency instanceof DecisionServiceNode) {
+                    return false;
+                }
+                if (!dependencies.add(dependency)) {
+                    continue;
+                }
+                if (dependency instanceof DecisionNode) {
+                    DMNDecisionResult dr = result.getDecisionResultById(dependency.getId());
+                    if (dr == null || dr.getEvaluationStatus() == DMNDecisionResult.DecisionEvaluationStatus.NOT_EVALUATED) {
+                        return false;
+                    }
+                } else if (!collectDependencies(dependency, result, dependencies)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void copyDecisionResult(DMNDecisionResult dr) {
+            copy.addDecisionResult(new DMNDecisionResultImpl(dr.getDecisionId(), dr.getDecisionName(), dr.getEvaluationStatus(), dr.getResult(), new ArrayList<>(dr.getMessages())));
+        }
+
+        @Override
+        public void run() {
+            new DMNRuntimeImpl(DMNRuntimeImpl.this, recorder).evaluateDecision(copy.getContext(), copy, decision, typeCheck);
+        }
+
+        private void mergeInto(DMNResultImpl result) {
+            String variableName = ((DecisionNodeImpl) decision).getDecision().getVariable().getName();
+            if (copy.getContext().isDefined(variableName)) {
+                result.getContext().set(variableName, copy.getContext().get(variableName));
+            }
+            result.addAll(copy.getMessages());
+            DMNDecisionResultImpl evaluated = (DMNDecisionResultImpl) copy.getDecisionResultById(decision.getId());
+            DMNDecisionResultImpl dr = (DMNDecisionResultImpl) result.getDecisionResultById(decision.getId());
+            dr.setResult(evaluated.getResult());
+            dr.setMessages(evaluated.getMessages());
+            dr.setEvaluationStatus(evaluated.getEvaluationStatus());
+            // notified once merged, so that the listeners find the outcome of the decision in the result of the events
+            if (recorder != null) {
+                recorder.replay(eventManager, result);
+            }
+        }
+    }
+
+    private Executor parallelEvaluationExecutor(DMNModelImpl model) {
+        if (overrideParallelEvaluation != null) {
+            return overrideParallelEvaluation.isParallelEvaluation() ? overrideParallelEvaluation.getExecutor() : null;
+        }
+        return model.isParallelEvaluation() ? ForkJoinPool.commonPool() : null;
+    }
+
     private boolean checkDependencyValueIsValid(DMNNode dep, DMNResultImpl result) {
         if (dep instanceof InputDataNode) {
             InputDataNodeImpl inputDataNode = (InputDataNodeImpl) dep;
@@ -756,9 +1017,25 @@ public class DMNRuntimeImpl
         return overrideRuntimeTypeCheck || ((DMNModelImpl) model).isRuntimeTypeCheck();
     }
 
+    public BKMMemoizationOption.Scope bkmMemoization(DMNModel model) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        return overrideBKMMemoization != null ? overrideBKMMemoization.getScope() : ((DMNModelImpl) model).getBKMMemoization();
+    }
+
+    /**
+     * The maximum size of the BKM memoization caches, resolved once when the runtime is built
+     */
+    public int bkmMemoizationMaxSize() {
+        return bkmMemoizationMaxSize;
+    }
+
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.overrideParallelEvaluation = (ParallelEvaluationOption) option;
+        } else if (option instanceof BKMMemoizationOption) {
+            this.overrideBKMMemoization = (BKMMemoizationOption) option;
         }
     }
 
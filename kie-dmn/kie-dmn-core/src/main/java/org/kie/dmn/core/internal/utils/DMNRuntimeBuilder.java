@@ -44,6 +44,8 @@ import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNDecisionLogicCompilerFactory;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.BKMMemoizationOption;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.compiler.profiles.ExtendedDMNProfile;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
@@ -71,6 +73,7 @@ public class DMNRuntimeBuilder {
         public final DMNCompilerConfigurationImpl cc;
         public final List<DMNProfile> dmnProfiles = new ArrayList<>();
         private RelativeImportResolver relativeResolver;
+        private ParallelEvaluationOption parallelEvaluation;
 
         public DMNRuntimeBuilderCtx() {
             this.cc = new DMNCompilerConfigurationImpl();
@@ -79,6 +82,10 @@ public class DMNRuntimeBuilder {
         public void setRelativeResolver(RelativeImportResolver relativeResolver) {
             this.relativeResolver = relativeResolver;
         }
+
+        public void setParallelEvaluation(ParallelEvaluationOption parallelEvaluation) {
+            this.parallelEvaluation = parallelEvaluation;
+        }
     }
 
     @FunctionalInterface
@@ -109,6 +116,18 @@ public class DMNRuntimeBuilder {
         return this;
     }
 
+    public DMNRuntimeBuilder setOption(ParallelEvaluationOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), "" + option.isParallelEvaluation());
+        // the executor cannot be carried by the compiler properties, so the option is set on the built runtime
+        ctx.setParallelEvaluation(option);
+        return this;
+    }
+
+    public DMNRuntimeBuilder setOption(BKMMemoizationOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), option.getScope().name());
+        return this;
+    }
+
     public DMNRuntimeBuilder setRootClassLoader(ClassLoader classLoader) {
         ctx.cc.setRootClassLoader(classLoader);
         return this;
@@ -211,8 +230,11 @@ public class DMNRuntimeBuilder {
                     return Either.ofLeft(new IllegalStateException("Unable to compile DMN model for the resource " + dmnRes.getResAndConfig().getResource()));
                 }
             }
-            return Either.ofRight(new DMNRuntimeImpl(new DMNRuntimeKBStatic(ctx.cc.getRootClassLoader(), dmnModels,
-                                                                            ctx.dmnProfiles)));
+            DMNRuntimeImpl runtime = new DMNRuntimeImpl(new DMNRuntimeKBStatic(ctx.cc.getRootClassLoader(), dmnModels, ctx.dmnProfiles));
+            if (ctx.parallelEvaluation != null) {
+                runtime.setOption(ctx.parallelEvaluation);
+            }
+            return Either.ofRight(runtime);
         }
 
         private DMNMarshaller getMarshaller() {
@@ -38,25 +38,25 @@ public class DMNAlphaNetworkTemplate implements DMNAlphaNetworkEvaluator {
 
     private final HitPolicy hitPolicy = HitPolicy.fromString("HIT_POLICY_NAME");
 
-    protected PropertyEvaluator propertyEvaluator;
-
     public DMNAlphaNetworkTemplate(CompiledNetwork compiledNetwork,
                                    AlphaNetworkEvaluationContext alphaNetworkEvaluationContext) {
         this.compiledNetwork = compiledNetwork;
         this.alphaNetworkEvaluationContext = alphaNetworkEvaluationContext;
-    }
 
-    public PropertyEvaluator getOrCreatePropertyEvaluator(EvaluationContext evaluationContext) {
-        if(propertyEvaluator == null) {
-            propertyEvaluator = new PropertyEvaluator(evaluationContext, "PROPERTY_NAMES");
-        }
-        return propertyEvaluator;
+        // init CompiledNetwork with object needed for results, once: the network is then only read by the invocations
+        compiledNetwork.init(alphaNetworkEvaluationContext);
+
+        // create lambda constraints and results
+        compiledNetwork.initConstraintsResults();
     }
 
     @Override
-    public Optional<InvalidInputEvent> validate(EvaluationContext evaluationContext) {
-        PropertyEvaluator propertyEvaluator = getOrCreatePropertyEvaluator(evaluationContext);
+    public PropertyEvaluator createPropertyEvaluator(EvaluationContext evaluationContext) {
+        return new PropertyEvaluator(evaluationContext, "PROPERTY_NAMES");
+    }
 
+    @Override
+    public Optional<InvalidInputEvent> validate(EvaluationContext evaluationContext, PropertyEvaluator propertyEvaluator) {
         // Validation Column
         {
             Optional<InvalidInputEvent> resultValidation0 =
@@ -72,20 +72,15 @@ public class DMNAlphaNetworkTemplate implements DMNAlphaNetworkEvaluator {
 
 
     @Override
-    public Object evaluate(EvaluationContext evaluationContext, DecisionTable decisionTable) {
-
-        // Clean previous results
-        Results results = alphaNetworkEvaluationContext.getResultCollector();
-        results.clearResults();
-
-        // init CompiledNetwork with object needed for results,
-        compiledNetwork.init(alphaNetworkEvaluationContext);
-
-        // create lambda constraints and results
-        compiledNetwork.initConstraintsResults();
-
-        // Fire rete network
-        compiledNetwork.propagateAssertObject(new DefaultFactHandle(getOrCreatePropertyEvaluator(evaluationContext)), null, null);
+    public Object evaluate(EvaluationContext evaluationContext, PropertyEvaluator propertyEvaluator, Results results, DecisionTable decisionTable) {
+
+        // Fire rete network, collecting the matches into the results of this invocation
+        alphaNetworkEvaluationContext.setResultCollector(results);
+        try {
+            compiledNetwork.propagateAssertObject(new DefaultFactHandle(propertyEvaluator), null, null);
+        } finally {
+            alphaNetworkEvaluationContext.clearResultCollector();
+        }
 
         // Find result with Hit Policy applied
         Object result = results.applyHitPolicy(evaluationContext, hitPolicy, decisionTable);
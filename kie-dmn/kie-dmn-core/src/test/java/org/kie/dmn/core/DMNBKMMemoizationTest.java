@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterInvokeBKMEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.BKMMemoizationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNBKMMemoizationTest extends BaseInterpretedVsCompiledTest {
+
+    public DMNBKMMemoizationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Test
+    public void testNoMemoizationByDefault() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("say_for_hello.dmn", getClass());
+        final List<Boolean> invocations = listenBKMInvocations(runtime);
+
+        assertSayForHello(runtime.evaluateAll(getSayForHelloModel(runtime), DMNFactory.newContext()));
+        assertThat(invocations).containsExactly(false, false, false);
+    }
+
+    @Test
+    public void testMemoizationScopedToTheEvaluation() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("say_for_hello.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new BKMMemoizationOption(BKMMemoizationOption.Scope.EVALUATION));
+        final List<Boolean> invocations = listenBKMInvocations(runtime);
+        final DMNModel dmnModel = getSayForHelloModel(runtime);
+
+        assertSayForHello(runtime.evaluateAll(dmnModel, DMNFactory.newContext()));
+        assertThat(invocations).containsExactly(false, true, true);
+
+        invocations.clear();
+        assertSayForHello(runtime.evaluateAll(dmnModel, DMNFactory.newContext()));
+        assertThat(invocations).containsExactly(false, true, true);
+    }
+
+    @Test
+    public void testMemoizationAcrossEvaluations() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("say_for_hello.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new BKMMemoizationOption("runtime"));
+        final List<Boolean> invocations = listenBKMInvocations(runtime);
+        final DMNModel dmnModel = getSayForHelloModel(runtime);
+
+        assertSayForHello(runtime.evaluateAll(dmnModel, DMNFactory.newContext()));
+        assertThat(invocations).containsExactly(false, true, true);
+
+        invocations.clear();
+        assertSayForHello(runtime.evaluateAll(dmnModel, DMNFactory.newContext()));
+        assertThat(invocations).containsExactly(true, true, true);
+    }
+
+    @Test
+    public void testMemoizedResultsByArguments() {
+        final DMNRuntime plain = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNRuntime memoized = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) memoized).setOption(new BKMMemoizationOption(BKMMemoizationOption.Scope.RUNTIME));
+        final List<Boolean> invocations = listenBKMInvocations(memoized);
+
+        for (final int creditScore : new int[]{649, 500, 649}) {
+            invocations.clear();
+            final DMNResult expected = plain.evaluateAll(getLendingModel(plain), lendingContext(creditScore));
+            final DMNResult dmnResult = memoized.evaluateAll(getLendingModel(memoized), lendingContext(creditScore));
+            assertThat(dmnResult.hasErrors()).isEqualTo(expected.hasErrors());
+            for (final DMNDecisionResult dr : expected.getDecisionResults()) {
+                assertThat(dmnResult.getDecisionResultById(dr.getDecisionId()).getResult()).as(dr.getDecisionName()).isEqualTo(dr.getResult());
+            }
+        }
+        // the last evaluation has the same arguments as the first one
+        assertThat(invocations).isNotEmpty().containsOnly(true);
+    }
+
+    @Test
+    public void testBKMReadingTheEvaluationIsNotMemoizedAcrossEvaluations() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("bkmReadingInputData.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new BKMMemoizationOption(BKMMemoizationOption.Scope.RUNTIME));
+        final List<Boolean> invocations = listenBKMInvocations(runtime);
+        final DMNModel dmnModel = runtime.getModel("http://www.drools.org/kie-dmn/bkmReadingInputData", "bkm reading input data");
+        assertThat(dmnModel).isNotNull();
+
+        final DMNResult first = runtime.evaluateAll(dmnModel, priceContext("0.1"));
+        assertThat(first.hasErrors()).as(DMNRuntimeUtil.formatMessages(first.getMessages())).isFalse();
+        assertThat((BigDecimal) first.getContext().get("final price")).isEqualByComparingTo("90");
+
+        // same argument, but the discount read by the BKM from its closure has changed
+        final DMNResult second = runtime.evaluateAll(dmnModel, priceContext("0.2"));
+        assertThat(second.hasErrors()).as(DMNRuntimeUtil.formatMessages(second.getMessages())).isFalse();
+        assertThat((BigDecimal) second.getContext().get("final price")).isEqualByComparingTo("80");
+        assertThat(invocations).containsExactly(false, false);
+    }
+
+    private static DMNContext priceContext(final String discount) {
+        final DMNContext context = DMNFactory.newContext();
+        context.set("price", new BigDecimal("100"));
+        context.set("discount", new BigDecimal(discount));
+        return context;
+    }
+
+    private static List<Boolean> listenBKMInvocations(final DMNRuntime runtime) {
+        final List<Boolean> invocations = new ArrayList<>();
+        runtime.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void afterInvokeBKM(final AfterInvokeBKMEvent event) {
+                invocations.add(event.isMemoizedResult());
+            }
+        });
+        return invocations;
+    }
+
+    private static void assertSayForHello(final DMNResult dmnResult) {
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+        assertThat(dmnResult.getContext().get("just say")).asList().containsExactly("Hello", "Hello", "Hello");
+    }
+
+    private static DMNModel getSayForHelloModel(final DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/dmn/definitions/_b6f2a9ca-a246-4f27-896a-e8ef04ea439c", "say for hello");
+        assertThat(dmnModel).isNotNull();
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+        return dmnModel;
+    }
+
+    private static DMNModel getLendingModel(final DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel).isNotNull();
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+        return dmnModel;
+    }
+
+    private static DMNContext lendingContext(final int creditScore) {
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        final Map<String, Object> applicant = new HashMap<>();
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", Boolean.TRUE);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", creditScore);
+        bureau.put("Bankrupt", Boolean.FALSE);
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+        return context;
+    }
+}
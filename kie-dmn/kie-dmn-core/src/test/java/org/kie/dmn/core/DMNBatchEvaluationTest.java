@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNBatchEvaluationTest extends BaseInterpretedVsAlphaNetworkTest {
+
+    public DMNBatchEvaluationTest(final boolean useAlphaNetwork) {
+        super(useAlphaNetwork);
+    }
+
+    @Test
+    public void testBatchResultsInOrder() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getModel(runtime);
+
+        final List<DMNContext> contexts = new ArrayList<>();
+        for (int creditScore = 500; creditScore < 700; creditScore += 10) {
+            contexts.add(lendingContext(creditScore));
+        }
+        final List<DMNResult> results = ((DMNRuntimeImpl) runtime).evaluateAll(dmnModel, contexts);
+
+        assertThat(results).hasSize(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            final DMNResult expected = runtime.evaluateAll(dmnModel, contexts.get(i));
+            assertSameResult(results.get(i), expected);
+        }
+    }
+
+    @Test
+    public void testErrorsAreIsolatedToTheirRow() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getModel(runtime);
+
+        final DMNContext invalid = lendingContext(649);
+        invalid.set("ApplicantData", null);
+        final List<DMNResult> results = ((DMNRuntimeImpl) runtime).evaluateAll(dmnModel, Arrays.asList(lendingContext(649), invalid, lendingContext(649)));
+
+        assertThat(results.get(1).hasErrors()).isTrue();
+        assertSameResult(results.get(1), runtime.evaluateAll(dmnModel, invalid));
+        assertThat(results.get(0).hasErrors()).isFalse();
+        assertSameResult(results.get(0), runtime.evaluateAll(dmnModel, lendingContext(649)));
+        assertSameResult(results.get(2), runtime.evaluateAll(dmnModel, lendingContext(649)));
+    }
+
+    @Test
+    public void testEvaluateAllEventsForEachRowInTurn() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getModel(runtime);
+        final List<String> events = new ArrayList<>();
+        runtime.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateAll(final BeforeEvaluateAllEvent event) {
+                events.add("before " + event.getResult().getContext().get("SupportingDocuments"));
+            }
+
+            @Override
+            public void afterEvaluateAll(final AfterEvaluateAllEvent event) {
+                events.add("after " + event.getResult().getContext().get("SupportingDocuments"));
+            }
+        });
+
+        final DMNContext first = lendingContext(649);
+        first.set("SupportingDocuments", "first");
+        final DMNContext second = lendingContext(649);
+        second.set("SupportingDocuments", "second");
+        ((DMNRuntimeImpl) runtime).evaluateAll(dmnModel, Arrays.asList(first, second));
+
+        assertThat(events).containsExactly("before first", "after first", "before second", "after second");
+    }
+
+    private static void assertSameResult(final DMNResult actual, final DMNResult expected) {
+        assertThat(actual.hasErrors()).isEqualTo(expected.hasErrors());
+        assertThat(actual.getContext().getAll()).isEqualTo(expected.getContext().getAll());
+        assertThat(actual.getDecisionResults()).hasSameSizeAs(expected.getDecisionResults());
+        for (final DMNDecisionResult dr : expected.getDecisionResults()) {
+            final DMNDecisionResult other = actual.getDecisionResultById(dr.getDecisionId());
+            assertThat(other.getEvaluationStatus()).as(dr.getDecisionName()).isEqualTo(dr.getEvaluationStatus());
+            assertThat(other.getResult()).as(dr.getDecisionName()).isEqualTo(dr.getResult());
+        }
+    }
+
+    private static DMNModel getModel(final DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel).isNotNull();
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+        return dmnModel;
+    }
+
+    private static DMNContext lendingContext(final int creditScore) {
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        final Map<String, Object> applicant = new HashMap<>();
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", Boolean.TRUE);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", creditScore);
+        bureau.put("Bankrupt", Boolean.FALSE);
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+        return context;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    private ExecutorService executor;
+
+    public DMNParallelEvaluationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Before
+    public void startExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEvaluateAllInParallel() {
+        final DMNRuntime sequential = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNRuntime parallel = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) parallel).setOption(new ParallelEvaluationOption(executor));
+
+        final DMNResult expected = sequential.evaluateAll(getModel(sequential), lendingContext(649));
+        final List<String> events = new ArrayList<>();
+        final DMNRuntimeEventListener listener = decisionEventsListener(events);
+        parallel.addListener(listener);
+        final DMNResult dmnResult = parallel.evaluateAll(getModel(parallel), lendingContext(649));
+        parallel.removeListener(listener);
+
+        assertThat(dmnResult.hasErrors()).isEqualTo(expected.hasErrors());
+        assertThat(dmnResult.getContext().get("Routing")).isEqualTo("ACCEPT");
+        assertThat(dmnResult.getContext().get("ApplicationRiskScore")).isEqualTo(BigDecimal.valueOf(130));
+        assertSameDecisionResults(dmnResult, expected);
+        assertThat(dmnResult.getContext().getAll().keySet()).containsExactlyInAnyOrderElementsOf(expected.getContext().getAll().keySet());
+
+        // each decision is evaluated once, after the decisions it depends on
+        assertThat(events).hasSize(2 * expected.getDecisionResults().size());
+        assertThat(events.indexOf("before Routing")).isGreaterThan(events.indexOf("after Post-bureauRiskCategory"));
+        assertThat(events.indexOf("before Post-bureauRiskCategory")).isGreaterThan(events.indexOf("after ApplicationRiskScore"));
+
+        // the events are notified in the same order by each evaluation
+        for (int i = 0; i < 10; i++) {
+            final List<String> otherEvents = new ArrayList<>();
+            final DMNRuntimeEventListener otherListener = decisionEventsListener(otherEvents);
+            parallel.addListener(otherListener);
+            parallel.evaluateAll(getModel(parallel), lendingContext(649));
+            parallel.removeListener(otherListener);
+            assertThat(otherEvents).containsExactlyElementsOf(events);
+        }
+    }
+
+    @Test
+    public void testBKMEvaluationsAreNotifiedOnce() {
+        final DMNRuntime sequential = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNRuntime parallel = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) parallel).setOption(new ParallelEvaluationOption(executor));
+        final List<String> expectedEvents = new ArrayList<>();
+        sequential.addListener(bkmEventsListener(expectedEvents));
+        final List<String> events = new ArrayList<>();
+        parallel.addListener(bkmEventsListener(events));
+
+        sequential.evaluateAll(getModel(sequential), lendingContext(649));
+        parallel.evaluateAll(getModel(parallel), lendingContext(649));
+
+        // each BKM is evaluated, and notified, as many times as by the sequential evaluation
+        assertThat(expectedEvents).isNotEmpty();
+        assertThat(events).containsExactlyInAnyOrderElementsOf(expectedEvents);
+    }
+
+    @Test
+    public void testEvaluateByNameInParallel() {
+        final DMNRuntime sequential = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNRuntime parallel = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) parallel).setOption(new ParallelEvaluationOption(executor));
+
+        final DMNResult expected = sequential.evaluateByName(getModel(sequential), lendingContext(400), "Routing");
+        final DMNResult dmnResult = parallel.evaluateByName(getModel(parallel), lendingContext(400), "Routing");
+
+        assertThat(dmnResult.getContext().get("Routing")).isEqualTo(expected.getContext().get("Routing"));
+        assertSameDecisionResults(dmnResult, expected);
+        // the decisions not required by Routing are still not evaluated
+        assertThat(dmnResult.getDecisionResultByName("Strategy").getEvaluationStatus()).isEqualTo(expected.getDecisionResultByName("Strategy").getEvaluationStatus());
+    }
+
+    @Test
+    public void testFailedDependencyIsReported() {
+        final DMNRuntime sequential = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNRuntime parallel = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) parallel).setOption(new ParallelEvaluationOption(executor));
+
+        final DMNContext context = lendingContext(649);
+        context.set("ApplicantData", null);
+        final DMNResult expected = sequential.evaluateAll(getModel(sequential), context);
+        final DMNResult dmnResult = parallel.evaluateAll(getModel(parallel), context);
+
+        assertThat(dmnResult.hasErrors()).isTrue();
+        assertSameDecisionResults(dmnResult, expected);
+    }
+
+    @Test
+    public void testEventsReferToTheEvaluatedResult() {
+        final DMNRuntime parallel = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        ((DMNRuntimeImpl) parallel).setOption(new ParallelEvaluationOption(executor));
+        final List<DMNResult> eventResults = new ArrayList<>();
+        final List<String> undefinedOutcomes = new ArrayList<>();
+        parallel.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecision(final BeforeEvaluateDecisionEvent event) {
+                eventResults.add(event.getResult());
+            }
+
+            @Override
+            public void afterEvaluateDecision(final AfterEvaluateDecisionEvent event) {
+                eventResults.add(event.getResult());
+                if (!event.getResult().getContext().isDefined(event.getDecision().getName())) {
+                    undefinedOutcomes.add(event.getDecision().getName());
+                }
+            }
+        });
+
+        final DMNResult dmnResult = parallel.evaluateAll(getModel(parallel), lendingContext(649));
+
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+        assertThat(eventResults).isNotEmpty().allMatch(r -> r == dmnResult);
+        assertThat(undefinedOutcomes).isEmpty();
+    }
+
+    @Test
+    public void testBuilderKeepsTheExecutor() {
+        final AtomicInteger tasks = new AtomicInteger();
+        final Executor countingExecutor = task -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        };
+        final DMNRuntime parallel = DMNRuntimeBuilder.fromDefaults()
+                                                     .setOption(new ParallelEvaluationOption(countingExecutor))
+                                                     .buildConfiguration()
+                                                     .fromClasspathResource("0004-lending.dmn", getClass())
+                                                     .getOrElseThrow(RuntimeException::new);
+
+        final DMNResult dmnResult = parallel.evaluateAll(getModel(parallel), lendingContext(649));
+
+        assertThat(dmnResult.getContext().get("Routing")).isEqualTo("ACCEPT");
+        assertThat(tasks.get()).isPositive();
+    }
+
+    private static void assertSameDecisionResults(final DMNResult actual, final DMNResult expected) {
+        assertThat(actual.getDecisionResults()).hasSameSizeAs(expected.getDecisionResults());
+        for (final DMNDecisionResult dr : expected.getDecisionResults()) {
+            final DMNDecisionResult other = actual.getDecisionResultById(dr.getDecisionId());
+            assertThat(other.getEvaluationStatus()).as(dr.getDecisionName()).isEqualTo(dr.getEvaluationStatus());
+            assertThat(other.getResult()).as(dr.getDecisionName()).isEqualTo(dr.getResult());
+        }
+    }
+
+    private static DMNModel getModel(final DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel).isNotNull();
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+        return dmnModel;
+    }
+
+    private static DMNContext lendingContext(final int creditScore) {
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        final Map<String, Object> applicant = new HashMap<>();
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", Boolean.TRUE);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", creditScore);
+        bureau.put("Bankrupt", Boolean.FALSE);
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+        return context;
+    }
+
+    private static DMNRuntimeEventListener decisionEventsListener(final List<String> events) {
+        return new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecision(final BeforeEvaluateDecisionEvent event) {
+                events.add("before " + event.getDecision().getName());
+            }
+
+            @Override
+            public void afterEvaluateDecision(final AfterEvaluateDecisionEvent event) {
+                events.add("after " + event.getDecision().getName());
+            }
+        };
+    }
+
+    private static DMNRuntimeEventListener bkmEventsListener(final List<String> events) {
+        return new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateBKM(final BeforeEvaluateBKMEvent event) {
+                events.add("before " + event.getBusinessKnowledgeModel().getName());
+            }
+
+            @Override
+            public void afterEvaluateBKM(final AfterEvaluateBKMEvent event) {
+                events.add("after " + event.getBusinessKnowledgeModel().getName());
+            }
+        };
+    }
+}
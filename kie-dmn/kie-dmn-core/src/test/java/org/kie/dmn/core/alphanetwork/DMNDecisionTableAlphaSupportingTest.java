@@ -17,6 +17,13 @@
 package org.kie.dmn.core.alphanetwork;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.kie.dmn.api.core.DMNContext;
@@ -24,6 +31,8 @@ import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.DMNRuntime;
 import org.kie.dmn.core.BaseInterpretedVsAlphaNetworkTest;
+import org.kie.dmn.core.DMNDecisionTableHitPolicyTest;
+import org.kie.dmn.core.DMNRuntimeTest;
 import org.kie.dmn.core.api.DMNFactory;
 import org.kie.dmn.core.util.DMNRuntimeUtil;
 import org.slf4j.Logger;
@@ -66,4 +75,145 @@ public class DMNDecisionTableAlphaSupportingTest extends BaseInterpretedVsAlphaN
         final DMNContext result = dmnResult.getContext();
         assertThat(result.get("Approval Status")).isEqualTo("Approved");
     }
+
+    @Test
+    public void testRuleOrderAndOutputOrderHitPolicies() {
+        final DMNRuntime ruleOrderRuntime = DMNRuntimeUtil.createRuntime("0004-simpletable-R.dmn", DMNDecisionTableHitPolicyTest.class);
+        final DMNModel ruleOrderModel = ruleOrderRuntime.getModel("https://github.com/kiegroup/kie-dmn", "0004-simpletable-R");
+        final DMNResult ruleOrderResult = ruleOrderRuntime.evaluateAll(ruleOrderModel, simpleTableContext(BigDecimal.valueOf(70), "Medium", true));
+        assertThat((List<?>) ruleOrderResult.getContext().get("Approval Status")).containsExactly("Approved", "Needs review", "Declined");
+
+        final DMNRuntime outputOrderRuntime = DMNRuntimeUtil.createRuntime("0004-simpletable-O-multiple-outputs.dmn", DMNDecisionTableHitPolicyTest.class);
+        final DMNModel outputOrderModel = outputOrderRuntime.getModel("https://github.com/kiegroup/kie-dmn", "0004-simpletable-O-multiple-outputs");
+        final DMNResult outputOrderResult = outputOrderRuntime.evaluateAll(outputOrderModel, simpleTableContext(BigDecimal.valueOf(18), "Medium", true));
+        final List<Map<String, Object>> decisionResult = (List<Map<String, Object>>) outputOrderResult.getContext().get("Decision Result");
+        assertThat(decisionResult).hasSize(4);
+        assertThat(decisionResult.get(0)).containsEntry("Approval Status", "Declined").containsEntry("Decision Review", "Needs verification");
+        assertThat(decisionResult.get(3)).containsEntry("Approval Status", "Approved").containsEntry("Decision Review", "Decision final");
+    }
+
+    @Test
+    public void testDefaultOutputEntryFallsBackForItsTableOnly() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("decisiontable-default-value.dmn", DMNRuntimeTest.class);
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/kie-dmn", "decisiontable-default-value");
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+
+        final DMNResult dmnResult = runtime.evaluateAll(dmnModel, simpleTableContext(new BigDecimal(16), "Medium", true));
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+        assertThat(dmnResult.getContext().get("Approval Status")).isEqualTo("Declined");
+    }
+
+    @Test
+    public void testInputExpressionsOnStructuredTypes() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("DT_using_variables.dmn", DMNRuntimeTest.class);
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_ed1ec15b-40aa-424d-b1d0-4936df80b135", "DT Using variables");
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+
+        final Map<String, Object> complex = new HashMap<>();
+        complex.put("aBoolean", true);
+        complex.put("aNumber", 10);
+        complex.put("aString", "bar");
+
+        // evaluated twice, as the compiled network is reused between evaluations
+        final DMNContext same = DMNFactory.newContext();
+        same.set("Complex", complex);
+        same.set("Another boolean", true);
+        same.set("Another String", "bar");
+        same.set("Another number", 10);
+        final DMNContext sameResult = runtime.evaluateAll(dmnModel, same).getContext();
+        assertThat(sameResult.get("Compare Boolean")).isEqualTo("Same boolean");
+        assertThat(sameResult.get("Compare Number")).isEqualTo("Equals");
+        assertThat(sameResult.get("Compare String")).isEqualTo("Same String");
+
+        final DMNContext different = DMNFactory.newContext();
+        different.set("Complex", complex);
+        different.set("Another boolean", false);
+        different.set("Another String", "foo");
+        different.set("Another number", 20);
+        final DMNContext differentResult = runtime.evaluateAll(dmnModel, different).getContext();
+        assertThat(differentResult.get("Compare Boolean")).isEqualTo("Not same boolean");
+        assertThat(differentResult.get("Compare Number")).isEqualTo("Bigger");
+        assertThat(differentResult.get("Compare String")).isEqualTo("Different String");
+    }
+
+    @Test
+    public void testTablesInBusinessKnowledgeModels() {
+        // the lending example has PRIORITY, UNIQUE and COLLECT SUM decision tables, all of them invoked as BKMs
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", DMNRuntimeTest.class);
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        final Map<String, Object> applicant = new HashMap<>();
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", Boolean.TRUE);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", 649);
+        bureau.put("Bankrupt", Boolean.FALSE);
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+        final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+
+        final DMNContext result = dmnResult.getContext();
+        assertThat(result.get("ApplicationRiskScore")).isEqualTo(BigDecimal.valueOf(130));
+        assertThat(result.get("Pre-bureauRiskCategory")).isEqualTo("LOW");
+        assertThat(result.get("BureauCallType")).isEqualTo("MINI");
+        assertThat(result.get("Post-bureauRiskCategory")).isEqualTo("LOW");
+        assertThat(result.get("Eligibility")).isEqualTo("ELIGIBLE");
+        assertThat(result.get("Strategy")).isEqualTo("BUREAU");
+        assertThat(result.get("Routing")).isEqualTo("ACCEPT");
+    }
+
+    @Test(timeout = 60_000)
+    public void testConcurrentInvocationsOfTheSameTable() throws Exception {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("an-simpletable-multipletests.dmn", this.getClass());
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/kie-dmn", "an-simpletable-multipletests");
+        assertThat(dmnModel).isNotNull();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final boolean approved = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    final DMNContext context = DMNFactory.newContext();
+                    context.set("Age", approved ? 21 : 17);
+                    context.set("RiskCategory", "Low");
+                    context.set("isAffordable", true);
+                    final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+                    // each invocation reads its own inputs and collects its own matches: no rule matches a minor
+                    assertThat(dmnResult.getContext().get("Approval Status")).isEqualTo(approved ? "Approved" : null);
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static DMNContext simpleTableContext(final BigDecimal age, final String riskCategory, final boolean isAffordable) {
+        final DMNContext context = DMNFactory.newContext();
+        context.set("Age", age);
+        context.set("RiskCategory", riskCategory);
+        context.set("isAffordable", isAffordable);
+        return context;
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.assembler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
+import org.drools.util.IoUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.KieServices;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
+import org.kie.dmn.core.DMNRuntimeTest;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.impl.DMNPackageImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+import org.kie.dmn.model.api.Definitions;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceWithConfigurationImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNModelSnapshotTest {
+
+    private static final String LENDING_NAMESPACE = "http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final DMNMarshaller marshaller = DMNMarshallerFactory.newDefaultMarshaller();
+
+    @Test
+    public void testSnapshotRoundTrip() throws Exception {
+        final Resource resource = lendingResource();
+        final Definitions definitions = marshaller.unmarshal(resource.getReader());
+
+        final DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        assertThat(snapshot.add(resource, definitions)).isTrue();
+        final DMNModelSnapshot read = DMNModelSnapshot.readFrom(new ByteArrayInputStream(toBytes(snapshot)));
+        assertThat(read.size()).isEqualTo(1);
+
+        final Definitions fromSnapshot = read.lookup(resource);
+        assertThat(fromSnapshot).isNotNull().isNotSameAs(definitions);
+        assertThat(fromSnapshot.getName()).isEqualTo(definitions.getName());
+        assertThat(fromSnapshot.getDrgElement()).hasSameSizeAs(definitions.getDrgElement());
+        assertThat(fromSnapshot.getDrgElement().get(0).getLocation().getLineNumber()).isEqualTo(definitions.getDrgElement().get(0).getLocation().getLineNumber());
+        assertThat(fromSnapshot.getDrgElement().get(0).getParent()).isSameAs(fromSnapshot);
+
+        final DMNModel expected = DMNFactory.newCompiler().compile(definitions, resource, Collections.emptyList());
+        final DMNModel dmnModel = DMNFactory.newCompiler().compile(fromSnapshot, resource, Collections.emptyList());
+        assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+        assertThat(dmnModel.getDecisions()).hasSameSizeAs(expected.getDecisions());
+        assertThat(dmnModel.getBusinessKnowledgeModels()).hasSameSizeAs(expected.getBusinessKnowledgeModels());
+        assertThat(dmnModel.getItemDefinitions()).hasSameSizeAs(expected.getItemDefinitions());
+    }
+
+    @Test
+    public void testStaleSnapshotIsIgnored() throws Exception {
+        final Resource resource = lendingResource();
+        final DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        snapshot.add(resource, marshaller.unmarshal(resource.getReader()));
+
+        final String xml = new String(IoUtils.readBytesFromInputStream(resource.getInputStream()), StandardCharsets.UTF_8);
+        final Resource changed = KieServices.get().getResources().newByteArrayResource(xml.replace("STANDARD LOAN", "SPECIAL LOAN").getBytes(StandardCharsets.UTF_8));
+        changed.setSourcePath(resource.getSourcePath());
+
+        assertThat(snapshot.lookup(changed)).isNull();
+        assertThat(snapshot.lookup(resource)).isNotNull();
+    }
+
+    @Test
+    public void testAssemblerCollectsSnapshot() throws Exception {
+        final DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        final DMNAssemblerService assemblerService = new DMNAssemblerService();
+        assemblerService.setSnapshotCollector(snapshot);
+
+        final KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        assemble(assemblerService, kbuilder, lendingResource());
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(getModel(kbuilder, "Lending1")).isNotNull();
+    }
+
+    @Test
+    public void testAssemblerUsesSnapshot() throws Exception {
+        final Resource resource = lendingResource();
+        // the definitions in the snapshot are recognizable by their name
+        final Definitions definitions = marshaller.unmarshal(resource.getReader());
+        definitions.setName("Lending1FromSnapshot");
+        final DMNModelSnapshot snapshot = new DMNModelSnapshot();
+        snapshot.add(resource, definitions);
+
+        final File classes = temporaryFolder.newFolder("classes");
+        final Path snapshotFile = classes.toPath().resolve(DMNModelSnapshot.SNAPSHOT_RESOURCE_NAME);
+        Files.createDirectories(snapshotFile.getParent());
+        try (OutputStream out = Files.newOutputStream(snapshotFile)) {
+            snapshot.writeTo(out);
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())) {
+            final KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration(classLoader));
+            assemble(new DMNAssemblerService(), kbuilder, resource);
+
+            final DMNModel dmnModel = getModel(kbuilder, "Lending1FromSnapshot");
+            assertThat(dmnModel).isNotNull();
+            assertThat(dmnModel.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnModel.getMessages())).isFalse();
+            assertThat(getModel(kbuilder, "Lending1")).isNull();
+        }
+    }
+
+    private static Resource lendingResource() {
+        return KieServices.get().getResources().newClassPathResource("0004-lending.dmn", DMNRuntimeTest.class);
+    }
+
+    private static void assemble(final DMNAssemblerService assemblerService, final KnowledgeBuilder kbuilder, final Resource resource) throws Exception {
+        assemblerService.addResourcesAfterRules(kbuilder,
+                                                Collections.singletonList(new ResourceWithConfigurationImpl(resource, null, a -> {}, b -> {})),
+                                                ResourceType.DMN);
+    }
+
+    private static DMNModel getModel(final KnowledgeBuilder kbuilder, final String name) {
+        final DMNPackageImpl dmnPackage = (DMNPackageImpl) ((KnowledgeBuilderImpl) kbuilder).getPackageRegistry(LENDING_NAMESPACE)
+                                                                                             .getPackage()
+                                                                                             .getResourceTypePackages()
+                                                                                             .get(ResourceType.DMN);
+        return dmnPackage.getModel(name);
+    }
+
+    private static byte[] toBytes(final DMNModelSnapshot snapshot) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        snapshot.writeTo(bytes);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.core.ast;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BKMMemoizationCacheTest {
+
+    @Test
+    public void testNumericArgumentsAreCoerced() {
+        BKMMemoizationCache cache = new BKMMemoizationCache(10);
+        cache.put(BKMMemoizationCache.keyOf(new Object[]{1, "a"}), "result");
+
+        assertThat(cache.get(BKMMemoizationCache.keyOf(new Object[]{BigDecimal.ONE, "a"}))).isEqualTo("result");
+        assertThat(cache.get(BKMMemoizationCache.keyOf(new Object[]{2, "a"}))).isSameAs(BKMMemoizationCache.MISS);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testNullResultIsMemoized() {
+        BKMMemoizationCache cache = new BKMMemoizationCache(10);
+        List<Object> key = BKMMemoizationCache.keyOf(new Object[]{1});
+        cache.put(key, null);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMemoizedResultsAreNotSharedWithTheCallers() {
+        BKMMemoizationCache cache = new BKMMemoizationCache(10);
+        List<Object> key = BKMMemoizationCache.keyOf(new Object[]{1});
+        Map<String, Object> context = new HashMap<>();
+        context.put("values", new ArrayList<>(Arrays.asList("x", "y")));
+        cache.put(key, context);
+
+        // the caller of the evaluated invocation modifies its result
+        context.put("other", "z");
+        ((List<Object>) context.get("values")).add("w");
+
+        Map<String, Object> memoized = (Map<String, Object>) cache.get(key);
+        assertThat(memoized).containsOnlyKeys("values");
+        assertThat(memoized.get("values")).asList().containsExactly("x", "y");
+
+        // the caller of a memoized invocation modifies its result
+        ((List<Object>) memoized.get("values")).clear();
+        assertThat(((Map<String, Object>) cache.get(key)).get("values")).asList().containsExactly("x", "y");
+    }
+
+    @Test
+    public void testDisabledCache() {
+        BKMMemoizationCache cache = new BKMMemoizationCache(0);
+        List<Object> key = BKMMemoizationCache.keyOf(new Object[]{1});
+        cache.put(key, "result");
+
+        assertThat(cache.get(key)).isSameAs(BKMMemoizationCache.MISS);
+        assertThat(cache.size()).isZero();
+    }
+}
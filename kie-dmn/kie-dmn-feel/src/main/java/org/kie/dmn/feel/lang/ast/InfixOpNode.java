@@ -38,6 +38,7 @@ import org.kie.dmn.feel.lang.Type;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.lang.types.impl.ComparablePeriod;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.ExactLongArithmetic;
 
 public class InfixOpNode
         extends BaseNode {
@@ -228,6 +229,10 @@ public class InfixOpNode
     public static Object add(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        }
+        BigDecimal exact = ExactLongArithmetic.add( left, right );
+        if ( exact != null ) {
+            return exact;
         } else if ( left instanceof String && right instanceof String ) {
             return ((String) left) + ((String) right);
         } else if (left instanceof ChronoPeriod && right instanceof ChronoPeriod) {
@@ -282,6 +287,10 @@ public class InfixOpNode
     public static Object sub(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        }
+        BigDecimal exact = ExactLongArithmetic.sub( left, right );
+        if ( exact != null ) {
+            return exact;
         } else if ( left instanceof Temporal && right instanceof Temporal ) {
             if( left instanceof ZonedDateTime || left instanceof OffsetDateTime ) {
                 if( right instanceof LocalDateTime ) {
@@ -327,6 +336,10 @@ public class InfixOpNode
     public static Object mult(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        }
+        BigDecimal exact = ExactLongArithmetic.mult( left, right );
+        if ( exact != null ) {
+            return exact;
         } else if ( left instanceof Duration && right instanceof Number ) {
             return ((Duration)left).multipliedBy( ((Number) right).longValue() );
         } else if ( left instanceof Number && right instanceof Duration ) {
@@ -347,6 +360,10 @@ public class InfixOpNode
     public static Object div(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        }
+        BigDecimal exact = ExactLongArithmetic.div( left, right );
+        if ( exact != null ) {
+            return exact;
         } else if ( left instanceof Duration && right instanceof Number ) {
             return ((Duration)left).dividedBy( ((Number) right).longValue() );
         } else if ( left instanceof Number && right instanceof Duration ) {
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.kie.dmn.feel.util.BoundedConcurrentCache;
+
+/**
+ * Bounded cache of the units compiled by a FEEL instance, keyed by the expression text
+ * and by the signature of the input variables the expression has been compiled against.
+ * Lookups take no lock: when the maximum size is exceeded the least recently used entries are evicted
+ * by the thread that added the entry, approximately (see {@link BoundedConcurrentCache}), and entries
+ * older than the time to live (if any) are evicted when looked up.
+ *
+ * The size and the time to live can be configured with the
+ * {@value #MAX_SIZE_PROPERTY} and {@value #TTL_PROPERTY} system properties;
+ * a maximum size of 0 disables the cache.
+ */
+public class FEELCompilationCache<T> {
+
+    public static final String MAX_SIZE_PROPERTY = "org.kie.dmn.feel.compilationCache.maxSize";
+    public static final String TTL_PROPERTY = "org.kie.dmn.feel.compilationCache.ttlMillis";
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final BoundedConcurrentCache<Key, Entry<T>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public static <T> FEELCompilationCache<T> fromSystemProperties() {
+        int maxSize = Integer.parseInt(System.getProperty(MAX_SIZE_PROPERTY, String.valueOf(DEFAULT_MAX_SIZE)));
+        long ttlMillis = Long.parseLong(System.getProperty(TTL_PROPERTY, "0"));
+        return new FEELCompilationCache<>(maxSize, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param maxSize the maximum number of cached units, 0 to disable the cache
+     * @param ttl the time to live of a cached unit since its compilation, 0 for no expiration
+     */
+    public FEELCompilationCache(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, unit.toNanos(ttl), System::nanoTime);
+    }
+
+    FEELCompilationCache(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+        if (maxSize < 0 || ttlNanos < 0) {
+            throw new IllegalArgumentException("The size and the time to live of the FEEL compilation cache cannot be negative");
+        }
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new BoundedConcurrentCache<>(maxSize, nanoClock);
+    }
+
+    public boolean isEnabled() {
+        return entries.isEnabled();
+    }
+
+    /**
+     * Returns the unit cached for the given key, or null if it has never been cached or it has been evicted.
+     */
+    public T get(Key key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry<T> entry = entries.get(key);
+        if (entry != null && isExpired(entry, nanoClock.getAsLong())) {
+            if (entries.remove(key, entry)) {
+                expirations.incrementAndGet();
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    public void put(Key key, T value) {
+        if (!isEnabled()) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+    }
+
+    /**
+     * Evicts all the entries whose time to live has elapsed; the expired entries are otherwise evicted only when looked up.
+     */
+    public void evictExpired() {
+        if (ttlNanos == 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        expirations.addAndGet(entries.removeIf((key, entry) -> isExpired(entry, now)));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return entries.getMaxSize();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount() + expirations.get();
+    }
+
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "FEELCompilationCache[size=" + size() + ", maxSize=" + getMaxSize() + ", hits=" + hits.get() +
+               ", misses=" + misses.get() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private boolean isExpired(Entry<T> entry, long now) {
+        return ttlNanos > 0 && now - entry.createdAt >= ttlNanos;
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final long createdAt;
+
+        private Entry(T value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * The text of an expression together with the signature of the variables in scope when compiling it:
+     * the same text compiled against differently shaped inputs can result in a different AST.
+     */
+    public static final class Key {
+        private final String expression;
+        private final Map<String, ?> signature;
+        private final int hashCode;
+
+        public Key(String expression, Map<String, ?> signature) {
+            this.expression = expression;
+            this.signature = signature;
+            this.hashCode = Objects.hash(expression, signature);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hashCode == other.hashCode && expression.equals(other.expression) && signature.equals(other.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "Key[" + expression + ", " + signature + "]";
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.kie.dmn.api.feel.runtime.events.FEELEvent;
 import org.kie.dmn.api.feel.runtime.events.FEELEventListener;
 import org.kie.dmn.feel.FEEL;
 import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
@@ -36,6 +37,7 @@ import org.kie.dmn.feel.lang.CompilerContext;
 import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.FEELProfile;
 import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.UnaryTest;
@@ -59,6 +61,9 @@ public class FEELImpl
     private final Optional<ExecutionFrameImpl> customFrame;
     private final Collection<FEELFunction> customFunctions;
     private final boolean doCompile;
+    // the profiles are fixed for this instance, so the caches keys only need the expression text and the inputs signature
+    private final FEELCompilationCache<CompiledExpression> expressionsCache = FEELCompilationCache.fromSystemProperties();
+    private final FEELCompilationCache<ProcessedUnaryTest> unaryTestsCache = FEELCompilationCache.fromSystemProperties();
 
     public FEELImpl() {
         this(ClassLoaderUtil.findDefaultClassLoader(), Collections.emptyList());
@@ -112,6 +117,20 @@ public class FEELImpl
         return customFunctions;
     }
 
+    /**
+     * The cache of the expressions compiled by {@link #evaluate(String, Map)} and {@link #evaluate(String, EvaluationContext)}
+     */
+    public FEELCompilationCache<CompiledExpression> getExpressionsCache() {
+        return expressionsCache;
+    }
+
+    /**
+     * The cache of the unary tests compiled by {@link #evaluateUnaryTests(String, Map)}
+     */
+    public FEELCompilationCache<ProcessedUnaryTest> getUnaryTestsCache() {
+        return unaryTestsCache;
+    }
+
     @Override
     public CompiledExpression compile(String expression, CompilerContext ctx) {
         return new ProcessedExpression(
@@ -141,22 +160,13 @@ public class FEELImpl
     
     @Override
     public Object evaluate(String expression, EvaluationContext ctx) {
-        CompilerContext compilerCtx = newCompilerContext(ctx.getListeners());
-        Map<String, Object> inputVariables = ctx.getAllValues();
-        if ( inputVariables != null ) {
-            inputVariables.entrySet().stream().forEach( e -> compilerCtx.addInputVariable( e.getKey(), e.getValue() ) );
-        }
-        CompiledExpression expr = compile( expression, compilerCtx );
+        CompiledExpression expr = compileCached( expression, ctx.getAllValues(), ctx.getListeners() );
         return evaluate( expr, ctx );
     }
 
     @Override
     public Object evaluate(String expression, Map<String, Object> inputVariables) {
-        CompilerContext ctx = newCompilerContext();
-        if ( inputVariables != null ) {
-            inputVariables.entrySet().stream().forEach( e -> ctx.addInputVariable( e.getKey(), e.getValue() ) );
-        }
-        CompiledExpression expr = compile( expression, ctx );
+        CompiledExpression expr = compileCached( expression, inputVariables, Collections.emptySet() );
         if ( inputVariables == null ) {
             return evaluate( expr, EMPTY_INPUT );
         } else {
@@ -208,13 +218,25 @@ public class FEELImpl
 
     @Override
     public List<UnaryTest> evaluateUnaryTests(String expression, Map<String, Type> variableTypes) {
-        CompilerContext ctx = newCompilerContext(getListeners());
+        FEELCompilationCache.Key key = null;
+        if ( unaryTestsCache.isEnabled() ) {
+            key = new FEELCompilationCache.Key( expression, new HashMap<>( variableTypes ) );
+            ProcessedUnaryTest cached = unaryTestsCache.get( key );
+            if ( cached != null ) {
+                return cached.apply( newEvaluationContext( getListeners(), EMPTY_INPUT ) );
+            }
+        }
+        CompilationEventsTracker tracker = new CompilationEventsTracker();
+        CompilerContext ctx = newCompilerContext( tracker.with( getListeners() ) );
         for( Map.Entry<String, Type> e : variableTypes.entrySet() ) {
             ctx.addInputVariableType( e.getKey(), e.getValue() );
         }
 
-        return compileUnaryTests(expression, ctx)
-                .apply(newEvaluationContext(ctx.getListeners(), EMPTY_INPUT));
+        ProcessedUnaryTest unaryTests = compileUnaryTests(expression, ctx);
+        if ( key != null && !tracker.hasEvents() ) {
+            unaryTestsCache.put( key, unaryTests );
+        }
+        return unaryTests.apply(newEvaluationContext(getListeners(), EMPTY_INPUT));
     }
 
     @Override
@@ -232,6 +254,66 @@ public class FEELImpl
         return Collections.unmodifiableSet(instanceEventListeners);
     }
 
+    /**
+     * Compiles the expression against the given input variables, reusing the result of a previous compilation
+     * of the same text against inputs with the same signature when still cached.
+     * The expressions whose compilation notified any event are not cached, so that the events are notified on each evaluation.
+     */
+    private CompiledExpression compileCached(String expression, Map<String, Object> inputVariables, Collection<FEELEventListener> listeners) {
+        FEELCompilationCache.Key key = null;
+        if ( expressionsCache.isEnabled() ) {
+            key = new FEELCompilationCache.Key( expression, inputsSignature( inputVariables ) );
+            CompiledExpression cached = expressionsCache.get( key );
+            if ( cached != null ) {
+                return cached;
+            }
+        }
+        CompilationEventsTracker tracker = new CompilationEventsTracker();
+        CompilerContext ctx = newCompilerContext( tracker.with( listeners ) );
+        if ( inputVariables != null ) {
+            inputVariables.forEach( ctx::addInputVariable );
+        }
+        CompiledExpression expr = compile( expression, ctx );
+        if ( key != null && !tracker.hasEvents() ) {
+            expressionsCache.put( key, expr );
+        }
+        return expr;
+    }
+
+    /**
+     * The names of the input variables, nested for the context values, together with the types of their values
+     */
+    private static Map<String, Object> inputsSignature(Map<?, ?> inputVariables) {
+        if ( inputVariables == null || inputVariables.isEmpty() ) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> signature = new HashMap<>();
+        for ( Map.Entry<?, ?> e : inputVariables.entrySet() ) {
+            Object value = e.getValue();
+            signature.put( String.valueOf( e.getKey() ), value instanceof Map ? inputsSignature( (Map<?, ?>) value ) : BuiltInType.determineTypeFromInstance( value ) );
+        }
+        return signature;
+    }
+
+    private static class CompilationEventsTracker implements FEELEventListener {
+        private boolean events;
+
+        @Override
+        public void onEvent(FEELEvent event) {
+            events = true;
+        }
+
+        boolean hasEvents() {
+            return events;
+        }
+
+        Collection<FEELEventListener> with(Collection<FEELEventListener> listeners) {
+            Set<FEELEventListener> result = new HashSet<>( listeners );
+            result.add( this );
+            return result;
+        }
+    }
+
     public FEELEventListenersManager getEventsManager(Collection<FEELEventListener> contextListeners) {
         FEELEventListenersManager listenerMgr = new FEELEventListenersManager();
         listenerMgr.addListeners(instanceEventListeners);
@@ -52,6 +52,7 @@ public class DTDecisionRule implements Indexed {
     private int                      index;
     private List<UnaryTest>          inputEntry;
     private List<CompiledExpression> outputEntry;
+    private List<DTIndexableEntry>   indexableInputEntry;
 
     public DTDecisionRule(int index) {
         this.index = index;
@@ -81,6 +82,17 @@ the output components of this DecisionRule.
         return this.outputEntry;
     }
 
+    /**
+     * The structure of each input entry, or null for an entry that can't be indexed. When it holds an element for each
+     * input entry, it is used to build the index of the decision table.
+     */
+    public List<DTIndexableEntry> getIndexableInputEntry() {
+        if ( indexableInputEntry == null ) {
+            indexableInputEntry = new ArrayList<>();
+        }
+        return this.indexableInputEntry;
+    }
+
     public int getIndex() {
         return index;
     }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.kie.dmn.feel.codegen.feel11.ASTUnaryTestTransform;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELSupport;
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.BooleanNode;
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.lang.ast.NumberNode;
+import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.ast.SignedUnaryNode;
+import org.kie.dmn.feel.lang.ast.StringNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestListNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestNode;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
+import org.kie.dmn.feel.parser.feel11.FEELParser;
+import org.kie.dmn.feel.parser.feel11.FEEL_1_1Parser;
+
+/**
+ * The structure of an input entry of a decision table made only of literals, so that the rows it belongs to
+ * can be looked up by the {@link DecisionTableIndex} instead of evaluating its unary tests.
+ *
+ * An input matches the entry if it's equal to one of its values or if it's included in one of its intervals,
+ * while a dash matches any input.
+ */
+public class DTIndexableEntry {
+
+    public static final DTIndexableEntry ANY = new DTIndexableEntry( Collections.emptyList(), Collections.emptyList() );
+
+    private final List<Object> values;
+    private final List<Interval> intervals;
+
+    private DTIndexableEntry(List<Object> values, List<Interval> intervals) {
+        this.values = values;
+        this.intervals = intervals;
+    }
+
+    public boolean isAny() {
+        return this == ANY;
+    }
+
+    /**
+     * The values of the equality tests, normalized with {@link #toKey(Object)}
+     */
+    public List<Object> getValues() {
+        return values;
+    }
+
+    public List<Interval> getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Parses the text of an input entry, returning null when it isn't only made of a dash or of a list of
+     * equality tests on string, number or boolean literals and of comparisons or ranges on number literals
+     */
+    public static DTIndexableEntry parse(String text) {
+        if ( text == null || text.trim().isEmpty() ) {
+            return null;
+        }
+        CompiledFEELSupport.SyntaxErrorListener errorListener = new CompiledFEELSupport.SyntaxErrorListener();
+        FEELEventListenersManager eventsManager = new FEELEventListenersManager();
+        eventsManager.addListener( errorListener );
+        BaseNode ast;
+        try {
+            FEEL_1_1Parser parser = FEELParser.parse( eventsManager, text, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), Collections.emptyList(), null );
+            ParseTree tree = parser.unaryTestsRoot();
+            if ( errorListener.isError() ) {
+                return null;
+            }
+            ast = tree.accept( new ASTBuilderVisitor( Collections.emptyMap(), null ) ).accept( new ASTUnaryTestTransform() ).node();
+        } catch ( RuntimeException e ) {
+            // the entry is compiled and reported by the caller, here it just can't be indexed
+            return null;
+        }
+        return fromAST( ast );
+    }
+
+    private static DTIndexableEntry fromAST(BaseNode ast) {
+        if ( !(ast instanceof UnaryTestListNode) || ((UnaryTestListNode) ast).isNegated() ) {
+            return null;
+        }
+        List<BaseNode> elements = ((UnaryTestListNode) ast).getElements();
+        if ( elements.size() == 1 && elements.get( 0 ) instanceof DashNode ) {
+            return ANY;
+        }
+
+        List<Object> values = new ArrayList<>();
+        List<Interval> intervals = new ArrayList<>();
+        for ( BaseNode element : elements ) {
+            if ( !(element instanceof UnaryTestNode) ) {
+                return null;
+            }
+            UnaryTestNode test = (UnaryTestNode) element;
+            switch ( test.getOperator() ) {
+                case EQ:
+                    Object value = literal( test.getValue() );
+                    if ( value == null ) {
+                        return null;
+                    }
+                    values.add( toKey( value ) );
+                    break;
+                case LT:
+                case LTE:
+                case GT:
+                case GTE:
+                    BigDecimal number = number( test.getValue() );
+                    if ( number == null ) {
+                        return null;
+                    }
+                    intervals.add( Interval.of( test.getOperator(), number ) );
+                    break;
+                case IN:
+                    Interval interval = test.getValue() instanceof RangeNode ? Interval.of( (RangeNode) test.getValue() ) : null;
+                    if ( interval == null ) {
+                        return null;
+                    }
+                    intervals.add( interval );
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return new DTIndexableEntry( values, intervals );
+    }
+
+    private static Object literal(BaseNode node) {
+        if ( node instanceof StringNode ) {
+            return ((StringNode) node).getValue();
+        }
+        if ( node instanceof BooleanNode ) {
+            return ((BooleanNode) node).getValue();
+        }
+        return number( node );
+    }
+
+    private static BigDecimal number(BaseNode node) {
+        if ( node instanceof NumberNode ) {
+            return ((NumberNode) node).getValue();
+        }
+        if ( node instanceof SignedUnaryNode && ((SignedUnaryNode) node).getExpression() instanceof NumberNode ) {
+            BigDecimal value = ((NumberNode) ((SignedUnaryNode) node).getExpression()).getValue();
+            return value != null && ((SignedUnaryNode) node).getSign() == SignedUnaryNode.Sign.NEGATIVE ? value.negate() : value;
+        }
+        return null;
+    }
+
+    /**
+     * Normalizes a value so that two values are equal according to FEEL if and only if their keys are equal,
+     * returning null for a value that can't be looked up
+     */
+    public static Object toKey(Object value) {
+        if ( value instanceof BigDecimal ) {
+            return ((BigDecimal) value).stripTrailingZeros();
+        }
+        if ( value instanceof String || value instanceof Boolean ) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * An interval of numbers, where a null bound is unbounded
+     */
+    public static class Interval {
+
+        private final BigDecimal low;
+        private final boolean lowClosed;
+        private final BigDecimal high;
+        private final boolean highClosed;
+
+        public Interval(BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed) {
+            this.low = low;
+            this.lowClosed = lowClosed;
+            this.high = high;
+            this.highClosed = highClosed;
+        }
+
+        private static Interval of(UnaryTestNode.UnaryOperator operator, BigDecimal value) {
+            switch ( operator ) {
+                case LT:
+                    return new Interval( null, false, value, false );
+                case LTE:
+                    return new Interval( null, false, value, true );
+                case GT:
+                    return new Interval( value, false, null, false );
+                default:
+                    return new Interval( value, true, null, false );
+            }
+        }
+
+        private static Interval of(RangeNode range) {
+            BigDecimal start = number( range.getStart() );
+            BigDecimal end = number( range.getEnd() );
+            if ( start == null || end == null ) {
+                return null;
+            }
+            return new Interval( start, range.getLowerBound() == RangeNode.IntervalBoundary.CLOSED,
+                                 end, range.getUpperBound() == RangeNode.IntervalBoundary.CLOSED );
+        }
+
+        public BigDecimal getLow() {
+            return low;
+        }
+
+        public BigDecimal getHigh() {
+            return high;
+        }
+
+        public boolean includes(BigDecimal value) {
+            if ( low != null ) {
+                int compare = low.compareTo( value );
+                if ( compare > 0 || ( compare == 0 && !lowClosed ) ) {
+                    return false;
+                }
+            }
+            if ( high != null ) {
+                int compare = value.compareTo( high );
+                if ( compare > 0 || ( compare == 0 && !highClosed ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return ( lowClosed ? "[" : "(" ) + ( low != null ? low : "-inf" ) + ".." + ( high != null ? high : "+inf" ) + ( highClosed ? "]" : ")" );
+        }
+    }
+}
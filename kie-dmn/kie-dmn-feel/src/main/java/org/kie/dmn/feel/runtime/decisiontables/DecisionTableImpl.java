@@ -17,6 +17,7 @@
 package org.kie.dmn.feel.runtime.decisiontables;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +58,7 @@ public class DecisionTableImpl implements DecisionTable {
     private List<DTDecisionRule> decisionRules;
     private HitPolicy            hitPolicy;
     private boolean              hasDefaultValues;
+    private DecisionTableIndex   index;
 
     private FEEL feel;
 
@@ -75,6 +77,7 @@ public class DecisionTableImpl implements DecisionTable {
         this.hitPolicy = hitPolicy;
         this.hasDefaultValues = outputs.stream().allMatch( o -> o.getDefaultValue() != null );
         this.feel = feel;
+        this.index = DecisionTableIndex.build( decisionRules, inputs.size() );
     }
 
     /**
@@ -241,7 +244,8 @@ public class DecisionTableImpl implements DecisionTable {
     }
 
     /**
-     * Finds all rules that match a given set of parameters
+     * Finds all rules that match a given set of parameters, checking only the candidates found by the index
+     * when the decision table has one
      *
      * @param ctx
      * @param params
@@ -249,9 +253,20 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        if ( index != null ) {
+            // the candidates are in the same order of the rules, as required by the hit policies
+            BitSet candidates = index.findCandidates( params );
+            for ( int i = candidates.nextSetBit( 0 ); i >= 0; i = candidates.nextSetBit( i + 1 ) ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            for ( DTDecisionRule decisionRule : decisionRules ) {
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -337,6 +352,10 @@ public class DecisionTableImpl implements DecisionTable {
 
 
 
+    boolean isIndexed() {
+        return index != null;
+    }
+
     public HitPolicy getHitPolicy() {
         return hitPolicy;
     }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the rows of a decision table that can match a set of inputs without evaluating all their input entries.
+ *
+ * For each column it indexes the rows whose entries are a {@link DTIndexableEntry}, in hash buckets for the equality
+ * tests and in an interval tree for the comparisons and the ranges, while the rows with any other entry, or with a
+ * value of a different type, are always candidates for that column. The candidates of the columns are intersected,
+ * so the returned rows are a superset of the matching ones and still have to be checked by evaluating their entries.
+ * A column is not used when the input isn't of the type of its values, so that the entries of the rows are evaluated
+ * exactly as with a linear scan.
+ */
+class DecisionTableIndex {
+
+    /**
+     * Below this number of rows a linear scan is cheaper than looking up the index
+     */
+    static final int MIN_INDEXED_ROWS = 16;
+
+    private final int rowsCount;
+    private final ColumnIndex[] columns;
+
+    private DecisionTableIndex(int rowsCount, ColumnIndex[] columns) {
+        this.rowsCount = rowsCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Builds the index of the given rules, returning null if it's not worth it, since the table is too small or none of
+     * its columns has an indexable entry
+     */
+    static DecisionTableIndex build(List<DTDecisionRule> rules, int inputsCount) {
+        if ( rules.size() < MIN_INDEXED_ROWS || inputsCount == 0 ) {
+            return null;
+        }
+        for ( DTDecisionRule rule : rules ) {
+            if ( rule.getIndexableInputEntry().size() != inputsCount ) {
+                return null;
+            }
+        }
+
+        ColumnIndex[] columns = new ColumnIndex[inputsCount];
+        boolean indexed = false;
+        for ( int i = 0; i < inputsCount; i++ ) {
+            columns[i] = ColumnIndex.build( rules, i );
+            indexed |= columns[i] != null;
+        }
+        return indexed ? new DecisionTableIndex( rules.size(), columns ) : null;
+    }
+
+    /**
+     * Returns the positions of the rows that can match the given inputs
+     */
+    BitSet findCandidates(Object[] inputs) {
+        BitSet candidates = new BitSet( rowsCount );
+        candidates.set( 0, rowsCount );
+        for ( int i = 0; i < columns.length && !candidates.isEmpty(); i++ ) {
+            if ( columns[i] != null ) {
+                BitSet columnCandidates = columns[i].findCandidates( inputs[i] );
+                if ( columnCandidates != null ) {
+                    candidates.and( columnCandidates );
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static class ColumnIndex {
+
+        private final Class<?> keyType;
+        private final BitSet unindexedRows;
+        private final Map<Object, BitSet> buckets;
+        private final IntervalTree intervals;
+
+        private ColumnIndex(Class<?> keyType, BitSet unindexedRows, Map<Object, BitSet> buckets, IntervalTree intervals) {
+            this.keyType = keyType;
+            this.unindexedRows = unindexedRows;
+            this.buckets = buckets;
+            this.intervals = intervals;
+        }
+
+        private static ColumnIndex build(List<DTDecisionRule> rules, int column) {
+            Class<?> keyType = findKeyType( rules, column );
+            if ( keyType == null ) {
+                return null;
+            }
+
+            BitSet unindexedRows = new BitSet( rules.size() );
+            Map<Object, BitSet> buckets = new HashMap<>();
+            List<DTIndexableEntry.Interval> intervals = new ArrayList<>();
+            List<Integer> intervalRows = new ArrayList<>();
+            for ( int row = 0; row < rules.size(); row++ ) {
+                DTIndexableEntry entry = rules.get( row ).getIndexableInputEntry().get( column );
+                if ( entry == null || entry.isAny() || !hasKeyType( entry, keyType ) ) {
+                    unindexedRows.set( row );
+                    continue;
+                }
+                for ( Object value : entry.getValues() ) {
+                    buckets.computeIfAbsent( value, k -> new BitSet( rules.size() ) ).set( row );
+                }
+                for ( DTIndexableEntry.Interval interval : entry.getIntervals() ) {
+                    intervals.add( interval );
+                    intervalRows.add( row );
+                }
+            }
+            return new ColumnIndex( keyType, unindexedRows, buckets, intervals.isEmpty() ? null : new IntervalTree( intervals, intervalRows ) );
+        }
+
+        /**
+         * The type of the values of the first indexable entry of the column
+         */
+        private static Class<?> findKeyType(List<DTDecisionRule> rules, int column) {
+            for ( DTDecisionRule rule : rules ) {
+                DTIndexableEntry entry = rule.getIndexableInputEntry().get( column );
+                if ( entry != null && !entry.isAny() ) {
+                    return entry.getIntervals().isEmpty() ? entry.getValues().get( 0 ).getClass() : BigDecimal.class;
+                }
+            }
+            return null;
+        }
+
+        private static boolean hasKeyType(DTIndexableEntry entry, Class<?> keyType) {
+            if ( !entry.getIntervals().isEmpty() && keyType != BigDecimal.class ) {
+                return false;
+            }
+            for ( Object value : entry.getValues() ) {
+                if ( value.getClass() != keyType ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the rows that can match the given input, or null if the column can't filter them
+         */
+        private BitSet findCandidates(Object input) {
+            if ( input == null ) {
+                // null is never equal, comparable or included in a range of literals
+                return unindexedRows;
+            }
+            if ( !keyType.isInstance( input ) ) {
+                return null;
+            }
+            BitSet candidates = (BitSet) unindexedRows.clone();
+            BitSet bucket = buckets.get( DTIndexableEntry.toKey( input ) );
+            if ( bucket != null ) {
+                candidates.or( bucket );
+            }
+            if ( intervals != null ) {
+                intervals.collect( (BigDecimal) input, candidates );
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * A static interval tree, made of the intervals sorted by their lower bound where each node of the implicit
+     * binary search tree also holds the highest upper bound of its subtree, so that a lookup only visits the
+     * subtrees holding intervals that can include the value
+     */
+    static class IntervalTree {
+
+        private final DTIndexableEntry.Interval[] intervals;
+        private final int[] rows;
+        // the highest upper bound of the subtree rooted at each position, where null is unbounded
+        private final BigDecimal[] maxHighs;
+
+        IntervalTree(List<DTIndexableEntry.Interval> intervals, List<Integer> rows) {
+            Integer[] order = new Integer[intervals.size()];
+            for ( int i = 0; i < order.length; i++ ) {
+                order[i] = i;
+            }
+            Arrays.sort( order, (i1, i2) -> compareLows( intervals.get( i1 ).getLow(), intervals.get( i2 ).getLow() ) );
+
+            this.intervals = new DTIndexableEntry.Interval[order.length];
+            this.rows = new int[order.length];
+            for ( int i = 0; i < order.length; i++ ) {
+                this.intervals[i] = intervals.get( order[i] );
+                this.rows[i] = rows.get( order[i] );
+            }
+            this.maxHighs = new BigDecimal[order.length];
+            computeMaxHighs( 0, order.length - 1 );
+        }
+
+        private BigDecimal computeMaxHighs(int from, int to) {
+            int mid = ( from + to ) >>> 1;
+            BigDecimal maxHigh = intervals[mid].getHigh();
+            if ( from < mid ) {
+                maxHigh = maxHigh( maxHigh, computeMaxHighs( from, mid - 1 ) );
+            }
+            if ( mid < to ) {
+                maxHigh = maxHigh( maxHigh, computeMaxHighs( mid + 1, to ) );
+            }
+            maxHighs[mid] = maxHigh;
+            return maxHigh;
+        }
+
+        void collect(BigDecimal value, BitSet result) {
+            collect( 0, intervals.length - 1, value, result );
+        }
+
+        private void collect(int from, int to, BigDecimal value, BitSet result) {
+            if ( from > to ) {
+                return;
+            }
+            int mid = ( from + to ) >>> 1;
+            if ( maxHighs[mid] != null && maxHighs[mid].compareTo( value ) < 0 ) {
+                // all the intervals of this subtree end before the value
+                return;
+            }
+            collect( from, mid - 1, value, result );
+            if ( intervals[mid].includes( value ) ) {
+                result.set( rows[mid] );
+            }
+            if ( intervals[mid].getLow() == null || intervals[mid].getLow().compareTo( value ) <= 0 ) {
+                // otherwise all the following intervals start after the value
+                collect( mid + 1, to, value, result );
+            }
+        }
+
+        private static int compareLows(BigDecimal low1, BigDecimal low2) {
+            if ( low1 == null ) {
+                return low2 == null ? 0 : -1;
+            }
+            return low2 == null ? 1 : low1.compareTo( low2 );
+        }
+
+        private static BigDecimal maxHigh(BigDecimal high1, BigDecimal high2) {
+            return high1 == null || high2 == null ? null : high1.max( high2 );
+        }
+    }
+}
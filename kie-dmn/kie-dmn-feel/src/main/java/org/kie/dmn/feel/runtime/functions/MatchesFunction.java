@@ -43,7 +43,7 @@ public class MatchesFunction
         }
         try {
             int f = processFlags( flags );
-            Pattern p = Pattern.compile( pattern, f );
+            Pattern p = RegexPatternCache.compile( pattern, f );
             Matcher m = p.matcher( input );
             return FEELFnResult.ofResult( m.find() );
         } catch ( PatternSyntaxException e ) {
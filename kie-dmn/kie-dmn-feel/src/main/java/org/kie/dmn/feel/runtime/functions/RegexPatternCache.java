@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.runtime.functions;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.kie.dmn.feel.util.BoundedConcurrentCache;
+
+/**
+ * Bounded cache of the regular expressions compiled by the string builtin functions,
+ * shared by all the FEEL instances: the patterns are almost always literals of the model,
+ * so each of them is compiled only once instead of on each invocation.
+ * Lookups take no lock; the least recently used patterns are evicted approximately.
+ */
+final class RegexPatternCache {
+
+    static final int MAX_SIZE = 512;
+
+    private static final BoundedConcurrentCache<Key, Pattern> PATTERNS = new BoundedConcurrentCache<>(MAX_SIZE);
+
+    private RegexPatternCache() {
+    }
+
+    /**
+     * Returns the compiled pattern, as by {@link Pattern#compile(String, int)} with the same exceptions for an invalid regex.
+     */
+    static Pattern compile(String regex, int flags) {
+        Key key = new Key(regex, flags);
+        Pattern pattern = PATTERNS.get(key);
+        if (pattern == null) {
+            // at worst the same pattern is compiled twice by concurrent invocations
+            pattern = Pattern.compile(regex, flags);
+            PATTERNS.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    static int size() {
+        return PATTERNS.size();
+    }
+
+    static void clear() {
+        PATTERNS.clear();
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(regex, flags);
+        }
+    }
+}
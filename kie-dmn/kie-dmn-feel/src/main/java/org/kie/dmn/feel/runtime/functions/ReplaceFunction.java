@@ -50,7 +50,7 @@ public class ReplaceFunction
             flagsString = "";
         }
 
-        return FEELFnResult.ofResult( input.replaceAll( flagsString + pattern, replacement ) );
+        return FEELFnResult.ofResult( RegexPatternCache.compile( flagsString + pattern, 0 ).matcher( input ).replaceAll( replacement ) );
     }
 
 }
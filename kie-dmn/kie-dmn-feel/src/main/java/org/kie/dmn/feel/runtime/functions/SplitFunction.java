@@ -47,7 +47,7 @@ public class SplitFunction
         }
         try {
             int f = processFlags( flags );
-            Pattern p = Pattern.compile( delimiter, f );
+            Pattern p = RegexPatternCache.compile( delimiter, f );
             String[] split = p.split(string, -1);
             return FEELFnResult.ofResult( Arrays.asList( split ) );
         } catch ( PatternSyntaxException e ) {
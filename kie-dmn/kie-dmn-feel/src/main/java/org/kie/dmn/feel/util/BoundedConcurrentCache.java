@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache bounded to an approximate maximum size, whose lookups take no lock.
+ *
+ * Each entry records when it has been last accessed. When a put makes the cache grow over its maximum size,
+ * a single thread evicts the least recently accessed entries, down to 90% of the maximum size, while the
+ * other threads keep reading and writing: the size can then briefly exceed the maximum one.
+ * Null values are allowed.
+ */
+public class BoundedConcurrentCache<K, V> {
+
+    private final int maxSize;
+    private final LongSupplier accessClock;
+    private final Map<K, Node<V>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of entries, 0 to disable the cache
+     */
+    public BoundedConcurrentCache(int maxSize) {
+        this(maxSize, System::nanoTime);
+    }
+
+    /**
+     * @param maxSize the maximum number of entries, 0 to disable the cache
+     * @param accessClock the clock giving the access time of the entries
+     */
+    public BoundedConcurrentCache(int maxSize, LongSupplier accessClock) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The size of the cache cannot be negative");
+        }
+        this.maxSize = maxSize;
+        this.accessClock = accessClock;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Returns the value cached for the given key, or the given default value if none is cached
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return defaultValue;
+        }
+        node.lastAccess = accessClock.getAsLong();
+        return node.value;
+    }
+
+    /**
+     * Returns the value cached for the given key, or null if none is cached
+     */
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    public void put(K key, V value) {
+        if (maxSize == 0) {
+            return;
+        }
+        entries.put(key, new Node<>(value, accessClock.getAsLong()));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes the entry of the given key, only if it is still mapped to the given value
+     */
+    public boolean remove(K key, V value) {
+        Node<V> node = entries.get(key);
+        return node != null && node.value == value && entries.remove(key, node);
+    }
+
+    /**
+     * Removes all the entries matching the given predicate
+     * @return the number of removed entries
+     */
+    public int removeIf(BiPredicate<K, V> predicate) {
+        int removed = 0;
+        for (Iterator<Map.Entry<K, Node<V>>> it = entries.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<K, Node<V>> entry = it.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of entries evicted because the cache exceeded its maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            // another thread is already evicting
+            return;
+        }
+        try {
+            int toEvict = entries.size() - (maxSize - maxSize / 10);
+            if (toEvict <= 0) {
+                return;
+            }
+            long[] accessTimes = new long[entries.size()];
+            int count = 0;
+            for (Node<V> node : entries.values()) {
+                if (count == accessTimes.length) {
+                    break;
+                }
+                accessTimes[count++] = node.lastAccess;
+            }
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(accessTimes, 0, count);
+            long threshold = accessTimes[Math.min(toEvict, count) - 1];
+
+            // the entries accessed before the threshold first, then the ones accessed at the threshold
+            toEvict -= evictAccessedBefore(threshold, toEvict, false);
+            if (toEvict > 0) {
+                evictAccessedBefore(threshold, toEvict, true);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private int evictAccessedBefore(long threshold, int toEvict, boolean inclusive) {
+        int evicted = 0;
+        for (Iterator<Map.Entry<K, Node<V>>> it = entries.entrySet().iterator(); it.hasNext() && evicted < toEvict;) {
+            Map.Entry<K, Node<V>> entry = it.next();
+            long lastAccess = entry.getValue().lastAccess;
+            if (lastAccess < threshold || (inclusive && lastAccess == threshold)) {
+                if (entries.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        evictions.addAndGet(evicted);
+        return evicted;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedConcurrentCache[size=" + size() + ", maxSize=" + maxSize + ", evictions=" + evictions.get() + "]";
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        // written without synchronization by the readers: a lost update only makes the eviction less accurate
+        private volatile long lastAccess;
+
+        private Node(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
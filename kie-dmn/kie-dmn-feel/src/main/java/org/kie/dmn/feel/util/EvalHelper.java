@@ -533,6 +533,9 @@ public class EvalHelper {
     public static Boolean compare(Object left, Object right, EvaluationContext ctx, BiPredicate<Comparable, Comparable> op) {
         if ( left == null || right == null ) {
             return null;
+        } else if ( left instanceof BigDecimal && right instanceof BigDecimal ) {
+            // the most common case, numbers are always coerced to BigDecimal
+            return op.test( (BigDecimal) left, (BigDecimal) right );
         } else if (left instanceof ChronoPeriod && right instanceof ChronoPeriod) {
             // periods have special compare semantics in FEEL as it ignores "days". Only months and years are compared
             Long l = ComparablePeriod.toTotalMonths((ChronoPeriod) left);
@@ -571,6 +574,8 @@ public class EvalHelper {
     public static Boolean isEqual(Object left, Object right, EvaluationContext ctx ) {
         if ( left == null || right == null ) {
             return left == right;
+        } else if ( left instanceof BigDecimal && right instanceof BigDecimal ) {
+            return ((BigDecimal) left).compareTo( (BigDecimal) right ) == 0;
         }
 
         // spec defines that "a=[a]", i.e., singleton collections should be treated as the single element
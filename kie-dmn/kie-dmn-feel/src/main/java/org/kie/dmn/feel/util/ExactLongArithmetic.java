@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Fast path of the FEEL arithmetic for integral operands, as the counters coming from Java int/long fields:
+ * the operation is performed on longs while the result is exact, giving the same BigDecimal as the
+ * {@link MathContext#DECIMAL128} operation.
+ * Every method returns null when the fast path doesn't apply (non integral operands, overflow, fractional
+ * quotient...) and the caller must then fall back to the BigDecimal operation.
+ */
+public final class ExactLongArithmetic {
+
+    // a BigDecimal with scale 0 and up to 18 digits always fits in a long
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private ExactLongArithmetic() {
+        // no instances allowed
+    }
+
+    public static BigDecimal add(Object left, Object right) {
+        if (!isExactLong(left) || !isExactLong(right)) {
+            return null;
+        }
+        long l = ((Number) left).longValue();
+        long r = ((Number) right).longValue();
+        long result = l + r;
+        // overflow iff both operands have the same sign and the result has a different one
+        if (((l ^ result) & (r ^ result)) < 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(result);
+    }
+
+    public static BigDecimal sub(Object left, Object right) {
+        if (!isExactLong(left) || !isExactLong(right)) {
+            return null;
+        }
+        long l = ((Number) left).longValue();
+        long r = ((Number) right).longValue();
+        long result = l - r;
+        // overflow iff the operands have different signs and the result sign differs from the left one
+        if (((l ^ r) & (l ^ result)) < 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(result);
+    }
+
+    public static BigDecimal mult(Object left, Object right) {
+        if (!isExactLong(left) || !isExactLong(right)) {
+            return null;
+        }
+        long l = ((Number) left).longValue();
+        long r = ((Number) right).longValue();
+        long high = Math.multiplyHigh(l, r);
+        long result = l * r;
+        // the product fits in a long iff the high half is the sign extension of the low half
+        if (high != (result >> 63)) {
+            return null;
+        }
+        return BigDecimal.valueOf(result);
+    }
+
+    public static BigDecimal div(Object left, Object right) {
+        if (!isExactLong(left) || !isExactLong(right)) {
+            return null;
+        }
+        long l = ((Number) left).longValue();
+        long r = ((Number) right).longValue();
+        // division by zero is left to the caller, the only overflowing quotient is Long.MIN_VALUE / -1
+        if (r == 0 || (l == Long.MIN_VALUE && r == -1) || l % r != 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(l / r);
+    }
+
+    /**
+     * @return true if the value is an integral number whose exact value is its {@link Number#longValue()}
+     */
+    static boolean isExactLong(Object value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal bd = (BigDecimal) value;
+            return bd.scale() == 0 && bd.precision() <= MAX_LONG_PRECISION;
+        }
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.kie.dmn.api.feel.runtime.events.FEELEvent;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.entry;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.mapOf;
+
+public class FEELCompilationCacheTest {
+
+    @Test
+    public void testExpressionCompiledOnce() {
+        FEELImpl feel = new FEELImpl();
+        FEELCompilationCache<?> cache = feel.getExpressionsCache();
+
+        assertThat(feel.evaluate("a + b", mapOf(entry("a", 1), entry("b", 2)))).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(feel.evaluate("a + b", mapOf(entry("a", 3), entry("b", 4)))).isEqualTo(BigDecimal.valueOf(7));
+        assertThat(feel.evaluate("a + b", mapOf(entry("a", 5), entry("b", 6)))).isEqualTo(BigDecimal.valueOf(11));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInputsSignatureIsPartOfTheKey() {
+        FEELImpl feel = new FEELImpl();
+        FEELCompilationCache<?> cache = feel.getExpressionsCache();
+
+        assertThat(feel.evaluate("a + b", mapOf(entry("a", 1), entry("b", 2)))).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(feel.evaluate("a + b", mapOf(entry("a", "x"), entry("b", "y")))).isEqualTo("xy");
+        // a name with spaces is parsed differently when declared
+        assertThat(feel.evaluate("a + b", mapOf(entry("a + b", 10)))).isEqualTo(BigDecimal.valueOf(10));
+        assertThat(feel.evaluate("ctx.x", mapOf(entry("ctx", mapOf(entry("x", 1)))))).isEqualTo(BigDecimal.valueOf(1));
+        assertThat(feel.evaluate("ctx.x", mapOf(entry("ctx", mapOf(entry("x", 2)))))).isEqualTo(BigDecimal.valueOf(2));
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExpressionWithErrorsIsNotCached() {
+        FEELImpl feel = new FEELImpl();
+        List<FEELEvent> events = new ArrayList<>();
+        feel.addListener(events::add);
+
+        assertThat(feel.evaluate("a variable name")).isNull();
+        int eventsOfFirstEvaluation = events.size();
+        assertThat(eventsOfFirstEvaluation).isPositive();
+
+        assertThat(feel.evaluate("a variable name")).isNull();
+        assertThat(events).hasSize(eventsOfFirstEvaluation * 2);
+        assertThat(feel.getExpressionsCache().size()).isZero();
+    }
+
+    @Test
+    public void testUnaryTestsCompiledOnce() {
+        FEELImpl feel = new FEELImpl();
+        FEELCompilationCache<?> cache = feel.getUnaryTestsCache();
+
+        for (int i = 0; i < 3; i++) {
+            List<UnaryTest> tests = feel.evaluateUnaryTests("> x, 100", Collections.singletonMap("x", BuiltInType.NUMBER));
+            assertThat(tests).hasSize(2);
+        }
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSizeEviction() {
+        // a clock ticking at each access, so that the accesses are totally ordered
+        AtomicLong clock = new AtomicLong();
+        FEELCompilationCache<String> cache = new FEELCompilationCache<>(2, 0, clock::incrementAndGet);
+        FEELCompilationCache.Key a = new FEELCompilationCache.Key("a", Collections.emptyMap());
+        FEELCompilationCache.Key b = new FEELCompilationCache.Key("b", Collections.emptyMap());
+        FEELCompilationCache.Key c = new FEELCompilationCache.Key("c", Collections.emptyMap());
+
+        cache.put(a, "A");
+        cache.put(b, "B");
+        assertThat(cache.get(a)).isEqualTo("A");
+        cache.put(c, "C");
+
+        // b is the least recently used
+        assertThat(cache.get(b)).isNull();
+        assertThat(cache.get(a)).isEqualTo("A");
+        assertThat(cache.get(c)).isEqualTo("C");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    public void testTimeToLiveEviction() {
+        AtomicLong clock = new AtomicLong();
+        FEELCompilationCache<String> cache = new FEELCompilationCache<>(10, 100, clock::get);
+        FEELCompilationCache.Key a = new FEELCompilationCache.Key("a", Collections.emptyMap());
+        FEELCompilationCache.Key b = new FEELCompilationCache.Key("b", Collections.emptyMap());
+
+        cache.put(a, "A");
+        clock.set(50);
+        cache.put(b, "B");
+        assertThat(cache.get(a)).isEqualTo("A");
+
+        clock.set(100);
+        assertThat(cache.get(a)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        clock.set(150);
+        cache.evictExpired();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        FEELCompilationCache<String> cache = new FEELCompilationCache<>(0, 0, System::nanoTime);
+        FEELCompilationCache.Key a = new FEELCompilationCache.Key("a", Collections.emptyMap());
+
+        cache.put(a, "A");
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(a)).isNull();
+        assertThat(cache.getMissCount()).isZero();
+    }
+}
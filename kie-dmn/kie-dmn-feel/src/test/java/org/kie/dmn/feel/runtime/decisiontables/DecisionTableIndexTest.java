@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.functions.FEELFnResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DecisionTableIndexTest {
+
+    private static final String[] AGE_ENTRIES = { "-", "< 18", "[18..30)", ">= 65", "18, 21, 25", "[30..40], [50..60]", "!= 40", "> -5" };
+    private static final String[] CATEGORY_ENTRIES = { "-", "\"A\"", "\"B\", \"C\"", "not(\"A\")", "\"D\"" };
+    private static final String[] VIP_ENTRIES = { "-", "true", "false" };
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testParseIndexableEntries() {
+        assertThat(DTIndexableEntry.parse("-").isAny()).isTrue();
+        assertThat(DTIndexableEntry.parse("\"A\", \"B\"").getValues()).containsExactly("A", "B");
+        assertThat(DTIndexableEntry.parse("1.0, true").getValues()).containsExactly(BigDecimal.ONE, true);
+
+        DTIndexableEntry intervals = DTIndexableEntry.parse("< 18, [30..40), > -5");
+        assertThat(intervals.getValues()).isEmpty();
+        assertThat(intervals.getIntervals()).hasSize(3);
+        assertThat(intervals.getIntervals().get(0).includes(new BigDecimal(17))).isTrue();
+        assertThat(intervals.getIntervals().get(0).includes(new BigDecimal(18))).isFalse();
+        assertThat(intervals.getIntervals().get(1).includes(new BigDecimal(30))).isTrue();
+        assertThat(intervals.getIntervals().get(1).includes(new BigDecimal(40))).isFalse();
+        assertThat(intervals.getIntervals().get(2).includes(new BigDecimal(-4))).isTrue();
+        assertThat(intervals.getIntervals().get(2).includes(new BigDecimal(-5))).isFalse();
+
+        assertThat(DTIndexableEntry.parse("not(\"A\")")).isNull();
+        assertThat(DTIndexableEntry.parse("!= 40")).isNull();
+        assertThat(DTIndexableEntry.parse("> maxAge")).isNull();
+        assertThat(DTIndexableEntry.parse("date(\"2022-01-01\")")).isNull();
+        assertThat(DTIndexableEntry.parse("")).isNull();
+    }
+
+    @Test
+    public void testSmallTableIsNotIndexed() {
+        assertThat(newDecisionTable(HitPolicy.COLLECT, DecisionTableIndex.MIN_INDEXED_ROWS - 1, true).isIndexed()).isFalse();
+        assertThat(newDecisionTable(HitPolicy.COLLECT, DecisionTableIndex.MIN_INDEXED_ROWS, true).isIndexed()).isTrue();
+        assertThat(newDecisionTable(HitPolicy.COLLECT, DecisionTableIndex.MIN_INDEXED_ROWS, false).isIndexed()).isFalse();
+    }
+
+    @Test
+    public void testIndexedMatchesAreTheSameOfLinearScan() {
+        for (HitPolicy hitPolicy : Arrays.asList(HitPolicy.COLLECT, HitPolicy.RULE_ORDER, HitPolicy.FIRST, HitPolicy.ANY, HitPolicy.UNIQUE)) {
+            DecisionTableImpl indexed = newDecisionTable(hitPolicy, 500, true);
+            DecisionTableImpl linear = newDecisionTable(hitPolicy, 500, false);
+            assertThat(indexed.isIndexed()).isTrue();
+            assertThat(linear.isIndexed()).isFalse();
+
+            for (Object age : Arrays.asList(null, new BigDecimal(-5), new BigDecimal(0), new BigDecimal("17.99"), new BigDecimal(18), new BigDecimal("21.0"),
+                                            new BigDecimal(30), new BigDecimal(40), new BigDecimal(55), new BigDecimal(65), new BigDecimal(100))) {
+                for (Object category : Arrays.asList(null, "A", "B", "C", "D", "E", BigDecimal.ONE)) {
+                    for (Object vip : Arrays.asList(null, true, false)) {
+                        Map<String, Object> inputs = new HashMap<>();
+                        inputs.put("age", age);
+                        inputs.put("category", category);
+                        inputs.put("vip", vip);
+                        FEELFnResult<Object> indexedResult = evaluate(indexed, inputs);
+                        FEELFnResult<Object> linearResult = evaluate(linear, inputs);
+                        assertThat(indexedResult.isRight()).as(hitPolicy + " " + inputs).isEqualTo(linearResult.isRight());
+                        assertThat(indexedResult.getOrElse(null)).as(hitPolicy + " " + inputs).isEqualTo(linearResult.getOrElse(null));
+                    }
+                }
+            }
+        }
+    }
+
+    private FEELFnResult<Object> evaluate(DecisionTableImpl decisionTable, Map<String, Object> inputs) {
+        return decisionTable.evaluate(((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), inputs), new Object[0]);
+    }
+
+    private DecisionTableImpl newDecisionTable(HitPolicy hitPolicy, int rowsCount, boolean indexable) {
+        List<DTInputClause> inputs = Arrays.asList(new DTInputClause("age", null, null, null, false),
+                                                   new DTInputClause("category", null, null, null, false),
+                                                   new DTInputClause("vip", null, null, null, false));
+        List<DTOutputClause> outputs = Collections.singletonList(new DTOutputClause("row", null));
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for (int i = 0; i < rowsCount; i++) {
+            rules.add(newRule(i,
+                              indexable,
+                              AGE_ENTRIES[i % AGE_ENTRIES.length],
+                              CATEGORY_ENTRIES[(i / AGE_ENTRIES.length) % CATEGORY_ENTRIES.length],
+                              VIP_ENTRIES[i % VIP_ENTRIES.length]));
+        }
+        return new DecisionTableImpl("test", Arrays.asList("age", "category", "vip"), inputs, outputs, rules, hitPolicy, feel);
+    }
+
+    private DTDecisionRule newRule(int index, boolean indexable, String... entries) {
+        DTDecisionRule rule = new DTDecisionRule(index);
+        for (String entry : entries) {
+            List<UnaryTest> tests = feel.evaluateUnaryTests(entry);
+            rule.getInputEntry().add((c, x) -> tests.stream().anyMatch(t -> {
+                Boolean result = t.apply(c, x);
+                return result != null && result;
+            }));
+            if (indexable) {
+                rule.getIndexableInputEntry().add(DTIndexableEntry.parse(entry));
+            }
+        }
+        rule.getOutputEntry().add(feel.compile(String.valueOf(index), feel.newCompilerContext()));
+        return rule;
+    }
+}
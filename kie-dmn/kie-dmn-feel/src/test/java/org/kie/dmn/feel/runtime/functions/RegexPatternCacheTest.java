@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.runtime.functions;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RegexPatternCacheTest {
+
+    @Before
+    public void setUp() {
+        RegexPatternCache.clear();
+    }
+
+    @Test
+    public void samePatternCompiledOnce() {
+        Pattern p = RegexPatternCache.compile("^fo*b", 0);
+        assertThat(RegexPatternCache.compile("^fo*b", 0)).isSameAs(p);
+        assertThat(RegexPatternCache.compile("^fo*b", Pattern.CASE_INSENSITIVE)).isNotSameAs(p);
+        assertThat(RegexPatternCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidPatternIsNotCached() {
+        assertThatThrownBy(() -> RegexPatternCache.compile("(abc", 0)).isInstanceOf(PatternSyntaxException.class);
+        assertThat(RegexPatternCache.size()).isZero();
+    }
+
+    @Test
+    public void leastRecentlyUsedPatternsAreEvicted() {
+        Pattern first = RegexPatternCache.compile("p0", 0);
+        for (int i = 1; i <= RegexPatternCache.MAX_SIZE; i++) {
+            RegexPatternCache.compile("p" + i, 0);
+        }
+        // the eviction is approximate, but the least recently used pattern is always among the evicted ones
+        assertThat(RegexPatternCache.size()).isLessThanOrEqualTo(RegexPatternCache.MAX_SIZE);
+        assertThat(RegexPatternCache.compile("p0", 0)).isNotSameAs(first);
+    }
+
+    @Test
+    public void builtinsShareTheCache() {
+        FunctionTestUtil.assertResult(new MatchesFunction().invoke("foobar", "o+b", "i"), true);
+        FunctionTestUtil.assertResult(new MatchesFunction().invoke("FOOBAR", "o+b", "i"), true);
+        FunctionTestUtil.assertResult(new ReplaceFunction().invoke("abcd", "(ab)|(a)", "[1=$1][2=$2]"), "[1=ab][2=]cd");
+        FunctionTestUtil.assertResult(new ReplaceFunction().invoke("abcd", "(ab)|(a)", "[1=$1][2=$2]"), "[1=ab][2=]cd");
+        assertThat(RegexPatternCache.size()).isEqualTo(2);
+    }
+}
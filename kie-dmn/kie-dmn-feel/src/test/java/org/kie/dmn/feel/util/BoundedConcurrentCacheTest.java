@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedConcurrentCacheTest {
+
+    @Test
+    public void testLeastRecentlyAccessedEntriesAreEvicted() {
+        AtomicLong clock = new AtomicLong();
+        BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>(10, clock::incrementAndGet);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertThat(cache.get(0)).isEqualTo("v0");
+        cache.put(10, "v10");
+
+        // evicted down to 90% of the maximum size
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.get(0)).isEqualTo("v0");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.get(10)).isEqualTo("v10");
+    }
+
+    @Test
+    public void testNullValues() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10);
+        cache.put("a", null);
+        assertThat(cache.getOrDefault("a", "missing")).isNull();
+        assertThat(cache.getOrDefault("b", "missing")).isEqualTo("missing");
+    }
+
+    @Test
+    public void testRemoveIf() {
+        BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>(10);
+        for (int i = 0; i < 6; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertThat(cache.removeIf((k, v) -> k % 2 == 0)).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(1)).isEqualTo("v1");
+        assertThat(cache.get(2)).isNull();
+    }
+
+    @Test
+    public void testDisabledCache() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(0);
+        cache.put("a", "A");
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test(timeout = 30_000)
+    public void testConcurrentAccessStaysBounded() throws Exception {
+        BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 10_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        Integer cached = cache.get(offset + i % 500);
+                        if (cached == null) {
+                            cache.put(offset + i % 500, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.put(-1, -1);
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExactLongArithmeticTest {
+
+    private static final List<Long> VALUES = Arrays.asList(0L, 1L, -1L, 2L, 3L, -7L, 10L, 1_000_000_007L, (long) Integer.MAX_VALUE, (long) Integer.MIN_VALUE,
+                                                           999_999_999_999_999_999L, -999_999_999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 2 + 1);
+
+    @Test
+    public void testSameResultsAsDecimal128() {
+        for (Long l : VALUES) {
+            for (Long r : VALUES) {
+                assertSameAsDecimal128(ExactLongArithmetic.add(l, r), l, r, (a, b) -> a.add(b, MathContext.DECIMAL128));
+                assertSameAsDecimal128(ExactLongArithmetic.sub(l, r), l, r, (a, b) -> a.subtract(b, MathContext.DECIMAL128));
+                assertSameAsDecimal128(ExactLongArithmetic.mult(l, r), l, r, (a, b) -> a.multiply(b, MathContext.DECIMAL128));
+                if (r != 0) {
+                    assertSameAsDecimal128(ExactLongArithmetic.div(l, r), l, r, (a, b) -> a.divide(b, MathContext.DECIMAL128));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOverflowFallsBack() {
+        assertThat(ExactLongArithmetic.add(Long.MAX_VALUE, 1L)).isNull();
+        assertThat(ExactLongArithmetic.sub(Long.MIN_VALUE, 1L)).isNull();
+        assertThat(ExactLongArithmetic.mult(Long.MAX_VALUE / 2 + 1, 2L)).isNull();
+        assertThat(ExactLongArithmetic.div(Long.MIN_VALUE, -1L)).isNull();
+    }
+
+    @Test
+    public void testNonExactOperandsFallBack() {
+        assertThat(ExactLongArithmetic.div(7, 2)).isNull();
+        assertThat(ExactLongArithmetic.div(7, 0)).isNull();
+        assertThat(ExactLongArithmetic.add(new BigDecimal("1.5"), BigDecimal.ONE)).isNull();
+        assertThat(ExactLongArithmetic.add(new BigDecimal("1.0"), BigDecimal.ONE)).isNull();
+        assertThat(ExactLongArithmetic.add(new BigDecimal("1E+3"), BigDecimal.ONE)).isNull();
+        assertThat(ExactLongArithmetic.add(new BigDecimal("12345678901234567890"), BigDecimal.ONE)).isNull();
+        assertThat(ExactLongArithmetic.add(1.0d, 1)).isNull();
+        assertThat(ExactLongArithmetic.add("1", 1)).isNull();
+    }
+
+    @Test
+    public void testMixedIntegralOperands() {
+        assertThat(ExactLongArithmetic.add(1, 2L)).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(ExactLongArithmetic.mult((short) 3, new BigDecimal("4"))).isEqualTo(BigDecimal.valueOf(12));
+        assertThat(ExactLongArithmetic.sub((byte) 3, 5)).isEqualTo(BigDecimal.valueOf(-2));
+    }
+
+    private static void assertSameAsDecimal128(BigDecimal actual, long l, long r, BinaryOperator<BigDecimal> op) {
+        if (actual != null) {
+            // equals, and not compareTo, so that the scale is checked too
+            assertThat(actual).as("%s %s", l, r).isEqualTo(op.apply(BigDecimal.valueOf(l), BigDecimal.valueOf(r)));
+        }
+    }
+}
@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.DMNElementReference;
 
 public class TAssociation extends TArtifact implements Association {
 
+    private static final long serialVersionUID = 1L;
+
     private DMNElementReference sourceRef;
     private DMNElementReference targetRef;
     private AssociationDirection associationDirection;
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.DMNElementReference;
 
 public class TAuthorityRequirement extends KieDMNModelInstrumentedBase implements AuthorityRequirement, NotADMNElementInV11 {
 
+    private static final long serialVersionUID = 1L;
+
     private DMNElementReference requiredDecision;
     private DMNElementReference requiredInput;
     private DMNElementReference requiredAuthority;
@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.KnowledgeRequirement;
 
 public class TBusinessKnowledgeModel extends TDRGElement implements BusinessKnowledgeModel {
 
+    private static final long serialVersionUID = 1L;
+
     private FunctionDefinition encapsulatedLogic;
     private InformationItem variable;
     private List<KnowledgeRequirement> knowledgeRequirement;
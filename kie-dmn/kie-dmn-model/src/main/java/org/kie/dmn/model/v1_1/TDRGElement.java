@@ -19,4 +19,6 @@ import org.kie.dmn.model.api.DRGElement;
 
 public abstract class TDRGElement extends TNamedElement implements DRGElement {
 
+    private static final long serialVersionUID = 1L;
+
 }
@@ -29,6 +29,8 @@ import org.kie.dmn.model.api.RuleAnnotationClause;
 
 public class TDecisionTable extends TExpression implements DecisionTable {
 
+    private static final long serialVersionUID = 1L;
+
     private List<InputClause> input;
     private List<OutputClause> output;
     private List<DecisionRule> rule;
@@ -23,6 +23,8 @@ import org.kie.dmn.model.api.ElementCollection;
 
 public class TElementCollection extends TNamedElement implements ElementCollection {
 
+    private static final long serialVersionUID = 1L;
+
     private List<DMNElementReference> drgElement;
 
     @Override
@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.InformationItem;
 
 public class TInformationItem extends TNamedElement implements InformationItem {
 
+    private static final long serialVersionUID = 1L;
+
     private QName typeRef;
 
     @Override
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.InformationRequirement;
 
 public class TInformationRequirement extends KieDMNModelInstrumentedBase implements InformationRequirement, NotADMNElementInV11 {
 
+    private static final long serialVersionUID = 1L;
+
     private DMNElementReference requiredDecision;
     private DMNElementReference requiredInput;
 
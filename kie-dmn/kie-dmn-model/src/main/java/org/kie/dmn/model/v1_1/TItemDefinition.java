@@ -27,6 +27,8 @@ import org.kie.dmn.model.api.UnaryTests;
 
 public class TItemDefinition extends TNamedElement implements ItemDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     private QName typeRef;
     private UnaryTests allowedValues;
     private List<ItemDefinition> itemComponent = new ArrayList<>();
@@ -24,6 +24,8 @@ import org.kie.dmn.model.api.KnowledgeSource;
 
 public class TKnowledgeSource extends TDRGElement implements KnowledgeSource {
 
+    private static final long serialVersionUID = 1L;
+
     private List<AuthorityRequirement> authorityRequirement;
     private String type;
     private DMNElementReference owner;
@@ -25,6 +25,8 @@ import org.kie.dmn.model.api.List;
  */
 public class TList extends TExpression implements List {
 
+    private static final long serialVersionUID = 1L;
+
     private java.util.List<Expression> expression;
 
     @Override
@@ -23,6 +23,8 @@ import org.kie.dmn.model.api.PerformanceIndicator;
 
 public class TPerformanceIndicator extends TBusinessContextElement implements PerformanceIndicator {
 
+    private static final long serialVersionUID = 1L;
+
     private List<DMNElementReference> impactingDecision;
 
     @Override
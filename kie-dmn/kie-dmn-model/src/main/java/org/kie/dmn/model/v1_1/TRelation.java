@@ -23,6 +23,8 @@ import org.kie.dmn.model.api.Relation;
 
 public class TRelation extends TExpression implements Relation {
 
+    private static final long serialVersionUID = 1L;
+
     private java.util.List<InformationItem> column;
     private java.util.List<List> row;
 
@@ -19,6 +19,8 @@ import org.kie.dmn.model.api.TextAnnotation;
 
 public class TTextAnnotation extends TArtifact implements TextAnnotation {
 
+    private static final long serialVersionUID = 1L;
+
     private static final String DEFAULT_TEXT_FORMAT = "text/plain";
 
     private String text;
@@ -23,6 +23,8 @@ import org.kie.dmn.model.v1_1.KieDMNModelInstrumentedBase;
 
 public class DecisionServices extends KieDMNModelInstrumentedBase {
 
+    private static final long serialVersionUID = 1L;
+
     private List<DecisionService> decisionService;
 
     public List<DecisionService> getDecisionService() {
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.BusinessContextElement;
 
 public class TBusinessContextElement extends TNamedElement implements BusinessContextElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String uri;
 
     @Override
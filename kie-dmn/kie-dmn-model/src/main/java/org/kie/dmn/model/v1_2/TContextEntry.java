@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.InformationItem;
 
 public class TContextEntry extends TDMNElement implements ContextEntry {
 
+    private static final long serialVersionUID = 1L;
+
     protected InformationItem variable;
     protected Expression expression;
 
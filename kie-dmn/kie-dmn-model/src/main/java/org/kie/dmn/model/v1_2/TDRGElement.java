@@ -20,5 +20,7 @@ import org.kie.dmn.model.api.DRGElement;
 
 public class TDRGElement extends TNamedElement implements DRGElement {
 
+    private static final long serialVersionUID = 1L;
+
 
 }
@@ -24,6 +24,8 @@ import org.kie.dmn.model.api.ElementCollection;
 
 public class TElementCollection extends TNamedElement implements ElementCollection {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<DMNElementReference> drgElement;
 
     @Override
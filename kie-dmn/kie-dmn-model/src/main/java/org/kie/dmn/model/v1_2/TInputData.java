@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.InputData;
 
 public class TInputData extends TDRGElement implements InputData {
 
+    private static final long serialVersionUID = 1L;
+
     protected InformationItem variable;
 
     @Override
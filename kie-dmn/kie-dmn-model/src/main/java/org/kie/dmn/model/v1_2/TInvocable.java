@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.Invocable;
 
 public class TInvocable extends TDRGElement implements Invocable {
 
+    private static final long serialVersionUID = 1L;
+
     protected InformationItem variable;
 
     @Override
@@ -24,6 +24,8 @@ import org.kie.dmn.model.api.OrganizationUnit;
 
 public class TOrganizationUnit extends TBusinessContextElement implements OrganizationUnit {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<DMNElementReference> decisionMade;
     protected List<DMNElementReference> decisionOwned;
 
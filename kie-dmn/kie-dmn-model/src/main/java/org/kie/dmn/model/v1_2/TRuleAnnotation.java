@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.RuleAnnotation;
 
 public class TRuleAnnotation extends KieDMNModelInstrumentedBase implements RuleAnnotation {
 
+    private static final long serialVersionUID = 1L;
+
     protected String text;
 
     @Override
@@ -20,6 +20,8 @@ import org.kie.dmn.model.v1_2.KieDMNModelInstrumentedBase;
 
 public class Bounds extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.Bounds {
 
+    private static final long serialVersionUID = 1L;
+
     protected double x;
     protected double y;
     protected double width;
@@ -20,6 +20,8 @@ import org.kie.dmn.model.v1_2.KieDMNModelInstrumentedBase;
 
 public class Color extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.Color {
 
+    private static final long serialVersionUID = 1L;
+
     protected int red;
     protected int green;
     protected int blue;
@@ -20,6 +20,8 @@ import javax.xml.namespace.QName;
 
 public class DMNEdge extends Edge implements org.kie.dmn.model.api.dmndi.DMNEdge {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.DMNLabel dmnLabel;
     protected QName dmnElementRef;
 
@@ -18,6 +18,8 @@ package org.kie.dmn.model.v1_2.dmndi;
 
 public class DMNLabel extends Shape implements org.kie.dmn.model.api.dmndi.DMNLabel {
 
+    private static final long serialVersionUID = 1L;
+
     protected String text;
 
     /**
@@ -20,6 +20,8 @@ import javax.xml.namespace.QName;
 
 public class DMNShape extends Shape implements org.kie.dmn.model.api.dmndi.DMNShape {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.DMNLabel dmnLabel;
     protected org.kie.dmn.model.api.dmndi.DMNDecisionServiceDividerLine dmnDecisionServiceDividerLine;
     protected QName dmnElementRef;
@@ -21,6 +21,8 @@ import java.util.List;
 
 public abstract class Edge extends DiagramElement implements org.kie.dmn.model.api.dmndi.Edge {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<org.kie.dmn.model.api.dmndi.Point> waypoint;
 
     /**
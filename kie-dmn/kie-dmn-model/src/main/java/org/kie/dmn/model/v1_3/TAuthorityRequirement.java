@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.DMNElementReference;
 
 public class TAuthorityRequirement extends TDMNElement implements AuthorityRequirement {
 
+    private static final long serialVersionUID = 1L;
+
     protected DMNElementReference requiredDecision;
     protected DMNElementReference requiredInput;
     protected DMNElementReference requiredAuthority;
@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.KnowledgeRequirement;
 
 public class TBusinessKnowledgeModel extends TInvocable implements BusinessKnowledgeModel {
 
+    private static final long serialVersionUID = 1L;
+
     protected FunctionDefinition encapsulatedLogic;
     protected List<KnowledgeRequirement> knowledgeRequirement;
     protected List<AuthorityRequirement> authorityRequirement;
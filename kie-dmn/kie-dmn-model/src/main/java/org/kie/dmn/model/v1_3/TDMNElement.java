@@ -23,6 +23,8 @@ import org.kie.dmn.model.api.DMNElement;
 
 public class TDMNElement extends KieDMNModelInstrumentedBase implements DMNElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String description;
     protected ExtensionElements extensionElements;
     protected String id;
@@ -70,6 +72,8 @@ public class TDMNElement extends KieDMNModelInstrumentedBase implements DMNEleme
 
     public static class TExtensionElements extends KieDMNModelInstrumentedBase implements ExtensionElements {
 
+        private static final long serialVersionUID = 1L;
+
         protected List<Object> any;
 
         @Override
@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.UnaryTests;
 
 public class TDecisionRule extends TDMNElement implements DecisionRule {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<UnaryTests> inputEntry;
     protected List<LiteralExpression> outputEntry;
     protected List<RuleAnnotation> annotationEntry;
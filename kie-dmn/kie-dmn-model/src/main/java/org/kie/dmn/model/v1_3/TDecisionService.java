@@ -24,6 +24,8 @@ import org.kie.dmn.model.api.DecisionService;
 
 public class TDecisionService extends TInvocable implements DecisionService {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<DMNElementReference> outputDecision;
     protected List<DMNElementReference> encapsulatedDecision;
     protected List<DMNElementReference> inputDecision;
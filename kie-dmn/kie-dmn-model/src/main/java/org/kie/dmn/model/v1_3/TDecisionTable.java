@@ -31,6 +31,8 @@ import org.kie.dmn.model.api.RuleAnnotationClause;
 
 public class TDecisionTable extends TExpression implements DecisionTable {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<InputClause> input;
     protected List<OutputClause> output;
     protected List<RuleAnnotationClause> annotation;
@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.Expression;
 
 public class TExpression extends TDMNElement implements Expression {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * align with internal model
      */
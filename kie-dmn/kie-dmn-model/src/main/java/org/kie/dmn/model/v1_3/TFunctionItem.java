@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.InformationItem;
 
 public class TFunctionItem extends TDMNElement implements FunctionItem {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<InformationItem> parameters;
     protected QName outputTypeRef;
 
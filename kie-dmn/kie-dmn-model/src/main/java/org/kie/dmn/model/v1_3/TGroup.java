@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.Group;
 
 public class TGroup extends TArtifact implements Group {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
 
     @Override
@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.InformationRequirement;
 
 public class TInformationRequirement extends TDMNElement implements InformationRequirement {
 
+    private static final long serialVersionUID = 1L;
+
     protected DMNElementReference requiredDecision;
     protected DMNElementReference requiredInput;
 
@@ -25,6 +25,8 @@ import org.kie.dmn.model.api.Invocation;
 
 public class TInvocation extends TExpression implements Invocation {
 
+    private static final long serialVersionUID = 1L;
+
     protected Expression expression;
     protected List<Binding> binding;
 
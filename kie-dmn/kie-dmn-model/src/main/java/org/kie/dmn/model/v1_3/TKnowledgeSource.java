@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.KnowledgeSource;
 
 public class TKnowledgeSource extends TDRGElement implements KnowledgeSource {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<AuthorityRequirement> authorityRequirement;
     protected String type;
     protected DMNElementReference owner;
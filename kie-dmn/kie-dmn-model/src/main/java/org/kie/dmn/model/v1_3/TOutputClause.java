@@ -24,6 +24,8 @@ import org.kie.dmn.model.api.UnaryTests;
 
 public class TOutputClause extends TDMNElement implements OutputClause {
 
+    private static final long serialVersionUID = 1L;
+
     protected UnaryTests outputValues;
     protected LiteralExpression defaultOutputEntry;
     protected String name;
@@ -25,6 +25,8 @@ import org.kie.dmn.model.api.PerformanceIndicator;
 
 public class TPerformanceIndicator extends TBusinessContextElement implements PerformanceIndicator {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<DMNElementReference> impactingDecision;
 
     @Override
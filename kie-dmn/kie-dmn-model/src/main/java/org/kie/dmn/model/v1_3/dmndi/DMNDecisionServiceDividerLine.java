@@ -18,5 +18,7 @@ package org.kie.dmn.model.v1_3.dmndi;
 
 public class DMNDecisionServiceDividerLine extends Edge implements org.kie.dmn.model.api.dmndi.DMNDecisionServiceDividerLine {
 
+    private static final long serialVersionUID = 1L;
+
 
 }
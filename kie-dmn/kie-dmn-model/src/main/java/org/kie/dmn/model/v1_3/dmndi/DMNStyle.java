@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.dmndi.AlignmentKind;
 
 public class DMNStyle extends Style implements org.kie.dmn.model.api.dmndi.DMNStyle {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.Color fillColor;
     protected org.kie.dmn.model.api.dmndi.Color strokeColor;
     protected org.kie.dmn.model.api.dmndi.Color fontColor;
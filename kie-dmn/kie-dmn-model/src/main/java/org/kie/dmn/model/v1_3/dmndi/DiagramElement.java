@@ -25,6 +25,8 @@ import org.kie.dmn.model.v1_3.KieDMNModelInstrumentedBase;
 
 public abstract class DiagramElement extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.DiagramElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.DiagramElement.Extension extension;
     protected org.kie.dmn.model.api.dmndi.Style style;
     protected org.kie.dmn.model.api.dmndi.Style sharedStyle;
@@ -132,6 +134,8 @@ public abstract class DiagramElement extends KieDMNModelInstrumentedBase impleme
 
     public static class Extension extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.DiagramElement.Extension {
 
+        private static final long serialVersionUID = 1L;
+
         protected List<Object> any;
 
         public List<Object> getAny() {
@@ -20,6 +20,8 @@ import org.kie.dmn.model.v1_3.KieDMNModelInstrumentedBase;
 
 public class Dimension extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.Dimension {
 
+    private static final long serialVersionUID = 1L;
+
     protected double width;
     protected double height;
 
@@ -20,6 +20,8 @@ import org.kie.dmn.model.v1_3.KieDMNModelInstrumentedBase;
 
 public class Point extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.Point {
 
+    private static final long serialVersionUID = 1L;
+
     protected double x;
     protected double y;
 
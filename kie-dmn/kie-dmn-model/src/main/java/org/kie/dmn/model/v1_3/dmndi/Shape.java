@@ -18,6 +18,8 @@ package org.kie.dmn.model.v1_3.dmndi;
 
 public abstract class Shape extends DiagramElement implements org.kie.dmn.model.api.dmndi.Shape {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.Bounds bounds;
 
     /**
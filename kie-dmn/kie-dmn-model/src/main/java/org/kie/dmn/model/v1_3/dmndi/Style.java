@@ -16,6 +16,7 @@
 
 package org.kie.dmn.model.v1_3.dmndi;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,6 +26,8 @@ import org.w3c.dom.Element;
 
 public abstract class Style extends KieDMNModelInstrumentedBase implements org.kie.dmn.model.api.dmndi.Style {
 
+    private static final long serialVersionUID = 1L;
+
     protected org.kie.dmn.model.api.dmndi.Style.Extension extension;
     protected String id;
 
@@ -77,7 +80,9 @@ public abstract class Style extends KieDMNModelInstrumentedBase implements org.k
     }
 
 
-    public static class Extension implements org.kie.dmn.model.api.dmndi.Style.Extension {
+    public static class Extension implements org.kie.dmn.model.api.dmndi.Style.Extension, Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         protected List<Object> any;
 
@@ -115,6 +120,8 @@ public abstract class Style extends KieDMNModelInstrumentedBase implements org.k
 
     public static class IDREFStubStyle extends Style {
 
+        private static final long serialVersionUID = 1L;
+
         public IDREFStubStyle(String id) {
             this.id = id;
         }
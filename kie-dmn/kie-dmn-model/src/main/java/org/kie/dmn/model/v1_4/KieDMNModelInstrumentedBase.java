@@ -16,6 +16,7 @@
 
 package org.kie.dmn.model.v1_4;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,7 +30,9 @@ import javax.xml.stream.Location;
 import org.kie.dmn.model.api.DMNModelInstrumentedBase;
 import org.kie.dmn.model.api.RowLocation;
 
-public abstract class KieDMNModelInstrumentedBase implements DMNModelInstrumentedBase {
+public abstract class KieDMNModelInstrumentedBase implements DMNModelInstrumentedBase, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public static final String URI_DMN = "https://www.omg.org/spec/DMN/20211108/MODEL/";
     public static final String URI_FEEL = "https://www.omg.org/spec/DMN/20211108/FEEL/";
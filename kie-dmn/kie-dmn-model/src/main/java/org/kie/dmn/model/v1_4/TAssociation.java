@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.DMNElementReference;
 
 public class TAssociation extends TArtifact implements Association {
 
+    private static final long serialVersionUID = 1L;
+
     protected DMNElementReference sourceRef;
     protected DMNElementReference targetRef;
     protected AssociationDirection associationDirection;
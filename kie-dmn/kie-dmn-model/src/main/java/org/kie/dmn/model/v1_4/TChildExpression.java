@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.Expression;
 
 public class TChildExpression extends KieDMNModelInstrumentedBase implements ChildExpression {
 
+    private static final long serialVersionUID = 1L;
+
     protected Expression expression;
     
     protected String id;
@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.Conditional;
 
 public class TConditional extends TExpression implements Conditional {
 
+    private static final long serialVersionUID = 1L;
+
     private ChildExpression ifExp;
     private ChildExpression thenExp;
     private ChildExpression elseExp;
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.DMNElementReference;
 
 public class TDMNElementReference extends KieDMNModelInstrumentedBase implements DMNElementReference {
 
+    private static final long serialVersionUID = 1L;
+
     private String href;
 
     @Override
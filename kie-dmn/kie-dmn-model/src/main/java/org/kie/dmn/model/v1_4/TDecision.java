@@ -29,6 +29,8 @@ import org.kie.dmn.model.api.KnowledgeRequirement;
 
 public class TDecision extends TDRGElement implements Decision {
 
+    private static final long serialVersionUID = 1L;
+
     protected String question;
     protected String allowedAnswers;
     protected InformationItem variable;
@@ -20,4 +20,6 @@ import org.kie.dmn.model.api.Every;
 
 public class TEvery extends TQuantified implements Every {
 
+    private static final long serialVersionUID = 1L;
+
 }
@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.Filter;
 
 public class TFilter extends TExpression implements Filter {
 
+    private static final long serialVersionUID = 1L;
+
     private ChildExpression in;
     private ChildExpression match;
 
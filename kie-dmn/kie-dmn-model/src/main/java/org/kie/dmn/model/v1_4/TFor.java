@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.ChildExpression;
 import org.kie.dmn.model.api.For;
 
 public class TFor extends TIterator implements For {
+
+    private static final long serialVersionUID = 1L;
     
     protected ChildExpression _return;
 
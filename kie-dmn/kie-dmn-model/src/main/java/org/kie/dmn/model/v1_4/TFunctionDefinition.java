@@ -26,6 +26,8 @@ import org.kie.dmn.model.api.InformationItem;
 
 public class TFunctionDefinition extends TExpression implements FunctionDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     protected List<InformationItem> formalParameter;
     protected Expression expression;
     protected FunctionKind kind;
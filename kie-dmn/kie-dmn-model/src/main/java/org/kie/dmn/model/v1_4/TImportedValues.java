@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.ImportedValues;
 
 public class TImportedValues extends TImport implements ImportedValues {
 
+    private static final long serialVersionUID = 1L;
+
     protected String importedElement;
     protected String expressionLanguage;
 
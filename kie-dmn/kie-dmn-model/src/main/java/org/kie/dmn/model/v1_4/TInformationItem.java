@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.InformationItem;
 
 public class TInformationItem extends TNamedElement implements InformationItem {
 
+    private static final long serialVersionUID = 1L;
+
     protected QName typeRef;
 
     @Override
@@ -22,6 +22,8 @@ import org.kie.dmn.model.api.UnaryTests;
 
 public class TInputClause extends TDMNElement implements InputClause {
 
+    private static final long serialVersionUID = 1L;
+
     protected LiteralExpression inputExpression;
     protected UnaryTests inputValues;
 
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.Iterator;
 import org.kie.dmn.model.api.TypedChildExpression;
 
 public class TIterator extends TExpression implements Iterator {
+
+    private static final long serialVersionUID = 1L;
     
 	protected TypedChildExpression in;
 	
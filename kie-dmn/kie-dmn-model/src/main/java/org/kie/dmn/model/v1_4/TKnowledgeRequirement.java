@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.KnowledgeRequirement;
 
 public class TKnowledgeRequirement extends TDMNElement implements KnowledgeRequirement {
 
+    private static final long serialVersionUID = 1L;
+
     protected DMNElementReference requiredKnowledge;
 
     @Override
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.NamedElement;
 
 public class TNamedElement extends TDMNElement implements NamedElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
 
     @Override
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.ChildExpression;
 import org.kie.dmn.model.api.Quantified;
 
 public class TQuantified extends TIterator implements Quantified {
+
+    private static final long serialVersionUID = 1L;
     
     protected ChildExpression satisfies;
 
@@ -25,6 +25,8 @@ import org.kie.dmn.model.api.Relation;
 
 public class TRelation extends TExpression implements Relation {
 
+    private static final long serialVersionUID = 1L;
+
     protected java.util.List<InformationItem> column;
     protected java.util.List<List> row;
 
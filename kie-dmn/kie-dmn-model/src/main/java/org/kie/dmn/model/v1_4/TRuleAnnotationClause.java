@@ -21,6 +21,8 @@ import org.kie.dmn.model.api.RuleAnnotationClause;
 
 public class TRuleAnnotationClause extends KieDMNModelInstrumentedBase implements RuleAnnotationClause {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
 
     @Override
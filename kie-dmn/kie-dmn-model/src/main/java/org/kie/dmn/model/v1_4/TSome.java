@@ -20,4 +20,6 @@ import org.kie.dmn.model.api.Some;
 
 public class TSome extends TQuantified implements Some {
 
+    private static final long serialVersionUID = 1L;
+
 }
@@ -19,6 +19,8 @@ package org.kie.dmn.model.v1_4;
 import org.kie.dmn.model.api.TypedChildExpression;
 
 public class TTypedChildExpression extends TChildExpression implements TypedChildExpression {
+
+    private static final long serialVersionUID = 1L;
     
     protected String typeRef;
 
@@ -20,6 +20,8 @@ import org.kie.dmn.model.api.UnaryTests;
 
 public class TUnaryTests extends TExpression implements UnaryTests {
 
+    private static final long serialVersionUID = 1L;
+
     protected String text;
     protected String expressionLanguage;
 
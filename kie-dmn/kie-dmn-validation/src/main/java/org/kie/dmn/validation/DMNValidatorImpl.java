@@ -71,6 +71,7 @@ import org.kie.dmn.feel.util.ClassLoaderUtil;
 import org.kie.dmn.model.api.DMNModelInstrumentedBase;
 import org.kie.dmn.model.api.DecisionService;
 import org.kie.dmn.model.api.Definitions;
+import org.kie.dmn.validation.dtanalysis.DMNDTAnalyser;
 import org.kie.dmn.validation.dtanalysis.InternalDMNDTAnalyser;
 import org.kie.dmn.validation.dtanalysis.InternalDMNDTAnalyserFactory;
 import org.kie.dmn.validation.dtanalysis.model.DTAnalysis;
@@ -168,7 +169,13 @@ public class DMNValidatorImpl implements DMNValidator {
             throw new IllegalStateException("Unable to initialize DMNCompiler decisionlogicCompilerFactory based on parameters provided", e);
         }
         this.dmnCompilerConfig = dmnCompilerConfiguration;
-        dmnDTValidator = InternalDMNDTAnalyserFactory.newDMNDTAnalyser(this.dmnProfiles);
+        dmnDTValidator = InternalDMNDTAnalyserFactory.newDMNDTAnalyser(this.dmnProfiles,
+                                                                       Long.parseLong(dtAnalysisProperty(localChainedProperties, DMNDTAnalyser.TIME_BUDGET_PROPERTY, "0")),
+                                                                       Integer.parseInt(dtAnalysisProperty(localChainedProperties, DMNDTAnalyser.PARALLELISM_PROPERTY, "0")));
+    }
+
+    private static String dtAnalysisProperty(ChainedProperties properties, String key, String defaultValue) {
+        return properties.getProperty(key, System.getProperty(key, defaultValue));
     }
 
     @Override
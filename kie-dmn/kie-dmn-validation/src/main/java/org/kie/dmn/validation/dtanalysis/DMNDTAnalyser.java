@@ -26,6 +26,10 @@ import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -93,14 +97,56 @@ import org.slf4j.LoggerFactory;
 public class DMNDTAnalyser implements InternalDMNDTAnalyser {
 
     private static final Logger LOG = LoggerFactory.getLogger(DMNDTAnalyser.class);
+
+    /**
+     * The time budget in milliseconds of the analysis of each decision table, 0 for no time budget.
+     * A table whose analysis exceeds the budget is reported as skipped.
+     */
+    public static final String TIME_BUDGET_PROPERTY = "org.kie.dmn.validation.dtanalysis.timeBudgetMillis";
+    /**
+     * The number of threads analysing the decision tables: 1 for a sequential analysis, 0 for the common fork-join pool.
+     */
+    public static final String PARALLELISM_PROPERTY = "org.kie.dmn.validation.dtanalysis.parallelism";
+
+    /**
+     * The sweeps of the tables with fewer rules are not forked, as it would cost more than it saves.
+     */
+    private static final int MIN_RULES_TO_FORK = 64;
+
     private final org.kie.dmn.feel.FEEL FEEL;
     private final DMNDTAnalyserValueFromNodeVisitor valueFromNodeVisitor;
     private final DMNDTAnalyserOutputClauseVisitor outputClauseVisitor;
+    private final long timeBudgetMillis;
+    private final int parallelism;
+    private final DTAnalysisProgressListener progressListener;
 
     public DMNDTAnalyser(List<DMNProfile> dmnProfiles) {
+        this(dmnProfiles, 0, 0);
+    }
+
+    /**
+     * @param timeBudgetMillis the time budget of the analysis of each decision table, 0 for no time budget
+     * @param parallelism the number of threads analysing the decision tables, 1 for a sequential analysis, 0 for the common fork-join pool
+     */
+    public DMNDTAnalyser(List<DMNProfile> dmnProfiles, long timeBudgetMillis, int parallelism) {
+        this(dmnProfiles, timeBudgetMillis, parallelism, DTAnalysisProgressListener.NONE);
+    }
+
+    /**
+     * @param timeBudgetMillis the time budget of the analysis of each decision table, 0 for no time budget
+     * @param parallelism the number of threads analysing the decision tables, 1 for a sequential analysis, 0 for the common fork-join pool
+     * @param progressListener notified as each decision table is analysed
+     */
+    public DMNDTAnalyser(List<DMNProfile> dmnProfiles, long timeBudgetMillis, int parallelism, DTAnalysisProgressListener progressListener) {
+        if (timeBudgetMillis < 0 || parallelism < 0) {
+            throw new IllegalArgumentException("The time budget and the parallelism of the decision table analysis cannot be negative");
+        }
         FEEL = org.kie.dmn.feel.FEEL.newInstance((List) dmnProfiles);
         valueFromNodeVisitor = new DMNDTAnalyserValueFromNodeVisitor((List) dmnProfiles);
         outputClauseVisitor = new DMNDTAnalyserOutputClauseVisitor((List) dmnProfiles);
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.parallelism = parallelism;
+        this.progressListener = Objects.requireNonNull(progressListener);
     }
 
     @Override
@@ -111,21 +157,48 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
         List<DTAnalysis> results = new ArrayList<>();
 
         List<? extends DecisionTable> decisionTables = model.getDefinitions().findAllChildren(DecisionTable.class);
-        for (DecisionTable dt : decisionTables) {
-            try {
-                DTAnalysis result = dmnDTAnalysis(model, dt, flags);
-                results.add(result);
-            } catch (Throwable t) {
-                LOG.debug("Skipped dmnDTAnalysis for table: {}", dt.getId(), t);
-                DTAnalysis result = DTAnalysis.ofError(dt, t);
-                results.add(result);
+        if (parallelism == 1) {
+            for (int i = 0; i < decisionTables.size(); i++) {
+                results.add(dmnDTAnalysisOrError(model, decisionTables.get(i), flags, i + 1, decisionTables.size()));
             }
+            return results;
         }
 
+        ForkJoinPool pool = parallelism == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<DTAnalysis>> tasks = new ArrayList<>();
+            for (int i = 0; i < decisionTables.size(); i++) {
+                DecisionTable dt = decisionTables.get(i);
+                int progress = i + 1;
+                tasks.add(pool.submit(() -> dmnDTAnalysisOrError(model, dt, flags, progress, decisionTables.size())));
+            }
+            for (ForkJoinTask<DTAnalysis> task : tasks) {
+                results.add(task.join());
+            }
+        } finally {
+            if (pool != ForkJoinPool.commonPool()) {
+                pool.shutdown();
+            }
+        }
         return results;
     }
 
-    private DTAnalysis dmnDTAnalysis(DMNModel model, DecisionTable dt, Set<Validation> flags) {
+    private DTAnalysis dmnDTAnalysisOrError(DMNModel model, DecisionTable dt, Set<Validation> flags, int progress, int total) {
+        long start = System.nanoTime();
+        DTAnalysis result;
+        try {
+            result = dmnDTAnalysis(model, dt, flags, start);
+        } catch (Throwable t) {
+            LOG.debug("Skipped dmnDTAnalysis for table: {}", dt.getId(), t);
+            result = DTAnalysis.ofError(dt, t);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOG.debug("Analysed DT {} of {} with id: {} in {} ms", progress, total, dt.getId(), elapsedMillis);
+        progressListener.tableAnalysed(dt, progress, total, elapsedMillis);
+        return result;
+    }
+
+    private DTAnalysis dmnDTAnalysis(DMNModel model, DecisionTable dt, Set<Validation> flags, long start) {
         LOG.debug("Starting analsysis for DT with id: {}", dt.getId());
         DDTATable ddtaTable = new DDTATable();
         compileTableInputClauses(model, dt, ddtaTable);
@@ -134,25 +207,32 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
         compileTableComputeColStringMissingEnum(model, dt, ddtaTable);
         printDebugTableInfo(ddtaTable);
         DTAnalysis analysis = new DTAnalysis(dt, ddtaTable);
+        Sweep sweep = new Sweep(ddtaTable, dt, start, timeBudgetMillis, parallelism != 1 && ddtaTable.inputRules() >= MIN_RULES_TO_FORK);
         analysis.computeOutputInLOV();
         if (!dt.getHitPolicy().equals(HitPolicy.COLLECT)) {
             if (ddtaTable.getColIDsStringWithoutEnum().isEmpty()) {
                 LOG.debug("findGaps");
-                findGaps(analysis, ddtaTable, 0, new Interval[ddtaTable.inputCols()], Collections.emptyList());
+                OrderedResults<Hyperrectangle> gaps = new OrderedResults<>();
+                findGaps(sweep, gaps, 0, new Interval[ddtaTable.inputCols()], Collections.emptyList());
+                gaps.join().forEach(analysis::addGap);
             } else {
                 LOG.debug("findGaps Skipped because getColIDsStringWithoutEnum is not empty: {}", ddtaTable.getColIDsStringWithoutEnum());
             }
             LOG.debug("findOverlaps");
-            findOverlaps(analysis, ddtaTable, 0, new Interval[ddtaTable.inputCols()], Collections.emptyList());
+            OrderedResults<Overlap> overlaps = new OrderedResults<>();
+            findOverlaps(sweep, overlaps, 0, new Interval[ddtaTable.inputCols()], Collections.emptyList());
+            overlaps.join().forEach(analysis::addOverlap);
         } else {
             LOG.debug("findGaps(), findOverlaps() are Skipped because getHitPolicy is COLLECT.");
         }
+        sweep.checkBudget();
         LOG.debug("computeMaskedRules");
         analysis.computeMaskedRules();
         LOG.debug("computeMisleadingRules");
         analysis.computeMisleadingRules();
         LOG.debug("normalize");
         analysis.normalize();
+        sweep.checkBudget();
         LOG.debug("computeSubsumptions");
         analysis.computeSubsumptions();
         LOG.debug("computeContractions");
@@ -165,7 +245,7 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
         analysis.computeHitPolicyRecommender();
         if (flags.contains(Validation.COMPUTE_DECISION_TABLE_MCDC)) {
             LOG.debug("mcdc.");
-            List<PosNegBlock> selectedBlocks = new MCDCAnalyser(ddtaTable, dt).compute();
+            List<PosNegBlock> selectedBlocks = new MCDCAnalyser(ddtaTable, dt, sweep::checkBudget).compute();
             analysis.setMCDCSelectedBlocks(selectedBlocks);
         }
         LOG.debug("Finished analsysis for DT with id: {}", dt.getId());
@@ -459,8 +539,10 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
                           .orElse(null);
     }
 
-    private void findOverlaps(DTAnalysis analysis, DDTATable ddtaTable, int jColIdx, Interval[] currentIntervals, Collection<Integer> activeRules) {
+    private static void findOverlaps(Sweep sweep, OrderedResults<Overlap> overlaps, int jColIdx, Interval[] currentIntervals, Collection<Integer> activeRules) {
         LOG.debug("findOverlaps jColIdx {}, currentIntervals {}, activeRules {}", jColIdx, currentIntervals, activeRules);
+        sweep.checkBudget();
+        DDTATable ddtaTable = sweep.ddtaTable;
         if (jColIdx < ddtaTable.inputCols()) {
             List<Bound> bounds = findBoundsSorted(ddtaTable, jColIdx, activeRules);
             List<Interval> activeIntervals = new ArrayList<>();
@@ -474,7 +556,8 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
                                                              currentBound.isLowerBound() ? Interval.invertBoundary(currentBound.getBoundaryType()) : currentBound.getBoundaryType(),
                                                              0, 0);
                     currentIntervals[jColIdx] = analysisInterval;
-                    findOverlaps(analysis, ddtaTable, jColIdx + 1, currentIntervals, activeIntervalsToRules(activeIntervals));
+                    Collection<Integer> segmentRules = activeIntervalsToRules(activeIntervals);
+                    overlaps.sweepSegment(sweep.forkAt(jColIdx), currentIntervals, (intervals, results) -> findOverlaps(sweep, results, jColIdx + 1, intervals, segmentRules));
                 }
                 if (currentBound.isLowerBound()) {
                     activeIntervals.add(currentBound.getParent());
@@ -488,7 +571,7 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
             if (activeRules.size() > 1) {
                 Hyperrectangle overlap = new Hyperrectangle(ddtaTable.inputCols(), Arrays.asList(currentIntervals));
                 LOG.debug("OVERLAP DETECTED {}", overlap);
-                analysis.addOverlap(new Overlap(activeRules, overlap));
+                overlaps.add(new Overlap(activeRules, overlap));
             }
         } else {
             throw new IllegalStateException();
@@ -496,10 +579,11 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
         LOG.debug(".");
     }
 
-    private static void findGaps(DTAnalysis analysis, DDTATable ddtaTable, int jColIdx, Interval[] currentIntervals, Collection<Integer> activeRules) {
+    private static void findGaps(Sweep sweep, OrderedResults<Hyperrectangle> gaps, int jColIdx, Interval[] currentIntervals, Collection<Integer> activeRules) {
         LOG.debug("findGaps jColIdx {}, currentIntervals {}, activeRules {}", jColIdx, currentIntervals, activeRules);
+        sweep.checkBudget();
+        DDTATable ddtaTable = sweep.ddtaTable;
         if (jColIdx < ddtaTable.inputCols()) {
-            findBoundsSorted(ddtaTable, jColIdx, activeRules);
             List<Bound> bounds = findBoundsSorted(ddtaTable, jColIdx, activeRules);
             Interval domainRange = ddtaTable.getInputs().get(jColIdx).getDomainMinMax();
 
@@ -507,7 +591,7 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
             if (!domainRange.getLowerBound().equals(bounds.get(0))) {
                 currentIntervals[jColIdx] = lastDimensionUncoveredInterval(domainRange.getLowerBound(), bounds.get(0), domainRange);
                 Hyperrectangle gap = new Hyperrectangle(ddtaTable.inputCols(), buildEdgesForHyperrectangleFromIntervals(currentIntervals, jColIdx));
-                analysis.addGap(gap);
+                gaps.add(gap);
                 LOG.debug("STARTLEFT GAP DETECTED {}", gap);
             }
             // cycle rule's interval bounds
@@ -519,7 +603,7 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
                     currentIntervals[jColIdx] = lastDimensionUncoveredInterval(lastBound, currentBound, domainRange);
                     Hyperrectangle gap = new Hyperrectangle(ddtaTable.inputCols(), buildEdgesForHyperrectangleFromIntervals(currentIntervals, jColIdx));
                     LOG.debug("GAP DETECTED {}", gap);
-                    analysis.addGap(gap);
+                    gaps.add(gap);
                 }
                 if (!activeIntervals.isEmpty() && canBeNewCurrInterval(lastBound, currentBound)) {
                     Interval missingInterval = new Interval(lastBound.isUpperBound() ? Interval.invertBoundary(lastBound.getBoundaryType()) : lastBound.getBoundaryType(),
@@ -527,8 +611,12 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
                                                             currentBound.getValue(),
                                                             currentBound.isLowerBound() ? Interval.invertBoundary(currentBound.getBoundaryType()) : currentBound.getBoundaryType(),
                                                             0, 0);
-                    currentIntervals[jColIdx] = missingInterval;
-                    findGaps(analysis, ddtaTable, jColIdx + 1, currentIntervals, activeIntervalsToRules(activeIntervals));
+                    Collection<Integer> segmentRules = activeIntervalsToRules(activeIntervals);
+                    // pruning: no gap can be found where a rule matches the whole domain of all the remaining columns
+                    if (!sweep.anyRuleMatchesWholeDomainFrom(segmentRules, jColIdx + 1)) {
+                        currentIntervals[jColIdx] = missingInterval;
+                        gaps.sweepSegment(sweep.forkAt(jColIdx), currentIntervals, (intervals, results) -> findGaps(sweep, results, jColIdx + 1, intervals, segmentRules));
+                    }
                 }
                 if (currentBound.isLowerBound()) {
                     activeIntervals.add(currentBound.getParent());
@@ -542,7 +630,7 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
                 currentIntervals[jColIdx] = lastDimensionUncoveredInterval(lastBound, domainRange.getUpperBound(), domainRange);
                 Hyperrectangle gap = new Hyperrectangle(ddtaTable.inputCols(), buildEdgesForHyperrectangleFromIntervals(currentIntervals, jColIdx));
                 LOG.debug("ENDRIGHT GAP DETECTED {}", gap);
-                analysis.addGap(gap);
+                gaps.add(gap);
             }
             currentIntervals[jColIdx] = null; // facilitate debugging.
         }
@@ -550,9 +638,21 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
     }
 
     private static List<Bound> findBoundsSorted(DDTATable ddtaTable, int jColIdx, Collection<Integer> activeRules) {
-        List<Interval> intervals = ddtaTable.projectOnColumnIdx(jColIdx);
-        if (!activeRules.isEmpty()) {
-            intervals = intervals.stream().filter(i -> activeRules.contains(i.getRule())).collect(Collectors.toList());
+        List<Interval> intervals;
+        if (activeRules.isEmpty()) {
+            intervals = ddtaTable.projectOnColumnIdx(jColIdx);
+        } else {
+            // only the entries of the active rules are projected, in the order of the table as the sort of the bounds is stable
+            BitSet rules = new BitSet(ddtaTable.inputRules() + 1);
+            activeRules.forEach(rules::set);
+            intervals = new ArrayList<>();
+            for (int rule = rules.nextSetBit(0); rule >= 0; rule = rules.nextSetBit(rule + 1)) {
+                for (Interval interval : ddtaTable.getRule().get(rule - 1).getInputEntry().get(jColIdx).getIntervals()) {
+                    if (rules.get(interval.getRule())) {
+                        intervals.add(interval);
+                    }
+                }
+            }
         }
         LOG.debug("intervals {}", intervals);
         List<Bound> bounds = intervals.stream().flatMap(i -> Stream.of(i.getLowerBound(), i.getUpperBound())).collect(Collectors.toList());
@@ -756,4 +856,102 @@ public class DMNDTAnalyser implements InternalDMNDTAnalyser {
     private Comparable<?> valueFromNode(BaseNode node) {
         return valueFromNode(node, valueFromNodeVisitor);
     }
+
+    /**
+     * The decision table being swept for gaps and overlaps, together with the time budget of its analysis.
+     */
+    private static class Sweep {
+
+        private final DDTATable ddtaTable;
+        private final DecisionTable dt;
+        private final long start;
+        private final long timeBudgetMillis;
+        private final boolean fork;
+        /**
+         * for each rule, the index of the first column from which all its input entries match the whole domain
+         */
+        private final int[] wholeDomainFromColumn;
+
+        private Sweep(DDTATable ddtaTable, DecisionTable dt, long start, long timeBudgetMillis, boolean fork) {
+            this.ddtaTable = ddtaTable;
+            this.dt = dt;
+            this.start = start;
+            this.timeBudgetMillis = timeBudgetMillis;
+            this.fork = fork;
+            this.wholeDomainFromColumn = new int[ddtaTable.inputRules()];
+            for (int jRowIdx = 0; jRowIdx < ddtaTable.inputRules(); jRowIdx++) {
+                List<DDTAInputEntry> inputEntries = ddtaTable.getRule().get(jRowIdx).getInputEntry();
+                int jColIdx = ddtaTable.inputCols();
+                while (jColIdx > 0 && matchesWholeDomain(inputEntries.get(jColIdx - 1), ddtaTable.getInputs().get(jColIdx - 1))) {
+                    jColIdx--;
+                }
+                wholeDomainFromColumn[jRowIdx] = jColIdx;
+            }
+        }
+
+        private static boolean matchesWholeDomain(DDTAInputEntry inputEntry, DDTAInputClause inputClause) {
+            return inputEntry.getIntervals().size() == 1 && inputEntry.getIntervals().get(0).equals(inputClause.getDomainMinMax());
+        }
+
+        private boolean anyRuleMatchesWholeDomainFrom(Collection<Integer> rules, int jColIdx) {
+            for (Integer rule : rules) {
+                if (wholeDomainFromColumn[rule - 1] <= jColIdx) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Only the sweeps of the segments of the first column are forked, the deeper ones being too small.
+         */
+        private boolean forkAt(int jColIdx) {
+            return fork && jColIdx == 0;
+        }
+
+        private void checkBudget() {
+            if (timeBudgetMillis > 0 && System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis)) {
+                throw new DMNDTAnalysisException("the analysis did not complete within the time budget of " + timeBudgetMillis + " ms", dt);
+            }
+        }
+    }
+
+    /**
+     * Collects the results of a sweep in the order of a sequential sweep, even when the sweeps of some segments are forked.
+     */
+    private static class OrderedResults<T> {
+
+        private final List<List<T>> chunks = new ArrayList<>();
+        private final List<ForkJoinTask<?>> forked = new ArrayList<>();
+
+        private OrderedResults() {
+            chunks.add(new ArrayList<>());
+        }
+
+        private void add(T result) {
+            chunks.get(chunks.size() - 1).add(result);
+        }
+
+        /**
+         * Sweeps the segment being delimited by the current intervals, on another thread if fork is true:
+         * in that case the current intervals are copied, as the sweep of this column moves on to the next segment.
+         */
+        private void sweepSegment(boolean fork, Interval[] currentIntervals, BiConsumer<Interval[], OrderedResults<T>> segmentSweep) {
+            if (!fork) {
+                segmentSweep.accept(currentIntervals, this);
+                return;
+            }
+            Interval[] segmentIntervals = currentIntervals.clone();
+            OrderedResults<T> segmentResults = new OrderedResults<>();
+            // the segment sweep never forks, so all its results are collected in its first chunk
+            chunks.add(segmentResults.chunks.get(0));
+            chunks.add(new ArrayList<>());
+            forked.add(ForkJoinTask.adapt(() -> segmentSweep.accept(segmentIntervals, segmentResults)));
+        }
+
+        private List<T> join() {
+            ForkJoinTask.invokeAll(forked);
+            return chunks.stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.validation.dtanalysis;
+
+import org.kie.dmn.model.api.DecisionTable;
+
+/**
+ * Notified by the {@link DMNDTAnalyser} as each decision table of a model is analysed.
+ * When the tables are analysed in parallel, it is notified from the analysing threads, in no particular order.
+ */
+@FunctionalInterface
+public interface DTAnalysisProgressListener {
+
+    DTAnalysisProgressListener NONE = (dt, progress, total, elapsedMillis) -> { };
+
+    /**
+     * @param dt the decision table just analysed, successfully or not
+     * @param progress the position of the table in the model, starting from 1
+     * @param total the number of decision tables in the model
+     * @param elapsedMillis the time spent analysing the table
+     */
+    void tableAnalysed(DecisionTable dt, int progress, int total, long elapsedMillis);
+}
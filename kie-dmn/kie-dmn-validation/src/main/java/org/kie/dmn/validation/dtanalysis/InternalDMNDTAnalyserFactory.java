@@ -31,6 +31,14 @@ public class InternalDMNDTAnalyserFactory {
         return new DMNDTAnalyser(dmnProfiles);
     }
 
+    public static InternalDMNDTAnalyser newDMNDTAnalyser(List<DMNProfile> dmnProfiles, long timeBudgetMillis, int parallelism) {
+        return new DMNDTAnalyser(dmnProfiles, timeBudgetMillis, parallelism);
+    }
+
+    public static InternalDMNDTAnalyser newDMNDTAnalyser(List<DMNProfile> dmnProfiles, long timeBudgetMillis, int parallelism, DTAnalysisProgressListener progressListener) {
+        return new DMNDTAnalyser(dmnProfiles, timeBudgetMillis, parallelism, progressListener);
+    }
+
     private InternalDMNDTAnalyserFactory() {
         // It is forbidden to create new instances of util classes.
     }
@@ -52,14 +52,23 @@ public class MCDCAnalyser {
 
     private final DDTATable ddtaTable;
     private final DecisionTable dt;
+    private final Runnable budgetCheck;
 
     private Optional<Integer> elseRuleIdx = Optional.empty();
     private List<List<?>> allEnumValues = new ArrayList<>();
     private List<PosNegBlock> selectedBlocks = new ArrayList<>();
 
     public MCDCAnalyser(DDTATable ddtaTable, DecisionTable dt) {
+        this(ddtaTable, dt, () -> { });
+    }
+
+    /**
+     * @param budgetCheck invoked at each step of the analysis, expected to throw when the time budget of the analysis is exceeded
+     */
+    public MCDCAnalyser(DDTATable ddtaTable, DecisionTable dt, Runnable budgetCheck) {
         this.ddtaTable = ddtaTable;
         this.dt = dt;
+        this.budgetCheck = budgetCheck;
     }
 
     public List<PosNegBlock> compute() {
@@ -78,11 +87,13 @@ public class MCDCAnalyser {
         int i = 1;
         while (areInputsYetToBeVisited()) {
             LOG.debug("=== Step23, iteration {}", i);
+            budgetCheck.run();
             step23();
             i++;
         }
 
         while (!step4whichOutputYetToVisit().isEmpty()) {
+            budgetCheck.run();
             step4();
         }
 
@@ -226,6 +237,7 @@ public class MCDCAnalyser {
         Object value = allEnumValues.get(idxMostMatchingRules).get(0);
         List<Integer> matchingRulesForInput = matchingRulesForInput(idxMostMatchingRules, value);
         for (int ruleIdx : matchingRulesForInput) {
+            budgetCheck.run();
             Object[] knownValues = new Object[ddtaTable.getInputs().size()];
             knownValues[idxMostMatchingRules] = value;
             List<Object[]> valuesForRule = combinatorialValuesForRule(ruleIdx, knownValues, Collections.unmodifiableList(allEnumValues));
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.dmn.validation.dtanalysis;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.kie.dmn.core.util.Msg;
+import org.kie.dmn.validation.DMNValidator;
+import org.kie.dmn.validation.DMNValidatorFactory;
+import org.kie.dmn.validation.dtanalysis.model.DTAnalysis;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.dmn.validation.DMNValidator.Validation.ANALYZE_DECISION_TABLE;
+import static org.kie.dmn.validation.DMNValidator.Validation.VALIDATE_COMPILATION;
+
+public class LargeDecisionTableTest extends AbstractDTAnalysisTest {
+
+    private static final String TABLE_ID = "_largeTable";
+
+    @Test
+    public void testParallelAnalysisSameAsSequential() {
+        String dmn = largeTable(300);
+        DTAnalysis sequential = analyse(dmn, "0", "1");
+        DTAnalysis parallel = analyse(dmn, "0", "4");
+
+        assertThat(sequential.isError()).isFalse();
+        // x < 0, x >= 300, and y >= 0 for each rule having y < 0
+        assertThat(sequential.getGaps()).hasSize(32);
+        assertThat(sequential.getOverlaps()).isNotEmpty();
+        assertThat(parallel.getGaps()).containsExactlyElementsOf(sequential.getGaps());
+        assertThat(parallel.getOverlaps()).containsExactlyElementsOf(sequential.getOverlaps());
+        assertThat(parallel.getMaskedRules()).containsExactlyElementsOf(sequential.getMaskedRules());
+    }
+
+    @Test
+    public void testTimeBudgetExceeded() {
+        List<DMNMessage> messages = validate(largeTable(3000), "1", "0");
+        DTAnalysis analysis = getAnalysis(messages, TABLE_ID);
+
+        assertThat(analysis.isError()).isTrue();
+        assertThat(messages).anyMatch(m -> m.getMessageType() == Msg.DTANALYSIS_ERROR_ANALYSIS_SKIPPED.getType() && m.getText().contains("time budget"));
+    }
+
+    @Test
+    public void testProgressListenerNotifiedForEachTable() {
+        DMNModel model = DMNRuntimeBuilder.fromDefaults()
+                                          .buildConfiguration()
+                                          .fromResources(Collections.singletonList(ResourceFactory.newByteArrayResource(largeTable(300).getBytes())))
+                                          .getOrElseThrow(RuntimeException::new)
+                                          .getModels().get(0);
+        for (int parallelism : new int[]{1, 4}) {
+            List<String> notified = new CopyOnWriteArrayList<>();
+            InternalDMNDTAnalyser analyser = InternalDMNDTAnalyserFactory.newDMNDTAnalyser(Collections.emptyList(), 0, parallelism,
+                                                                                           (dt, progress, total, elapsedMillis) -> notified.add(dt.getId() + " " + progress + "/" + total));
+
+            List<DTAnalysis> results = analyser.analyse(model, EnumSet.of(ANALYZE_DECISION_TABLE));
+
+            assertThat(results).hasSize(1);
+            assertThat(notified).containsExactly(TABLE_ID + " 1/1");
+        }
+    }
+
+    private DTAnalysis analyse(String dmn, String timeBudgetMillis, String parallelism) {
+        return getAnalysis(validate(dmn, timeBudgetMillis, parallelism), TABLE_ID);
+    }
+
+    private static List<DMNMessage> validate(String dmn, String timeBudgetMillis, String parallelism) {
+        Properties properties = new Properties();
+        properties.setProperty(DMNDTAnalyser.TIME_BUDGET_PROPERTY, timeBudgetMillis);
+        properties.setProperty(DMNDTAnalyser.PARALLELISM_PROPERTY, parallelism);
+        DMNValidator dmnValidator = DMNValidatorFactory.newValidator(Collections.emptyList(), properties);
+        try {
+            return dmnValidator.validate(new StringReader(dmn), VALIDATE_COMPILATION, ANALYZE_DECISION_TABLE);
+        } finally {
+            dmnValidator.dispose();
+        }
+    }
+
+    /**
+     * A table whose rule i matches x in [i..i+1) and any y, but for every 10th rule matching only y < 0,
+     * and with an additional rule every 25 rules overlapping the next one for y >= 100.
+     */
+    private static String largeTable(int size) {
+        StringBuilder rules = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            rules.append(rule("[" + i + ".." + (i + 1) + ")", i % 10 == 9 ? "&lt;0" : "-", "R" + i));
+            if (i % 25 == 0) {
+                rules.append(rule("[" + i + ".." + (i + 2) + ")", "&gt;=100", "O" + i));
+            }
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+               "<definitions xmlns=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" id=\"_largeTableModel\" name=\"large table\" namespace=\"https://kiegroup.org/dmn/_largeTableModel\">\n" +
+               "  <inputData id=\"_x\" name=\"x\">\n" +
+               "    <variable id=\"_xVar\" name=\"x\" typeRef=\"number\"/>\n" +
+               "  </inputData>\n" +
+               "  <inputData id=\"_y\" name=\"y\">\n" +
+               "    <variable id=\"_yVar\" name=\"y\" typeRef=\"number\"/>\n" +
+               "  </inputData>\n" +
+               "  <decision id=\"_decision\" name=\"decision\">\n" +
+               "    <variable id=\"_decisionVar\" name=\"decision\" typeRef=\"string\"/>\n" +
+               "    <informationRequirement id=\"_xReq\"><requiredInput href=\"#_x\"/></informationRequirement>\n" +
+               "    <informationRequirement id=\"_yReq\"><requiredInput href=\"#_y\"/></informationRequirement>\n" +
+               "    <decisionTable id=\"" + TABLE_ID + "\" hitPolicy=\"UNIQUE\">\n" +
+               "      <input id=\"_xInput\"><inputExpression typeRef=\"number\"><text>x</text></inputExpression></input>\n" +
+               "      <input id=\"_yInput\"><inputExpression typeRef=\"number\"><text>y</text></inputExpression></input>\n" +
+               "      <output id=\"_output\"/>\n" +
+               rules +
+               "    </decisionTable>\n" +
+               "  </decision>\n" +
+               "</definitions>\n";
+    }
+
+    private static String rule(String x, String y, String output) {
+        return "      <rule><inputEntry><text>" + x + "</text></inputEntry><inputEntry><text>" + y + "</text></inputEntry>" +
+               "<outputEntry><text>\"" + output + "\"</text></outputEntry></rule>\n";
+    }
+}
@@ -31,7 +31,7 @@ import org.kie.efesto.runtimemanager.api.model.EfestoRuntimeContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.kie.drl.engine.runtime.utils.EfestoKieSessionUtil.loadKieSession;
+import static org.kie.drl.engine.runtime.utils.EfestoKieSessionUtil.loadPooledKieSession;
 import static org.kie.efesto.runtimemanager.api.utils.GeneratedResourceUtils.getGeneratedExecutableResource;
 
 public class DrlRuntimeHelper {
@@ -48,7 +48,7 @@ public class DrlRuntimeHelper {
     public static Optional<EfestoOutputDrlMap> execute(BaseEfestoInput<EfestoMapInputDTO> toEvaluate, EfestoRuntimeContext context) {
         KieSession kieSession;
         try {
-            kieSession = loadKieSession(toEvaluate.getModelLocalUriId(), context);
+            kieSession = loadPooledKieSession(toEvaluate.getModelLocalUriId(), context);
         } catch (Exception e) {
             logger.warn("{} can not execute {}",
                         DrlRuntimeHelper.class.getName(),
@@ -72,6 +72,9 @@ public class DrlRuntimeHelper {
             throw new KieRuntimeServiceException(String.format("%s failed to execute %s",
                                                                DrlRuntimeHelper.class.getName(),
                                                                toEvaluate.getModelLocalUriId()), e);
+        } finally {
+            // a pooled session is reset and given back to its pool, also when the inputs can not be inserted
+            kieSession.dispose();
         }
     }
 
@@ -54,7 +54,6 @@ public class MapInputSessionUtils {
      */
     public void fireAllRules() {
         kieSession.fireAllRules();
-        kieSession.dispose();
     }
 
     /**
@@ -29,12 +29,14 @@ import org.kie.drl.engine.runtime.mapinput.model.EfestoInputDrlMap;
 import org.kie.drl.engine.runtime.mapinput.model.EfestoOutputDrlMap;
 import org.kie.efesto.common.api.identifiers.LocalUri;
 import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
+import org.kie.efesto.runtimemanager.api.exceptions.KieRuntimeServiceException;
 import org.kie.efesto.runtimemanager.api.model.BaseEfestoInput;
 import org.kie.efesto.runtimemanager.api.model.EfestoMapInputDTO;
 import org.kie.efesto.runtimemanager.api.model.EfestoRuntimeContext;
 import org.kie.efesto.runtimemanager.core.model.EfestoRuntimeContextUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class DrlRuntimeHelperTest {
 
@@ -77,4 +79,99 @@ class DrlRuntimeHelperTest {
         LoanApplication approvedApplication = approvedApplications.get(0);
         assertThat(approvedApplication).isEqualTo(inserts.get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void executeReusesTheResetSessions() {
+        EfestoRuntimeContext context = EfestoRuntimeContextUtils.buildWithParentClassLoader(Thread.currentThread().getContextClassLoader());
+        ModelLocalUriId sessionId = null;
+        for (int i = 0; i < 3; i++) {
+            LoanApplication toApprove = new LoanApplication("ABC1000" + i, new Applicant("John", 45), 2000, 1000);
+            List<Object> inserts = new ArrayList<>();
+            inserts.add(toApprove);
+            inserts.add(new LoanApplication("ABC1001" + i, new Applicant("George", 12), 1000, 100));
+
+            List<LoanApplication> approvedApplications = new ArrayList<>();
+            final Map<String, Object> globals = new HashMap<>();
+            globals.put("approvedApplications", approvedApplications);
+            globals.put("maxAmount", 5000);
+
+            EfestoMapInputDTO darMapInputDTO = new EfestoMapInputDTO(inserts, globals, Collections.emptyMap(), Collections.emptyMap(), "modelname", "packageName");
+            EfestoInputDrlMap darInputDrlMap =
+                    new EfestoInputDrlMap(new ModelLocalUriId(LocalUri.parse("/drl/" + basePath)), darMapInputDTO);
+            Optional<EfestoOutputDrlMap> retrieved = DrlRuntimeHelper.execute(darInputDrlMap, context);
+            assertThat(retrieved).isPresent();
+            // the facts of the previous evaluations have been removed by the reset of the session
+            assertThat(approvedApplications).containsExactly(toApprove);
+            if (sessionId == null) {
+                sessionId = retrieved.get().getModelLocalUriId();
+            } else {
+                // the session released by the previous evaluation is reused
+                assertThat(retrieved.get().getModelLocalUriId()).isEqualTo(sessionId);
+            }
+        }
+    }
+
+    @Test
+    void executeReusesTheSessionsAcrossContexts() {
+        ModelLocalUriId sessionId = null;
+        for (int i = 0; i < 2; i++) {
+            // each PMML request evaluates through its own context, with its own ClassLoader
+            EfestoRuntimeContext context = EfestoRuntimeContextUtils.buildWithParentClassLoader(Thread.currentThread().getContextClassLoader());
+            LoanApplication toApprove = new LoanApplication("ABC2000" + i, new Applicant("John", 45), 2000, 1000);
+            List<Object> inserts = new ArrayList<>();
+            inserts.add(toApprove);
+
+            List<LoanApplication> approvedApplications = new ArrayList<>();
+            final Map<String, Object> globals = new HashMap<>();
+            globals.put("approvedApplications", approvedApplications);
+            globals.put("maxAmount", 5000);
+
+            EfestoMapInputDTO darMapInputDTO = new EfestoMapInputDTO(inserts, globals, Collections.emptyMap(), Collections.emptyMap(), "modelname", "packageName");
+            EfestoInputDrlMap darInputDrlMap =
+                    new EfestoInputDrlMap(new ModelLocalUriId(LocalUri.parse("/drl/" + basePath)), darMapInputDTO);
+            Optional<EfestoOutputDrlMap> retrieved = DrlRuntimeHelper.execute(darInputDrlMap, context);
+            assertThat(retrieved).isPresent();
+            assertThat(approvedApplications).containsExactly(toApprove);
+            if (sessionId == null) {
+                sessionId = retrieved.get().getModelLocalUriId();
+            } else {
+                // the KieBase, and its pool, built for the first context are reused
+                assertThat(retrieved.get().getModelLocalUriId()).isEqualTo(sessionId);
+            }
+        }
+    }
+
+    @Test
+    void executeDisposesTheSessionOnFailure() {
+        EfestoRuntimeContext context = EfestoRuntimeContextUtils.buildWithParentClassLoader(Thread.currentThread().getContextClassLoader());
+        ModelLocalUriId modelLocalUriId = new ModelLocalUriId(LocalUri.parse("/drl/" + basePath));
+        LoanApplication toApprove = new LoanApplication("ABC30001", new Applicant("John", 45), 2000, 1000);
+        List<LoanApplication> approvedApplications = new ArrayList<>();
+        Optional<EfestoOutputDrlMap> retrieved = DrlRuntimeHelper.execute(new EfestoInputDrlMap(modelLocalUriId, loanMapInputDTO(toApprove, approvedApplications, Collections.emptyMap())), context);
+        assertThat(retrieved).isPresent();
+        ModelLocalUriId sessionId = retrieved.get().getModelLocalUriId();
+
+        // an input parameter without a generated type can not be inserted, after the other facts have been
+        LoanApplication leftover = new LoanApplication("ABC30002", new Applicant("Paul", 45), 2000, 1000);
+        EfestoMapInputDTO invalidMapInputDTO = loanMapInputDTO(leftover, new ArrayList<>(), Collections.singletonMap("unmapped", 1));
+        assertThatExceptionOfType(KieRuntimeServiceException.class)
+                .isThrownBy(() -> DrlRuntimeHelper.execute(new EfestoInputDrlMap(modelLocalUriId, invalidMapInputDTO), context));
+
+        approvedApplications.clear();
+        retrieved = DrlRuntimeHelper.execute(new EfestoInputDrlMap(modelLocalUriId, loanMapInputDTO(toApprove, approvedApplications, Collections.emptyMap())), context);
+        assertThat(retrieved).isPresent();
+        // the session of the failed evaluation has been reset and given back to the pool
+        assertThat(retrieved.get().getModelLocalUriId()).isEqualTo(sessionId);
+        assertThat(approvedApplications).containsExactly(toApprove);
+    }
+
+    private static EfestoMapInputDTO loanMapInputDTO(LoanApplication loanApplication, List<LoanApplication> approvedApplications,
+                                                     Map<String, Object> unwrappedInputParams) {
+        List<Object> inserts = new ArrayList<>();
+        inserts.add(loanApplication);
+        final Map<String, Object> globals = new HashMap<>();
+        globals.put("approvedApplications", approvedApplications);
+        globals.put("maxAmount", 5000);
+        return new EfestoMapInputDTO(inserts, globals, unwrappedInputParams, Collections.emptyMap(), "modelname", "packageName");
+    }
+}
@@ -17,12 +17,15 @@ package org.kie.drl.engine.runtime.utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.model.Model;
 import org.drools.modelcompiler.KieBaseBuilder;
 import org.kie.api.KieBase;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionsPool;
 import org.kie.efesto.common.api.identifiers.ModelLocalUriId;
 import org.kie.efesto.common.api.model.GeneratedExecutableResource;
 import org.kie.efesto.runtimemanager.api.exceptions.KieRuntimeServiceException;
@@ -35,23 +38,28 @@ public class EfestoKieSessionUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(EfestoKieSessionUtil.class.getName());
 
+    /**
+     * System property with the initial size of the <code>KieSessionsPool</code> of each model: a value lower than 1
+     * disables the pooling, and every {@link #loadPooledKieSession(ModelLocalUriId, EfestoRuntimeContext)} creates
+     * a new <code>KieSession</code>
+     */
+    public static final String SESSIONS_POOL_SIZE = "kieDrlSessionsPoolSize";
+    static final int DEFAULT_SESSIONS_POOL_SIZE = 1;
+
+    /**
+     * The <code>KieBase</code>s built from the models, by the names of their classes. Each one is reused as long as
+     * those names resolve to the same classes, i.e. to the same bytecode in the <code>GeneratedClassesRepository</code>,
+     * whatever the <code>ClassLoader</code> of the context, which is a new one for each PMML request. It is replaced
+     * when the model is compiled again, so there is at most one for each set of class names.
+     */
+    private static final Map<List<String>, ModelKieBase> kieBases = new ConcurrentHashMap<>();
+
     private EfestoKieSessionUtil() {
     }
 
     public static KieSession loadKieSession(ModelLocalUriId modelLocalUriId, EfestoRuntimeContext context) {
         logger.debug("loadKieSession {} {}", modelLocalUriId, context);
-        Optional<GeneratedExecutableResource> generatedExecutableResourceOpt =
-                GeneratedResourceUtils.getGeneratedExecutableResource(modelLocalUriId,
-                                                                      context.getGeneratedResourcesMap());
-        GeneratedExecutableResource finalResource = generatedExecutableResourceOpt.orElseThrow(
-                () -> new KieRuntimeServiceException("Can not find expected GeneratedExecutableResource for " + modelLocalUriId));
-        List<Model> models = new ArrayList<>();
-        for (String className : finalResource.getFullClassNames()) {
-            models.add(loadModel(className, context));
-        }
-        logger.debug("models {}", models);
-        KieBase kieBase = KieBaseBuilder.createKieBaseFromModel(models);
-        logger.debug("kieBase {}", kieBase);
+        KieBase kieBase = loadKieBase(modelLocalUriId, context);
         try {
             KieSession toReturn = kieBase.newKieSession();
             logger.debug("toReturn {}", toReturn);
@@ -64,12 +72,141 @@ public class EfestoKieSessionUtil {
         }
     }
 
+    /**
+     * Returns a <code>KieSession</code> taken from the <code>KieSessionsPool</code> of the given model. Its
+     * <code>dispose()</code> resets it (facts, globals and agenda) and gives it back to the pool, so it must be
+     * disposed at the end of each evaluation and never used afterwards.
+     * When the pooling is disabled by {@link #SESSIONS_POOL_SIZE}, this behaves as
+     * {@link #loadKieSession(ModelLocalUriId, EfestoRuntimeContext)}.
+     */
+    public static KieSession loadPooledKieSession(ModelLocalUriId modelLocalUriId, EfestoRuntimeContext context) {
+        int poolSize = Integer.getInteger(SESSIONS_POOL_SIZE, DEFAULT_SESSIONS_POOL_SIZE);
+        if (poolSize < 1) {
+            return loadKieSession(modelLocalUriId, context);
+        }
+        logger.debug("loadPooledKieSession {} {}", modelLocalUriId, context);
+        KieSessionsPool kieSessionsPool = loadModelKieBase(modelLocalUriId, context).getKieSessionsPool(poolSize);
+        try {
+            return kieSessionsPool.newKieSession();
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to get a session from the pool of %s due to %s", modelLocalUriId,
+                                                e.getMessage());
+            logger.error(errorMessage, e);
+            throw new KieRuntimeServiceException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Returns the <code>KieBase</code> of the given model, building it only at the first invocation for the
+     * classes of the model
+     */
+    static KieBase loadKieBase(ModelLocalUriId modelLocalUriId, EfestoRuntimeContext context) {
+        return loadModelKieBase(modelLocalUriId, context).kieBase;
+    }
+
+    private static ModelKieBase loadModelKieBase(ModelLocalUriId modelLocalUriId, EfestoRuntimeContext context) {
+        List<String> fullClassNames = getFullClassNames(modelLocalUriId, context);
+        List<Object> origins = getModelClassesOrigins(fullClassNames, context);
+        ModelKieBase cached = kieBases.get(fullClassNames);
+        if (cached != null && cached.isBuiltFrom(origins)) {
+            return cached;
+        }
+        return kieBases.compute(fullClassNames, (names, current) -> {
+            if (current != null && current.isBuiltFrom(origins)) {
+                return current;
+            }
+            List<Model> models = new ArrayList<>();
+            for (String className : names) {
+                models.add(loadModel(className, context));
+            }
+            logger.debug("models {}", models);
+            KieBase kieBase = KieBaseBuilder.createKieBaseFromModel(models);
+            logger.debug("kieBase {}", kieBase);
+            return new ModelKieBase(origins, kieBase);
+        });
+    }
+
+    /**
+     * Returns what identifies each of the given model classes: its bytecode when it has been generated, otherwise the
+     * <code>Class</code> itself, e.g. when it is packaged in the application
+     */
+    static List<Object> getModelClassesOrigins(List<String> fullClassNames, EfestoRuntimeContext context) {
+        Map<String, byte[]> generatedClasses = context.getGeneratedClassesSnapshot();
+        List<Object> toReturn = new ArrayList<>(fullClassNames.size());
+        for (String className : fullClassNames) {
+            byte[] bytecode = generatedClasses.get(className);
+            toReturn.add(bytecode != null ? bytecode : loadModelClass(className, context));
+        }
+        return toReturn;
+    }
+
+    static List<String> getFullClassNames(ModelLocalUriId modelLocalUriId, EfestoRuntimeContext context) {
+        Optional<GeneratedExecutableResource> generatedExecutableResourceOpt =
+                GeneratedResourceUtils.getGeneratedExecutableResource(modelLocalUriId,
+                                                                      context.getGeneratedResourcesMap());
+        GeneratedExecutableResource finalResource = generatedExecutableResourceOpt.orElseThrow(
+                () -> new KieRuntimeServiceException("Can not find expected GeneratedExecutableResource for " + modelLocalUriId));
+        if (finalResource.getFullClassNames().isEmpty()) {
+            throw new KieRuntimeServiceException("No model classes in GeneratedExecutableResource for " + modelLocalUriId);
+        }
+        return finalResource.getFullClassNames();
+    }
+
     static Model loadModel(String fullModelResourcesSourceClassName, EfestoRuntimeContext context) {
         try {
-            final Class<? extends Model> aClass = context.loadClass(fullModelResourcesSourceClassName);
-            return aClass.getDeclaredConstructor().newInstance();
+            return loadModelClass(fullModelResourcesSourceClassName, context).getDeclaredConstructor().newInstance();
+        } catch (KieRuntimeServiceException e) {
+            throw e;
         } catch (Exception e) {
             throw new KieRuntimeServiceException(e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    static Class<? extends Model> loadModelClass(String fullModelResourcesSourceClassName, EfestoRuntimeContext context) {
+        try {
+            return (Class<? extends Model>) context.loadClass(fullModelResourcesSourceClassName);
+        } catch (ClassNotFoundException e) {
+            throw new KieRuntimeServiceException(e);
+        }
+    }
+
+    /**
+     * A <code>KieBase</code> with the origins of the model classes it has been built from, and its
+     * <code>KieSessionsPool</code> created on first use
+     */
+    private static class ModelKieBase {
+
+        private final List<Object> origins;
+        private final KieBase kieBase;
+        private volatile KieSessionsPool kieSessionsPool;
+
+        private ModelKieBase(List<Object> origins, KieBase kieBase) {
+            this.origins = origins;
+            this.kieBase = kieBase;
+        }
+
+        private boolean isBuiltFrom(List<Object> otherOrigins) {
+            if (origins.size() != otherOrigins.size()) {
+                return false;
+            }
+            for (int i = 0; i < origins.size(); i++) {
+                if (origins.get(i) != otherOrigins.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private KieSessionsPool getKieSessionsPool(int poolSize) {
+            if (kieSessionsPool == null) {
+                synchronized (this) {
+                    if (kieSessionsPool == null) {
+                        kieSessionsPool = kieBase.newKieSessionsPool(poolSize);
+                    }
+                }
+            }
+            return kieSessionsPool;
+        }
+    }
 }
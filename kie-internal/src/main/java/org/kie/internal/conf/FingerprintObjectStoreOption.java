@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for fingerprintObjectStore option.
+ *
+ * When enabled the sessions of a rule base with the equality assert behavior keep their facts in an
+ * object store based on open addressing tables of fact handles, keyed by the hash codes of the facts
+ * cached when they are inserted, instead of the hash maps of the default store.
+ *
+ * drools.fingerprintObjectStore = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum FingerprintObjectStoreOption implements SingleValueKieBaseOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the fingerprint object store option
+     */
+    public static final String PROPERTY_NAME = "drools.fingerprintObjectStore";
+
+    private boolean value;
+
+    FingerprintObjectStoreOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isFingerprintObjectStoreEnabled() {
+        return this.value;
+    }
+
+    public static FingerprintObjectStoreOption determineFingerprintObjectStore(String option) {
+        if (ENABLED.name().equalsIgnoreCase(option) || "true".equalsIgnoreCase(option)) {
+            return ENABLED;
+        } else if (DISABLED.name().equalsIgnoreCase(option) || "false".equalsIgnoreCase(option)) {
+            return DISABLED;
+        }
+        throw new IllegalArgumentException("Illegal enum value '" + option + "' for FingerprintObjectStoreOption");
+    }
+}
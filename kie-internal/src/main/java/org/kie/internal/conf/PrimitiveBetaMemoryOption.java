@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for primitiveBetaMemory option.
+ *
+ * When enabled the beta memories indexed by a single equality constraint on an int or long value,
+ * primitive or boxed, store their tuples in a hash table keyed by the primitive value, without boxing it.
+ *
+ * drools.primitiveBetaMemory = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum PrimitiveBetaMemoryOption implements SingleValueKieBaseOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the primitive beta memory option
+     */
+    public static final String PROPERTY_NAME = "drools.primitiveBetaMemory";
+
+    private boolean value;
+
+    PrimitiveBetaMemoryOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isPrimitiveBetaMemoryEnabled() {
+        return this.value;
+    }
+
+    public static PrimitiveBetaMemoryOption determinePrimitiveBetaMemory(String option) {
+        if (ENABLED.name().equalsIgnoreCase(option) || "true".equalsIgnoreCase(option)) {
+            return ENABLED;
+        } else if (DISABLED.name().equalsIgnoreCase(option) || "false".equalsIgnoreCase(option)) {
+            return DISABLED;
+        }
+        throw new IllegalArgumentException("Illegal enum value '" + option + "' for PrimitiveBetaMemoryOption");
+    }
+}
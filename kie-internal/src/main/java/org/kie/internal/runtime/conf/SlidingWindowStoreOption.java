@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An enum to configure how sliding time windows store their events.
+ *
+ * The "HEAP" store keeps the events of each window in its own priority queue and schedules
+ * a timer job per window. The "TIMING_WHEEL" store puts the events of all the windows of a
+ * session in a single timing wheel keyed by expiration tick, so that all the events
+ * expiring in the same tick are expired together by a single timer job. The size of the tick
+ * in milliseconds can be configured through the {@link #TICK_PROPERTY_NAME} property, and it is
+ * {@link #DEFAULT_TICK} by default: an event is expired at the end of the tick containing its
+ * expiration time, so up to a tick later than with the "HEAP" store.
+ */
+public enum SlidingWindowStoreOption implements SingleValueKieSessionOption {
+
+    HEAP("heap"),
+    TIMING_WHEEL("timing_wheel");
+
+    /**
+     * The property name for the sliding window store configuration
+     */
+    public static final String PROPERTY_NAME = "drools.slidingWindowStore";
+
+    /**
+     * The property name for the tick size, in milliseconds, of the timing wheel store
+     */
+    public static final String TICK_PROPERTY_NAME = "drools.slidingWindowStore.tick";
+
+    /**
+     * The default tick size, in milliseconds, of the timing wheel store
+     */
+    public static final long DEFAULT_TICK = 10L;
+
+    private final String option;
+
+    SlidingWindowStoreOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public String toString() {
+        return "SlidingWindowStoreOption( " + option + " )";
+    }
+
+    public static SlidingWindowStoreOption determineSlidingWindowStore(String option) {
+        if ( HEAP.getAsString().equalsIgnoreCase( option ) ) {
+            return HEAP;
+        } else if ( TIMING_WHEEL.getAsString().equalsIgnoreCase( option ) ) {
+            return TIMING_WHEEL;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for SlidingWindowStoreOption" );
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.maven.plugin.executors;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -38,6 +39,7 @@ import org.kie.api.io.ResourceWithConfiguration;
 import org.kie.dmn.api.core.GeneratedSource;
 import org.kie.dmn.core.api.DMNFactory;
 import org.kie.dmn.core.assembler.DMNAssemblerService;
+import org.kie.dmn.core.assembler.DMNModelSnapshot;
 import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
@@ -95,6 +97,8 @@ public class GenerateDMNModelExecutor {
             log.info("dmnFiles to process: " + dmnFiles);
 
             DMNAssemblerService assemblerService = new DMNAssemblerService(dmnCompilerConfiguration);
+            DMNModelSnapshot snapshot = new DMNModelSnapshot();
+            assemblerService.setSnapshotCollector(snapshot);
             KnowledgeBuilder knowledgeBuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
 
             for (String dmnFile : dmnFiles) {
@@ -102,6 +106,10 @@ public class GenerateDMNModelExecutor {
             }
 
             createDMNFile(targetDirectory, classNameSourceMap.keySet());
+            if (!"false".equals(properties.get(DMNModelSnapshot.SNAPSHOT_ENABLED_PROPERTY))) {
+                createDMNSnapshotFile(targetDirectory, snapshot);
+                log.info("DMN definitions snapshot of " + snapshot.size() + " dmnFiles written to " + DMNModelSnapshot.SNAPSHOT_RESOURCE_NAME);
+            }
 
             compileAndWriteClasses(targetDirectory, contextClassLoader,
                                    javaCompilerSettings,compilerType, classNameSourceMap, dumpKieSourcesFolder);
@@ -127,6 +135,21 @@ public class GenerateDMNModelExecutor {
         }
     }
 
+    private static void createDMNSnapshotFile(File targetDirectory, DMNModelSnapshot snapshot) {
+        final Path dmnSnapshotFile = Paths.get(targetDirectory.getPath(), "classes", DMNModelSnapshot.SNAPSHOT_RESOURCE_NAME);
+
+        try {
+            if (!Files.exists(dmnSnapshotFile)) {
+                Files.createDirectories(dmnSnapshotFile.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(dmnSnapshotFile)) {
+                snapshot.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write file", e);
+        }
+    }
+
     private static List<String> getDMNFIles(InternalKieModule kieModule) {
         return getFilesByType(kieModule, "dmn");
     }
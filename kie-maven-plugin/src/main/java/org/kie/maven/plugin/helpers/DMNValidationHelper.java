@@ -112,7 +112,8 @@ public class DMNValidationHelper {
                                             Log log) throws MojoExecutionException, MojoFailureException {
         Collection<DMNModel> dmnModels = extractDMNModelsFromKieModule(kieModule);
         log.info("Initializing DMN DT Validator...");
-        InternalDMNDTAnalyser analyser = InternalDMNDTAnalyserFactory.newDMNDTAnalyser(computeDMNProfiles(resources, log));
+        InternalDMNDTAnalyser analyser = InternalDMNDTAnalyserFactory.newDMNDTAnalyser(computeDMNProfiles(resources, log), 0, 0,
+                                                                                       (dt, progress, total, elapsedMillis) -> log.debug(" analysed decision table " + progress + " of " + total + " in " + elapsedMillis + " ms"));
         log.info("DMN DT Validator initialized.");
         for (DMNModel model : dmnModels) {
             log.info("Analysing decision tables in DMN Model '" + model.getName() + "' ...");
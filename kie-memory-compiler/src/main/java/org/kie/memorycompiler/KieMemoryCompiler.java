@@ -20,6 +20,7 @@ import java.net.URL;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.drools.util.PortablePath;
 import org.kie.memorycompiler.resources.MemoryResourceReader;
@@ -160,11 +161,22 @@ public class KieMemoryCompiler {
 
         private Map<String, byte[]> customCompiledCode = new HashMap<>();
         private Map<String, URL> customAddedResource = new HashMap<>();
+        private Function<String, byte[]> codeLookup = name -> null;
 
         public MemoryCompilerClassLoader(ClassLoader parent) {
             super(parent);
         }
 
+        /**
+         * Set the lookup of the bytecode not added to this <code>ClassLoader</code>, invoked only when one of its
+         * classes is loaded for the first time: this way a shared repository of compiled classes does not need to
+         * be copied in each <code>ClassLoader</code>
+         * @param codeLookup returns the bytecode of the given class name, or <code>null</code>
+         */
+        public void setCodeLookup(Function<String, byte[]> codeLookup) {
+            this.codeLookup = codeLookup;
+        }
+
         public void addCode(String name, byte[] bytes) {
             customCompiledCode.put(name, bytes);
         }
@@ -174,7 +186,8 @@ public class KieMemoryCompiler {
 
 
         public byte[] getCode(String name) {
-            return customCompiledCode.get(name);
+            byte[] byteCode = customCompiledCode.get(name);
+            return byteCode != null ? byteCode : codeLookup.apply(name);
         }
 
         public void addCodeIfAbsent(String name, byte[] bytes) {
@@ -183,7 +196,7 @@ public class KieMemoryCompiler {
 
         @Override
         protected Class<?> findClass(String name) throws ClassNotFoundException {
-            byte[] byteCode = customCompiledCode.get(name);
+            byte[] byteCode = getCode(name);
             if (byteCode == null) {
                 return super.findClass(name);
             }
@@ -49,6 +49,22 @@ public class KieMemoryCompilerTest {
         assertThat(result).isEqualTo(5);
     }
 
+    @Test
+    public void loadClassFromCodeLookup() throws Exception {
+        Map<String, String> source = singletonMap("org.kie.memorycompiler.ExampleClass", EXAMPLE_CLASS);
+        Map<String, byte[]> compiled = KieMemoryCompiler.compileNoLoad(source, this.getClass().getClassLoader());
+
+        KieMemoryCompiler.MemoryCompilerClassLoader classLoader = new KieMemoryCompiler.MemoryCompilerClassLoader(this.getClass().getClassLoader());
+        classLoader.setCodeLookup(compiled::get);
+        assertThat(classLoader.getCode("org.kie.memorycompiler.ExampleClass")).isSameAs(compiled.get("org.kie.memorycompiler.ExampleClass"));
+
+        Class<?> exampleClazz = classLoader.loadClass("org.kie.memorycompiler.ExampleClass");
+        assertThat(exampleClazz.getClassLoader()).isSameAs(classLoader);
+        Object instance = exampleClazz.getDeclaredConstructors()[0].newInstance();
+        Method sumMethod = exampleClazz.getMethod("sum", Integer.class, Integer.class);
+        assertThat(sumMethod.invoke(instance, 2, 3)).isEqualTo(5);
+    }
+
     @Test(expected = KieMemoryCompilerException.class)
     public void invalidClass() {
         Map<String, String> source = singletonMap("org.kie.memorycompiler.InvalidJavaClass", "Invalid Java Code");
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.api.runtime;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+/**
+ * Columnar input of a batch evaluation: each column holds the values of an input field for all the rows.
+ * <code>Double.NaN</code> in a numeric column and <code>null</code> in an object column are <b>missing</b> values.
+ */
+public class PMMLBatchInput {
+
+    private final int size;
+    private final Map<String, double[]> numericColumns = new LinkedHashMap<>();
+    private final Map<String, Object[]> objectColumns = new LinkedHashMap<>();
+
+    public PMMLBatchInput(final int size) {
+        this.size = size;
+    }
+
+    public PMMLBatchInput addColumn(final String fieldName, final double[] values) {
+        checkColumn(fieldName, values.length);
+        numericColumns.put(fieldName, values);
+        return this;
+    }
+
+    public PMMLBatchInput addColumn(final String fieldName, final Object[] values) {
+        checkColumn(fieldName, values.length);
+        objectColumns.put(fieldName, values);
+        return this;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    public Map<String, double[]> getNumericColumns() {
+        return Collections.unmodifiableMap(numericColumns);
+    }
+
+    public Map<String, Object[]> getObjectColumns() {
+        return Collections.unmodifiableMap(objectColumns);
+    }
+
+    public boolean hasColumn(final String fieldName) {
+        return numericColumns.containsKey(fieldName) || objectColumns.containsKey(fieldName);
+    }
+
+    public Set<String> getColumnNames() {
+        Set<String> toReturn = new LinkedHashSet<>(numericColumns.keySet());
+        toReturn.addAll(objectColumns.keySet());
+        return toReturn;
+    }
+
+    /**
+     * Returns the value of the given field at the given row, or <code>null</code> if it is missing
+     * @param fieldName
+     * @param row
+     * @return
+     */
+    public Object getValue(final String fieldName, final int row) {
+        double[] numericColumn = numericColumns.get(fieldName);
+        if (numericColumn != null) {
+            return Double.isNaN(numericColumn[row]) ? null : numericColumn[row];
+        }
+        Object[] objectColumn = objectColumns.get(fieldName);
+        return objectColumn != null ? objectColumn[row] : null;
+    }
+
+    private void checkColumn(final String fieldName, final int length) {
+        if (length != size) {
+            throw new KiePMMLException(String.format("Column %s has %s values, expected %s", fieldName, length, size));
+        }
+        if (hasColumn(fieldName)) {
+            throw new KiePMMLException("Duplicated column " + fieldName);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.api.runtime;
+
+import java.util.Arrays;
+
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+/**
+ * Columnar result of a batch evaluation, holding the prediction of the target field for each row.
+ * The predictions of a <b>numeric</b> target are stored in a <code>double[]</code>, with <code>Double.NaN</code>
+ * for the missing ones, while the ones of any other target are stored in an <code>Object[]</code>.
+ */
+public class PMMLBatchResult {
+
+    private final String targetField;
+    private final double[] numericValues;
+    private final Object[] values;
+
+    private PMMLBatchResult(final String targetField, final double[] numericValues, final Object[] values) {
+        this.targetField = targetField;
+        this.numericValues = numericValues;
+        this.values = values;
+    }
+
+    public static PMMLBatchResult numeric(final String targetField, final int size) {
+        double[] numericValues = new double[size];
+        Arrays.fill(numericValues, Double.NaN);
+        return new PMMLBatchResult(targetField, numericValues, null);
+    }
+
+    public static PMMLBatchResult ofObjects(final String targetField, final int size) {
+        return new PMMLBatchResult(targetField, null, new Object[size]);
+    }
+
+    public String getTargetField() {
+        return targetField;
+    }
+
+    public boolean isNumeric() {
+        return numericValues != null;
+    }
+
+    public int size() {
+        return isNumeric() ? numericValues.length : values.length;
+    }
+
+    /**
+     * @return the predictions of a <b>numeric</b> target
+     * @throws KiePMMLException if the target is not numeric
+     */
+    public double[] getNumericValues() {
+        if (!isNumeric()) {
+            throw new KiePMMLException("Target " + targetField + " is not numeric");
+        }
+        return numericValues;
+    }
+
+    /**
+     * @return the predictions of a <b>not numeric</b> target
+     * @throws KiePMMLException if the target is numeric
+     */
+    public Object[] getValues() {
+        if (isNumeric()) {
+            throw new KiePMMLException("Target " + targetField + " is numeric");
+        }
+        return values;
+    }
+
+    public Object getValue(final int row) {
+        if (isNumeric()) {
+            return Double.isNaN(numericValues[row]) ? null : numericValues[row];
+        }
+        return values[row];
+    }
+
+    public void setValue(final int row, final Object value) {
+        if (!isNumeric()) {
+            values[row] = value;
+        } else if (value == null) {
+            numericValues[row] = Double.NaN;
+        } else if (value instanceof Number) {
+            numericValues[row] = ((Number) value).doubleValue();
+        } else {
+            throw new KiePMMLException(String.format("Expected a number for %s, retrieved %s", targetField, value));
+        }
+    }
+}
@@ -15,10 +15,13 @@
  */
 package org.kie.pmml.api.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
 import org.kie.pmml.api.models.PMMLModel;
 
 public interface PMMLRuntime {
@@ -31,6 +34,50 @@ public interface PMMLRuntime {
      */
     PMML4Result evaluate(final String modelName, final PMMLRuntimeContext context);
 
+    /**
+     * Evaluate the model for each row of the given columns, reusing the given context for all of them.
+     * The request data of the context may hold values shared by all the rows: before each row it is restored to
+     * them, dropping the values and the derived fields of the previous row, and the evaluation state of the
+     * context is reset.
+     * By default each row is evaluated with {@link #evaluate(String, PMMLRuntimeContext)}, and the predictions are
+     * <b>numeric</b> if all of them are numbers; implementations may evaluate the columns directly.
+     * @param modelName the name of the model to evaluate
+     * @param input the columns of the input variables
+     * @param context the context of the evaluation
+     * @return the predictions of the target field, one for each row
+     */
+    default PMMLBatchResult evaluateBatch(final String modelName, final PMMLBatchInput input, final PMMLRuntimeContext context) {
+        final PMMLRequestData requestData = context.getRequestData();
+        final List<ParameterInfo> sharedParams = new ArrayList<>(requestData.getRequestParams());
+        final Object[] predictions = new Object[input.size()];
+        String targetField = null;
+        boolean numeric = true;
+        try {
+            for (int i = 0; i < input.size(); i++) {
+                requestData.getRequestParams().forEach(requestData::removeRequestParam);
+                sharedParams.forEach(requestData::addRequestParam);
+                for (String columnName : input.getColumnNames()) {
+                    requestData.addRequestParam(columnName, input.getValue(columnName, i));
+                }
+                context.resetEvaluationState();
+                PMML4Result result = evaluate(modelName, context);
+                targetField = result.getResultObjectName();
+                predictions[i] = result.getResultVariables().get(targetField);
+                numeric &= predictions[i] == null || predictions[i] instanceof Number;
+            }
+        } finally {
+            requestData.getRequestParams().forEach(requestData::removeRequestParam);
+            sharedParams.forEach(requestData::addRequestParam);
+        }
+        final PMMLBatchResult toReturn = numeric ?
+                PMMLBatchResult.numeric(targetField, input.size()) :
+                PMMLBatchResult.ofObjects(targetField, input.size());
+        for (int i = 0; i < predictions.length; i++) {
+            toReturn.setValue(i, predictions[i]);
+        }
+        return toReturn;
+    }
+
     /**
      * Returns a list of all models available to this runtime
      * @return the list of available models. An empty list in
@@ -69,4 +69,16 @@ public interface PMMLRuntimeContext extends EfestoRuntimeContext<PMMLListener>,
 
     Map<String, Object> getOutputFieldsMap();
 
+    /**
+     * Clears what a previous evaluation left in this context (output fields, predicted display value, entity id,
+     * affinity and probabilities), so that it can be reused for the next one
+     */
+    default void resetEvaluationState() {
+        getOutputFieldsMap().clear();
+        setPredictedDisplayValue(null);
+        setEntityId(null);
+        setAffinity(null);
+        setProbabilityResultMap(null);
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.api.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.api.models.PMMLModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PMMLRuntimeTest {
+
+    @Test
+    void evaluateBatchByDefaultEvaluatesEachRow() {
+        final PMMLRequestData requestData = new PMMLRequestData("correlation", "model");
+        requestData.addRequestParam("shared", 10.0);
+        final PMMLRuntimeContext context = mock(PMMLRuntimeContext.class);
+        when(context.getRequestData()).thenReturn(requestData);
+        final List<Integer> sizes = new ArrayList<>();
+        final PMMLRuntime pmmlRuntime = new SumRuntime(sizes);
+
+        final PMMLBatchInput input = new PMMLBatchInput(3)
+                .addColumn("x", new double[]{1.0, Double.NaN, 3.0});
+        final PMMLBatchResult retrieved = pmmlRuntime.evaluateBatch("model", input, context);
+
+        assertThat(retrieved.getTargetField()).isEqualTo("sum");
+        assertThat(retrieved.isNumeric()).isTrue();
+        assertThat(retrieved.getNumericValues()).containsExactly(11.0, 10.0, 13.0);
+        // the missing value of a row is not inherited from the previous one
+        assertThat(sizes).containsExactly(2, 1, 2);
+        // the shared parameters are restored
+        assertThat(requestData.getRequestParams()).hasSize(1);
+        assertThat(requestData.getMappedRequestParams().get("shared").getValue()).isEqualTo(10.0);
+    }
+
+    @Test
+    void evaluateBatchByDefaultKeepsNotNumericPredictions() {
+        final PMMLRuntimeContext context = mock(PMMLRuntimeContext.class);
+        when(context.getRequestData()).thenReturn(new PMMLRequestData("correlation", "model"));
+        final PMMLRuntime pmmlRuntime = new PMMLRuntime() {
+            @Override
+            public PMML4Result evaluate(String modelName, PMMLRuntimeContext context) {
+                Object x = context.getRequestData().getMappedRequestParams().get("x").getValue();
+                return result("category", "category-" + x);
+            }
+
+            @Override
+            public List<PMMLModel> getPMMLModels(PMMLRuntimeContext context) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Optional<PMMLModel> getPMMLModel(String fileName, String modelName, PMMLRuntimeContext context) {
+                return Optional.empty();
+            }
+        };
+
+        final PMMLBatchInput input = new PMMLBatchInput(2).addColumn("x", new Object[]{"a", "b"});
+        final PMMLBatchResult retrieved = pmmlRuntime.evaluateBatch("model", input, context);
+
+        assertThat(retrieved.isNumeric()).isFalse();
+        assertThat(retrieved.getValues()).containsExactly("category-a", "category-b");
+    }
+
+    @Test
+    void evaluateBatchByDefaultResetsEachRow() {
+        final PMMLRequestData requestData = new PMMLRequestData("correlation", "model");
+        final PMMLRuntimeContext context = mock(PMMLRuntimeContext.class);
+        when(context.getRequestData()).thenReturn(requestData);
+        final List<Integer> sizes = new ArrayList<>();
+        final PMMLRuntime pmmlRuntime = new SumRuntime(sizes) {
+            @Override
+            public PMML4Result evaluate(String modelName, PMMLRuntimeContext context) {
+                final PMML4Result toReturn = super.evaluate(modelName, context);
+                // like a derived field, added to the request data by the evaluation
+                context.getRequestData().addRequestParam("derived", 1.0);
+                return toReturn;
+            }
+        };
+
+        final PMMLBatchInput input = new PMMLBatchInput(3)
+                .addColumn("x", new double[]{1.0, 2.0, 3.0});
+        final PMMLBatchResult retrieved = pmmlRuntime.evaluateBatch("model", input, context);
+
+        assertThat(retrieved.getNumericValues()).containsExactly(1.0, 2.0, 3.0);
+        // the derived field of a row is not inherited by the next one
+        assertThat(sizes).containsExactly(1, 1, 1);
+        verify(context, times(3)).resetEvaluationState();
+        assertThat(requestData.getRequestParams()).isEmpty();
+    }
+
+    private static PMML4Result result(final String targetField, final Object value) {
+        final PMML4Result toReturn = new PMML4Result();
+        toReturn.setResultObjectName(targetField);
+        toReturn.addResultVariable(targetField, value);
+        return toReturn;
+    }
+
+    private static class SumRuntime implements PMMLRuntime {
+
+        private final List<Integer> sizes;
+
+        private SumRuntime(final List<Integer> sizes) {
+            this.sizes = sizes;
+        }
+
+        @Override
+        public PMML4Result evaluate(String modelName, PMMLRuntimeContext context) {
+            final PMMLRequestData requestData = context.getRequestData();
+            sizes.add(requestData.getRequestParams().size());
+            final double sum = requestData.getRequestParams().stream().mapToDouble(p -> (Double) p.getValue()).sum();
+            return result("sum", sum);
+        }
+
+        @Override
+        public List<PMMLModel> getPMMLModels(PMMLRuntimeContext context) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Optional<PMMLModel> getPMMLModel(String fileName, String modelName, PMMLRuntimeContext context) {
+            return Optional.empty();
+        }
+    }
+}
@@ -47,6 +47,8 @@ public class PMMLRuntimeContextImpl extends EfestoRuntimeContextImpl<PMMLListene
 
     private final String fileNameNoSuffix;
 
+    private final KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader;
+
     private final Map<String, Object> map = new ConcurrentHashMap<>();
     private final Map<String, Object> missingValueReplacedMap = new HashMap<>();
     private final Map<String, Object> commonTransformationMap = new HashMap<>();
@@ -71,6 +73,7 @@ public class PMMLRuntimeContextImpl extends EfestoRuntimeContextImpl<PMMLListene
             this.fileName = fileName;
         }
         this.fileNameNoSuffix = this.fileName.substring(0, this.fileName.lastIndexOf('.'));
+        this.memoryCompilerClassLoader = memoryCompilerClassLoader;
     }
 
     public PMMLRuntimeContextImpl(final PMMLRequestData pmmlRequestData,
@@ -81,6 +84,34 @@ public class PMMLRuntimeContextImpl extends EfestoRuntimeContextImpl<PMMLListene
         this.pmmlListeners.addAll(pmmlListeners);
     }
 
+    private PMMLRuntimeContextImpl(final PMMLRuntimeContextImpl parent,
+                                   final PMMLRequestData pmmlRequestData,
+                                   final Set<PMMLListener> pmmlListeners) {
+        super(parent.memoryCompilerClassLoader, parent.getGeneratedResourcesMap());
+        name = "Context_" + ID_GENERATOR.incrementAndGet();
+        set(PMML_REQUEST_DATA, pmmlRequestData);
+        this.fileName = parent.fileName;
+        this.fileNameNoSuffix = parent.fileNameNoSuffix;
+        this.memoryCompilerClassLoader = parent.memoryCompilerClassLoader;
+        this.pmmlListeners.addAll(pmmlListeners);
+    }
+
+    /**
+     * Returns a new <code>PMMLRuntimeContextImpl</code> for the given <code>PMMLRequestData</code> and
+     * <code>PMMLListener</code>s, sharing the class loader and the generated resources of this one
+     * without scanning the index files again.
+     * It is meant for nested evaluations, like the segments of a mining model, that must not modify the state of
+     * this context.
+     *
+     * @param pmmlRequestData
+     * @param pmmlListeners
+     * @return
+     */
+    public PMMLRuntimeContextImpl newChildContext(final PMMLRequestData pmmlRequestData,
+                                                  final Set<PMMLListener> pmmlListeners) {
+        return new PMMLRuntimeContextImpl(this, pmmlRequestData, pmmlListeners);
+    }
+
     @Override
     public String getName() {
         return this.name;
@@ -248,6 +279,17 @@ public class PMMLRuntimeContextImpl extends EfestoRuntimeContextImpl<PMMLListene
         return outputFieldsMap;
     }
 
+    /**
+     * Also clears the replaced missing values and the transformations of the previous evaluation
+     */
+    @Override
+    public void resetEvaluationState() {
+        PMMLRuntimeContext.super.resetEvaluationState();
+        missingValueReplacedMap.clear();
+        commonTransformationMap.clear();
+        localTransformationMap.clear();
+    }
+
     @Override
     public void addEfestoListener(PMMLListener toAdd) {
         pmmlListeners.add(toAdd);
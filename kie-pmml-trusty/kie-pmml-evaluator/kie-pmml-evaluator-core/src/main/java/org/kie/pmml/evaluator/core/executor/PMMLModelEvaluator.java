@@ -15,6 +15,8 @@
  */
 package org.kie.pmml.evaluator.core.executor;
 
+import java.util.Map;
+
 import org.kie.api.pmml.PMML4Result;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
@@ -38,4 +40,25 @@ public interface PMMLModelEvaluator<E extends KiePMMLModel> {
      * @throws KiePMMLInternalException
      */
     PMML4Result evaluate(final E model, final PMMLRuntimeContext context);
+
+    /**
+     * @return <code>true</code> if this <code>PMMLModelEvaluator</code> can evaluate a single row of a batch
+     * with {@link #evaluateBatchRow(KiePMMLModel, Map, PMMLRuntimeContext)}
+     */
+    default boolean isBatchSupported() {
+        return false;
+    }
+
+    /**
+     * Evaluate the model on a single row of a batch, whose input values have already been converted and validated
+     * against the mining fields; the request data of the context is <b>not</b> populated with them
+     * @param model the model to evaluate
+     * @param inputData the input values of the row
+     * @param context the context shared by all the rows
+     * @return the <b>raw</b> prediction of the target field
+     * @throws KiePMMLInternalException if batches are not supported
+     */
+    default Object evaluateBatchRow(final E model, final Map<String, Object> inputData, final PMMLRuntimeContext context) {
+        throw new KiePMMLInternalException(String.format("%s does not support batch evaluation", getClass().getSimpleName()));
+    }
 }
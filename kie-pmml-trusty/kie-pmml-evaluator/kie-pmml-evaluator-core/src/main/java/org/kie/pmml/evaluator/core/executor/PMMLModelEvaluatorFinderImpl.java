@@ -16,7 +16,7 @@
 package org.kie.pmml.evaluator.core.executor;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 
@@ -27,25 +27,33 @@ public class PMMLModelEvaluatorFinderImpl implements PMMLModelEvaluatorFinder {
 
     private static final Logger logger = LoggerFactory.getLogger(PMMLModelEvaluatorFinderImpl.class.getName());
 
-    private ServiceLoader<PMMLModelEvaluator> loader = ServiceLoader.load(PMMLModelEvaluator.class);
+    private final ServiceLoader<PMMLModelEvaluator> loader = ServiceLoader.load(PMMLModelEvaluator.class);
+
+    /**
+     * The <code>ServiceLoader</code> is not thread-safe, so the discovered evaluators are iterated only when they
+     * are (re)loaded, and published as an unmodifiable instance
+     */
+    private volatile List<PMMLModelEvaluator> implementations = loadImplementations();
 
     @Override
     public List<PMMLModelEvaluator> getImplementations(boolean refresh) {
         logger.debug("getImplementations {}", refresh);
+        if (!refresh) {
+            return implementations;
+        }
+        synchronized (loader) {
+            loader.reload();
+            return implementations = loadImplementations();
+        }
+    }
+
+    private List<PMMLModelEvaluator> loadImplementations() {
         List<PMMLModelEvaluator> toReturn = new ArrayList<>();
-        Iterator<PMMLModelEvaluator> providers = getProviders(refresh);
-        providers.forEachRemaining(toReturn::add);
+        loader.iterator().forEachRemaining(toReturn::add);
         logger.debug("toReturn {} {}", toReturn, toReturn.size());
         if (logger.isTraceEnabled()) {
             toReturn.forEach(provider -> logger.trace("{} : {}", provider.getPMMLModelType(), provider));
         }
-        return toReturn;
-    }
-
-    private Iterator<PMMLModelEvaluator> getProviders(boolean refresh) {
-        if (refresh) {
-            loader.reload();
-        }
-        return loader.iterator();
+        return Collections.unmodifiableList(toReturn);
     }
 }
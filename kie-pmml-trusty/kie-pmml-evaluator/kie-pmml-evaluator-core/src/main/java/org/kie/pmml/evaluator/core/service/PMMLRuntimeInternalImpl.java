@@ -32,6 +32,8 @@ import org.kie.pmml.api.identifiers.KiePmmlComponentRoot;
 import org.kie.pmml.api.identifiers.LocalComponentIdPmml;
 import org.kie.pmml.api.identifiers.PmmlIdFactory;
 import org.kie.pmml.api.models.PMMLModel;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.evaluator.core.model.EfestoInputPMML;
@@ -76,6 +78,12 @@ public class PMMLRuntimeInternalImpl implements PMMLRuntime {
         return ((EfestoOutputPMML) output).getOutputData();
     }
 
+    @Override
+    public PMMLBatchResult evaluateBatch(String modelName, PMMLBatchInput input, PMMLRuntimeContext context) {
+        EfestoInputPMML darInputPMML = getEfestoInputPMML(modelName, context);
+        return PMMLRuntimeHelper.evaluateBatch(darInputPMML.getModelLocalUriId(), modelName, context, input);
+    }
+
     @Override
     public List<PMMLModel> getPMMLModels(PMMLRuntimeContext context) {
         logger.debug("getPMMLModels {}", context);
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.core.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
+import org.kie.pmml.api.enums.DATA_TYPE;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+import org.kie.pmml.api.exceptions.KiePMMLInputDataException;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
+import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.commons.model.KiePMMLMiningField;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.KiePMMLTarget;
+import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class meant to provide static methods related to the <b>batch</b> evaluation of a <code>KiePMMLModel</code>.
+ * <p>
+ * When the <code>PMMLModelEvaluator</code> supports it and the model has no transformations, the mining fields are
+ * bound to their columns once and each row is fed directly to the model, reusing the same input map and skipping
+ * the <code>PMMLRequestData</code> and <code>PMML4Result</code> of the single evaluation; otherwise each row is
+ * evaluated through the whole pre-process/evaluation/post-process pipeline.
+ * </p>
+ */
+public class PMMLBatchEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PMMLBatchEvaluator.class);
+
+    private PMMLBatchEvaluator() {
+        // Avoid instantiation
+    }
+
+    /**
+     * Evaluate all the rows of the given <code>PMMLBatchInput</code>, returning the <b>target</b> value of each one.
+     * The parameters already present in the <code>PMMLRequestData</code> of the given <code>PMMLRuntimeContext</code>
+     * are shared by all the rows.
+     *
+     * @param model
+     * @param evaluator
+     * @param context
+     * @param input
+     * @return
+     */
+    public static PMMLBatchResult evaluateBatch(final KiePMMLModel model,
+                                                final PMMLModelEvaluator evaluator,
+                                                final PMMLRuntimeContext context,
+                                                final PMMLBatchInput input) {
+        logger.debug("evaluateBatch {} {} rows", model.getName(), input.size());
+        final String targetField = model.getTargetField();
+        final DATA_TYPE targetType = getTargetType(model);
+        final PMMLBatchResult toReturn = isNumeric(targetType) ?
+                PMMLBatchResult.numeric(targetField, input.size()) :
+                PMMLBatchResult.ofObjects(targetField, input.size());
+        if (evaluator.isBatchSupported() && !hasTransformations(model)) {
+            evaluateRows(model, evaluator, context, input, targetType, toReturn);
+        } else {
+            evaluateRowsByRequest(model, context, input, toReturn);
+        }
+        return toReturn;
+    }
+
+    @SuppressWarnings("unchecked")
+    static void evaluateRows(final KiePMMLModel model,
+                             final PMMLModelEvaluator evaluator,
+                             final PMMLRuntimeContext context,
+                             final PMMLBatchInput input,
+                             final DATA_TYPE targetType,
+                             final PMMLBatchResult toPopulate) {
+        final String targetField = model.getTargetField();
+        final List<FieldBinding> bindings = getFieldBindings(model, context.getRequestData(), input);
+        final KiePMMLTarget kiePMMLTarget = getKiePMMLTarget(model, targetField).orElse(null);
+        final Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < input.size(); i++) {
+            row.clear();
+            try {
+                for (FieldBinding binding : bindings) {
+                    binding.populate(row, i);
+                }
+                Object prediction = evaluator.evaluateBatchRow(model, row, context);
+                if (kiePMMLTarget != null) {
+                    prediction = kiePMMLTarget.modifyPrediction(prediction);
+                }
+                toPopulate.setValue(i, prediction != null ? targetType.getActualValue(prediction) : null);
+            } catch (KiePMMLInputDataException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new KiePMMLException(String.format("Failed to evaluate row %s of %s", i, model.getName()), e);
+            }
+        }
+    }
+
+    static void evaluateRowsByRequest(final KiePMMLModel model,
+                                      final PMMLRuntimeContext context,
+                                      final PMMLBatchInput input,
+                                      final PMMLBatchResult toPopulate) {
+        final String targetField = model.getTargetField();
+        final PMMLRequestData requestData = context.getRequestData();
+        final Map<String, Object> sharedParams = new HashMap<>();
+        requestData.getRequestParams().forEach(parameterInfo -> sharedParams.put(parameterInfo.getName(),
+                                                                                   parameterInfo.getValue()));
+        final Collection<String> columnNames = input.getColumnNames();
+        try {
+            for (int i = 0; i < input.size(); i++) {
+                resetRequestParams(requestData, sharedParams);
+                for (String columnName : columnNames) {
+                    requestData.addRequestParam(columnName, input.getValue(columnName, i));
+                }
+                context.resetEvaluationState();
+                try {
+                    PMML4Result result = PMMLRuntimeHelper.evaluate(model, context);
+                    toPopulate.setValue(i, result.getResultVariables().get(targetField));
+                } catch (KiePMMLInputDataException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new KiePMMLException(String.format("Failed to evaluate row %s of %s", i, model.getName()), e);
+                }
+            }
+        } finally {
+            resetRequestParams(requestData, sharedParams);
+        }
+    }
+
+    static List<FieldBinding> getFieldBindings(final KiePMMLModel model,
+                                               final PMMLRequestData requestData,
+                                               final PMMLBatchInput input) {
+        final Map<String, ParameterInfo> sharedParams = requestData.getMappedRequestParams();
+        final List<FieldBinding> toReturn = new ArrayList<>();
+        final List<String> boundNames = new ArrayList<>();
+        if (model.getKiePMMLMiningFields() != null) {
+            for (KiePMMLMiningField miningField : model.getKiePMMLMiningFields()) {
+                if (miningField.isTarget()) {
+                    continue;
+                }
+                String name = miningField.getName();
+                ParameterInfo sharedParam = sharedParams.get(name);
+                toReturn.add(new FieldBinding(name, miningField, input, sharedParam != null ? sharedParam.getValue() : null));
+                boundNames.add(name);
+            }
+        }
+        // the other columns and parameters are passed on as they are, like in the single evaluation
+        for (String columnName : input.getColumnNames()) {
+            if (!boundNames.contains(columnName)) {
+                toReturn.add(new FieldBinding(columnName, null, input, null));
+                boundNames.add(columnName);
+            }
+        }
+        sharedParams.forEach((name, parameterInfo) -> {
+            if (!boundNames.contains(name)) {
+                toReturn.add(new FieldBinding(name, null, input, parameterInfo.getValue()));
+            }
+        });
+        return toReturn;
+    }
+
+    static DATA_TYPE getTargetType(final KiePMMLModel model) {
+        return model.getMiningFields().stream()
+                .filter(miningField -> model.getTargetField().equals(miningField.getName()))
+                .map(MiningField::getDataType)
+                .findFirst()
+                .orElseThrow(() -> new KiePMMLException("Failed to find DATA_TYPE for " + model.getTargetField()));
+    }
+
+    static boolean isNumeric(final DATA_TYPE dataType) {
+        switch (dataType) {
+            case INTEGER:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static boolean hasTransformations(final KiePMMLModel model) {
+        boolean globalDerivedFields = model.getTransformationDictionary() != null &&
+                model.getTransformationDictionary().getDerivedFields() != null &&
+                !model.getTransformationDictionary().getDerivedFields().isEmpty();
+        boolean localDerivedFields = model.getLocalTransformations() != null &&
+                model.getLocalTransformations().getDerivedFields() != null &&
+                !model.getLocalTransformations().getDerivedFields().isEmpty();
+        return globalDerivedFields || localDerivedFields;
+    }
+
+    private static Optional<KiePMMLTarget> getKiePMMLTarget(final KiePMMLModel model, final String targetField) {
+        if (model.getKiePMMLTargets() == null) {
+            return Optional.empty();
+        }
+        return model.getKiePMMLTargets()
+                .stream()
+                .filter(kiePMMLTarget -> kiePMMLTarget.getField() != null && kiePMMLTarget.getField().equals(targetField))
+                .findFirst();
+    }
+
+    private static void resetRequestParams(final PMMLRequestData requestData, final Map<String, Object> params) {
+        requestData.getRequestParams().forEach(requestData::removeRequestParam);
+        params.forEach(requestData::addRequestParam);
+    }
+
+    /**
+     * Binding of an input field to its column, or to its shared value, applying the same conversion,
+     * <b>invalidValueTreatment</b> and <b>missingValueTreatment</b> of <code>PreProcess</code>, through its helpers
+     */
+    static class FieldBinding {
+
+        private final String name;
+        private final KiePMMLMiningField miningField;
+        private final double[] numericColumn;
+        private final Object[] objectColumn;
+        private final Object sharedValue;
+
+        FieldBinding(final String name, final KiePMMLMiningField miningField, final PMMLBatchInput input,
+                     final Object sharedValue) {
+            this.name = name;
+            this.miningField = miningField;
+            this.numericColumn = input.getNumericColumns().get(name);
+            this.objectColumn = input.getObjectColumns().get(name);
+            this.sharedValue = sharedValue;
+        }
+
+        void populate(final Map<String, Object> row, final int index) {
+            Object value = getRawValue(index);
+            if (miningField == null) {
+                if (value != null) {
+                    row.put(name, value);
+                }
+                return;
+            }
+            if (value != null) {
+                value = miningField.getDataType().getActualValue(value);
+                if (!miningField.isMatching(value)) {
+                    value = PreProcess.getInvalidValueTreatment(miningField, value);
+                }
+            }
+            if (value == null) {
+                value = PreProcess.getMissingValueTreatment(miningField);
+            }
+            if (value != null) {
+                row.put(name, value);
+            }
+        }
+
+        private Object getRawValue(final int index) {
+            if (numericColumn != null) {
+                return Double.isNaN(numericColumn[index]) ? null : numericColumn[index];
+            }
+            if (objectColumn != null) {
+                return objectColumn[index];
+            }
+            return sharedValue;
+        }
+    }
+}
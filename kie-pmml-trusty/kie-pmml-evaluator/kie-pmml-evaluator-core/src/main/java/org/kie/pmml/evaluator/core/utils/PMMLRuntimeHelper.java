@@ -38,6 +38,8 @@ import org.kie.pmml.api.enums.PMML_STEP;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.models.PMMLModel;
 import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.model.KiePMMLModelFactory;
@@ -156,15 +158,24 @@ public class PMMLRuntimeHelper {
     }
 
     public static PMML4Result evaluate(final KiePMMLModel model, final PMMLRuntimeContext context) {
+        return evaluate(model, context, getPMMLModelEvaluator(model.getPmmlMODEL()));
+    }
+
+    /**
+     * Evaluate the given <code>KiePMMLModel</code> with an already retrieved <code>PMMLModelEvaluator</code>
+     * @param model
+     * @param context
+     * @param executor
+     * @return
+     */
+    public static PMML4Result evaluate(final KiePMMLModel model, final PMMLRuntimeContext context,
+                                       final PMMLModelEvaluator executor) {
         if (logger.isDebugEnabled()) {
             logger.debug("evaluate {} {}", model, context);
         }
         addStep(() -> getStep(START, model, context.getRequestData()), context);
         final ProcessingDTO processingDTO = preProcess(model, context);
         addStep(() -> getStep(PRE_EVALUATION, model, context.getRequestData()), context);
-        PMMLModelEvaluator executor = getFromPMMLModelType(model.getPmmlMODEL())
-                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s",
-                                                                      model.getPmmlMODEL())));
         PMML4Result toReturn = executor.evaluate(model, context);
         addStep(() -> getStep(POST_EVALUATION, model, context.getRequestData()), context);
         postProcess(toReturn, model, context, processingDTO);
@@ -172,6 +183,20 @@ public class PMMLRuntimeHelper {
         return toReturn;
     }
 
+    public static PMMLBatchResult evaluateBatch(final ModelLocalUriId modelLocalUriId,
+                                               final String modelName,
+                                               final PMMLRuntimeContext context,
+                                               final PMMLBatchInput input) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("evaluateBatch {} {}", modelLocalUriId, context);
+        }
+        KiePMMLModelFactory kiePMMLModelFactory = loadKiePMMLModelFactory(modelLocalUriId, context);
+        KiePMMLModel toEvaluate =
+                getPMMLModel(kiePMMLModelFactory.getKiePMMLModels(), context.getFileName(), modelName).orElseThrow(() -> new KiePMMLException("Failed to retrieve model with name " + modelName));
+        PMMLModelEvaluator executor = getPMMLModelEvaluator(toEvaluate.getPmmlMODEL());
+        return PMMLBatchEvaluator.evaluateBatch(toEvaluate, executor, context, input);
+    }
+
     static EfestoOutputPMML getEfestoOutput(KiePMMLModelFactory kiePMMLModelFactory, EfestoInputPMML darInputPMML) {
         List<KiePMMLModel> kiePMMLModels = kiePMMLModelFactory.getKiePMMLModels();
         PMML4Result result = evaluate(kiePMMLModels, darInputPMML.getInputData());
@@ -243,6 +268,18 @@ public class PMMLRuntimeHelper {
         return toReturn;
     }
 
+    /**
+     * Retrieve the <code>PMMLModelEvaluator</code> for the given <code>PMML_MODEL</code>
+     * @param pmmlMODEL
+     * @return
+     * @throws KiePMMLException if no <code>PMMLModelEvaluator</code> is found
+     */
+    public static PMMLModelEvaluator getPMMLModelEvaluator(final PMML_MODEL pmmlMODEL) {
+        return getFromPMMLModelType(pmmlMODEL)
+                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s",
+                                                                      pmmlMODEL)));
+    }
+
     /**
      * Returns an <code>Optional&lt;PMMLModelExecutor&gt;</code> to allow
      * incremental development of different model-specific executors
@@ -212,30 +212,46 @@ public class PreProcess {
      */
     static void manageInvalidValues(final KiePMMLMiningField miningField, final ParameterInfo parameterInfo,
                                     final List<ParameterInfo> toRemove) {
+        Object originalValue = parameterInfo.getValue();
+        Object requiredValue = getInvalidValueTreatment(miningField, originalValue);
+        if (requiredValue == null) {
+            // a null value kept AS_IS is not removed
+            if (originalValue != null || miningField.getInvalidValueTreatmentMethod() == INVALID_VALUE_TREATMENT_METHOD.AS_MISSING) {
+                toRemove.add(parameterInfo);
+            }
+        } else if (requiredValue != originalValue) {
+            parameterInfo.setType(miningField.getDataType().getMappedClass());
+            parameterInfo.setValue(requiredValue);
+        }
+    }
+
+    /**
+     * Returns the value to use in place of the given <b>invalid value</b>, depending on the
+     * <code>INVALID_VALUE_TREATMENT_METHOD</code> of the given <code>MiningField</code>: the value itself, its
+     * replacement, or <code>null</code> when it has to be treated as missing
+     *
+     * @param miningField
+     * @param originalValue
+     * @return
+     */
+    static Object getInvalidValueTreatment(final KiePMMLMiningField miningField, final Object originalValue) {
         INVALID_VALUE_TREATMENT_METHOD invalidValueTreatmentMethod =
                 miningField.getInvalidValueTreatmentMethod() != null ?
                         miningField.getInvalidValueTreatmentMethod()
                         : INVALID_VALUE_TREATMENT_METHOD.RETURN_INVALID;
-        Object originalValue = parameterInfo.getValue();
         switch (invalidValueTreatmentMethod) {
             case RETURN_INVALID:
                 throw new KiePMMLInputDataException("Invalid value " + originalValue + " for " + miningField.getName());
             case AS_MISSING:
-                toRemove.add(parameterInfo);
-                break;
+                return null;
             case AS_IS:
-                break;
+                return originalValue;
             case AS_VALUE:
                 String invalidValueReplacement = miningField.getInvalidValueReplacement();
                 if (invalidValueReplacement == null) {
                     throw new KiePMMLInputDataException("Missing required invalidValueReplacement for " + miningField.getName());
-                } else {
-                    Object requiredValue =
-                            miningField.getDataType().getActualValue(invalidValueReplacement);
-                    parameterInfo.setType(miningField.getDataType().getMappedClass());
-                    parameterInfo.setValue(requiredValue);
                 }
-                break;
+                return miningField.getDataType().getActualValue(invalidValueReplacement);
             default:
                 throw new KiePMMLException("Unmanaged INVALID_VALUE_TREATMENT_METHOD " + invalidValueTreatmentMethod);
         }
@@ -249,6 +265,21 @@ public class PreProcess {
      * @param requestData
      */
     static void manageMissingValues(final KiePMMLMiningField miningField, final PMMLRequestData requestData) {
+        Object requiredValue = getMissingValueTreatment(miningField);
+        if (requiredValue != null) {
+            requestData.addRequestParam(miningField.getName(), requiredValue);
+        }
+    }
+
+    /**
+     * Returns the value to use in place of a <b>missing value</b>, depending on the
+     * <code>MISSING_VALUE_TREATMENT_METHOD</code> of the given <code>MiningField</code>: its replacement, or
+     * <code>null</code> if it has none
+     *
+     * @param miningField
+     * @return
+     */
+    static Object getMissingValueTreatment(final KiePMMLMiningField miningField) {
         MISSING_VALUE_TREATMENT_METHOD missingValueTreatmentMethod =
                 miningField.getMissingValueTreatmentMethod() != null ?
                         miningField.getMissingValueTreatmentMethod()
@@ -262,12 +293,8 @@ public class PreProcess {
             case AS_MEDIAN:
             case AS_VALUE:
                 String missingValueReplacement = miningField.getMissingValueReplacement();
-                if (missingValueReplacement != null) {
-                    Object requiredValue =
-                            miningField.getDataType().getActualValue(missingValueReplacement);
-                    requestData.addRequestParam(miningField.getName(), requiredValue);
-                }
-                break;
+                return missingValueReplacement != null ?
+                        miningField.getDataType().getActualValue(missingValueReplacement) : null;
             default:
                 throw new KiePMMLException("Unmanaged INVALID_VALUE_TREATMENT_METHOD " + missingValueTreatmentMethod);
         }
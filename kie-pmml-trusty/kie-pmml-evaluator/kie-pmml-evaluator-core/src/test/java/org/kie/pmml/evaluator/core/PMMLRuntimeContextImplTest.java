@@ -79,6 +79,30 @@ class PMMLRuntimeContextImplTest {
         assertThat(retrieved.getRequestData()).isEqualTo(requestData);
     }
 
+    @Test
+    void resetEvaluationState() {
+        PMMLRuntimeContextImpl retrieved = new PMMLRuntimeContextImpl(new PMMLRequestData(), fileName,
+                                                                      memoryCompilerClassLoader);
+        retrieved.getOutputFieldsMap().put("OUTPUT", 1);
+        retrieved.addMissingValueReplaced("MISSING", 2);
+        retrieved.addCommonTranformation("COMMON", 3);
+        retrieved.addLocalTranformation("LOCAL", 4);
+        retrieved.setPredictedDisplayValue("DISPLAY");
+        retrieved.setEntityId("ENTITY");
+        retrieved.setAffinity(5);
+        retrieved.setProbabilityResultMap(new LinkedHashMap<>());
+
+        retrieved.resetEvaluationState();
+        assertThat(retrieved.getOutputFieldsMap()).isEmpty();
+        assertThat(retrieved.getMissingValueReplacedMap()).isEmpty();
+        assertThat(retrieved.getCommonTransformationMap()).isEmpty();
+        assertThat(retrieved.getLocalTransformationMap()).isEmpty();
+        assertThat(retrieved.getPredictedDisplayValue()).isNull();
+        assertThat(retrieved.getEntityId()).isNull();
+        assertThat(retrieved.getAffinity()).isNull();
+        assertThat(retrieved.getProbabilityResultMap()).isNull();
+    }
+
     @Test
     void getFixedProbabilityMap() {
         double initialTotalProbability = 0.99;
@@ -552,4 +552,37 @@ public class PreProcessTest {
             PreProcess.manageMissingValues(miningField, new PMMLRequestData());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void getInvalidValueTreatment() {
+        final Object invalidValue = "INVALID";
+        KiePMMLMiningField miningField = KiePMMLMiningField.builder("FIELD", null)
+                .withInvalidValueTreatmentMethod(INVALID_VALUE_TREATMENT_METHOD.AS_MISSING)
+                .build();
+        assertThat(PreProcess.getInvalidValueTreatment(miningField, invalidValue)).isNull();
+        miningField = KiePMMLMiningField.builder("FIELD", null)
+                .withInvalidValueTreatmentMethod(INVALID_VALUE_TREATMENT_METHOD.AS_IS)
+                .build();
+        assertThat(PreProcess.getInvalidValueTreatment(miningField, invalidValue)).isSameAs(invalidValue);
+        miningField = KiePMMLMiningField.builder("FIELD", null)
+                .withDataType(DATA_TYPE.INTEGER)
+                .withInvalidValueTreatmentMethod(INVALID_VALUE_TREATMENT_METHOD.AS_VALUE)
+                .withInvalidValueReplacement("3")
+                .build();
+        assertThat(PreProcess.getInvalidValueTreatment(miningField, invalidValue)).isEqualTo(3);
+    }
+
+    @Test
+    void getMissingValueTreatment() {
+        KiePMMLMiningField miningField = KiePMMLMiningField.builder("FIELD", null)
+                .withMissingValueTreatmentMethod(MISSING_VALUE_TREATMENT_METHOD.AS_MEAN)
+                .build();
+        assertThat(PreProcess.getMissingValueTreatment(miningField)).isNull();
+        miningField = KiePMMLMiningField.builder("FIELD", null)
+                .withDataType(DATA_TYPE.INTEGER)
+                .withMissingValueTreatmentMethod(MISSING_VALUE_TREATMENT_METHOD.AS_VALUE)
+                .withMissingValueReplacement("3")
+                .build();
+        assertThat(PreProcess.getMissingValueTreatment(miningField)).isEqualTo(3);
+    }
+}
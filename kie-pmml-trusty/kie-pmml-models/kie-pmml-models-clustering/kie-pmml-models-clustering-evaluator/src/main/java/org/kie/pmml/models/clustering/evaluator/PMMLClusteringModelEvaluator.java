@@ -51,4 +51,16 @@ public class PMMLClusteringModelEvaluator implements PMMLModelEvaluator<KiePMMLC
         toReturn.setResultCode(OK.getName());
         return toReturn;
     }
+
+    @Override
+    public boolean isBatchSupported() {
+        return true;
+    }
+
+    @Override
+    public Object evaluateBatchRow(final KiePMMLClusteringModel model,
+                                   final Map<String, Object> inputData,
+                                   final PMMLRuntimeContext context) {
+        return model.evaluate(inputData, context);
+    }
 }
@@ -17,6 +17,7 @@ package org.kie.pmml.models.drools.commons.model;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,12 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
      */
     protected Map<String, KiePMMLOriginalTypeGeneratedType> fieldTypeMap = new HashMap<>();
 
+    /**
+     * The <code>fieldTypeMap</code> converted for the <code>EfestoMapInputDTO</code>, built at the first evaluation
+     * and shared by the following ones.
+     */
+    private transient volatile Map<String, EfestoOriginalTypeGeneratedType> convertedFieldTypeMap;
+
     protected KiePMMLDroolsModel(final String fileName,
                                  final String modelName,
                                  final List<KiePMMLExtension> extensions) {
@@ -95,12 +102,7 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         globals.put(PMML4_RESULT_IDENTIFIER, toReturn);
         globals.put(OUTPUTFIELDS_MAP_IDENTIFIER, context.getOutputFieldsMap());
 
-        Map<String, EfestoOriginalTypeGeneratedType> convertedFieldTypeMap = fieldTypeMap.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                                          entry -> new EfestoOriginalTypeGeneratedType(entry.getValue().getOriginalType(),
-                                                                                       entry.getValue().getGeneratedType())));
-        EfestoMapInputDTO darMapInputDTO = new EfestoMapInputDTO(inserts, globals, requestData, convertedFieldTypeMap
+        EfestoMapInputDTO darMapInputDTO = new EfestoMapInputDTO(inserts, globals, requestData, getConvertedFieldTypeMap()
                 , this.getName(), this.getKModulePackageName());
 
         LocalComponentIdRedirectPmml modelLocalUriId = new EfestoAppRoot()
@@ -111,7 +113,7 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         BaseEfestoInput<EfestoMapInputDTO> input = new BaseEfestoInput<>(modelLocalUriId,
                                                                                       darMapInputDTO);
 
-        Optional<RuntimeManager> runtimeManager = getRuntimeManager(true);
+        Optional<RuntimeManager> runtimeManager = getRuntimeManager(false);
         if (!runtimeManager.isPresent()) {
             throw new KieRuntimeServiceException("Cannot find RuntimeManager");
         }
@@ -162,6 +164,19 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         return Objects.hash(kiePMMLOutputFields, fieldTypeMap);
     }
 
+    private Map<String, EfestoOriginalTypeGeneratedType> getConvertedFieldTypeMap() {
+        Map<String, EfestoOriginalTypeGeneratedType> toReturn = convertedFieldTypeMap;
+        if (toReturn == null) {
+            toReturn = Collections.unmodifiableMap(fieldTypeMap.entrySet()
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey,
+                                              entry -> new EfestoOriginalTypeGeneratedType(entry.getValue().getOriginalType(),
+                                                                                           entry.getValue().getGeneratedType()))));
+            convertedFieldTypeMap = toReturn;
+        }
+        return toReturn;
+    }
+
     @SuppressWarnings("unchecked")
     private PMML4Result getPMML4Result(final String targetField) {
         PMML4Result toReturn = new PMML4Result();
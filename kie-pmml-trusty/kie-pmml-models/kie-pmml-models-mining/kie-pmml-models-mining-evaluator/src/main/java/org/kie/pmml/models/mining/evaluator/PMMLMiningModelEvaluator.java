@@ -15,15 +15,22 @@
  */
 package org.kie.pmml.models.mining.evaluator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.drools.util.StringUtils;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.ResultCode;
@@ -31,12 +38,14 @@ import org.kie.pmml.api.exceptions.KieEnumException;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
 import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLListener;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.model.predicates.KiePMMLPredicate;
 import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
 import org.kie.pmml.commons.model.tuples.KiePMMLValueWeight;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
+import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
 import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
 import org.kie.pmml.evaluator.core.utils.PMMLRuntimeHelper;
 import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
@@ -59,6 +68,23 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
     private static final String EXPECTED_A_KIE_PMMLMINING_MODEL_RECEIVED = "Expected a KiePMMLMiningModel, received %s";
     private static final String TARGET_FIELD_REQUIRED_RETRIEVED = "TargetField required, retrieved %s";
 
+    /**
+     * System property with the minimum number of segments of an ensemble to be evaluated concurrently; a value
+     * lower than 1 disables the concurrent evaluation
+     */
+    public static final String PARALLEL_SEGMENTS_THRESHOLD = "kiePmmlParallelSegmentsThreshold";
+    static final int DEFAULT_PARALLEL_SEGMENTS_THRESHOLD = 100;
+
+    private final int parallelSegmentsThreshold;
+
+    public PMMLMiningModelEvaluator() {
+        this(Integer.getInteger(PARALLEL_SEGMENTS_THRESHOLD, DEFAULT_PARALLEL_SEGMENTS_THRESHOLD));
+    }
+
+    public PMMLMiningModelEvaluator(final int parallelSegmentsThreshold) {
+        this.parallelSegmentsThreshold = parallelSegmentsThreshold;
+    }
+
     @Override
     public PMML_MODEL getPMMLModelType() {
         return PMML_MODEL.MINING_MODEL;
@@ -178,6 +204,35 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         }
     }
 
+    /**
+     * Returns <code>true</code> if the result of the given <code>MULTIPLE_MODEL_METHOD</code> does not depend on
+     * the order the segments are evaluated in, i.e. if the segments do not need the results of the previous ones
+     *
+     * @param multipleModelMethod
+     * @return
+     */
+    static boolean isOrderIndependent(final MULTIPLE_MODEL_METHOD multipleModelMethod) {
+        switch (multipleModelMethod) {
+            case MAJORITY_VOTE:
+            case WEIGHTED_MAJORITY_VOTE:
+            case AVERAGE:
+            case WEIGHTED_AVERAGE:
+            case MEDIAN:
+            case WEIGHTED_MEDIAN:
+            case MAX:
+            case SUM:
+            case WEIGHTED_SUM:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    boolean isParallel(final int segmentsSize, final PMMLRuntimeContext pmmlContext) {
+        return parallelSegmentsThreshold > 0 && segmentsSize >= parallelSegmentsThreshold &&
+                pmmlContext instanceof PMMLRuntimeContextImpl;
+    }
+
     void validate(final KiePMMLModel toValidate) {
         if (!(toValidate instanceof KiePMMLMiningModel)) {
             throw new KiePMMLModelException(String.format(EXPECTED_A_KIE_PMMLMINING_MODEL_RECEIVED,
@@ -256,17 +311,92 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         final MULTIPLE_MODEL_METHOD multipleModelMethod = toEvaluate.getSegmentation().getMultipleModelMethod();
         final List<KiePMMLSegment> segments = toEvaluate.getSegmentation().getSegments();
         final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> inputData = new LinkedHashMap<>();
-        for (KiePMMLSegment segment : segments) {
-            Optional<PMML4Result> segmentResult = evaluateSegment(segment, pmmlContext);
-            segmentResult.ifPresent(pmml4Result -> populateInputDataWithSegmentResult(pmml4Result,
-                                                                                      pmmlContext,
-                                                                                      multipleModelMethod,
-                                                                                      segment,
-                                                                                      inputData));
+        if (isOrderIndependent(multipleModelMethod)) {
+            evaluateIndependentSegments(segments, multipleModelMethod, pmmlContext, inputData);
+        } else {
+            for (KiePMMLSegment segment : segments) {
+                Optional<PMML4Result> segmentResult = evaluateSegment(segment, pmmlContext);
+                segmentResult.ifPresent(pmml4Result -> populateInputDataWithSegmentResult(pmml4Result,
+                                                                                          pmmlContext,
+                                                                                          multipleModelMethod,
+                                                                                          segment,
+                                                                                          inputData));
+            }
         }
         return getPMML4Result(toEvaluate, inputData, pmmlContext);
     }
 
+    /**
+     * Evaluate the segments of an ensemble whose <code>MULTIPLE_MODEL_METHOD</code> is order-independent: the
+     * predicates are all evaluated against the same input, and the selected segments are evaluated concurrently
+     * when they are at least <code>parallelSegmentsThreshold</code>.
+     * The results are always populated in the segments' order.
+     *
+     * @param segments
+     * @param multipleModelMethod
+     * @param pmmlContext
+     * @param toPopulate
+     */
+    private void evaluateIndependentSegments(final List<KiePMMLSegment> segments,
+                                             final MULTIPLE_MODEL_METHOD multipleModelMethod,
+                                             final PMMLRuntimeContext pmmlContext,
+                                             final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> toPopulate) {
+        final Map<String, Object> values =
+                getUnwrappedParametersMap(pmmlContext.getRequestData().getMappedRequestParams());
+        final List<KiePMMLSegment> selected = segments.stream()
+                .filter(segment -> segment.getKiePMMLPredicate().evaluate(values))
+                .collect(Collectors.toList());
+        if (isParallel(selected.size(), pmmlContext)) {
+            evaluateSegmentsInParallel(selected, multipleModelMethod, (PMMLRuntimeContextImpl) pmmlContext,
+                                       toPopulate);
+        } else {
+            for (KiePMMLSegment segment : selected) {
+                Optional.ofNullable(PMMLRuntimeHelper.evaluate(segment.getModel(), pmmlContext))
+                        .ifPresent(pmml4Result -> populateInputDataWithSegmentResult(pmml4Result,
+                                                                                     pmmlContext,
+                                                                                     multipleModelMethod,
+                                                                                     segment,
+                                                                                     toPopulate));
+            }
+        }
+    }
+
+    /**
+     * Evaluate each segment inside its own child context on the common <code>ForkJoinPool</code>, then merge the
+     * child contexts into the given one in the segments' order, so that the results are populated and the steps are
+     * sent to the listeners in the same order of the sequential evaluation
+     *
+     * @param segments
+     * @param multipleModelMethod
+     * @param pmmlContext
+     * @param toPopulate
+     */
+    private void evaluateSegmentsInParallel(final List<KiePMMLSegment> segments,
+                                            final MULTIPLE_MODEL_METHOD multipleModelMethod,
+                                            final PMMLRuntimeContextImpl pmmlContext,
+                                            final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> toPopulate) {
+        logger.trace("evaluateSegmentsInParallel {}", segments.size());
+        final Collection<ParameterInfo> requestParams = pmmlContext.getRequestData().getRequestParams();
+        final boolean withListeners = !pmmlContext.getEfestoListeners().isEmpty();
+        // the child contexts share the class loader and the evaluators are retrieved through the (not thread-safe)
+        // ServiceLoader, so both are resolved before forking
+        final List<SegmentEvaluation> evaluations = new ArrayList<>(segments.size());
+        for (KiePMMLSegment segment : segments) {
+            evaluations.add(new SegmentEvaluation(segment, pmmlContext, requestParams, withListeners));
+        }
+        evaluations.parallelStream().forEach(SegmentEvaluation::evaluate);
+        for (SegmentEvaluation evaluation : evaluations) {
+            evaluation.mergeInto(pmmlContext);
+            if (evaluation.pmml4Result != null) {
+                populateInputDataWithSegmentResult(evaluation.pmml4Result,
+                                                   pmmlContext,
+                                                   multipleModelMethod,
+                                                   evaluation.segment,
+                                                   toPopulate);
+            }
+        }
+    }
+
     /**
      * Evaluate the model contained in the <code>KiePMMLSegment</code>, indirectly invoking
      * the model-specific runtime (through <code>PMMLRuntime</code> container)
@@ -287,6 +417,75 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         return toReturn;
     }
 
+    /**
+     * Evaluation of a <code>KiePMMLSegment</code> inside a child context, with a copy of the request data
+     */
+    static class SegmentEvaluation {
+
+        private final KiePMMLSegment segment;
+        private final PMMLRuntimeContextImpl context;
+        private final PMMLModelEvaluator evaluator;
+        private final List<PMMLStep> steps = new ArrayList<>();
+        private final Map<String, Object> copiedParams = new HashMap<>();
+        private PMML4Result pmml4Result;
+
+        SegmentEvaluation(final KiePMMLSegment segment,
+                          final PMMLRuntimeContextImpl parent,
+                          final Collection<ParameterInfo> requestParams,
+                          final boolean withListeners) {
+            this.segment = segment;
+            this.evaluator = PMMLRuntimeHelper.getPMMLModelEvaluator(segment.getModel().getPmmlMODEL());
+            final PMMLRequestData parentRequestData = parent.getRequestData();
+            final PMMLRequestData requestData = new PMMLRequestData(parentRequestData.getCorrelationId(),
+                                                                    parentRequestData.getModelName());
+            requestParams.forEach(parameterInfo -> {
+                if (requestData.addRequestParam(parameterInfo.getName(), parameterInfo.getValue())) {
+                    copiedParams.put(parameterInfo.getName(), parameterInfo.getValue());
+                }
+            });
+            final PMMLListener stepsCollector = steps::add;
+            this.context = parent.newChildContext(requestData, withListeners ?
+                    Collections.singleton(stepsCollector) : Collections.emptySet());
+        }
+
+        void evaluate() {
+            pmml4Result = PMMLRuntimeHelper.evaluate(segment.getModel(), context, evaluator);
+        }
+
+        PMMLRuntimeContextImpl getContext() {
+            return context;
+        }
+
+        /**
+         * Replay the collected steps and copy the state left by the evaluation to the given context. Only the
+         * request parameters added or changed by the evaluation are copied, the other ones are already there.
+         *
+         * @param parent
+         */
+        void mergeInto(final PMMLRuntimeContext parent) {
+            steps.forEach(step -> parent.getEfestoListeners().forEach(listener -> listener.stepExecuted(step)));
+            final PMMLRequestData parentRequestData = parent.getRequestData();
+            for (ParameterInfo parameterInfo : context.getRequestData().getRequestParams()) {
+                String name = parameterInfo.getName();
+                Object value = parameterInfo.getValue();
+                if (!copiedParams.containsKey(name) || !Objects.equals(copiedParams.get(name), value)) {
+                    parentRequestData.addRequestParam(name, value);
+                }
+            }
+            parent.getOutputFieldsMap().putAll(context.getOutputFieldsMap());
+            if (context.getPredictedDisplayValue() != null) {
+                parent.setPredictedDisplayValue(context.getPredictedDisplayValue());
+            }
+            if (context.getEntityId() != null) {
+                parent.setEntityId(context.getEntityId());
+            }
+            if (context.getAffinity() != null) {
+                parent.setAffinity(context.getAffinity());
+            }
+            parent.setProbabilityResultMap(context.getProbabilityResultMap());
+        }
+    }
+
     static class PMML4ResultProbabilityMapTuple {
 
         private final PMML4Result pmml4Result;
@@ -29,6 +29,9 @@ import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
+import org.kie.memorycompiler.KieMemoryCompiler;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.ResultCode;
@@ -43,6 +46,7 @@ import org.kie.pmml.commons.model.tuples.KiePMMLValueWeight;
 import org.kie.pmml.commons.testingutility.KiePMMLTestingModel;
 import org.kie.pmml.commons.testingutility.PMMLRuntimeContextTest;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
+import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
 import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
 import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
 import org.kie.pmml.models.mining.model.segmentation.KiePMMLSegment;
@@ -65,7 +69,11 @@ import static org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD.WEIGH
 import static org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD.WEIGHTED_MAJORITY_VOTE;
 import static org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD.WEIGHTED_MEDIAN;
 import static org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD.WEIGHTED_SUM;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -246,6 +254,24 @@ public class PMMLMiningModelEvaluatorTest {
         });
     }
 
+    @Test
+    void isOrderIndependent() {
+        VALUE_WEIGHT_METHODS.forEach(multipleModelMethod ->
+                                             assertThat(PMMLMiningModelEvaluator.isOrderIndependent(multipleModelMethod)).isTrue());
+        assertThat(PMMLMiningModelEvaluator.isOrderIndependent(MAJORITY_VOTE)).isTrue();
+        assertThat(PMMLMiningModelEvaluator.isOrderIndependent(WEIGHTED_MAJORITY_VOTE)).isTrue();
+        assertThat(PMMLMiningModelEvaluator.isOrderIndependent(SELECT_FIRST)).isFalse();
+        assertThat(PMMLMiningModelEvaluator.isOrderIndependent(SELECT_ALL)).isFalse();
+        assertThat(PMMLMiningModelEvaluator.isOrderIndependent(MODEL_CHAIN)).isFalse();
+    }
+
+    @Test
+    void isParallel() {
+        PMMLRuntimeContext pmmlContext = new PMMLRuntimeContextTest();
+        assertThat(new PMMLMiningModelEvaluator(10).isParallel(100, pmmlContext)).isFalse();
+        assertThat(new PMMLMiningModelEvaluator(0).isParallel(100, pmmlContext)).isFalse();
+    }
+
     @Test
     void validateKiePMMLMiningModel() {
         String name = "NAME";
@@ -347,6 +373,36 @@ public class PMMLMiningModelEvaluatorTest {
         assertThat(retrievedInfo).doesNotContainKey("RESULT");
     }
 
+    @Test
+    void segmentEvaluationMergesOnlyTheChangedRequestParams() {
+        final PMMLRequestData requestData = new PMMLRequestData("CORRELATION", "MODEL");
+        requestData.addRequestParam("UNCHANGED", 1.0);
+        requestData.addRequestParam("CHANGED", 2.0);
+        final PMMLRequestData parentRequestData = spy(requestData);
+        final PMMLRuntimeContextImpl parent = new PMMLRuntimeContextImpl(parentRequestData, "FILE_NAME",
+                                                                         new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader()));
+        final KiePMMLModel modelMock = mock(KiePMMLModel.class);
+        when(modelMock.getPmmlMODEL()).thenReturn(PMML_MODEL.MINING_MODEL);
+        final KiePMMLSegment segmentMock = mock(KiePMMLSegment.class);
+        when(segmentMock.getModel()).thenReturn(modelMock);
+        final PMMLMiningModelEvaluator.SegmentEvaluation evaluation =
+                new PMMLMiningModelEvaluator.SegmentEvaluation(segmentMock, parent, parentRequestData.getRequestParams(), false);
+        final PMMLRequestData childRequestData = evaluation.getContext().getRequestData();
+        assertThat(childRequestData).isNotSameAs(parentRequestData);
+        childRequestData.addRequestParam("CHANGED", 3.0);
+        childRequestData.addRequestParam("ADDED", 4.0);
+
+        evaluation.mergeInto(parent);
+        verify(parentRequestData, never()).addRequestParam(eq("UNCHANGED"), any());
+        verify(parentRequestData).addRequestParam("CHANGED", 3.0);
+        verify(parentRequestData).addRequestParam("ADDED", 4.0);
+        final Map<String, ParameterInfo> mappedRequestParams = parentRequestData.getMappedRequestParams();
+        assertThat(mappedRequestParams).hasSize(3);
+        assertThat(mappedRequestParams.get("UNCHANGED").getValue()).isEqualTo(1.0);
+        assertThat(mappedRequestParams.get("CHANGED").getValue()).isEqualTo(3.0);
+        assertThat(mappedRequestParams.get("ADDED").getValue()).isEqualTo(4.0);
+    }
+
     private PMML4Result getPMML4Result(Object rawObject) {
         final String resultObjectName = "RESULT";
         PMML4Result toReturn = new PMML4Result();
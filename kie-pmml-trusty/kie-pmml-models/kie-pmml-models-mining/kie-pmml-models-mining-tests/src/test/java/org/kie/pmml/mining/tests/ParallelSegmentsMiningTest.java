@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.pmml.mining.tests;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLListener;
+import org.kie.pmml.api.runtime.PMMLRuntime;
+import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.evaluator.core.PMMLRuntimeContextImpl;
+import org.kie.pmml.evaluator.core.service.PMMLRuntimeInternalImpl;
+import org.kie.pmml.models.mining.evaluator.PMMLMiningModelEvaluator;
+import org.kie.pmml.models.mining.evaluator.PMMLMiningModelStep;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
+import org.kie.pmml.models.tests.AbstractPMMLTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelSegmentsMiningTest extends AbstractPMMLTest {
+
+    private static final String SUM_FILE_NAME_NO_SUFFIX = "segmentationSumMining";
+    private static final String SUM_MODEL_NAME = "SegmentationSumMining";
+    private static final String RANDOM_FOREST_FILE_NAME_NO_SUFFIX = "RandomForestClassifier";
+    private static final String RANDOM_FOREST_MODEL_NAME = "RandomForestClassifier";
+    private static final PMMLMiningModelEvaluator SEQUENTIAL_EVALUATOR = new PMMLMiningModelEvaluator(0);
+    private static final PMMLMiningModelEvaluator PARALLEL_EVALUATOR = new PMMLMiningModelEvaluator(1);
+    private static PMMLRuntime sumPmmlRuntime;
+    private static PMMLRuntime randomForestPmmlRuntime;
+
+    @BeforeAll
+    public static void setupClass() {
+        sumPmmlRuntime = getPMMLRuntime(SUM_FILE_NAME_NO_SUFFIX);
+        randomForestPmmlRuntime = getPMMLRuntime(RANDOM_FOREST_FILE_NAME_NO_SUFFIX);
+    }
+
+    public static Collection<Object[]> sumData() {
+        return Arrays.asList(new Object[][]{
+                {0, 0},
+                {1, 1},
+                {20, 30},
+                {25, 31},
+                {5, 5}
+        });
+    }
+
+    public static Collection<Object[]> randomForestData() {
+        return Arrays.asList(new Object[][]{
+                {40.83, 3.5, 0.5, 0},
+                {32.25, 1.5, 0.25, 122},
+                {28.17, 0.585, 0.04, 1004},
+                {29.75, 0.665, 0.25, 0}
+        });
+    }
+
+    @MethodSource("sumData")
+    @ParameterizedTest
+    void testSumSegmentsInParallel(double x, double y) {
+        final Map<String, Object> inputData = new HashMap<>();
+        inputData.put("x", x);
+        inputData.put("y", y);
+        commonEvaluateInParallel(sumPmmlRuntime, inputData, SUM_FILE_NAME_NO_SUFFIX, SUM_MODEL_NAME);
+    }
+
+    @MethodSource("randomForestData")
+    @ParameterizedTest
+    void testAverageClassificationSegmentsInParallel(double age, double debt, double yearsEmployed, double income) {
+        final Map<String, Object> inputData = new HashMap<>();
+        inputData.put("Age", age);
+        inputData.put("Debt", debt);
+        inputData.put("YearsEmployed", yearsEmployed);
+        inputData.put("Income", income);
+        commonEvaluateInParallel(randomForestPmmlRuntime, inputData, RANDOM_FOREST_FILE_NAME_NO_SUFFIX,
+                                 RANDOM_FOREST_MODEL_NAME);
+    }
+
+    private void commonEvaluateInParallel(final PMMLRuntime pmmlRuntime,
+                                          final Map<String, Object> inputData,
+                                          final String fileName,
+                                          final String modelName) {
+        final PMMLListenerTest sequentialListener = getPMMLListener();
+        final PMMLRuntimeContext sequentialContext = getPMMLRuntimeContext(pmmlRuntime, inputData, fileName,
+                                                                           modelName, sequentialListener);
+        final PMML4Result expected = SEQUENTIAL_EVALUATOR.evaluate(getModel(pmmlRuntime, fileName, modelName,
+                                                                            sequentialContext), sequentialContext);
+        final PMMLListenerTest parallelListener = getPMMLListener();
+        final PMMLRuntimeContext parallelContext = getPMMLRuntimeContext(pmmlRuntime, inputData, fileName,
+                                                                         modelName, parallelListener);
+        final PMML4Result retrieved = PARALLEL_EVALUATOR.evaluate(getModel(pmmlRuntime, fileName, modelName,
+                                                                           parallelContext), parallelContext);
+
+        assertThat(retrieved.getResultCode()).isEqualTo(expected.getResultCode());
+        assertThat(retrieved.getResultVariables()).isEqualTo(expected.getResultVariables());
+        assertThat(parallelContext.getProbabilityResultMap()).isEqualTo(sequentialContext.getProbabilityResultMap());
+        // the segments' steps are notified in the same order
+        assertThat(parallelListener.getSteps()).hasSameSizeAs(sequentialListener.getSteps());
+        assertThat(getSegmentsInfo(parallelListener.getSteps())).isEqualTo(getSegmentsInfo(sequentialListener.getSteps()));
+    }
+
+    private static List<Map<String, Object>> getSegmentsInfo(final List<PMMLStep> steps) {
+        return steps.stream()
+                .filter(PMMLMiningModelStep.class::isInstance)
+                .map(PMMLStep::getInfo)
+                .collect(Collectors.toList());
+    }
+
+    private static KiePMMLMiningModel getModel(final PMMLRuntime pmmlRuntime,
+                                               final String fileName,
+                                               final String modelName,
+                                               final PMMLRuntimeContext context) {
+        return (KiePMMLMiningModel) pmmlRuntime.getPMMLModel(fileName, modelName, context)
+                .orElseThrow(() -> new AssertionError("Failed to retrieve " + modelName));
+    }
+
+    private static PMMLRuntimeContext getPMMLRuntimeContext(final PMMLRuntime pmmlRuntime,
+                                                            final Map<String, Object> inputData,
+                                                            final String fileName,
+                                                            final String modelName,
+                                                            final PMMLListener pmmlListener) {
+        final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, inputData);
+        KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
+                new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
+        PMMLRuntimeContext toReturn = new PMMLRuntimeContextImpl(pmmlRequestData, fileName,
+                                                                 Set.of(pmmlListener), memoryCompilerClassLoader);
+        toReturn.getGeneratedResourcesMap().putAll(((PMMLRuntimeInternalImpl) pmmlRuntime).getGeneratedResourcesMap());
+        return toReturn;
+    }
+}
@@ -62,6 +62,19 @@ public class PMMLRegressionModelEvaluator implements PMMLModelEvaluator<KiePMMLR
         return toReturn;
     }
 
+    @Override
+    public boolean isBatchSupported() {
+        return true;
+    }
+
+    @Override
+    public Object evaluateBatchRow(final KiePMMLRegressionModel model,
+                                   final Map<String, Object> inputData,
+                                   final PMMLRuntimeContext pmmlContext) {
+        validate(model);
+        return model.evaluate(inputData, pmmlContext);
+    }
+
     private void validate(final KiePMMLRegressionModel toValidate) {
         if (toValidate.getRegressionTable() == null) {
             throw new KiePMMLModelException("At least one RegressionTable required");
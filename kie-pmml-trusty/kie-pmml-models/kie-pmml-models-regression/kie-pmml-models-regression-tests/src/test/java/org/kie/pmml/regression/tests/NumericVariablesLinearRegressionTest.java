@@ -22,9 +22,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.models.tests.AbstractPMMLTest;
 
@@ -75,4 +78,28 @@ public class NumericVariablesLinearRegressionTest extends AbstractPMMLTest {
         assertThat((Double) pmml4Result.getResultVariables().get(TARGET_FIELD))
                 .isEqualTo(regressionFunction(x, y));
     }
+
+    @Test
+    void testNumericVariableLinearRegressionBatch() {
+        final Collection<Object[]> data = data();
+        final double[] xs = new double[data.size()];
+        final double[] ys = new double[data.size()];
+        int i = 0;
+        for (Object[] row : data) {
+            xs[i] = ((Number) row[0]).doubleValue();
+            ys[i] = ((Number) row[1]).doubleValue();
+            i++;
+        }
+        final PMMLBatchInput input = new PMMLBatchInput(data.size())
+                .addColumn("x", xs)
+                .addColumn("y", ys);
+        PMMLBatchResult batchResult = evaluateBatch(pmmlRuntime, input, FILE_NAME_NO_SUFFIX, MODEL_NAME);
+
+        assertThat(batchResult.getTargetField()).isEqualTo(TARGET_FIELD);
+        assertThat(batchResult.isNumeric()).isTrue();
+        assertThat(batchResult.size()).isEqualTo(data.size());
+        for (i = 0; i < xs.length; i++) {
+            assertThat(batchResult.getNumericValues()[i]).isEqualTo(regressionFunction(xs[i], ys[i]));
+        }
+    }
 }
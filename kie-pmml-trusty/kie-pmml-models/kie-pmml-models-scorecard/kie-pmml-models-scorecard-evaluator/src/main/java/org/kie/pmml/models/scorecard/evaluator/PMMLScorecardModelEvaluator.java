@@ -49,4 +49,16 @@ public class PMMLScorecardModelEvaluator implements PMMLModelEvaluator<KiePMMLSc
         toReturn.setResultCode(OK.getName());
         return toReturn;
     }
+
+    @Override
+    public boolean isBatchSupported() {
+        return true;
+    }
+
+    @Override
+    public Object evaluateBatchRow(final KiePMMLScorecardModel model,
+                                   final Map<String, Object> inputData,
+                                   final PMMLRuntimeContext pmmlContext) {
+        return model.evaluate(inputData, pmmlContext);
+    }
 }
@@ -27,6 +27,8 @@ import org.kie.api.pmml.PMMLRequestData;
 import org.kie.memorycompiler.KieMemoryCompiler;
 import org.kie.pmml.api.PMMLRuntimeFactory;
 import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
 import org.kie.pmml.api.runtime.PMMLListener;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
@@ -81,6 +83,18 @@ public class AbstractPMMLTest {
         return pmmlRuntime.evaluate(modelName, context);
     }
 
+    protected PMMLBatchResult evaluateBatch(final PMMLRuntime pmmlRuntime,
+                                            final PMMLBatchInput input,
+                                            final String fileName,
+                                            final String modelName) {
+        final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, Collections.emptyMap());
+        KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
+                new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
+        PMMLRuntimeContext context = new PMMLRuntimeContextImpl(pmmlRequestData, fileName, memoryCompilerClassLoader);
+        context.getGeneratedResourcesMap().putAll(((PMMLRuntimeInternalImpl)pmmlRuntime).getGeneratedResourcesMap());
+        return pmmlRuntime.evaluateBatch(modelName, input, context);
+    }
+
     protected PMMLListenerTest getPMMLListener() {
         return new PMMLListenerTest();
     }
@@ -54,4 +54,16 @@ public class PMMLTreeModelEvaluator implements PMMLModelEvaluator<KiePMMLTreeMod
         toReturn.setResultCode(OK.getName());
         return toReturn;
     }
+
+    @Override
+    public boolean isBatchSupported() {
+        return true;
+    }
+
+    @Override
+    public Object evaluateBatchRow(final KiePMMLTreeModel model,
+                                   final Map<String, Object> inputData,
+                                   final PMMLRuntimeContext pmmlContext) {
+        return model.evaluate(inputData, pmmlContext);
+    }
 }
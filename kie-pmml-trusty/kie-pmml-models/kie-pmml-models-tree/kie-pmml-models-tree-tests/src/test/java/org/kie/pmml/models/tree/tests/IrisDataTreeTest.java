@@ -7,9 +7,12 @@ import java.util.Map;
 
 import org.assertj.core.data.Percentage;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.api.runtime.PMMLBatchInput;
+import org.kie.pmml.api.runtime.PMMLBatchResult;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.models.tests.AbstractPMMLTest;
 
@@ -87,4 +90,25 @@ public class IrisDataTreeTest extends AbstractPMMLTest {
         assertThat(pmml4Result.getResultVariables().get(PROBABILITY_VIRGINICA)).isNotNull();
         assertThat((double) pmml4Result.getResultVariables().get(PROBABILITY_VIRGINICA)).isCloseTo(probabilityVirginica, TOLERANCE_PERCENTAGE);
     }
+
+    @Test
+    void testIrisTreeBatch() {
+        final Object[][] data = data().toArray(new Object[0][]);
+        final String[] inputFields = {"Sepal.Length", "Sepal.Width", "Petal.Length", "Petal.Width"};
+        final PMMLBatchInput input = new PMMLBatchInput(data.length);
+        for (int column = 0; column < inputFields.length; column++) {
+            final double[] values = new double[data.length];
+            for (int row = 0; row < data.length; row++) {
+                values[row] = (double) data[row][column];
+            }
+            input.addColumn(inputFields[column], values);
+        }
+        PMMLBatchResult batchResult = evaluateBatch(pmmlRuntime, input, FILE_NAME_NO_SUFFIX, MODEL_NAME);
+
+        assertThat(batchResult.getTargetField()).isEqualTo(TARGET_FIELD);
+        assertThat(batchResult.isNumeric()).isFalse();
+        for (int row = 0; row < data.length; row++) {
+            assertThat(batchResult.getValue(row)).isEqualTo(data[row][4]);
+        }
+    }
 }